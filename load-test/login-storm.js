@@ -0,0 +1,73 @@
+// 로그인 폭주 중에도 인증과 무관한 API의 지연 시간이 유지되는지 확인하는 k6 시나리오
+//
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e USERNAME=... -e BROWSE_USERNAME=... \
+//         -e PASSWORD=... load-test/login-storm.js
+// 사용자당 세션이 하나뿐이므로 로그인 폭주용 계정과 조회용 계정(BROWSE_USERNAME)을 나눈다. 두 계정의 비밀번호는 같아야
+// 한다.
+// login 시나리오는 초당 1,000건의 로그인을, browse 시나리오는 로그인된 세션으로 일반 조회 API를 호출한다.
+// browse의 p99가 로그인 폭주 전후로 평탄하면 통과한다. 로그인 요청 일부가 503으로 거절되는 것은 의도된 동작이다.
+// 아직 실행해 본 적이 없어 BCrypt 전용 스레드 풀 도입 전후의 결과는 기록되어 있지 않다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERNAME = __ENV.USERNAME || 'loadtest';
+const BROWSE_USERNAME = __ENV.BROWSE_USERNAME || 'loadtest-browse';
+const PASSWORD = __ENV.PASSWORD || 'Password1!';
+
+export const options = {
+  scenarios: {
+    browse: {
+      executor: 'constant-arrival-rate',
+      exec: 'browse',
+      rate: 200,
+      timeUnit: '1s',
+      duration: '3m',
+      preAllocatedVUs: 50,
+    },
+    login: {
+      executor: 'constant-arrival-rate',
+      exec: 'login',
+      rate: 1000,
+      timeUnit: '1s',
+      startTime: '1m',
+      duration: '1m',
+      preAllocatedVUs: 500,
+    },
+  },
+  thresholds: {
+    'http_req_duration{scenario:browse}': ['p(99)<200'],
+    'checks{scenario:browse}': ['rate>0.99'],
+  },
+};
+
+function csrf(jar) {
+  const res = http.get(`${BASE_URL}/api/auth/csrf-token`, { jar });
+  const cookie = jar.cookiesForURL(BASE_URL)['XSRF-TOKEN'];
+  return cookie ? cookie[0] : res.json('token');
+}
+
+function signIn(username) {
+  const jar = http.cookieJar();
+  const token = csrf(jar);
+  return http.post(`${BASE_URL}/api/auth/login`,
+      JSON.stringify({ username, password: PASSWORD }),
+      { jar, headers: { 'Content-Type': 'application/json', 'X-XSRF-TOKEN': token } });
+}
+
+// 조회용 계정은 한 번만 로그인하고 모든 browse VU가 같은 세션을 쓴다.
+export function setup() {
+  const res = signIn(BROWSE_USERNAME);
+  check(res, { 'setup login 200': (r) => r.status === 200 });
+  return { session: http.cookieJar().cookiesForURL(BASE_URL)['JSESSIONID'][0] };
+}
+
+export function login() {
+  const res = signIn(USERNAME);
+  check(res, { 'login 200 or 503': (r) => r.status === 200 || r.status === 503 });
+}
+
+export function browse(data) {
+  const res = http.get(`${BASE_URL}/api/users`, { cookies: { JSESSIONID: data.session } });
+  check(res, { 'browse 200': (r) => r.status === 200 });
+}
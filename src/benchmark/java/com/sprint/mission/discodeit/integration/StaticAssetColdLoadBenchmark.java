@@ -0,0 +1,102 @@
+package com.sprint.mission.discodeit.integration;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * 캐시가 빈 브라우저의 첫 화면 로드(index.html + 참조하는 js/css)를 흉내 내어 전송 바이트와 첫 바이트까지의
+ * 시간(TTFB)을 압축 없이 받을 때와 비교한다. 압축본은 gradle processResources가 만들므로 gradle로 실행해야 하고,
+ * .br 파일은 빌드한 곳의 PATH에 brotli CLI가 있을 때만 생긴다.
+ * <p>
+ * {@code gradle benchmark --tests '*StaticAssetColdLoadBenchmark'}
+ * <p>
+ * 벤치마크 소스 세트에는 테스트 설정(application-test.yaml)이 없으므로 필요한 설정을 여기서 넣는다.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create",
+    "logging.level.com.sprint.mission.discodeit=info",
+    "logging.level.org.hibernate.SQL=info",
+    "logging.level.org.hibernate.orm.jdbc.bind=info",
+    "discodeit.admin.username=admin",
+    "discodeit.admin.email=admin@example.com",
+    "discodeit.admin.password=admin1234!",
+    "security.remember-me.key=benchmark",
+    "security.remember-me.token-validity-seconds=1209600"
+})
+@DisplayName("정적 파일 첫 로드 벤치마크")
+class StaticAssetColdLoadBenchmark {
+
+  private static final Pattern ASSET = Pattern.compile("(?:src|href)=\"(/assets/[^\"]+)\"");
+  private static final int ROUNDS = 20;
+
+  @LocalServerPort
+  private int port;
+
+  private final HttpClient client = HttpClient.newHttpClient();
+
+  @Test
+  @DisplayName("identity vs gzip vs br")
+  void coldLoad() throws Exception {
+    for (String encoding : List.of("identity", "gzip", "br, gzip")) {
+      long bytes = 0;
+      long ttfbNanos = 0;
+      for (int i = 0; i < ROUNDS; i++) {
+        long[] result = load(encoding);
+        bytes = result[0];
+        ttfbNanos += result[1];
+      }
+      System.out.printf("[%s] bytes=%d, ttfb(sum of %d files)=%.2fms%n", encoding, bytes,
+          assets().size() + 1, ttfbNanos / 1e6 / ROUNDS);
+    }
+  }
+
+  private long[] load(String encoding) throws Exception {
+    List<String> paths = new ArrayList<>();
+    paths.add("/index.html");
+    paths.addAll(assets());
+    long bytes = 0;
+    long ttfb = 0;
+    for (String path : paths) {
+      HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+          .header("Accept-Encoding", encoding)
+          .build();
+      long start = System.nanoTime();
+      long[] firstByte = new long[1];
+      HttpResponse<byte[]> response = client.send(request, info -> {
+        firstByte[0] = System.nanoTime();
+        return BodySubscribers.ofByteArray();
+      });
+      ttfb += firstByte[0] - start;
+      bytes += response.body().length;
+    }
+    return new long[]{bytes, ttfb};
+  }
+
+  private List<String> assets() throws Exception {
+    String html = client.send(
+        HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/index.html")).build(),
+        HttpResponse.BodyHandlers.ofString()).body();
+    List<String> assets = new ArrayList<>();
+    Matcher matcher = ASSET.matcher(html);
+    while (matcher.find()) {
+      assets.add(matcher.group(1));
+    }
+    return assets;
+  }
+}
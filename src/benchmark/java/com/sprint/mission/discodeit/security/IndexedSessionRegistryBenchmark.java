@@ -0,0 +1,103 @@
+package com.sprint.mission.discodeit.security;
+
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.Role;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.security.core.session.SessionRegistryImpl;
+
+/**
+ * 세션 N개를 등록한 뒤 사용자 id로 세션을 찾는 시간(권한 변경)과 온라인 사용자 집합을 만드는 시간(사용자 목록)을
+ * {@link SessionRegistryImpl}의 전체 순회 방식과 비교한다.
+ * <p>
+ * {@code gradle benchmark --tests '*IndexedSessionRegistryBenchmark'
+ * -Dsession.benchmark.count=100000}
+ */
+@DisplayName("세션 레지스트리 벤치마크")
+class IndexedSessionRegistryBenchmark {
+
+  private static final int COUNT = Integer.getInteger("session.benchmark.count", 100_000);
+  private static final int LOOKUPS = 1_000;
+  private static final int ONLINE_SNAPSHOTS = 100;
+
+  @Test
+  @DisplayName("SessionRegistryImpl + 전체 순회")
+  void scan() {
+    SessionRegistryImpl registry = new SessionRegistryImpl();
+    UUID[] userIds = populate(registry);
+    Random random = new Random(42);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < LOOKUPS; i++) {
+      UUID userId = userIds[random.nextInt(COUNT)];
+      registry.getAllPrincipals().stream()
+          .filter(principal -> ((DiscodeitUserDetails) principal).getUserDto().id()
+              .equals(userId))
+          .findFirst()
+          .ifPresent(principal -> registry.getAllSessions(principal, false)
+              .forEach(SessionInformation::getSessionId));
+    }
+    double lookupMicros = (System.nanoTime() - start) / 1e3 / LOOKUPS;
+
+    start = System.nanoTime();
+    int online = 0;
+    for (int i = 0; i < ONLINE_SNAPSHOTS; i++) {
+      Set<UUID> onlineUserIds = registry.getAllPrincipals().stream()
+          .filter(principal -> !registry.getAllSessions(principal, false).isEmpty())
+          .map(principal -> ((DiscodeitUserDetails) principal).getUserDto().id())
+          .collect(Collectors.toSet());
+      online = onlineUserIds.size();
+    }
+    double onlineMicros = (System.nanoTime() - start) / 1e3 / ONLINE_SNAPSHOTS;
+
+    report("scan", lookupMicros, onlineMicros, online);
+  }
+
+  @Test
+  @DisplayName("IndexedSessionRegistry")
+  void indexed() {
+    IndexedSessionRegistry registry = new IndexedSessionRegistry();
+    UUID[] userIds = populate(registry);
+    Random random = new Random(42);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < LOOKUPS; i++) {
+      registry.getAllSessions(userIds[random.nextInt(COUNT)], false)
+          .forEach(SessionInformation::getSessionId);
+    }
+    double lookupMicros = (System.nanoTime() - start) / 1e3 / LOOKUPS;
+
+    start = System.nanoTime();
+    int online = 0;
+    for (int i = 0; i < ONLINE_SNAPSHOTS; i++) {
+      // 사용자 목록 조회와 같이 온라인 여부를 확인하며 한 번 훑는다.
+      online = Set.copyOf(registry.getOnlineUserIds()).size();
+    }
+    double onlineMicros = (System.nanoTime() - start) / 1e3 / ONLINE_SNAPSHOTS;
+
+    report("indexed", lookupMicros, onlineMicros, online);
+  }
+
+  private static UUID[] populate(SessionRegistry registry) {
+    UUID[] userIds = new UUID[COUNT];
+    for (int i = 0; i < COUNT; i++) {
+      UserDto dto = new UserDto(UUID.randomUUID(), "user" + i, "user" + i + "@example.com",
+          null, false, Role.USER);
+      userIds[i] = dto.id();
+      registry.registerNewSession("session-" + i, new DiscodeitUserDetails(dto, "password"));
+    }
+    return userIds;
+  }
+
+  private static void report(String name, double lookupMicros, double onlineMicros,
+      int online) {
+    System.out.printf("[%s] sessions=%d, lookupByUserId=%.1fus, onlineUserIds=%.1fus (%d users)%n",
+        name, COUNT, lookupMicros, onlineMicros, online);
+  }
+}
@@ -0,0 +1,133 @@
+package com.sprint.mission.discodeit.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 사용자 N명이 일정 시간 동안 API를 쓰는 상황을 흉내 내어, 클라이언트 하트비트로 접속 상태를 갱신할 때와
+ * {@link PresenceTracker}로 요청에서 갱신할 때의 하트비트 요청 수와 {@code user_statuses} 쓰기 수를 비교한다.
+ * DB 없이 쓰기 횟수만 센다.
+ * <p>
+ * {@code gradle benchmark --tests '*PresenceHeartbeatBenchmark' -Dpresence.benchmark.users=10000}
+ */
+@DisplayName("접속 상태 갱신 벤치마크")
+class PresenceHeartbeatBenchmark {
+
+  private static final int USERS = Integer.getInteger("presence.benchmark.users", 10_000);
+  private static final Duration DURATION = Duration.ofMinutes(30);
+  private static final Duration TICK = Duration.ofSeconds(1);
+  // 기존 프론트엔드의 하트비트 주기
+  private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(30);
+  // 사용자가 평균적으로 API를 호출하는 간격 (메시지 조회, 전송 등)
+  private static final int MEAN_REQUEST_INTERVAL_SECONDS = 20;
+  private static final Duration FLUSH_INTERVAL = Duration.ofMinutes(1);
+
+  @Test
+  @DisplayName("클라이언트 하트비트")
+  void heartbeat() {
+    long heartbeats = 0;
+    long ticks = DURATION.dividedBy(TICK);
+    long heartbeatTicks = HEARTBEAT_INTERVAL.dividedBy(TICK);
+    Random random = new Random(42);
+    int[] offsets = new int[USERS];
+    for (int i = 0; i < USERS; i++) {
+      offsets[i] = random.nextInt((int) heartbeatTicks);
+    }
+    for (long tick = 0; tick < ticks; tick++) {
+      for (int i = 0; i < USERS; i++) {
+        if ((tick + offsets[i]) % heartbeatTicks == 0) {
+          heartbeats++;
+        }
+      }
+    }
+    // 하트비트마다 UPDATE 한 번
+    report("heartbeat", heartbeats, heartbeats, heartbeats);
+  }
+
+  @Test
+  @DisplayName("요청에서 갱신 (PresenceTracker)")
+  void derived() {
+    MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    CountingJdbcTemplate jdbcTemplate = new CountingJdbcTemplate();
+    PresenceTracker tracker = new PresenceTracker(jdbcTemplate, Duration.ofSeconds(30),
+        Duration.ofMinutes(10), 500, clock, new SimpleMeterRegistry());
+    UUID[] userIds = new UUID[USERS];
+    for (int i = 0; i < USERS; i++) {
+      userIds[i] = UUID.randomUUID();
+    }
+
+    Random random = new Random(42);
+    long ticks = DURATION.dividedBy(TICK);
+    long flushTicks = FLUSH_INTERVAL.dividedBy(TICK);
+    long records = 0;
+    for (long tick = 1; tick <= ticks; tick++) {
+      clock.advance(TICK);
+      for (UUID userId : userIds) {
+        if (random.nextInt(MEAN_REQUEST_INTERVAL_SECONDS) == 0 && tracker.record(userId)) {
+          records++;
+        }
+      }
+      if (tick % flushTicks == 0) {
+        tracker.flush();
+      }
+    }
+    tracker.flush();
+    report("derived", 0, jdbcTemplate.rows, jdbcTemplate.statements);
+    System.out.printf("[derived] in-memory records=%d%n", records);
+  }
+
+  private static void report(String name, long heartbeats, long rows, long statements) {
+    System.out.printf("[%s] users=%d, duration=%s, heartbeatRequests=%d, updatedRows=%d,"
+        + " writeStatements=%d%n", name, USERS, DURATION, heartbeats, rows, statements);
+  }
+
+  private static class CountingJdbcTemplate extends JdbcTemplate {
+
+    private long rows;
+    private long statements;
+
+    @Override
+    public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+      rows += batchArgs.size();
+      statements++;
+      return new int[batchArgs.size()];
+    }
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(java.time.ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package com.sprint.mission.discodeit.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.authentication.rememberme.JdbcTokenRepositoryImpl;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenBasedRememberMeServices;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+
+/**
+ * 배포로 세션이 모두 사라진 뒤 클라이언트 N개가 각자 같은 remember-me 쿠키로 요청 여러 개를 동시에 보내는 상황을
+ * 흉내 내어, {@link JdbcTokenRepositoryImpl} + {@link PersistentTokenBasedRememberMeServices}와 처리량·실패
+ * 수를 비교한다.
+ * <p>
+ * {@code gradle benchmark --tests '*RememberMeReconnectStormBenchmark'
+ * -Dremember-me.benchmark.clients=2000 -Dremember-me.benchmark.requests=4}
+ */
+@DisplayName("remember-me 재접속 폭주 벤치마크")
+class RememberMeReconnectStormBenchmark {
+
+  private static final int CLIENTS = Integer.getInteger("remember-me.benchmark.clients", 2_000);
+  private static final int REQUESTS = Integer.getInteger("remember-me.benchmark.requests", 4);
+  private static final int THREADS = 16;
+  private static final int VALIDITY_SECONDS = (int) Duration.ofDays(14).toSeconds();
+
+  private final UserDetailsService userDetailsService = username ->
+      User.withUsername(username).password("{noop}password").roles("USER").build();
+
+  private EmbeddedDatabase database;
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    database = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .setName(UUID.randomUUID() + ";MODE=PostgreSQL")
+        .addScript("classpath:schema.sql")
+        .build();
+    jdbcTemplate = new JdbcTemplate(database);
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.shutdown();
+  }
+
+  @Test
+  @DisplayName("JdbcTokenRepositoryImpl + 매번 토큰 교체")
+  void baseline() throws Exception {
+    JdbcTokenRepositoryImpl repository = new JdbcTokenRepositoryImpl();
+    repository.setJdbcTemplate(jdbcTemplate);
+    BaselineServices services = new BaselineServices(repository);
+    services.setTokenValiditySeconds(VALIDITY_SECONDS);
+
+    run("baseline", repository, services::autoLogin);
+  }
+
+  @Test
+  @DisplayName("CachingPersistentTokenRepository + CustomRememberMeServices")
+  void caching() throws Exception {
+    CachingPersistentTokenRepository repository = new CachingPersistentTokenRepository(
+        jdbcTemplate, Duration.ofMinutes(5), CLIENTS * 2, Duration.ofSeconds(10),
+        Duration.ofSeconds(VALIDITY_SECONDS), 500, new SimpleMeterRegistry());
+    CustomRememberMeServices services = new CustomRememberMeServices("key", userDetailsService,
+        repository, Duration.ofMinutes(1));
+    services.setTokenValiditySeconds(VALIDITY_SECONDS);
+
+    run("caching", repository, tokens -> services.processAutoLoginCookie(tokens,
+        new MockHttpServletRequest(), new MockHttpServletResponse()));
+  }
+
+  private void run(String name, PersistentTokenRepository repository, AutoLogin autoLogin)
+      throws Exception {
+    // 마지막 교체가 교체 주기보다 오래전인 토큰: 첫 요청이 토큰을 바꾼다.
+    Date lastUsed = Date.from(Instant.now().minus(Duration.ofMinutes(10)));
+    for (int i = 0; i < CLIENTS; i++) {
+      repository.createNewToken(new PersistentRememberMeToken("user" + i, "series-" + i,
+          "token-" + i, lastUsed));
+    }
+
+    AtomicInteger failures = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    List<Future<?>> futures = new ArrayList<>(CLIENTS * REQUESTS);
+    long start = System.nanoTime();
+    for (int i = 0; i < CLIENTS; i++) {
+      String[] tokens = {"series-" + i, "token-" + i};
+      for (int r = 0; r < REQUESTS; r++) {
+        futures.add(executor.submit(() -> {
+          try {
+            autoLogin.login(tokens);
+          } catch (RuntimeException e) {
+            failures.incrementAndGet();
+          }
+        }));
+      }
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    double seconds = (System.nanoTime() - start) / 1e9;
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+
+    System.out.printf("[%s] clients=%d, requests=%d, throughput=%.0f/s, failures=%d%n", name,
+        CLIENTS, CLIENTS * REQUESTS, CLIENTS * REQUESTS / seconds, failures.get());
+  }
+
+  private interface AutoLogin {
+
+    void login(String[] cookieTokens);
+  }
+
+  private class BaselineServices extends PersistentTokenBasedRememberMeServices {
+
+    BaselineServices(PersistentTokenRepository repository) {
+      super("key", userDetailsService, repository);
+    }
+
+    void autoLogin(String[] cookieTokens) {
+      processAutoLoginCookie(cookieTokens, new MockHttpServletRequest(),
+          new MockHttpServletResponse());
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 사용자 N명을 색인에 넣고 접두사 검색과 오타가 섞인 검색의 평균 시간을 잰다.
+ * <p>
+ * {@code gradle benchmark --tests '*UserSearchIndexBenchmark'
+ * -Duser.search.benchmark.count=1000000}
+ */
+@DisplayName("사용자 검색 색인 벤치마크")
+class UserSearchIndexBenchmark {
+
+  private static final int COUNT = Integer.getInteger("user.search.benchmark.count", 1_000_000);
+  private static final int QUERIES = 10_000;
+  private static final int LIMIT = 10;
+  private static final String[] SYLLABLES = {"ka", "min", "jun", "seo", "hyun", "ji", "woo",
+      "ra", "lee", "park", "kim", "choi", "son", "yoon", "han", "do", "eun", "bin", "na", "ho"};
+
+  @Test
+  @DisplayName("접두사 / 유사 검색")
+  void search() {
+    Random random = new Random(42);
+    String[] usernames = new String[COUNT];
+    Runtime runtime = Runtime.getRuntime();
+    System.gc();
+    long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+
+    long start = System.nanoTime();
+    UserSearchIndex index = new UserSearchIndex(null, false, 50, 0.3, 20000, 10000, 0.2,
+        Duration.ofMinutes(1), new SimpleMeterRegistry());
+    for (int i = 0; i < COUNT; i++) {
+      usernames[i] = username(random) + i;
+      index.put(UUID.randomUUID(), usernames[i], usernames[i] + "@example.com");
+    }
+    double buildSeconds = (System.nanoTime() - start) / 1e9;
+    System.gc();
+    long usedAfter = runtime.totalMemory() - runtime.freeMemory();
+
+    String[] prefixes = new String[QUERIES];
+    String[] typos = new String[QUERIES];
+    for (int i = 0; i < QUERIES; i++) {
+      String username = usernames[random.nextInt(COUNT)];
+      prefixes[i] = username.substring(0, Math.min(username.length(), 2 + random.nextInt(4)));
+      typos[i] = typo(username, random);
+    }
+
+    // 워밍업
+    for (int i = 0; i < QUERIES; i++) {
+      index.search(prefixes[i], LIMIT);
+    }
+
+    start = System.nanoTime();
+    long prefixResults = 0;
+    for (String prefix : prefixes) {
+      prefixResults += index.search(prefix, LIMIT).size();
+    }
+    double prefixMicros = (System.nanoTime() - start) / 1e3 / QUERIES;
+
+    start = System.nanoTime();
+    long fuzzyResults = 0;
+    for (String typo : typos) {
+      fuzzyResults += index.search(typo, LIMIT).size();
+    }
+    double fuzzyMicros = (System.nanoTime() - start) / 1e3 / QUERIES;
+
+    System.out.printf("[user-search] users=%d, build=%.1fs, heap=%dMB, prefix=%.1fus (avg %.1f"
+            + " results), fuzzy=%.1fus (avg %.1f results)%n",
+        COUNT, buildSeconds, (usedAfter - usedBefore) / 1024 / 1024, prefixMicros,
+        (double) prefixResults / QUERIES, fuzzyMicros, (double) fuzzyResults / QUERIES);
+  }
+
+  private static String username(Random random) {
+    StringBuilder builder = new StringBuilder();
+    int syllables = 2 + random.nextInt(2);
+    for (int i = 0; i < syllables; i++) {
+      builder.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+    }
+    return builder.toString();
+  }
+
+  private static String typo(String username, Random random) {
+    // 글자 하나를 빼서 오타를 만든다.
+    int position = random.nextInt(username.length());
+    return username.substring(0, position) + username.substring(position + 1);
+  }
+}
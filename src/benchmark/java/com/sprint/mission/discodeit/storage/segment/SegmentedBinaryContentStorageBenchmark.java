@@ -0,0 +1,97 @@
+package com.sprint.mission.discodeit.storage.segment;
+
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.local.LocalBinaryContentStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 작은 파일 N개를 쓰고 무작위로 읽으면서 처리량과 디스크 사용량을 기존 로컬 저장소와 비교한다.
+ * <p>
+ * {@code gradle benchmark --tests '*SegmentedBinaryContentStorageBenchmark'
+ * -Dsegment.benchmark.count=10000000 -Dsegment.benchmark.size=4096}
+ */
+@DisplayName("세그먼트 저장소 벤치마크")
+class SegmentedBinaryContentStorageBenchmark {
+
+  private static final int COUNT = Integer.getInteger("segment.benchmark.count", 10_000_000);
+  private static final int SIZE = Integer.getInteger("segment.benchmark.size", 4096);
+  private static final int READS = Math.min(COUNT, 1_000_000);
+
+  @TempDir
+  Path localRoot;
+
+  @TempDir
+  Path segmentRoot;
+
+  @Test
+  @DisplayName("파일 하나씩 저장")
+  void local() throws IOException {
+    LocalBinaryContentStorage local = new LocalBinaryContentStorage(localRoot);
+    local.init();
+    run("local", local, localRoot);
+  }
+
+  @Test
+  @DisplayName("세그먼트에 이어 붙여 저장")
+  void segmented() throws IOException {
+    LocalBinaryContentStorage local = new LocalBinaryContentStorage(localRoot);
+    local.init();
+    SegmentedBinaryContentStorage storage = new SegmentedBinaryContentStorage(local, segmentRoot,
+        DataSize.ofKilobytes(64), DataSize.ofMegabytes(256), 0.5, new SimpleMeterRegistry());
+    storage.init();
+    try {
+      run("segmented", storage, segmentRoot);
+    } finally {
+      storage.close();
+    }
+  }
+
+  private void run(String name, BinaryContentStorage storage, Path root) throws IOException {
+    FileStore fileStore = Files.getFileStore(root);
+    long usedBefore = fileStore.getTotalSpace() - fileStore.getUsableSpace();
+    UUID[] keys = new UUID[COUNT];
+    byte[] bytes = new byte[SIZE];
+    Random random = new Random(42);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < COUNT; i++) {
+      random.nextBytes(bytes);
+      keys[i] = UUID.randomUUID();
+      storage.put(keys[i], bytes);
+    }
+    double writeSeconds = (System.nanoTime() - start) / 1e9;
+
+    start = System.nanoTime();
+    long readBytes = 0;
+    for (int i = 0; i < READS; i++) {
+      try (InputStream inputStream = storage.get(keys[random.nextInt(COUNT)])) {
+        readBytes += inputStream.readAllBytes().length;
+      }
+    }
+    double readSeconds = (System.nanoTime() - start) / 1e9;
+    long usedAfter = fileStore.getTotalSpace() - fileStore.getUsableSpace();
+
+    long files;
+    try (var stream = Files.list(root)) {
+      files = stream.count();
+    }
+    System.out.printf(
+        "[%s] count=%d, size=%dB%n  write: %.0f ops/s, %.1f MB/s%n"
+            + "  read: %.0f ops/s, %.1f MB/s%n  disk: %.1f MB used for %.1f MB payload, files=%d%n",
+        name, COUNT, SIZE,
+        COUNT / writeSeconds, (double) COUNT * SIZE / writeSeconds / 1e6,
+        READS / readSeconds, readBytes / readSeconds / 1e6,
+        (usedAfter - usedBefore) / 1e6, (double) COUNT * SIZE / 1e6, files);
+  }
+}
@@ -0,0 +1,265 @@
+package com.sprint.mission.discodeit.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * 크기 한도와 TTL이 있는 인스턴스 로컬 LRU 캐시.
+ * <p>
+ * 크기는 항목 수로 세거나, {@code weigher}를 주면 항목별 가중치(바이트 수 등)의 합으로 센다. 한도를 넘으면 가장
+ * 오래 사용하지 않은 항목부터 지우고, 넣은 지 {@code ttl}이 지난 항목은 읽을 때 지운다. 크기나 만료로 지운 항목은
+ * 락 밖에서 {@code evictionListener}에 넘긴다. {@link #remove}, {@link #removeIf}로 직접 지운 항목은 넘기지 않는다.
+ * <p>
+ * 직접 지울 때마다 세대가 바뀐다. 락 밖에서 원본을 읽어 채우는 쪽은 읽기 전의 {@link #generation()}을
+ * {@link #putIfGeneration}에 넘겨, 읽는 동안 무효화된 옛 값을 다시 넣지 않게 한다.
+ * <p>
+ * 적중으로 셀 기준(DB 확인 후, 파일을 연 뒤 등)은 쓰는 쪽마다 달라 각자 센다. 여기서는 {@code <name>.size}와
+ * {@code <name>.evictions}만 등록한다.
+ */
+public class BoundedCache<K, V> {
+
+  private final long maxWeight;
+  private final Duration ttl;
+  private final ToLongFunction<? super V> weigher;
+  private final BiConsumer<? super K, ? super V> evictionListener;
+  private final Clock clock;
+
+  // access-order LinkedHashMap: 첫 항목이 가장 오래 사용하지 않은 항목
+  private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long weight;
+  private long generation;
+
+  private final Counter sizeEvictionCounter;
+  private final Counter expiredCounter;
+
+  /**
+   * 항목 수로 크기를 세는 캐시를 만든다.
+   */
+  public BoundedCache(String name, long maxSize, Duration ttl, Clock clock,
+      MeterRegistry meterRegistry) {
+    this(name, maxSize, ttl, value -> 1L, (key, value) -> {
+    }, clock, meterRegistry);
+  }
+
+  /**
+   * @param maxWeight 가중치 합의 한도. 0 이하면 아무것도 보관하지 않는다.
+   * @param ttl       넣은 뒤 보관하는 시간. {@code null}이면 크기로만 지운다.
+   */
+  public BoundedCache(String name, long maxWeight, Duration ttl, ToLongFunction<? super V> weigher,
+      BiConsumer<? super K, ? super V> evictionListener, Clock clock,
+      MeterRegistry meterRegistry) {
+    this.maxWeight = maxWeight;
+    this.ttl = ttl;
+    this.weigher = weigher;
+    this.evictionListener = evictionListener;
+    this.clock = clock;
+
+    this.sizeEvictionCounter = evictionCounter(meterRegistry, name, "size");
+    this.expiredCounter = evictionCounter(meterRegistry, name, "expired");
+    Gauge.builder(name + ".size", this, BoundedCache::weight)
+        .description("캐시된 항목 수 (가중치를 쓰면 가중치 합)")
+        .register(meterRegistry);
+  }
+
+  private static Counter evictionCounter(MeterRegistry meterRegistry, String name, String cause) {
+    return Counter.builder(name + ".evictions")
+        .tag("cause", cause)
+        .description("크기 한도나 만료로 캐시에서 지운 항목 수")
+        .register(meterRegistry);
+  }
+
+  public boolean isEnabled() {
+    return maxWeight > 0 && (ttl == null || !ttl.isZero());
+  }
+
+  /**
+   * @return 없거나 만료되었으면 {@code null}
+   */
+  public V get(K key) {
+    Instant now = clock.instant();
+    V expired;
+    synchronized (entries) {
+      Entry<V> entry = entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (!entry.isExpired(now)) {
+        return entry.value();
+      }
+      expired = entry.value();
+      unlink(key);
+      expiredCounter.increment();
+    }
+    evictionListener.accept(key, expired);
+    return null;
+  }
+
+  public void put(K key, V value) {
+    if (!isEnabled()) {
+      return;
+    }
+    List<Map.Entry<K, V>> evicted;
+    synchronized (entries) {
+      link(key, value);
+      evicted = evictIfNeeded();
+    }
+    notifyEvicted(evicted);
+  }
+
+  /**
+   * {@code observedGeneration} 뒤로 지운 적이 없을 때만 넣는다.
+   *
+   * @return 넣었으면 {@code true}
+   */
+  public boolean putIfGeneration(K key, V value, long observedGeneration) {
+    return putAllIfGeneration(Map.of(key, value), observedGeneration);
+  }
+
+  public boolean putAllIfGeneration(Map<? extends K, ? extends V> values,
+      long observedGeneration) {
+    if (!isEnabled()) {
+      return false;
+    }
+    List<Map.Entry<K, V>> evicted;
+    synchronized (entries) {
+      if (generation != observedGeneration) {
+        return false;
+      }
+      values.forEach(this::link);
+      evicted = evictIfNeeded();
+    }
+    notifyEvicted(evicted);
+    return true;
+  }
+
+  /**
+   * 락 안에서 현재 값(없거나 만료되었으면 {@code null})으로 새 값을 정한다. 새 값을 돌려주면 TTL을 새로 시작하고,
+   * {@code null}을 돌려주면 지운다. 같은 객체를 고쳐서 돌려줘도 된다.
+   */
+  public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remapping) {
+    Instant now = clock.instant();
+    V result;
+    List<Map.Entry<K, V>> evicted;
+    synchronized (entries) {
+      Entry<V> entry = entries.get(key);
+      V current = entry != null && !entry.isExpired(now) ? entry.value() : null;
+      result = remapping.apply(key, current);
+      if (result == null) {
+        if (entry != null) {
+          unlink(key);
+        }
+        return null;
+      }
+      if (!isEnabled()) {
+        return result;
+      }
+      link(key, result);
+      evicted = evictIfNeeded();
+    }
+    notifyEvicted(evicted);
+    return result;
+  }
+
+  /**
+   * @return 지운 값. 없었으면 {@code null}
+   */
+  public V remove(K key) {
+    synchronized (entries) {
+      generation++;
+      Entry<V> entry = unlink(key);
+      return entry != null ? entry.value() : null;
+    }
+  }
+
+  /**
+   * 역인덱스 없이 모든 항목을 훑으므로 드물게 일어나는 무효화에만 쓴다.
+   *
+   * @return 지운 항목 수
+   */
+  public int removeIf(BiPredicate<? super K, ? super V> filter) {
+    synchronized (entries) {
+      generation++;
+      int removed = 0;
+      Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<K, Entry<V>> entry = iterator.next();
+        if (filter.test(entry.getKey(), entry.getValue().value())) {
+          weight -= entry.getValue().weight();
+          iterator.remove();
+          removed++;
+        }
+      }
+      return removed;
+    }
+  }
+
+  public long generation() {
+    synchronized (entries) {
+      return generation;
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  public long weight() {
+    synchronized (entries) {
+      return weight;
+    }
+  }
+
+  private void link(K key, V value) {
+    long entryWeight = weigher.applyAsLong(value);
+    Instant expiresAt = ttl != null ? clock.instant().plus(ttl) : null;
+    Entry<V> previous = entries.put(key, new Entry<>(value, entryWeight, expiresAt));
+    weight += entryWeight - (previous != null ? previous.weight() : 0);
+  }
+
+  private Entry<V> unlink(K key) {
+    Entry<V> entry = entries.remove(key);
+    if (entry != null) {
+      weight -= entry.weight();
+    }
+    return entry;
+  }
+
+  private List<Map.Entry<K, V>> evictIfNeeded() {
+    List<Map.Entry<K, V>> evicted = new ArrayList<>();
+    Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+    while (weight > maxWeight && iterator.hasNext()) {
+      Map.Entry<K, Entry<V>> eldest = iterator.next();
+      weight -= eldest.getValue().weight();
+      iterator.remove();
+      sizeEvictionCounter.increment();
+      evicted.add(Map.entry(eldest.getKey(), eldest.getValue().value()));
+    }
+    return evicted;
+  }
+
+  private void notifyEvicted(List<Map.Entry<K, V>> evicted) {
+    evicted.forEach(entry -> evictionListener.accept(entry.getKey(), entry.getValue()));
+  }
+
+  private record Entry<V>(V value, long weight, Instant expiresAt) {
+
+    boolean isExpired(Instant now) {
+      return expiresAt != null && !expiresAt.isAfter(now);
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.sprint.mission.discodeit.config;
+
+import com.sprint.mission.discodeit.security.session.JdbcSessionRegistry;
+import com.sprint.mission.discodeit.security.session.JdbcSessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+/**
+ * 세션을 DB에 저장해 여러 인스턴스가 공유한다. 로드 밸런서의 sticky session 없이 수평 확장할 수 있다.
+ */
+@Configuration
+@EnableSpringHttpSession
+@ConditionalOnProperty(name = "discodeit.session.store", havingValue = "jdbc")
+public class JdbcSessionConfig {
+
+  @Bean
+  public JdbcSessionRepository sessionRepository(
+      JdbcTemplate jdbcTemplate,
+      @Value("${server.servlet.session.timeout:PT30M}") Duration timeout,
+      @Value("${discodeit.session.jdbc.near-cache-ttl:PT2S}") Duration nearCacheTtl,
+      @Value("${discodeit.session.jdbc.near-cache-size:10000}") int nearCacheSize,
+      @Value("${discodeit.session.jdbc.cleanup-batch-size:500}") int cleanupBatchSize,
+      MeterRegistry meterRegistry
+  ) {
+    return new JdbcSessionRepository(jdbcTemplate, timeout, nearCacheTtl, nearCacheSize,
+        cleanupBatchSize, meterRegistry);
+  }
+
+  @Bean
+  public JdbcSessionRegistry sessionRegistry(JdbcSessionRepository sessionRepository) {
+    return new JdbcSessionRegistry(sessionRepository);
+  }
+}
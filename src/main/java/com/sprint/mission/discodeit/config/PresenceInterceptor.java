@@ -0,0 +1,30 @@
+package com.sprint.mission.discodeit.config;
+
+import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
+import com.sprint.mission.discodeit.security.PresenceTracker;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 인증된 요청을 처리할 때 요청한 사용자의 활동을 {@link PresenceTracker}에 기록하는 인터셉터
+ */
+@RequiredArgsConstructor
+public class PresenceInterceptor implements HandlerInterceptor {
+
+  private final PresenceTracker presenceTracker;
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null
+        && authentication.getPrincipal() instanceof DiscodeitUserDetails userDetails) {
+      presenceTracker.record(userDetails.getUserDto().id());
+    }
+    return true;
+  }
+}
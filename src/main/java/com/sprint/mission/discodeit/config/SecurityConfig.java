@@ -2,16 +2,34 @@ package com.sprint.mission.discodeit.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.security.BoundedPasswordEncoder;
+import com.sprint.mission.discodeit.security.CachingPersistentTokenRepository;
+import com.sprint.mission.discodeit.security.CustomRememberMeServices;
 import com.sprint.mission.discodeit.security.CustomSessionInformationExpiredStrategy;
+import com.sprint.mission.discodeit.security.IndexedSessionRegistry;
 import com.sprint.mission.discodeit.security.JsonUsernamePasswordAuthenticationFilter;
+import com.sprint.mission.discodeit.security.LoginThrottle;
+import com.sprint.mission.discodeit.security.PasswordHashCalibrator;
+import com.sprint.mission.discodeit.security.PasswordHashingPolicy;
 import com.sprint.mission.discodeit.security.SecurityMatchers;
 import com.sprint.mission.discodeit.security.SessionRegistryLogoutHandler;
+import com.sprint.mission.discodeit.security.token.AccessTokenAuthenticationFilter;
+import com.sprint.mission.discodeit.security.token.AccessTokenCodec;
+import com.sprint.mission.discodeit.security.token.TokenLoginSuccessHandler;
+import com.sprint.mission.discodeit.security.token.TokenLogoutHandler;
+import com.sprint.mission.discodeit.security.token.TokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.List;
-import javax.sql.DataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchyAuthoritiesMapper;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
@@ -23,16 +41,20 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.session.SessionRegistry;
-import org.springframework.security.core.session.SessionRegistryImpl;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 
 import java.util.stream.IntStream;
 import org.springframework.security.web.authentication.logout.HttpStatusReturningLogoutSuccessHandler;
-import org.springframework.security.web.authentication.rememberme.JdbcTokenRepositoryImpl;
+import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.security.web.authentication.rememberme.PersistentTokenBasedRememberMeServices;
 
 @Slf4j
@@ -42,30 +64,60 @@ import org.springframework.security.web.authentication.rememberme.PersistentToke
 public class SecurityConfig {
 
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordHashingPolicy passwordHashingPolicy(
+      @Value("${security.password-hashing.algorithm:bcrypt}") String algorithm,
+      @Value("${security.password-hashing.bcrypt.strength:0}") int strength,
+      @Value("${security.password-hashing.bcrypt.min-strength:10}") int minStrength,
+      @Value("${security.password-hashing.bcrypt.max-strength:14}") int maxStrength,
+      @Value("${security.password-hashing.target-time:PT0.25S}") Duration targetTime
+  ) {
+    // 0이면 기동 시 이 장비에서 목표 시간에 맞는 cost를 측정해 정한다.
+    int bcryptStrength = strength > 0 ? strength
+        : PasswordHashCalibrator.calibrateBCrypt(targetTime, minStrength, maxStrength);
+    return new PasswordHashingPolicy(algorithm, bcryptStrength);
+  }
+
+  @Bean
+  public PasswordEncoder passwordEncoder(
+      PasswordHashingPolicy passwordHashingPolicy,
+      @Value("${security.password-hashing.threads:0}") int threads,
+      @Value("${security.password-hashing.queue-capacity:200}") int queueCapacity,
+      @Value("${security.password-hashing.timeout:PT5S}") Duration timeout,
+      MeterRegistry meterRegistry
+  ) {
+    // 0이면 코어의 절반만 해싱에 쓰고 나머지는 일반 요청 처리에 남겨 둔다.
+    int poolSize = threads > 0 ? threads
+        : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    return new BoundedPasswordEncoder(passwordHashingPolicy.createEncoder(), poolSize,
+        queueCapacity, timeout, meterRegistry);
   }
 
   @Bean
   public DaoAuthenticationProvider daoAuthenticationProvider(
       UserDetailsService userDetailsService,
+      UserDetailsPasswordService userDetailsPasswordService,
       PasswordEncoder passwordEncoder,
       RoleHierarchy roleHierarchy
   ) {
     DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
     provider.setUserDetailsService(userDetailsService);
     provider.setPasswordEncoder(passwordEncoder);
+    // 로그인 성공 시 알고리즘이나 cost가 정책과 다른 해시를 평문 비밀번호로 다시 만든다.
+    provider.setUserDetailsPasswordService(userDetailsPasswordService);
     provider.setAuthoritiesMapper(new RoleHierarchyAuthoritiesMapper(roleHierarchy));
     return provider;
   }
 
   @Bean
+  @ConditionalOnProperty(name = "security.auth.mode", havingValue = "session",
+      matchIfMissing = true)
   public SecurityFilterChain filterChain(
       HttpSecurity http,
       ObjectMapper objectMapper,
       AuthenticationManager authenticationManager,
       SessionRegistry sessionRegistry,
-      PersistentTokenBasedRememberMeServices rememberMeServices
+      PersistentTokenBasedRememberMeServices rememberMeServices,
+      LoginThrottle loginThrottle
   ) throws Exception {
     http
         .authenticationManager(authenticationManager)
@@ -73,19 +125,22 @@ public class SecurityConfig {
             .requestMatchers(
                 SecurityMatchers.NON_API,
                 SecurityMatchers.GET_CSRF_TOKEN,
-                SecurityMatchers.SIGN_UP
+                SecurityMatchers.SIGN_UP,
+                SecurityMatchers.DIRECT_UPLOAD
             )
             .permitAll()
             .anyRequest().hasRole(Role.USER.name())
         )
-        .csrf(csrf -> csrf.ignoringRequestMatchers(SecurityMatchers.LOGOUT))
+        .csrf(csrf -> csrf.ignoringRequestMatchers(SecurityMatchers.LOGOUT,
+            SecurityMatchers.DIRECT_UPLOAD))
         .logout(logout ->
             logout
                 .logoutRequestMatcher(SecurityMatchers.LOGOUT)
                 .logoutSuccessHandler(new HttpStatusReturningLogoutSuccessHandler())
                 .addLogoutHandler(new SessionRegistryLogoutHandler(sessionRegistry))
         )
-        .with(new JsonUsernamePasswordAuthenticationFilter.Configurer(objectMapper), Customizer.withDefaults())
+        .with(new JsonUsernamePasswordAuthenticationFilter.Configurer(objectMapper, loginThrottle),
+            Customizer.withDefaults())
         .sessionManagement(session -> session
             .sessionFixation().migrateSession()
             .maximumSessions(1)
@@ -99,6 +154,80 @@ public class SecurityConfig {
     return http.build();
   }
 
+  /**
+   * 세션 대신 요청마다 Bearer 액세스 토큰으로 인증한다. 서버에 세션을 만들지 않고, 쿠키를 쓰지 않으므로
+   * CSRF 보호도 끈다.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "security.auth.mode", havingValue = "token")
+  public SecurityFilterChain tokenFilterChain(
+      HttpSecurity http,
+      ObjectMapper objectMapper,
+      AuthenticationManager authenticationManager,
+      TokenService tokenService,
+      RoleHierarchy roleHierarchy,
+      LoginThrottle loginThrottle
+  ) throws Exception {
+    AuthenticationEntryPoint entryPoint = new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED);
+    http
+        .authenticationManager(authenticationManager)
+        .authorizeHttpRequests(authorize -> authorize
+            .requestMatchers(
+                SecurityMatchers.NON_API,
+                SecurityMatchers.SIGN_UP,
+                SecurityMatchers.TOKEN_REFRESH,
+                SecurityMatchers.DIRECT_UPLOAD
+            )
+            .permitAll()
+            .anyRequest().hasRole(Role.USER.name())
+        )
+        .csrf(AbstractHttpConfigurer::disable)
+        .sessionManagement(session -> session
+            .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+        .exceptionHandling(exception -> exception.authenticationEntryPoint(entryPoint))
+        .logout(logout ->
+            logout
+                .logoutRequestMatcher(SecurityMatchers.LOGOUT)
+                .logoutSuccessHandler(new HttpStatusReturningLogoutSuccessHandler())
+                .addLogoutHandler(new TokenLogoutHandler(tokenService))
+        )
+        .with(new JsonUsernamePasswordAuthenticationFilter.Configurer(objectMapper, loginThrottle,
+            new TokenLoginSuccessHandler(objectMapper, tokenService)), Customizer.withDefaults())
+        // 빈으로 등록하면 서블릿 필터로도 자동 등록되므로 여기서 직접 만든다.
+        .addFilterBefore(new AccessTokenAuthenticationFilter(tokenService,
+            new RoleHierarchyAuthoritiesMapper(roleHierarchy), entryPoint), LogoutFilter.class)
+    ;
+
+    return http.build();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "security.auth.mode", havingValue = "token")
+  public AccessTokenCodec accessTokenCodec(
+      @Value("${security.token.secret:}") String secret,
+      @Value("${security.token.issuer:discodeit}") String issuer,
+      ObjectMapper objectMapper
+  ) {
+    byte[] key;
+    if (secret.isBlank()) {
+      // 재시작하면 발급한 토큰이 모두 무효가 되고, 인스턴스끼리 서로의 토큰을 검증할 수 없다.
+      log.warn("security.token.secret이 설정되지 않아 임의의 키로 토큰을 서명합니다.");
+      key = new byte[32];
+      new SecureRandom().nextBytes(key);
+    } else {
+      key = secret.getBytes(StandardCharsets.UTF_8);
+    }
+    return new AccessTokenCodec(key, issuer, objectMapper);
+  }
+
+  /**
+   * 정적 파일 요청은 세션 조회, CSRF, 보안 헤더 등을 거칠 필요가 없으므로 필터 체인에서 뺀다.
+   */
+  @Bean
+  public WebSecurityCustomizer staticResourcesWebSecurityCustomizer() {
+    return web -> web.ignoring().requestMatchers(SecurityMatchers.STATIC_RESOURCES);
+  }
+
   @Bean
   public String debugFilterChain(SecurityFilterChain chain) {
     log.debug("Debug Filter Chain...");
@@ -128,22 +257,36 @@ public class SecurityConfig {
   }
 
   @Bean
-  public SessionRegistry sessionRegistry() {
-    return new SessionRegistryImpl();
+  @ConditionalOnProperty(name = "discodeit.session.store", havingValue = "memory",
+      matchIfMissing = true)
+  public IndexedSessionRegistry sessionRegistry() {
+    return new IndexedSessionRegistry();
+  }
+
+  @Bean
+  public CachingPersistentTokenRepository persistentTokenRepository(
+      JdbcTemplate jdbcTemplate,
+      @Value("${security.remember-me.token-validity-seconds}") int tokenValiditySeconds,
+      @Value("${security.remember-me.cache-ttl:PT5M}") Duration cacheTtl,
+      @Value("${security.remember-me.cache-size:10000}") int cacheSize,
+      @Value("${security.remember-me.rotation-grace:PT10S}") Duration rotationGrace,
+      @Value("${security.remember-me.purge-batch-size:500}") int purgeBatchSize,
+      MeterRegistry meterRegistry
+  ) {
+    return new CachingPersistentTokenRepository(jdbcTemplate, cacheTtl, cacheSize, rotationGrace,
+        Duration.ofSeconds(tokenValiditySeconds), purgeBatchSize, meterRegistry);
   }
 
   @Bean
-  public PersistentTokenBasedRememberMeServices rememberMeServices(
+  public CustomRememberMeServices rememberMeServices(
       @Value("${security.remember-me.key}") String key,
       @Value("${security.remember-me.token-validity-seconds}") int tokenValiditySeconds,
+      @Value("${security.remember-me.rotation-interval:PT1M}") Duration rotationInterval,
       UserDetailsService userDetailsService,
-      DataSource dataSource
+      CachingPersistentTokenRepository persistentTokenRepository
   ) {
-    JdbcTokenRepositoryImpl tokenRepository = new JdbcTokenRepositoryImpl();
-    tokenRepository.setDataSource(dataSource);
-
-    PersistentTokenBasedRememberMeServices rememberMeServices = new PersistentTokenBasedRememberMeServices(
-        key, userDetailsService, tokenRepository);
+    CustomRememberMeServices rememberMeServices = new CustomRememberMeServices(
+        key, userDetailsService, persistentTokenRepository, rotationInterval);
     rememberMeServices.setTokenValiditySeconds(tokenValiditySeconds);
 
     return rememberMeServices;
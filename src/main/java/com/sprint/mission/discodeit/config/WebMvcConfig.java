@@ -1,9 +1,23 @@
 package com.sprint.mission.discodeit.config;
 
+import com.sprint.mission.discodeit.security.PresenceTracker;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
 
 /**
  * 웹 MVC 설정 클래스
@@ -11,6 +25,20 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+  private static final String STATIC_LOCATION = "classpath:/static/";
+
+  @Value("${discodeit.web.assets.max-age:P365D}")
+  private Duration assetsMaxAge;
+
+  // index.html 내용 해시. jar 안의 파일은 바뀌지 않으므로 파일마다 한 번만 계산한다.
+  private final Map<String, String> etags = new ConcurrentHashMap<>();
+
+  private final ObjectProvider<PresenceTracker> presenceTracker;
+
+  public WebMvcConfig(ObjectProvider<PresenceTracker> presenceTracker) {
+    this.presenceTracker = presenceTracker;
+  }
+
   @Bean
   public MDCLoggingInterceptor mdcLoggingInterceptor() {
     return new MDCLoggingInterceptor();
@@ -20,5 +48,38 @@ public class WebMvcConfig implements WebMvcConfigurer {
   public void addInterceptors(InterceptorRegistry registry) {
     registry.addInterceptor(mdcLoggingInterceptor())
         .addPathPatterns("/**"); // 모든 경로에 적용
+    // 인증된 API 요청이 곧 접속 상태 갱신이므로 클라이언트가 따로 하트비트를 보낼 필요가 없다.
+    presenceTracker.ifAvailable(tracker -> registry
+        .addInterceptor(new PresenceInterceptor(tracker))
+        .addPathPatterns("/api/**"));
+  }
+
+  @Override
+  public void addResourceHandlers(ResourceHandlerRegistry registry) {
+    // 빌드 도구가 파일명에 내용 해시를 넣으므로 내용이 바뀌면 URL도 바뀐다. 다시 확인할 필요가 없다.
+    // 빌드 시 만들어 둔 .br/.gz가 있으면 Accept-Encoding에 맞춰 그 파일을 그대로 보낸다.
+    registry.addResourceHandler("/assets/**")
+        .addResourceLocations(STATIC_LOCATION + "assets/")
+        .setCacheControl(CacheControl.maxAge(assetsMaxAge).cachePublic().immutable())
+        .resourceChain(true)
+        .addResolver(new EncodedResourceResolver());
+
+    // 새 배포의 해시된 파일명을 바로 받도록 index.html은 매번 ETag로 다시 확인한다.
+    registry.addResourceHandler("/index.html")
+        .addResourceLocations(STATIC_LOCATION)
+        .setCacheControl(CacheControl.noCache())
+        .setEtagGenerator(this::etag)
+        .resourceChain(true)
+        .addResolver(new EncodedResourceResolver());
+  }
+
+  private String etag(Resource resource) {
+    return etags.computeIfAbsent(String.valueOf(resource.getFilename()), filename -> {
+      try (InputStream in = resource.getInputStream()) {
+        return DigestUtils.md5DigestAsHex(in);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
   }
-}
\ No newline at end of file
+}
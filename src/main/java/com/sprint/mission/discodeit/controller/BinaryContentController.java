@@ -1,17 +1,41 @@
 package com.sprint.mission.discodeit.controller;
 
 import com.sprint.mission.discodeit.controller.api.BinaryContentApi;
+import com.sprint.mission.discodeit.dto.data.BinaryContentDownload;
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.BinaryContentUploadDto;
+import com.sprint.mission.discodeit.dto.data.ResumableUploadDto;
+import com.sprint.mission.discodeit.dto.request.BinaryContentHashCreateRequest;
+import com.sprint.mission.discodeit.dto.request.BinaryContentUploadCreateRequest;
+import com.sprint.mission.discodeit.entity.BinaryContentDerivative;
+import com.sprint.mission.discodeit.entity.BinaryContentEncoding;
+import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
 import com.sprint.mission.discodeit.service.BinaryContentService;
+import com.sprint.mission.discodeit.service.BinaryContentUploadService;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.codec.BinaryContentCodec;
+import com.sprint.mission.discodeit.storage.derivative.BinaryContentDerivativeStore;
+import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import lombok.extern.slf4j.Slf4j;
@@ -22,8 +46,13 @@ import lombok.extern.slf4j.Slf4j;
 @RequestMapping("/api/binaryContents")
 public class BinaryContentController implements BinaryContentApi {
 
+  private static final String UPLOAD_OFFSET = "Upload-Offset";
+  private static final String UPLOAD_LENGTH = "Upload-Length";
+
   private final BinaryContentService binaryContentService;
+  private final BinaryContentUploadService binaryContentUploadService;
   private final BinaryContentStorage binaryContentStorage;
+  private final BinaryContentDerivativeStore binaryContentDerivativeStore;
 
   @GetMapping(path = "{binaryContentId}")
   public ResponseEntity<BinaryContentDto> find(
@@ -49,12 +78,163 @@ public class BinaryContentController implements BinaryContentApi {
 
   @GetMapping(path = "{binaryContentId}/download")
   public ResponseEntity<?> download(
-      @PathVariable("binaryContentId") UUID binaryContentId) {
-    log.info("바이너리 컨텐츠 다운로드 요청: id={}", binaryContentId);
-    BinaryContentDto binaryContentDto = binaryContentService.find(binaryContentId);
-    ResponseEntity<?> response = binaryContentStorage.download(binaryContentDto);
+      @PathVariable("binaryContentId") UUID binaryContentId,
+      @RequestParam(value = "variant", required = false) String variant,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+      String acceptEncoding) {
+    log.info("바이너리 컨텐츠 다운로드 요청: id={}, variant={}", binaryContentId, variant);
+    BinaryContentDownload download = binaryContentService.findDownload(binaryContentId);
+    BinaryContentDto binaryContentDto = download.binaryContent();
+    UUID storageKey = download.storageKey();
+    ResponseEntity<?> response;
+    if (variant == null) {
+      response = downloadOriginal(storageKey, binaryContentDto, download.encoding(),
+          acceptEncoding);
+    } else {
+      BinaryContentDerivative derivative = binaryContentDerivativeStore.getOrGenerate(storageKey,
+          binaryContentDto, variant);
+      response = binaryContentStorage.download(derivative.getId(),
+          binaryContentDerivativeStore.toMetaData(binaryContentDto, derivative));
+    }
     log.debug("바이너리 컨텐츠 다운로드 응답: contentType={}, contentLength={}", 
         response.getHeaders().getContentType(), response.getHeaders().getContentLength());
     return response;
   }
+
+  private ResponseEntity<?> downloadOriginal(UUID storageKey, BinaryContentDto metaData,
+      BinaryContentEncoding encoding, String acceptEncoding) {
+    if (encoding == BinaryContentEncoding.IDENTITY) {
+      return binaryContentStorage.download(storageKey, metaData);
+    }
+    if (BinaryContentCodec.accepts(acceptEncoding, encoding)) {
+      return binaryContentStorage.download(storageKey, metaData, encoding.getHeaderValue());
+    }
+    // 인코딩을 받지 못하는 클라이언트에게는 읽으면서 풀어 보낸다.
+    InputStream inputStream = BinaryContentCodec.decode(encoding,
+        binaryContentStorage.get(storageKey));
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"" + metaData.fileName() + "\"")
+        .header(HttpHeaders.CONTENT_TYPE, metaData.contentType())
+        .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(metaData.size()))
+        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+        .body(new InputStreamResource(inputStream));
+  }
+
+  @RequestMapping(path = "hashes/{hash}", method = RequestMethod.HEAD)
+  public ResponseEntity<Void> existsByHash(@PathVariable("hash") String hash) {
+    log.debug("해시 존재 여부 확인 요청: hash={}", hash);
+    boolean exists = binaryContentService.existsByHash(hash);
+    return ResponseEntity
+        .status(exists ? HttpStatus.OK : HttpStatus.NOT_FOUND)
+        .build();
+  }
+
+  @PostMapping(path = "hashes/{hash}")
+  public ResponseEntity<BinaryContentDto> createFromHash(
+      @PathVariable("hash") String hash,
+      @RequestBody @Valid BinaryContentHashCreateRequest request) {
+    log.info("해시 기반 바이너리 컨텐츠 생성 요청: hash={}, request={}", hash, request);
+    BinaryContentDto binaryContent = binaryContentService.createFromHash(hash, request);
+    log.debug("해시 기반 바이너리 컨텐츠 생성 응답: {}", binaryContent);
+    return ResponseEntity
+        .status(HttpStatus.CREATED)
+        .body(binaryContent);
+  }
+
+  @PostMapping(path = "uploads")
+  public ResponseEntity<BinaryContentUploadDto> createUpload(
+      @RequestBody @Valid BinaryContentUploadCreateRequest request,
+      @AuthenticationPrincipal DiscodeitUserDetails userDetails) {
+    log.info("직접 업로드 생성 요청: request={}", request);
+    BinaryContentUploadDto upload = binaryContentUploadService.create(request,
+        userDetails.getUserDto().id());
+    log.debug("직접 업로드 생성 응답: id={}, expiresAt={}", upload.id(), upload.expiresAt());
+    return ResponseEntity
+        .status(HttpStatus.CREATED)
+        .body(upload);
+  }
+
+  @PutMapping(path = "uploads/{uploadId}/content")
+  public ResponseEntity<Void> receiveUpload(
+      @PathVariable("uploadId") UUID uploadId,
+      @RequestParam("token") String token,
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+      InputStream inputStream) {
+    log.info("직접 업로드 수신 요청: id={}", uploadId);
+    binaryContentUploadService.receive(uploadId, token, contentType, inputStream);
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .build();
+  }
+
+  @PostMapping(path = "uploads/resumable")
+  public ResponseEntity<ResumableUploadDto> createResumableUpload(
+      @RequestBody @Valid BinaryContentUploadCreateRequest request,
+      @AuthenticationPrincipal DiscodeitUserDetails userDetails) {
+    log.info("이어 올리기 업로드 생성 요청: request={}", request);
+    ResumableUploadDto upload = binaryContentUploadService.createResumable(request,
+        userDetails.getUserDto().id());
+    log.debug("이어 올리기 업로드 생성 응답: {}", upload);
+    return ResponseEntity
+        .status(HttpStatus.CREATED)
+        .header(HttpHeaders.LOCATION, "/api/binaryContents/uploads/" + upload.id())
+        .header(UPLOAD_OFFSET, String.valueOf(upload.offset()))
+        .body(upload);
+  }
+
+  @RequestMapping(path = "uploads/{uploadId}", method = RequestMethod.HEAD)
+  public ResponseEntity<Void> findResumableUploadOffset(
+      @PathVariable("uploadId") UUID uploadId,
+      @AuthenticationPrincipal DiscodeitUserDetails userDetails) {
+    log.debug("이어 올리기 위치 조회 요청: id={}", uploadId);
+    ResumableUploadDto upload = binaryContentUploadService.findResumable(uploadId,
+        userDetails.getUserDto().id());
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .cacheControl(CacheControl.noStore())
+        .header(UPLOAD_OFFSET, String.valueOf(upload.offset()))
+        .header(UPLOAD_LENGTH, String.valueOf(upload.size()))
+        .build();
+  }
+
+  @PatchMapping(path = "uploads/{uploadId}")
+  public ResponseEntity<Void> appendResumableUploadChunk(
+      @PathVariable("uploadId") UUID uploadId,
+      @RequestHeader(UPLOAD_OFFSET) long offset,
+      @RequestHeader(HttpHeaders.CONTENT_LENGTH) long length,
+      @AuthenticationPrincipal DiscodeitUserDetails userDetails,
+      InputStream inputStream) {
+    log.debug("이어 올리기 청크 요청: id={}, offset={}, length={}", uploadId, offset, length);
+    ResumableUploadDto upload = binaryContentUploadService.appendChunk(uploadId,
+        userDetails.getUserDto().id(), offset, length, inputStream);
+    return ResponseEntity
+        .status(HttpStatus.NO_CONTENT)
+        .header(UPLOAD_OFFSET, String.valueOf(upload.offset()))
+        .build();
+  }
+
+  @DeleteMapping(path = "uploads/{uploadId}")
+  public ResponseEntity<Void> abortResumableUpload(@PathVariable("uploadId") UUID uploadId,
+      @AuthenticationPrincipal DiscodeitUserDetails userDetails) {
+    log.info("이어 올리기 업로드 취소 요청: id={}", uploadId);
+    binaryContentUploadService.abort(uploadId, userDetails.getUserDto().id());
+    return ResponseEntity
+        .status(HttpStatus.NO_CONTENT)
+        .build();
+  }
+
+  @PostMapping(path = "uploads/{uploadId}/complete")
+  public ResponseEntity<BinaryContentDto> completeUpload(
+      @PathVariable("uploadId") UUID uploadId,
+      @AuthenticationPrincipal DiscodeitUserDetails userDetails) {
+    log.info("직접 업로드 완료 요청: id={}", uploadId);
+    BinaryContentDto binaryContent = binaryContentUploadService.complete(uploadId,
+        userDetails.getUserDto().id());
+    log.debug("직접 업로드 완료 응답: {}", binaryContent);
+    return ResponseEntity
+        .status(HttpStatus.CREATED)
+        .body(binaryContent);
+  }
 }
@@ -1,14 +1,18 @@
 package com.sprint.mission.discodeit.controller;
 
 import com.sprint.mission.discodeit.controller.api.MessageApi;
+import com.sprint.mission.discodeit.dto.data.AttachmentArchive;
 import com.sprint.mission.discodeit.dto.data.MessageDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
 import com.sprint.mission.discodeit.dto.response.PageResponse;
+import com.sprint.mission.discodeit.service.AttachmentArchiveService;
 import com.sprint.mission.discodeit.service.MessageService;
+import com.sprint.mission.discodeit.storage.archive.AttachmentZipWriter;
 import jakarta.validation.Valid;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -18,6 +22,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -32,6 +38,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -41,6 +48,8 @@ import lombok.extern.slf4j.Slf4j;
 public class MessageController implements MessageApi {
 
   private final MessageService messageService;
+  private final AttachmentArchiveService attachmentArchiveService;
+  private final AttachmentZipWriter attachmentZipWriter;
 
   @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
   public ResponseEntity<MessageDto> create(
@@ -113,4 +122,35 @@ public class MessageController implements MessageApi {
         .status(HttpStatus.OK)
         .body(messages);
   }
+
+  @GetMapping(path = "{messageId}/attachments.zip")
+  public ResponseEntity<StreamingResponseBody> downloadAttachments(
+      @PathVariable("messageId") UUID messageId) {
+    log.info("메시지 첨부 파일 묶음 다운로드 요청: messageId={}", messageId);
+    return zipResponse(attachmentArchiveService.findByMessageId(messageId));
+  }
+
+  @GetMapping(path = "attachments.zip")
+  public ResponseEntity<StreamingResponseBody> downloadChannelAttachments(
+      @RequestParam("channelId") UUID channelId,
+      @RequestParam(value = "from", required = false) Instant from,
+      @RequestParam(value = "to", required = false) Instant to) {
+    log.info("채널 첨부 파일 묶음 다운로드 요청: channelId={}, from={}, to={}", channelId, from, to);
+    return zipResponse(attachmentArchiveService.findByChannelId(channelId, from, to));
+  }
+
+  private ResponseEntity<StreamingResponseBody> zipResponse(AttachmentArchive archive) {
+    StreamingResponseBody body = outputStream -> attachmentZipWriter.write(archive.entries(),
+        archive.groupByMessage(), outputStream);
+    log.debug("첨부 파일 묶음 다운로드 응답: fileName={}, count={}", archive.fileName(),
+        archive.entries().size());
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .contentType(MediaType.parseMediaType("application/zip"))
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename(archive.fileName(), StandardCharsets.UTF_8)
+            .build()
+            .toString())
+        .body(body);
+  }
 }
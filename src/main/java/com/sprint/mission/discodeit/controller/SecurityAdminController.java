@@ -0,0 +1,33 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.sprint.mission.discodeit.controller.api.SecurityAdminApi;
+import com.sprint.mission.discodeit.dto.response.PasswordHashReport;
+import com.sprint.mission.discodeit.security.PasswordHashReporter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/admin/security")
+public class SecurityAdminController implements SecurityAdminApi {
+
+  private final PasswordHashReporter passwordHashReporter;
+
+  @PreAuthorize("hasRole('ADMIN')")
+  @GetMapping(path = "password-hashes")
+  public ResponseEntity<PasswordHashReport> getPasswordHashReport() {
+    log.info("비밀번호 해시 분포 조회 요청");
+    PasswordHashReport report = passwordHashReporter.report();
+    log.debug("비밀번호 해시 분포 조회 응답: {}", report);
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(report);
+  }
+}
@@ -0,0 +1,35 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.sprint.mission.discodeit.controller.api.StorageAdminApi;
+import com.sprint.mission.discodeit.dto.response.StorageGcReport;
+import com.sprint.mission.discodeit.storage.gc.StorageGarbageCollector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/admin/storage")
+public class StorageAdminController implements StorageAdminApi {
+
+  private final StorageGarbageCollector storageGarbageCollector;
+
+  @PreAuthorize("hasRole('ADMIN')")
+  @PostMapping(path = "gc")
+  public ResponseEntity<StorageGcReport> collectGarbage(
+      @RequestParam(value = "dryRun", defaultValue = "true") boolean dryRun) {
+    log.info("저장소 정리 요청: dryRun={}", dryRun);
+    StorageGcReport report = storageGarbageCollector.collect(dryRun);
+    log.debug("저장소 정리 응답: {}", report);
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(report);
+  }
+}
@@ -0,0 +1,35 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.sprint.mission.discodeit.controller.api.TokenAuthApi;
+import com.sprint.mission.discodeit.dto.request.TokenRefreshRequest;
+import com.sprint.mission.discodeit.dto.response.TokenResponse;
+import com.sprint.mission.discodeit.security.token.TokenService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/auth")
+@ConditionalOnProperty(name = "security.auth.mode", havingValue = "token")
+public class TokenAuthController implements TokenAuthApi {
+
+  private final TokenService tokenService;
+
+  @PostMapping(path = "refresh")
+  public ResponseEntity<TokenResponse> refresh(@RequestBody @Valid TokenRefreshRequest request) {
+    log.debug("토큰 갱신 요청");
+    TokenResponse response = tokenService.refresh(request.refreshToken());
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(response);
+  }
+}
@@ -0,0 +1,47 @@
+package com.sprint.mission.discodeit.controller;
+
+import com.sprint.mission.discodeit.controller.api.UserAdminApi;
+import com.sprint.mission.discodeit.dto.request.UserImportRow;
+import com.sprint.mission.discodeit.service.basic.UserBulkImporter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/admin/users")
+public class UserAdminController implements UserAdminApi {
+
+  private final UserBulkImporter userBulkImporter;
+
+  @PreAuthorize("hasRole('ADMIN')")
+  @PostMapping(path = "bulk",
+      consumes = {UserBulkImporter.NDJSON_VALUE, UserBulkImporter.CSV_VALUE},
+      produces = UserBulkImporter.NDJSON_VALUE)
+  public ResponseEntity<ResponseBodyEmitter> bulkCreate(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+      InputStream inputStream) throws IOException {
+    // 본문은 요청 스레드에서 모두 읽고, 가입은 응답과 별개로 끝까지 실행하며 결과만 스트리밍한다.
+    List<UserImportRow> rows = userBulkImporter.read(inputStream,
+        MediaType.parseMediaType(contentType));
+    log.info("사용자 대량 생성 요청: contentType={}, rows={}", contentType, rows.size());
+    ResponseBodyEmitter body = userBulkImporter.importRowsAsync(rows);
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .contentType(MediaType.parseMediaType(UserBulkImporter.NDJSON_VALUE))
+        .body(body);
+  }
+}
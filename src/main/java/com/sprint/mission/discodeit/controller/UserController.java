@@ -25,6 +25,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -93,6 +94,17 @@ public class UserController implements UserApi {
         .body(users);
   }
 
+  @GetMapping(path = "search")
+  @Override
+  public ResponseEntity<List<UserDto>> search(
+      @RequestParam("q") String query,
+      @RequestParam(value = "limit", defaultValue = "10") int limit) {
+    List<UserDto> users = userService.search(query, limit);
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(users);
+  }
+
   @PatchMapping(path = "{userId}/userStatus")
   @Override
   public ResponseEntity<UserStatusDto> updateUserStatusByUserId(
@@ -1,6 +1,11 @@
 package com.sprint.mission.discodeit.controller.api;
 
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.BinaryContentUploadDto;
+import com.sprint.mission.discodeit.dto.data.ResumableUploadDto;
+import com.sprint.mission.discodeit.dto.request.BinaryContentHashCreateRequest;
+import com.sprint.mission.discodeit.dto.request.BinaryContentUploadCreateRequest;
+import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -10,6 +15,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.core.io.Resource;
@@ -49,9 +55,137 @@ public interface BinaryContentApi {
       @ApiResponse(
           responseCode = "200", description = "파일 다운로드 성공",
           content = @Content(schema = @Schema(implementation = Resource.class))
+      ),
+      @ApiResponse(
+          responseCode = "400", description = "이미지가 아니거나 지원하지 않는 variant",
+          content = @Content(examples = @ExampleObject(value = "지원하지 않는 파일 변환 형식입니다."))
       )
   })
   ResponseEntity<?> download(
-      @Parameter(description = "다운로드할 파일 ID") UUID binaryContentId
+      @Parameter(description = "다운로드할 파일 ID") UUID binaryContentId,
+      @Parameter(description = "이미지 축소본의 긴 변 픽셀 수 (예: 64, 256, 1024). 생략하면 원본") String variant,
+      @Parameter(description = "gzip을 허용하면 압축 저장된 파일을 풀지 않고 그대로 받음") String acceptEncoding
+  );
+
+  @Operation(summary = "해시로 파일 존재 여부 확인", description = "SHA-256 해시(hex)에 해당하는 파일이 이미 저장되어 있으면 업로드를 생략할 수 있습니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "같은 내용의 파일이 이미 존재함"),
+      @ApiResponse(responseCode = "404", description = "같은 내용의 파일이 없음")
+  })
+  ResponseEntity<Void> existsByHash(
+      @Parameter(description = "파일 내용의 SHA-256 해시 (hex)") String hash
+  );
+
+  @Operation(summary = "해시로 첨부 파일 생성", description = "바이트 전송 없이 이미 저장된 파일을 참조하는 첨부 파일을 생성합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "201", description = "첨부 파일 생성 성공",
+          content = @Content(schema = @Schema(implementation = BinaryContentDto.class))
+      ),
+      @ApiResponse(
+          responseCode = "404", description = "해당 해시의 파일이 없음",
+          content = @Content(examples = @ExampleObject(value = "BinaryContent blob with hash {hash} not found"))
+      )
+  })
+  ResponseEntity<BinaryContentDto> createFromHash(
+      @Parameter(description = "파일 내용의 SHA-256 해시 (hex)") String hash,
+      @Parameter(description = "첨부 파일 메타 정보") BinaryContentHashCreateRequest request
+  );
+
+  @Operation(summary = "직접 업로드 생성", description = "파일 바이트를 서버를 거치지 않고 저장소에 바로 올릴 수 있는 URL을 발급합니다. 응답의 method, headers 그대로 uploadUrl에 파일을 올린 뒤 완료 API를 호출하세요.")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "201", description = "업로드 URL 발급 성공",
+          content = @Content(schema = @Schema(implementation = BinaryContentUploadDto.class))
+      ),
+      @ApiResponse(
+          responseCode = "400", description = "허용 크기를 넘었거나 컨텐츠 타입이 올바르지 않음",
+          content = @Content(examples = @ExampleObject(value = "업로드된 파일이 요청한 정보와 일치하지 않습니다."))
+      )
+  })
+  ResponseEntity<BinaryContentUploadDto> createUpload(
+      @Parameter(description = "업로드할 파일 정보 (크기, SHA-256 포함)") BinaryContentUploadCreateRequest request,
+      @Parameter(hidden = true) DiscodeitUserDetails userDetails
+  );
+
+  @Operation(summary = "직접 업로드 수신 (로컬 저장소)", description = "로컬 저장소를 쓸 때 발급되는 업로드 URL입니다. 요청 본문을 그대로 저장합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "업로드 성공"),
+      @ApiResponse(responseCode = "404", description = "업로드가 없거나 토큰이 올바르지 않음"),
+      @ApiResponse(responseCode = "410", description = "업로드 가능 시간이 지남")
+  })
+  ResponseEntity<Void> receiveUpload(
+      @Parameter(description = "업로드 ID") UUID uploadId,
+      @Parameter(description = "업로드 URL에 포함된 토큰") String token,
+      @Parameter(description = "업로드 생성 시 지정한 컨텐츠 타입") String contentType,
+      @Parameter(hidden = true) InputStream inputStream
+  );
+
+  @Operation(summary = "이어 올리기 업로드 생성", description = "큰 파일을 청크로 나누어 올립니다. 끊기면 현재 위치를 조회해 이어서 보내고, 다 보내면 완료 API를 호출하세요. 프로필 이미지에도 사용할 수 있습니다.")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "201", description = "업로드 생성 성공",
+          content = @Content(schema = @Schema(implementation = ResumableUploadDto.class))
+      ),
+      @ApiResponse(responseCode = "400", description = "허용 크기를 넘었거나 컨텐츠 타입이 올바르지 않음")
+  })
+  ResponseEntity<ResumableUploadDto> createResumableUpload(
+      @Parameter(description = "업로드할 파일 정보 (크기, SHA-256 포함)") BinaryContentUploadCreateRequest request,
+      @Parameter(hidden = true) DiscodeitUserDetails userDetails
+  );
+
+  @Operation(summary = "이어 올리기 위치 조회", description = "Upload-Offset 헤더로 지금까지 받은 바이트 수를 알려 줍니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "조회 성공"),
+      @ApiResponse(responseCode = "404", description = "업로드를 찾을 수 없거나 다른 사용자의 업로드"),
+      @ApiResponse(responseCode = "410", description = "업로드 가능 시간이 지남")
+  })
+  ResponseEntity<Void> findResumableUploadOffset(
+      @Parameter(description = "업로드 ID") UUID uploadId,
+      @Parameter(hidden = true) DiscodeitUserDetails userDetails
+  );
+
+  @Operation(summary = "이어 올리기 청크 전송", description = "요청 본문을 Upload-Offset 위치부터 씁니다. 마지막 청크가 아니면 minChunkSize 이상이어야 합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "204", description = "청크 수신 성공 (Upload-Offset 헤더에 새 위치)"),
+      @ApiResponse(responseCode = "400", description = "청크 크기가 올바르지 않음"),
+      @ApiResponse(responseCode = "404", description = "업로드를 찾을 수 없거나 다른 사용자의 업로드"),
+      @ApiResponse(responseCode = "409", description = "Upload-Offset이 현재 위치와 다름"),
+      @ApiResponse(responseCode = "410", description = "업로드 가능 시간이 지남")
+  })
+  ResponseEntity<Void> appendResumableUploadChunk(
+      @Parameter(description = "업로드 ID") UUID uploadId,
+      @Parameter(description = "이 청크의 시작 위치") long offset,
+      @Parameter(description = "청크 크기") long length,
+      @Parameter(hidden = true) DiscodeitUserDetails userDetails,
+      @Parameter(hidden = true) InputStream inputStream
+  );
+
+  @Operation(summary = "이어 올리기 업로드 취소")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "204", description = "취소 성공"),
+      @ApiResponse(responseCode = "404", description = "업로드를 찾을 수 없거나 다른 사용자의 업로드")
+  })
+  ResponseEntity<Void> abortResumableUpload(
+      @Parameter(description = "업로드 ID") UUID uploadId,
+      @Parameter(hidden = true) DiscodeitUserDetails userDetails
+  );
+
+  @Operation(summary = "직접 업로드 완료", description = "업로드된 파일의 크기와 해시를 확인하고 첨부 파일을 생성합니다. 이어 올리기 업로드도 마지막 청크를 보낸 뒤 호출합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "201", description = "첨부 파일 생성 성공",
+          content = @Content(schema = @Schema(implementation = BinaryContentDto.class))
+      ),
+      @ApiResponse(
+          responseCode = "400", description = "업로드된 파일이 없거나 크기/해시/타입이 다름",
+          content = @Content(examples = @ExampleObject(value = "업로드된 파일이 요청한 정보와 일치하지 않습니다."))
+      ),
+      @ApiResponse(responseCode = "404", description = "업로드를 찾을 수 없거나 다른 사용자의 업로드"),
+      @ApiResponse(responseCode = "410", description = "업로드 가능 시간이 지남")
+  })
+  ResponseEntity<BinaryContentDto> completeUpload(
+      @Parameter(description = "업로드 ID") UUID uploadId,
+      @Parameter(hidden = true) DiscodeitUserDetails userDetails
   );
-} 
\ No newline at end of file
+}
@@ -19,6 +19,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "Message", description = "Message API")
 public interface MessageApi {
@@ -87,4 +88,40 @@ public interface MessageApi {
       @Parameter(description = "페이징 커서 정보") Instant cursor,
       @Parameter(description = "페이징 정보", example = "{\"size\": 50, \"sort\": \"createdAt,desc\"}") Pageable pageable
   );
-} 
\ No newline at end of file
+
+  @Operation(summary = "Message 첨부 파일 일괄 다운로드", description = "Message의 모든 첨부 파일을 하나의 ZIP으로 내려받습니다.")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "ZIP 다운로드 성공",
+          content = @Content(mediaType = "application/zip")
+      ),
+      @ApiResponse(
+          responseCode = "404", description = "Message를 찾을 수 없음",
+          content = @Content(examples = @ExampleObject(value = "Message with id {messageId} not found"))
+      )
+  })
+  ResponseEntity<StreamingResponseBody> downloadAttachments(
+      @Parameter(description = "첨부 파일을 내려받을 Message ID") UUID messageId
+  );
+
+  @Operation(summary = "Channel 첨부 파일 일괄 다운로드", description = "기간 안에 작성된 Message들의 첨부 파일을 Message별 폴더로 나누어 하나의 ZIP으로 내려받습니다.")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "ZIP 다운로드 성공",
+          content = @Content(mediaType = "application/zip")
+      ),
+      @ApiResponse(
+          responseCode = "400", description = "한 번에 내려받을 수 있는 첨부 파일 수를 넘음",
+          content = @Content(examples = @ExampleObject(value = "한 번에 내려받을 수 있는 첨부 파일 수를 넘었습니다."))
+      ),
+      @ApiResponse(
+          responseCode = "404", description = "Channel을 찾을 수 없음",
+          content = @Content(examples = @ExampleObject(value = "Channel with id {channelId} not found"))
+      )
+  })
+  ResponseEntity<StreamingResponseBody> downloadChannelAttachments(
+      @Parameter(description = "첨부 파일을 내려받을 Channel ID") UUID channelId,
+      @Parameter(description = "이 시각 이후에 작성된 Message부터 (생략하면 처음부터)") Instant from,
+      @Parameter(description = "이 시각 이전에 작성된 Message까지 (생략하면 현재까지)") Instant to
+  );
+}
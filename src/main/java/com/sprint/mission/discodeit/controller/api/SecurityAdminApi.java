@@ -0,0 +1,23 @@
+package com.sprint.mission.discodeit.controller.api;
+
+import com.sprint.mission.discodeit.dto.response.PasswordHashReport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+@Tag(name = "Security Admin", description = "보안 관리 API")
+public interface SecurityAdminApi {
+
+  @Operation(summary = "저장된 비밀번호 해시의 알고리즘·cost별 분포 조회")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "조회 성공",
+          content = @Content(schema = @Schema(implementation = PasswordHashReport.class))
+      )
+  })
+  ResponseEntity<PasswordHashReport> getPasswordHashReport();
+}
@@ -0,0 +1,31 @@
+package com.sprint.mission.discodeit.controller.api;
+
+import com.sprint.mission.discodeit.dto.response.StorageGcReport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+@Tag(name = "Storage Admin", description = "저장소 관리 API")
+public interface StorageAdminApi {
+
+  @Operation(summary = "참조되지 않는 파일 정리")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "정리 완료 (dryRun이면 삭제 없이 대상만 집계)",
+          content = @Content(schema = @Schema(implementation = StorageGcReport.class))
+      ),
+      @ApiResponse(
+          responseCode = "409", description = "이미 실행 중",
+          content = @Content(examples = @ExampleObject(value = "저장소 정리 작업이 이미 실행 중입니다."))
+      )
+  })
+  ResponseEntity<StorageGcReport> collectGarbage(
+      @Parameter(description = "true면 삭제하지 않고 보고서만 생성 (기본값: true)") boolean dryRun
+  );
+}
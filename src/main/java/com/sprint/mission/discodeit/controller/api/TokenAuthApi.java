@@ -0,0 +1,30 @@
+package com.sprint.mission.discodeit.controller.api;
+
+import com.sprint.mission.discodeit.dto.request.TokenRefreshRequest;
+import com.sprint.mission.discodeit.dto.response.TokenResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+@Tag(name = "Auth", description = "인증 API")
+public interface TokenAuthApi {
+
+  @Operation(summary = "리프레시 토큰으로 토큰 갱신 (토큰 인증 모드)")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "갱신 성공, 사용한 리프레시 토큰은 더 이상 쓸 수 없음",
+          content = @Content(schema = @Schema(implementation = TokenResponse.class))
+      ),
+      @ApiResponse(
+          responseCode = "401", description = "유효하지 않거나 만료·재사용된 리프레시 토큰"
+      )
+  })
+  ResponseEntity<TokenResponse> refresh(
+      @Parameter(description = "리프레시 토큰") TokenRefreshRequest request
+  );
+}
@@ -0,0 +1,36 @@
+package com.sprint.mission.discodeit.controller.api;
+
+import com.sprint.mission.discodeit.dto.response.UserImportResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+@Tag(name = "User Admin", description = "사용자 관리 API")
+public interface UserAdminApi {
+
+  @Operation(summary = "User 대량 생성", description = "NDJSON(application/x-ndjson) 또는 CSV(text/csv, 첫 줄은 헤더)로 받은 User를 한 번에 생성합니다. 각 행은 username, email과 password 또는 passwordHash({bcrypt}/{pbkdf2} 형식)를 가집니다. 결과는 행마다 한 줄씩, 마지막 줄은 요약인 NDJSON으로 처리되는 대로 내려갑니다. 연결이 끊기거나 응답 시간이 지나도 남은 행은 끝까지 생성합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "처리 결과 (행별 성공/실패 포함)",
+          content = @Content(mediaType = "application/x-ndjson",
+              schema = @Schema(implementation = UserImportResult.class))
+      ),
+      @ApiResponse(
+          responseCode = "400", description = "지원하지 않는 형식, 필수 열 누락 또는 최대 행 수 초과",
+          content = @Content(examples = @ExampleObject(value = "가져올 사용자 목록의 형식이 잘못되었거나 너무 큽니다."))
+      )
+  })
+  ResponseEntity<ResponseBodyEmitter> bulkCreate(
+      @Parameter(description = "요청 본문 형식") String contentType,
+      @Parameter(description = "NDJSON 또는 CSV 본문") InputStream inputStream
+  ) throws IOException;
+}
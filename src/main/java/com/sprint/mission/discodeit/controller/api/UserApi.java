@@ -66,7 +66,7 @@ public interface UserApi {
       @Parameter(description = "수정할 User 프로필 이미지") MultipartFile profile
   );
 
-  @Operation(summary = "User 삭제")
+  @Operation(summary = "User 삭제", description = "User는 바로 조회되지 않으며, 작성한 메시지의 작성자 정보와 읽음 상태는 백그라운드에서 나눠서 정리됩니다.")
   @ApiResponses(value = {
       @ApiResponse(
           responseCode = "204",
@@ -91,7 +91,19 @@ public interface UserApi {
   })
   ResponseEntity<List<UserDto>> findAll();
 
-  @Operation(summary = "User 온라인 상태 업데이트")
+  @Operation(summary = "User 검색", description = "username이 검색어로 시작하는 User를 먼저, 이어서 철자가 비슷한 User를 관련도 순으로 반환합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "User 검색 성공",
+          content = @Content(array = @ArraySchema(schema = @Schema(implementation = UserDto.class)))
+      )
+  })
+  ResponseEntity<List<UserDto>> search(
+      @Parameter(description = "검색어") String query,
+      @Parameter(description = "최대 결과 수 (최대 50)") int limit
+  );
+
+  @Operation(summary = "User 온라인 상태 업데이트", description = "인증된 API 요청마다 활동 시각이 서버에서 기록되므로 주기적으로 호출하지 않아도 됩니다. 변경 내용은 일정 주기마다 모아서 저장됩니다.")
   @ApiResponses(value = {
       @ApiResponse(
           responseCode = "200", description = "User 온라인 상태가 성공적으로 업데이트됨",
@@ -0,0 +1,14 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import java.util.List;
+
+/**
+ * @param groupByMessage 메시지별 폴더로 나누어 담을지 여부 (채널 단위 묶음)
+ */
+public record AttachmentArchive(
+    String fileName,
+    List<AttachmentArchiveEntry> entries,
+    boolean groupByMessage
+) {
+
+}
@@ -0,0 +1,22 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import com.sprint.mission.discodeit.entity.BinaryContentEncoding;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import java.util.UUID;
+
+/**
+ * 첨부 파일 묶음(ZIP)에 들어갈 파일 하나. 묶음 전체를 한 번의 쿼리로 조회한다. blob이 없는 컨텐츠는
+ * {@code encoding}이 {@code null}이며 원본 그대로 저장되어 있다.
+ */
+public record AttachmentArchiveEntry(
+    UUID messageId,
+    UUID binaryContentId,
+    UUID storageKey,
+    String fileName,
+    Long size,
+    String contentType,
+    BinaryContentStatus status,
+    BinaryContentEncoding encoding
+) {
+
+}
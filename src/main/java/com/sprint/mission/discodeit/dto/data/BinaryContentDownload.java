@@ -0,0 +1,18 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import com.sprint.mission.discodeit.entity.BinaryContentEncoding;
+import java.util.UUID;
+
+/**
+ * 다운로드 응답에 필요한 메타데이터. 컨텐츠 한 건을 한 번 조회해서 만든다.
+ *
+ * @param storageKey 저장소에서 바이트를 찾을 키
+ * @param encoding   저장된 바이트의 인코딩
+ */
+public record BinaryContentDownload(
+    BinaryContentDto binaryContent,
+    UUID storageKey,
+    BinaryContentEncoding encoding
+) {
+
+}
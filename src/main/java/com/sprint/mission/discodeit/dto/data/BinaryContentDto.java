@@ -1,12 +1,15 @@
 package com.sprint.mission.discodeit.dto.data;
 
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import java.io.Serializable;
 import java.util.UUID;
 
 public record BinaryContentDto(
     UUID id,
     String fileName,
     Long size,
-    String contentType
-) {
+    String contentType,
+    BinaryContentStatus status
+) implements Serializable {
 
 }
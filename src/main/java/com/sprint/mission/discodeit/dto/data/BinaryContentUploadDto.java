@@ -0,0 +1,18 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * @param headers 업로드 요청에 그대로 실어 보내야 하는 헤더 (서명에 포함됨)
+ */
+public record BinaryContentUploadDto(
+    UUID id,
+    String uploadUrl,
+    String method,
+    Map<String, String> headers,
+    Instant expiresAt
+) {
+
+}
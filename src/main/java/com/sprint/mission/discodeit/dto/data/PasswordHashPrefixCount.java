@@ -0,0 +1,13 @@
+package com.sprint.mission.discodeit.dto.data;
+
+/**
+ * 저장된 비밀번호 해시를 솔트 앞부분(알고리즘 접두사와 cost)까지 잘라 묶은 집계.
+ * <p>
+ * 예: {@code {bcrypt}$2a$12$}, {@code $2a$10$}(접두사 없는 기존 해시), {@code {pbkdf2}}
+ */
+public record PasswordHashPrefixCount(
+    String prefix,
+    long count
+) {
+
+}
@@ -0,0 +1,19 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * @param offset       지금까지 받은 바이트 수. 다음 청크는 이 위치부터 보낸다.
+ * @param minChunkSize 마지막 청크를 뺀 청크의 최소 크기
+ */
+public record ResumableUploadDto(
+    UUID id,
+    Long size,
+    Long offset,
+    Long minChunkSize,
+    Long maxChunkSize,
+    Instant expiresAt
+) {
+
+}
@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.dto.data;
 
 import com.sprint.mission.discodeit.entity.Role;
+import java.io.Serializable;
 import java.util.UUID;
 
 public record UserDto(
@@ -10,6 +11,6 @@ public record UserDto(
     BinaryContentDto profile,
     Boolean online,
     Role role
-) {
+) implements Serializable {
 
 }
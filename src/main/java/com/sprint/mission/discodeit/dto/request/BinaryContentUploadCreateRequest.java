@@ -0,0 +1,24 @@
+package com.sprint.mission.discodeit.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+public record BinaryContentUploadCreateRequest(
+    @NotBlank(message = "파일 이름은 필수입니다")
+    String fileName,
+
+    @NotBlank(message = "컨텐츠 타입은 필수입니다")
+    String contentType,
+
+    @NotNull(message = "파일 크기는 필수입니다")
+    @Positive(message = "파일 크기는 0보다 커야 합니다")
+    Long size,
+
+    @NotBlank(message = "파일 해시는 필수입니다")
+    @Pattern(regexp = "^[0-9a-fA-F]{64}$", message = "파일 해시는 SHA-256 16진수 64자여야 합니다")
+    String sha256
+) {
+
+}
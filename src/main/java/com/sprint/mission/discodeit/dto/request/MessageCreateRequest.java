@@ -3,6 +3,7 @@ package com.sprint.mission.discodeit.dto.request;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import java.util.List;
 import java.util.UUID;
 
 public record MessageCreateRequest(
@@ -14,7 +15,14 @@ public record MessageCreateRequest(
     UUID channelId,
     
     @NotNull(message = "작성자 ID는 필수입니다")
-    UUID authorId
+    UUID authorId,
+
+    // 직접 업로드 등으로 미리 만들어 둔 첨부 파일 ID
+    @Size(max = 10, message = "첨부 파일은 10개 이하여야 합니다")
+    List<UUID> attachmentIds
 ) {
 
+  public MessageCreateRequest(String content, UUID channelId, UUID authorId) {
+    this(content, channelId, authorId, List.of());
+  }
 }
@@ -0,0 +1,10 @@
+package com.sprint.mission.discodeit.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record TokenRefreshRequest(
+    @NotBlank(message = "리프레시 토큰은 필수입니다")
+    String refreshToken
+) {
+
+}
@@ -0,0 +1,21 @@
+package com.sprint.mission.discodeit.dto.request;
+
+/**
+ * 대량 가입 요청의 한 행. {@code password}와 {@code passwordHash} 중 하나만 쓴다.
+ *
+ * @param line       요청 본문에서의 줄 번호 (1부터)
+ * @param parseError 행을 읽지 못했으면 그 이유, 아니면 {@code null}
+ */
+public record UserImportRow(
+    int line,
+    String username,
+    String email,
+    String password,
+    String passwordHash,
+    String parseError
+) {
+
+  public static UserImportRow unreadable(int line, String parseError) {
+    return new UserImportRow(line, null, null, null, null, parseError);
+  }
+}
@@ -3,6 +3,7 @@ package com.sprint.mission.discodeit.dto.request;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
+import java.util.UUID;
 
 public record UserUpdateRequest(
     @Size(min = 3, max = 50, message = "사용자 이름은 3자 이상 50자 이하여야 합니다")
@@ -15,7 +16,13 @@ public record UserUpdateRequest(
     @Size(min = 8, max = 60, message = "비밀번호는 8자 이상 60자 이하여야 합니다")
     @Pattern(regexp = "^(?=.*[0-9])(?=.*[a-zA-Z])(?=.*[!@#$%^&*]).{8,}$", 
              message = "비밀번호는 최소 8자 이상, 숫자, 문자, 특수문자를 포함해야 합니다")
-    String newPassword
+    String newPassword,
+
+    // 이어 올리기 등으로 미리 만들어 둔 프로필 이미지 ID (profile 파트가 있으면 무시)
+    UUID newProfileId
 ) {
 
+  public UserUpdateRequest(String newUsername, String newEmail, String newPassword) {
+    this(newUsername, newEmail, newPassword, null);
+  }
 }
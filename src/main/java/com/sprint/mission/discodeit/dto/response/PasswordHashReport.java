@@ -0,0 +1,30 @@
+package com.sprint.mission.discodeit.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+
+public record PasswordHashReport(
+    Instant generatedAt,
+    String targetAlgorithm,
+    int targetBcryptStrength,
+    long totalUsers,
+    long outdatedUsers,
+    List<Bucket> buckets
+) {
+
+  /**
+   * @param algorithm 알고리즘 id (알 수 없으면 "unknown")
+   * @param cost      BCrypt cost (BCrypt가 아니면 null)
+   * @param prefixed  {@code {id}} 접두사가 붙은 해시인지 여부
+   * @param current   현재 정책과 일치해 재해싱이 필요 없는지 여부
+   */
+  public record Bucket(
+      String algorithm,
+      Integer cost,
+      boolean prefixed,
+      boolean current,
+      long count
+  ) {
+
+  }
+}
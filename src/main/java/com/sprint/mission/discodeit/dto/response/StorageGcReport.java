@@ -0,0 +1,20 @@
+package com.sprint.mission.discodeit.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record StorageGcReport(
+    boolean dryRun,
+    Instant startedAt,
+    Instant finishedAt,
+    long unreferencedBlobs,
+    long danglingDerivatives,
+    long scannedObjects,
+    long orphanObjects,
+    long orphanBytes,
+    long deletedObjects,
+    List<UUID> sampleOrphanKeys
+) {
+
+}
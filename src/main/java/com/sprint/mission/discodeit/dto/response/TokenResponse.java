@@ -0,0 +1,18 @@
+package com.sprint.mission.discodeit.dto.response;
+
+import com.sprint.mission.discodeit.dto.data.UserDto;
+
+/**
+ * @param expiresIn        액세스 토큰 남은 수명 (초)
+ * @param refreshExpiresIn 리프레시 토큰 남은 수명 (초)
+ */
+public record TokenResponse(
+    String accessToken,
+    String tokenType,
+    long expiresIn,
+    String refreshToken,
+    long refreshExpiresIn,
+    UserDto user
+) {
+
+}
@@ -0,0 +1,19 @@
+package com.sprint.mission.discodeit.dto.response;
+
+import java.util.UUID;
+
+public record UserImportResult(
+    int line,
+    String username,
+    Status status,
+    UUID userId,
+    String message
+) {
+
+  public enum Status {
+    CREATED,
+    INVALID,
+    DUPLICATE,
+    FAILED
+  }
+}
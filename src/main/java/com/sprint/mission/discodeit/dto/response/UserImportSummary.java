@@ -0,0 +1,15 @@
+package com.sprint.mission.discodeit.dto.response;
+
+/**
+ * 대량 가입 결과 스트림의 마지막 줄.
+ */
+public record UserImportSummary(
+    int total,
+    int created,
+    int invalid,
+    int duplicate,
+    int failed,
+    long elapsedMs
+) {
+
+}
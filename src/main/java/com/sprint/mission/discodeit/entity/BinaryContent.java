@@ -3,7 +3,13 @@ package com.sprint.mission.discodeit.entity;
 import com.sprint.mission.discodeit.entity.base.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,10 +26,45 @@ public class BinaryContent extends BaseEntity {
   private Long size;
   @Column(length = 100, nullable = false)
   private String contentType;
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "blob_id", columnDefinition = "uuid")
+  private BinaryContentBlob blob;
+  // blob의 상태를 복사해 둔 값. 목록 조회 시 blob을 따로 읽지 않기 위함이다.
+  @Enumerated(EnumType.STRING)
+  @Column(length = 20, nullable = false)
+  private BinaryContentStatus status;
+  // 올린 사용자. 아직 어디에도 붙지 않은 첨부 파일은 올린 사용자만 메시지나 프로필에 붙일 수 있다.
+  @Column(columnDefinition = "uuid")
+  private UUID ownerId;
 
   public BinaryContent(String fileName, Long size, String contentType) {
+    this(fileName, size, contentType, null, BinaryContentStatus.READY);
+  }
+
+  public BinaryContent(String fileName, Long size, String contentType, BinaryContentBlob blob,
+      BinaryContentStatus status) {
     this.fileName = fileName;
     this.size = size;
     this.contentType = contentType;
+    this.blob = blob;
+    this.status = status;
+  }
+
+  public void assignOwner(UUID ownerId) {
+    this.ownerId = ownerId;
+  }
+
+  /**
+   * 실제 바이트가 저장된 {@code BinaryContentStorage}의 키. blob이 없는 (중복 제거 도입 이전) 컨텐츠는 자기 id로 저장되어 있다.
+   */
+  public UUID getStorageKey() {
+    return blob != null ? blob.getId() : getId();
+  }
+
+  /**
+   * 저장소에 쓰인 바이트의 인코딩. blob이 없는 컨텐츠는 원본 그대로 저장되어 있다.
+   */
+  public BinaryContentEncoding getContentEncoding() {
+    return blob != null ? blob.getEncoding() : BinaryContentEncoding.IDENTITY;
   }
 }
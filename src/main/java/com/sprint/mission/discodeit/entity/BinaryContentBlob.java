@@ -0,0 +1,59 @@
+package com.sprint.mission.discodeit.entity;
+
+import com.sprint.mission.discodeit.entity.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+/**
+ * SHA-256 해시로 식별되는 실제 바이트 묶음. 동일한 내용의 {@link BinaryContent}들은 하나의 blob을 공유하며, blob의 id가
+ * {@code BinaryContentStorage}의 저장 키가 된다.
+ * <p>
+ * 참조 카운트와 상태는 벌크 UPDATE로 바뀌므로, 엔티티를 고쳤을 때 바뀐 컬럼만 쓰도록 {@link DynamicUpdate}를 둔다.
+ */
+@Entity
+@DynamicUpdate
+@Table(name = "binary_content_blobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BinaryContentBlob extends BaseEntity {
+
+  @Column(length = 64, nullable = false, unique = true)
+  private String hash;
+  @Column(nullable = false)
+  private Long size;
+  @Column(nullable = false)
+  private int referenceCount;
+  @Enumerated(EnumType.STRING)
+  @Column(length = 20, nullable = false)
+  private BinaryContentStatus status;
+  // 저장소에 쓰인 바이트의 인코딩. hash와 size는 항상 원본 기준이다.
+  @Enumerated(EnumType.STRING)
+  @Column(length = 20, nullable = false)
+  private BinaryContentEncoding encoding;
+
+  /**
+   * 바이트는 커밋 이후에 저장되므로 {@link BinaryContentStatus#PENDING} 상태로 만든다.
+   */
+  public BinaryContentBlob(String hash, Long size) {
+    this.hash = hash;
+    this.size = size;
+    this.referenceCount = 1;
+    this.status = BinaryContentStatus.PENDING;
+    this.encoding = BinaryContentEncoding.IDENTITY;
+  }
+
+  public void encodeWith(BinaryContentEncoding encoding) {
+    this.encoding = encoding;
+  }
+
+  public void markReady() {
+    this.status = BinaryContentStatus.READY;
+  }
+}
@@ -0,0 +1,43 @@
+package com.sprint.mission.discodeit.entity;
+
+import com.sprint.mission.discodeit.entity.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 원본 이미지로부터 만든 축소본(썸네일, 아바타 등). 원본의 저장 키({@code sourceKey}) 단위로 만들어지므로 같은 blob을 공유하는
+ * 첨부 파일들은 축소본도 공유한다. id가 {@code BinaryContentStorage}의 저장 키가 된다.
+ */
+@Entity
+@Table(
+    name = "binary_content_derivatives",
+    uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"source_key", "variant"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BinaryContentDerivative extends BaseEntity {
+
+  @Column(name = "source_key", columnDefinition = "uuid", nullable = false)
+  private UUID sourceKey;
+  @Column(length = 20, nullable = false)
+  private String variant;
+  @Column(nullable = false)
+  private Long size;
+  @Column(length = 100, nullable = false)
+  private String contentType;
+
+  public BinaryContentDerivative(UUID sourceKey, String variant, Long size, String contentType) {
+    this.sourceKey = sourceKey;
+    this.variant = variant;
+    this.size = size;
+    this.contentType = contentType;
+  }
+}
@@ -0,0 +1,19 @@
+package com.sprint.mission.discodeit.entity;
+
+/**
+ * 저장소에 쓰인 바이트의 인코딩. 헤더 값은 HTTP {@code Content-Encoding}에 그대로 쓸 수 있는 이름이다.
+ */
+public enum BinaryContentEncoding {
+  IDENTITY("identity"),
+  GZIP("gzip");
+
+  private final String headerValue;
+
+  BinaryContentEncoding(String headerValue) {
+    this.headerValue = headerValue;
+  }
+
+  public String getHeaderValue() {
+    return headerValue;
+  }
+}
@@ -0,0 +1,7 @@
+package com.sprint.mission.discodeit.entity;
+
+public enum BinaryContentStatus {
+  PENDING,
+  READY,
+  FAILED
+}
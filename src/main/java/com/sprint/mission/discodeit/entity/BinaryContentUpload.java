@@ -0,0 +1,84 @@
+package com.sprint.mission.discodeit.entity;
+
+import com.sprint.mission.discodeit.entity.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 완료되지 않은 업로드. 완료(finalize)되면 {@link BinaryContent}가 만들어지고 이 행은 지워진다. 업로드된 바이트는 완료 전까지 이
+ * 행의 id를 키로 저장소에 놓인다.
+ * <p>
+ * 한 번에 올리는 직접 업로드는 URL에 실린 토큰으로 인증하고, 이어 올리기(resumable) 업로드는 청크를 받을 때마다
+ * {@code uploadOffset}을 늘린다. 완료는 업로드를 만든 사용자({@code ownerId})만 할 수 있다.
+ */
+@Entity
+@Table(name = "binary_content_uploads")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BinaryContentUpload extends BaseEntity {
+
+  @Column(nullable = false)
+  private String fileName;
+  @Column(length = 100, nullable = false)
+  private String contentType;
+  @Column(nullable = false)
+  private Long size;
+  @Column(length = 64, nullable = false)
+  private String hash;
+  // 로컬 업로드 URL에 쓰는 토큰의 SHA-256 (이어 올리기 업로드는 null)
+  @Column(length = 64)
+  private String tokenHash;
+  @Column(columnDefinition = "timestamp with time zone", nullable = false)
+  private Instant expiresAt;
+  @Column(nullable = false)
+  private boolean resumable;
+  // 지금까지 받은 바이트 수 (이어 올리기 업로드만)
+  private Long uploadOffset;
+  private Integer partCount;
+  // 저장소 측 세션 id (S3 multipart upload id)
+  private String multipartId;
+  // 업로드를 만든 사용자
+  @Column(columnDefinition = "uuid")
+  private UUID ownerId;
+
+  public BinaryContentUpload(String fileName, String contentType, Long size, String hash,
+      String tokenHash, Instant expiresAt, UUID ownerId) {
+    this.fileName = fileName;
+    this.contentType = contentType;
+    this.size = size;
+    this.hash = hash;
+    this.tokenHash = tokenHash;
+    this.expiresAt = expiresAt;
+    this.ownerId = ownerId;
+  }
+
+  public BinaryContentUpload(String fileName, String contentType, Long size, String hash,
+      Instant expiresAt, UUID ownerId) {
+    this(fileName, contentType, size, hash, null, expiresAt, ownerId);
+    this.resumable = true;
+    this.uploadOffset = 0L;
+    this.partCount = 0;
+  }
+
+  public void startMultipart(String multipartId) {
+    this.multipartId = multipartId;
+  }
+
+  public boolean isComplete() {
+    return !resumable || size.equals(uploadOffset);
+  }
+
+  public boolean isOwnedBy(UUID userId) {
+    return userId != null && userId.equals(ownerId);
+  }
+
+  public boolean isExpired(Instant now) {
+    return !expiresAt.isAfter(now);
+  }
+}
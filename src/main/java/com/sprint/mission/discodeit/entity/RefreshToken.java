@@ -0,0 +1,48 @@
+package com.sprint.mission.discodeit.entity;
+
+import com.sprint.mission.discodeit.entity.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토큰 인증 모드의 리프레시 토큰. 토큰 문자열은 {@code <id>.<비밀값>}이고 비밀값은 SHA-256으로만 저장한다.
+ * <p>
+ * 한 번 쓰면 {@code usedAt}을 채우고 같은 계열({@code familyId})의 새 토큰을 발급한다. 이미 쓴 토큰이 다시
+ * 들어오면 탈취된 것으로 보고 계열 전체를 폐기한다.
+ */
+@Entity
+@Table(name = "refresh_tokens")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken extends BaseEntity {
+
+  @Column(columnDefinition = "uuid", nullable = false)
+  private UUID userId;
+  @Column(columnDefinition = "uuid", nullable = false)
+  private UUID familyId;
+  @Column(length = 64, nullable = false)
+  private String tokenHash;
+  @Column(columnDefinition = "timestamp with time zone", nullable = false)
+  private Instant expiresAt;
+  @Column(columnDefinition = "timestamp with time zone")
+  private Instant usedAt;
+  @Column(nullable = false)
+  private boolean revoked;
+
+  public RefreshToken(UUID userId, UUID familyId, String tokenHash, Instant expiresAt) {
+    this.userId = userId;
+    this.familyId = familyId;
+    this.tokenHash = tokenHash;
+    this.expiresAt = expiresAt;
+  }
+
+  public boolean isExpired(Instant now) {
+    return !expiresAt.isAfter(now);
+  }
+}
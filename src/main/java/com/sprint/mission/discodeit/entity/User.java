@@ -11,13 +11,17 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import java.time.Instant;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
 @Table(name = "users")
+// 탈퇴 처리한 사용자는 연관 데이터를 모두 지울 때까지 행이 남지만 조회되지 않는다.
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)  // JPA를 위한 기본 생성자
 public class User extends BaseUpdatableEntity {
@@ -26,7 +30,7 @@ public class User extends BaseUpdatableEntity {
   private String username;
   @Column(length = 100, nullable = false, unique = true)
   private String email;
-  @Column(length = 60, nullable = false)
+  @Column(length = 255, nullable = false)
   private String password;
   @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
   @JoinColumn(name = "profile_id", columnDefinition = "uuid")
@@ -38,6 +42,10 @@ public class User extends BaseUpdatableEntity {
   @Enumerated(EnumType.STRING)
   @Column(nullable = false)
   private Role role;
+  // 토큰 인증 모드에서 발급한 토큰에 담기는 버전. 권한이나 비밀번호가 바뀌면 올려 이전 토큰을 무효화한다.
+  @Column(nullable = false)
+  private long tokenVersion;
+  private Instant deletedAt;
 
   public User(String username, String email, String password, BinaryContent profile) {
     this.username = username;
@@ -56,6 +64,7 @@ public class User extends BaseUpdatableEntity {
     }
     if (newPassword != null && !newPassword.equals(this.password)) {
       this.password = newPassword;
+      this.tokenVersion++;
     }
     if (newProfile != null) {
       this.profile = newProfile;
@@ -65,6 +74,17 @@ public class User extends BaseUpdatableEntity {
   public void updateRole(Role newRole) {
     if (this.role != newRole) {
       this.role = newRole;
+      this.tokenVersion++;
     }
   }
+
+  /**
+   * 탈퇴 처리한다. 사용자명과 이메일은 바로 다시 쓸 수 있도록 식별용 값으로 바꾸고, 발급한 토큰은 무효화한다.
+   */
+  public void markDeleted(Instant deletedAt) {
+    this.username = "deleted-" + getId();
+    this.email = "deleted-" + getId() + "@deleted.invalid";
+    this.deletedAt = deletedAt;
+    this.tokenVersion++;
+  }
 }
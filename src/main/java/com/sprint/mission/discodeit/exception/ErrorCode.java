@@ -8,6 +8,10 @@ public enum ErrorCode {
     USER_NOT_FOUND("사용자를 찾을 수 없습니다."),
     DUPLICATE_USER("이미 존재하는 사용자입니다."),
     INVALID_USER_CREDENTIALS("잘못된 사용자 인증 정보입니다."),
+    PASSWORD_HASHING_OVERLOADED("요청이 많아 비밀번호를 확인할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    INVALID_REFRESH_TOKEN("유효하지 않은 리프레시 토큰입니다."),
+    LOGIN_THROTTLED("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    INVALID_USER_IMPORT("가져올 사용자 목록의 형식이 잘못되었거나 너무 큽니다."),
     
     // Channel 관련 에러 코드
     CHANNEL_NOT_FOUND("채널을 찾을 수 없습니다."),
@@ -15,9 +19,18 @@ public enum ErrorCode {
     
     // Message 관련 에러 코드
     MESSAGE_NOT_FOUND("메시지를 찾을 수 없습니다."),
+    ATTACHMENT_ARCHIVE_TOO_LARGE("한 번에 내려받을 수 있는 첨부 파일 수를 넘었습니다."),
     
     // BinaryContent 관련 에러 코드
     BINARY_CONTENT_NOT_FOUND("바이너리 컨텐츠를 찾을 수 없습니다."),
+    BINARY_CONTENT_BLOB_NOT_FOUND("해당 해시의 바이너리 데이터를 찾을 수 없습니다."),
+    BINARY_CONTENT_UPLOAD_NOT_FOUND("업로드를 찾을 수 없습니다."),
+    BINARY_CONTENT_UPLOAD_EXPIRED("업로드 가능 시간이 지났습니다."),
+    BINARY_CONTENT_UPLOAD_OFFSET_MISMATCH("업로드 위치가 서버에 저장된 위치와 다릅니다."),
+    INVALID_BINARY_CONTENT_UPLOAD("업로드된 파일이 요청한 정보와 일치하지 않습니다."),
+    BINARY_CONTENT_NOT_READY("파일이 아직 저장되지 않았거나 저장에 실패했습니다."),
+    UNSUPPORTED_BINARY_CONTENT_VARIANT("지원하지 않는 파일 변환 형식입니다."),
+    STORAGE_GC_ALREADY_RUNNING("저장소 정리 작업이 이미 실행 중입니다."),
     
     // ReadStatus 관련 에러 코드
     READ_STATUS_NOT_FOUND("읽음 상태를 찾을 수 없습니다."),
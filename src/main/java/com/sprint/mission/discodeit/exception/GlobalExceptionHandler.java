@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
@@ -18,6 +19,8 @@ import lombok.extern.slf4j.Slf4j;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+  public static final String RETRY_AFTER_SECONDS = "1";
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ErrorResponse> handleException(Exception e) {
     log.error("예상치 못한 오류 발생: {}", e.getMessage(), e);
@@ -40,9 +43,11 @@ public class GlobalExceptionHandler {
     log.error("커스텀 예외 발생: code={}, message={}", exception.getErrorCode(), exception.getMessage(), exception);
     HttpStatus status = determineHttpStatus(exception);
     ErrorResponse response = new ErrorResponse(exception, status.value());
-    return ResponseEntity
-        .status(status)
-        .body(response);
+    ResponseEntity.BodyBuilder builder = ResponseEntity.status(status);
+    if (status == HttpStatus.SERVICE_UNAVAILABLE) {
+      builder.header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+    }
+    return builder.body(response);
   }
 
   @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -74,10 +79,20 @@ public class GlobalExceptionHandler {
     ErrorCode errorCode = exception.getErrorCode();
     return switch (errorCode) {
       case USER_NOT_FOUND, CHANNEL_NOT_FOUND, MESSAGE_NOT_FOUND, BINARY_CONTENT_NOT_FOUND,
-           READ_STATUS_NOT_FOUND, USER_STATUS_NOT_FOUND -> HttpStatus.NOT_FOUND;
-      case DUPLICATE_USER, DUPLICATE_READ_STATUS, DUPLICATE_USER_STATUS -> HttpStatus.CONFLICT;
-      case INVALID_USER_CREDENTIALS -> HttpStatus.UNAUTHORIZED;
-      case PRIVATE_CHANNEL_UPDATE, INVALID_REQUEST -> HttpStatus.BAD_REQUEST;
+           BINARY_CONTENT_BLOB_NOT_FOUND, BINARY_CONTENT_UPLOAD_NOT_FOUND, READ_STATUS_NOT_FOUND,
+           USER_STATUS_NOT_FOUND ->
+          HttpStatus.NOT_FOUND;
+      case DUPLICATE_USER, DUPLICATE_READ_STATUS, DUPLICATE_USER_STATUS,
+           BINARY_CONTENT_NOT_READY, BINARY_CONTENT_UPLOAD_OFFSET_MISMATCH,
+           STORAGE_GC_ALREADY_RUNNING -> HttpStatus.CONFLICT;
+      case INVALID_USER_CREDENTIALS, INVALID_REFRESH_TOKEN -> HttpStatus.UNAUTHORIZED;
+      case PRIVATE_CHANNEL_UPDATE, UNSUPPORTED_BINARY_CONTENT_VARIANT,
+           INVALID_BINARY_CONTENT_UPLOAD, ATTACHMENT_ARCHIVE_TOO_LARGE, INVALID_USER_IMPORT,
+           INVALID_REQUEST ->
+          HttpStatus.BAD_REQUEST;
+      case BINARY_CONTENT_UPLOAD_EXPIRED -> HttpStatus.GONE;
+      case PASSWORD_HASHING_OVERLOADED -> HttpStatus.SERVICE_UNAVAILABLE;
+      case LOGIN_THROTTLED -> HttpStatus.TOO_MANY_REQUESTS;
       case INTERNAL_SERVER_ERROR -> HttpStatus.INTERNAL_SERVER_ERROR;
     };
   }
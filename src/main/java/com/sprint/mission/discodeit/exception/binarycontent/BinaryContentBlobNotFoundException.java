@@ -0,0 +1,15 @@
+package com.sprint.mission.discodeit.exception.binarycontent;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+
+public class BinaryContentBlobNotFoundException extends BinaryContentException {
+    public BinaryContentBlobNotFoundException() {
+        super(ErrorCode.BINARY_CONTENT_BLOB_NOT_FOUND);
+    }
+
+    public static BinaryContentBlobNotFoundException withHash(String hash) {
+        BinaryContentBlobNotFoundException exception = new BinaryContentBlobNotFoundException();
+        exception.addDetail("hash", hash);
+        return exception;
+    }
+}
@@ -0,0 +1,18 @@
+package com.sprint.mission.discodeit.exception.binarycontent;
+
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import java.util.UUID;
+
+public class BinaryContentNotReadyException extends BinaryContentException {
+    public BinaryContentNotReadyException() {
+        super(ErrorCode.BINARY_CONTENT_NOT_READY);
+    }
+
+    public static BinaryContentNotReadyException withStatus(UUID binaryContentId, BinaryContentStatus status) {
+        BinaryContentNotReadyException exception = new BinaryContentNotReadyException();
+        exception.addDetail("binaryContentId", binaryContentId);
+        exception.addDetail("status", status);
+        return exception;
+    }
+}
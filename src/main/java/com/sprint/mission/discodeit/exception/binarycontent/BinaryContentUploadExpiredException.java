@@ -0,0 +1,16 @@
+package com.sprint.mission.discodeit.exception.binarycontent;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import java.util.UUID;
+
+public class BinaryContentUploadExpiredException extends BinaryContentException {
+    public BinaryContentUploadExpiredException() {
+        super(ErrorCode.BINARY_CONTENT_UPLOAD_EXPIRED);
+    }
+
+    public static BinaryContentUploadExpiredException withId(UUID uploadId) {
+        BinaryContentUploadExpiredException exception = new BinaryContentUploadExpiredException();
+        exception.addDetail("uploadId", uploadId);
+        return exception;
+    }
+}
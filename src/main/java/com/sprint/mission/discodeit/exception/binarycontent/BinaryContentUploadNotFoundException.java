@@ -0,0 +1,16 @@
+package com.sprint.mission.discodeit.exception.binarycontent;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import java.util.UUID;
+
+public class BinaryContentUploadNotFoundException extends BinaryContentException {
+    public BinaryContentUploadNotFoundException() {
+        super(ErrorCode.BINARY_CONTENT_UPLOAD_NOT_FOUND);
+    }
+
+    public static BinaryContentUploadNotFoundException withId(UUID uploadId) {
+        BinaryContentUploadNotFoundException exception = new BinaryContentUploadNotFoundException();
+        exception.addDetail("uploadId", uploadId);
+        return exception;
+    }
+}
@@ -0,0 +1,20 @@
+package com.sprint.mission.discodeit.exception.binarycontent;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import java.util.UUID;
+
+public class BinaryContentUploadOffsetMismatchException extends BinaryContentException {
+    public BinaryContentUploadOffsetMismatchException() {
+        super(ErrorCode.BINARY_CONTENT_UPLOAD_OFFSET_MISMATCH);
+    }
+
+    public static BinaryContentUploadOffsetMismatchException withOffset(UUID uploadId,
+        long requestedOffset, long currentOffset) {
+        BinaryContentUploadOffsetMismatchException exception =
+            new BinaryContentUploadOffsetMismatchException();
+        exception.addDetail("uploadId", uploadId);
+        exception.addDetail("requestedOffset", requestedOffset);
+        exception.addDetail("currentOffset", currentOffset);
+        return exception;
+    }
+}
@@ -0,0 +1,30 @@
+package com.sprint.mission.discodeit.exception.binarycontent;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import java.util.UUID;
+
+public class InvalidBinaryContentUploadException extends BinaryContentException {
+    public InvalidBinaryContentUploadException() {
+        super(ErrorCode.INVALID_BINARY_CONTENT_UPLOAD);
+    }
+
+    public static InvalidBinaryContentUploadException withReason(UUID uploadId, String reason) {
+        InvalidBinaryContentUploadException exception = new InvalidBinaryContentUploadException();
+        exception.addDetail("uploadId", uploadId);
+        exception.addDetail("reason", reason);
+        return exception;
+    }
+
+    public static InvalidBinaryContentUploadException withSize(long size, long maxSize) {
+        InvalidBinaryContentUploadException exception = new InvalidBinaryContentUploadException();
+        exception.addDetail("size", size);
+        exception.addDetail("maxSize", maxSize);
+        return exception;
+    }
+
+    public static InvalidBinaryContentUploadException withContentType(String contentType) {
+        InvalidBinaryContentUploadException exception = new InvalidBinaryContentUploadException();
+        exception.addDetail("contentType", contentType);
+        return exception;
+    }
+}
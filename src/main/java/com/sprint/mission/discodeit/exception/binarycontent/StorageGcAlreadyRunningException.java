@@ -0,0 +1,9 @@
+package com.sprint.mission.discodeit.exception.binarycontent;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+
+public class StorageGcAlreadyRunningException extends BinaryContentException {
+    public StorageGcAlreadyRunningException() {
+        super(ErrorCode.STORAGE_GC_ALREADY_RUNNING);
+    }
+}
@@ -0,0 +1,17 @@
+package com.sprint.mission.discodeit.exception.binarycontent;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import java.util.UUID;
+
+public class UnsupportedBinaryContentVariantException extends BinaryContentException {
+    public UnsupportedBinaryContentVariantException() {
+        super(ErrorCode.UNSUPPORTED_BINARY_CONTENT_VARIANT);
+    }
+
+    public static UnsupportedBinaryContentVariantException withVariant(UUID binaryContentId, String variant) {
+        UnsupportedBinaryContentVariantException exception = new UnsupportedBinaryContentVariantException();
+        exception.addDetail("binaryContentId", binaryContentId);
+        exception.addDetail("variant", variant);
+        return exception;
+    }
+}
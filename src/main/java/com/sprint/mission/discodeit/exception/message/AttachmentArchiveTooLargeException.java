@@ -0,0 +1,17 @@
+package com.sprint.mission.discodeit.exception.message;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import java.util.UUID;
+
+public class AttachmentArchiveTooLargeException extends MessageException {
+    public AttachmentArchiveTooLargeException() {
+        super(ErrorCode.ATTACHMENT_ARCHIVE_TOO_LARGE);
+    }
+
+    public static AttachmentArchiveTooLargeException withChannelId(UUID channelId, int maxEntries) {
+        AttachmentArchiveTooLargeException exception = new AttachmentArchiveTooLargeException();
+        exception.addDetail("channelId", channelId);
+        exception.addDetail("maxEntries", maxEntries);
+        return exception;
+    }
+}
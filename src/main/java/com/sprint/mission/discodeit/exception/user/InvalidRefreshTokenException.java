@@ -0,0 +1,33 @@
+package com.sprint.mission.discodeit.exception.user;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+
+public class InvalidRefreshTokenException extends UserException {
+    public InvalidRefreshTokenException() {
+        super(ErrorCode.INVALID_REFRESH_TOKEN);
+    }
+
+    public static InvalidRefreshTokenException malformed() {
+        InvalidRefreshTokenException exception = new InvalidRefreshTokenException();
+        exception.addDetail("reason", "malformed");
+        return exception;
+    }
+
+    public static InvalidRefreshTokenException notFound() {
+        InvalidRefreshTokenException exception = new InvalidRefreshTokenException();
+        exception.addDetail("reason", "notFound");
+        return exception;
+    }
+
+    public static InvalidRefreshTokenException expired() {
+        InvalidRefreshTokenException exception = new InvalidRefreshTokenException();
+        exception.addDetail("reason", "expired");
+        return exception;
+    }
+
+    public static InvalidRefreshTokenException reused() {
+        InvalidRefreshTokenException exception = new InvalidRefreshTokenException();
+        exception.addDetail("reason", "reused");
+        return exception;
+    }
+}
@@ -0,0 +1,27 @@
+package com.sprint.mission.discodeit.exception.user;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+
+public class InvalidUserImportException extends UserException {
+    public InvalidUserImportException() {
+        super(ErrorCode.INVALID_USER_IMPORT);
+    }
+
+    public static InvalidUserImportException withTooManyRows(int maxRows) {
+        InvalidUserImportException exception = new InvalidUserImportException();
+        exception.addDetail("maxRows", maxRows);
+        return exception;
+    }
+
+    public static InvalidUserImportException withMissingColumn(String column) {
+        InvalidUserImportException exception = new InvalidUserImportException();
+        exception.addDetail("missingColumn", column);
+        return exception;
+    }
+
+    public static InvalidUserImportException withUnsupportedContentType(String contentType) {
+        InvalidUserImportException exception = new InvalidUserImportException();
+        exception.addDetail("contentType", contentType);
+        return exception;
+    }
+}
@@ -0,0 +1,31 @@
+package com.sprint.mission.discodeit.exception.user;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import java.time.Duration;
+
+public class LoginThrottledException extends UserException {
+    private final Duration retryAfter;
+
+    public LoginThrottledException(Duration retryAfter) {
+        super(ErrorCode.LOGIN_THROTTLED);
+        this.retryAfter = retryAfter;
+        addDetail("retryAfterSeconds", retryAfterSeconds());
+    }
+
+    public static LoginThrottledException forUsername(Duration retryAfter) {
+        LoginThrottledException exception = new LoginThrottledException(retryAfter);
+        exception.addDetail("reason", "username");
+        return exception;
+    }
+
+    public static LoginThrottledException forClient(Duration retryAfter) {
+        LoginThrottledException exception = new LoginThrottledException(retryAfter);
+        exception.addDetail("reason", "client");
+        return exception;
+    }
+
+    public long retryAfterSeconds() {
+        // Retry-After는 초 단위 정수라 올림한다.
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
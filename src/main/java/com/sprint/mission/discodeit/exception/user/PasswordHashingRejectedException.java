@@ -0,0 +1,22 @@
+package com.sprint.mission.discodeit.exception.user;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import java.time.Duration;
+
+public class PasswordHashingRejectedException extends UserException {
+    public PasswordHashingRejectedException() {
+        super(ErrorCode.PASSWORD_HASHING_OVERLOADED);
+    }
+
+    public static PasswordHashingRejectedException withQueueFull(int queueCapacity) {
+        PasswordHashingRejectedException exception = new PasswordHashingRejectedException();
+        exception.addDetail("queueCapacity", queueCapacity);
+        return exception;
+    }
+
+    public static PasswordHashingRejectedException withTimeout(Duration timeout) {
+        PasswordHashingRejectedException exception = new PasswordHashingRejectedException();
+        exception.addDetail("timeout", timeout.toString());
+        return exception;
+    }
+}
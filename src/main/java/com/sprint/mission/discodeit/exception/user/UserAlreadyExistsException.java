@@ -18,4 +18,11 @@ public class UserAlreadyExistsException extends UserException {
         exception.addDetail("username", username);
         return exception;
     }
+    
+    public static UserAlreadyExistsException withUsernameOrEmail(String username, String email) {
+        UserAlreadyExistsException exception = new UserAlreadyExistsException();
+        exception.addDetail("username", username);
+        exception.addDetail("email", email);
+        return exception;
+    }
 } 
\ No newline at end of file
@@ -4,17 +4,19 @@ import com.sprint.mission.discodeit.dto.data.ChannelDto;
 import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
-import com.sprint.mission.discodeit.entity.ReadStatus;
 import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.springframework.beans.factory.annotation.Autowired;
 
-@Mapper(componentModel = "spring", uses = {UserMapper.class})
+@Mapper(componentModel = "spring")
 public abstract class ChannelMapper {
 
   @Autowired
@@ -22,7 +24,7 @@ public abstract class ChannelMapper {
   @Autowired
   private ReadStatusRepository readStatusRepository;
   @Autowired
-  private UserMapper userMapper;
+  private UserDtoCache userDtoCache;
 
   @Mapping(target = "participants", expression = "java(resolveParticipants(channel))")
   @Mapping(target = "lastMessageAt", expression = "java(resolveLastMessageAt(channel))")
@@ -37,10 +39,12 @@ public abstract class ChannelMapper {
   protected List<UserDto> resolveParticipants(Channel channel) {
     List<UserDto> participants = new ArrayList<>();
     if (channel.getType().equals(ChannelType.PRIVATE)) {
-      readStatusRepository.findAllByChannelIdWithUser(channel.getId())
-          .stream()
-          .map(ReadStatus::getUser)
-          .map(userMapper::toDto)
+      // 참여자 id만 읽고 사용자 정보는 캐시에서 가져온다.
+      List<UUID> userIds = readStatusRepository.findUserIdsByChannelId(channel.getId());
+      Map<UUID, UserDto> users = userDtoCache.getAll(userIds);
+      userIds.stream()
+          .map(users::get)
+          .filter(Objects::nonNull)
           .forEach(participants::add);
     }
     return participants;
@@ -1,13 +1,50 @@
 package com.sprint.mission.discodeit.mapper;
 
 import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.User;
+import java.util.Map;
+import java.util.UUID;
+import org.hibernate.Hibernate;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.springframework.beans.factory.annotation.Autowired;
 
-@Mapper(componentModel = "spring", uses = {BinaryContentMapper.class, UserMapper.class})
-public interface MessageMapper {
+@Mapper(componentModel = "spring", uses = {BinaryContentMapper.class})
+public abstract class MessageMapper {
 
+  @Autowired
+  private UserDtoCache userDtoCache;
+
+  @Mapping(target = "channelId", source = "channel.id")
+  @Mapping(target = "author", expression = "java(resolveAuthor(message))")
+  abstract public MessageDto toDto(Message message);
+
+  /**
+   * 목록 조회용. 작성자는 {@link UserDtoCache#getAll}로 페이지 단위로 미리 읽어 둔 {@code authors}에서
+   * 찾으며, 메시지마다 캐시를 다시 조회하지 않는다. {@code authors}에 없는 작성자는 {@code null}이다.
+   */
   @Mapping(target = "channelId", source = "channel.id")
-  MessageDto toDto(Message message);
+  @Mapping(target = "author", expression = "java(resolveAuthor(message, authors))")
+  abstract public MessageDto toDto(Message message, @Context Map<UUID, UserDto> authors);
+
+  /**
+   * 작성자는 {@link UserDtoCache}에서 가져온다. 메시지 목록 조회는 작성자를 조인하지 않으므로 프록시의 id만
+   * 쓰고, 이미 읽어 둔 작성자(메시지 생성 등)는 그대로 변환한다.
+   */
+  protected UserDto resolveAuthor(Message message) {
+    User author = message.getAuthor();
+    if (author == null) {
+      return null;
+    }
+    return Hibernate.isInitialized(author) ? userDtoCache.get(author)
+        : userDtoCache.get(author.getId());
+  }
+
+  protected UserDto resolveAuthor(Message message, Map<UUID, UserDto> authors) {
+    User author = message.getAuthor();
+    return author == null ? null : authors.get(author.getId());
+  }
 }
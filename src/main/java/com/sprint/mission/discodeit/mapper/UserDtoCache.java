@@ -0,0 +1,176 @@
+package com.sprint.mission.discodeit.mapper;
+
+import com.sprint.mission.discodeit.cache.BoundedCache;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.service.basic.UserChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자 id를 키로 {@link UserDto}를 일정 시간 보관하는 LRU 캐시. 메시지 작성자와 비공개 채널 참여자처럼 같은
+ * 사용자를 여러 번 그리는 매퍼가 사용자, 프로필을 다시 읽고 변환하지 않게 한다.
+ * <p>
+ * 접속 여부는 자주 바뀌므로 {@code online}은 비워 두고 읽을 때 {@link #withOnline(UserDto, Set)}로 채운다.
+ * 사용자 정보, 프로필, 권한 변경과 삭제는 {@link UserChangedEvent}로 커밋 후에 무효화하며, 무효화와 겹친 조회
+ * 결과는 옛 값일 수 있으므로 저장하지 않는다. 아직 저장 중인 프로필은 사용자 변경 없이 상태가 바뀌므로 그런
+ * 사용자는 캐시하지 않는다.
+ */
+@Slf4j
+@Component
+public class UserDtoCache {
+
+  private final UserRepository userRepository;
+  private final UserMapper userMapper;
+  private final BoundedCache<UUID, UserDto> entries;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter invalidationCounter;
+
+  @Autowired
+  public UserDtoCache(
+      UserRepository userRepository,
+      UserMapper userMapper,
+      @Value("${discodeit.user.dto-cache.max-size:10000}") int maxSize,
+      @Value("${discodeit.user.dto-cache.ttl:PT10M}") Duration ttl,
+      MeterRegistry meterRegistry
+  ) {
+    this(userRepository, userMapper, maxSize, ttl, Clock.systemUTC(), meterRegistry);
+  }
+
+  UserDtoCache(UserRepository userRepository, UserMapper userMapper, int maxSize,
+      Duration ttl, Clock clock, MeterRegistry meterRegistry) {
+    this.userRepository = userRepository;
+    this.userMapper = userMapper;
+    this.entries = new BoundedCache<>("discodeit.user.dto-cache", maxSize, ttl, clock,
+        meterRegistry);
+
+    this.hitCounter = Counter.builder("discodeit.user.dto-cache")
+        .tag("result", "hit")
+        .description("캐시에서 응답한 사용자 DTO 조회 수")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder("discodeit.user.dto-cache")
+        .tag("result", "miss")
+        .description("DB에서 읽어 변환한 사용자 DTO 조회 수")
+        .register(meterRegistry);
+    this.invalidationCounter = Counter.builder("discodeit.user.dto-cache.invalidations")
+        .description("사용자 변경으로 무효화한 사용자 DTO 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * @return 없는 사용자면 {@code null}
+   */
+  public UserDto get(UUID userId) {
+    return getAll(List.of(userId)).get(userId);
+  }
+
+  /**
+   * 캐시에 없는 사용자만 한 번에 읽는다. 없는 사용자는 결과에서 빠진다.
+   */
+  public Map<UUID, UserDto> getAll(Collection<UUID> userIds) {
+    Map<UUID, UserDto> result = new HashMap<>();
+    List<UUID> misses = new ArrayList<>();
+    long observedGeneration = lookup(userIds, result, misses);
+    if (misses.isEmpty()) {
+      return result;
+    }
+
+    missCounter.increment(misses.size());
+    // DB 조회는 락 밖에서 한다.
+    List<UserDto> loaded = userRepository.findAllWithProfileByIdIn(misses).stream()
+        .map(userMapper::toDto)
+        .toList();
+    loaded.forEach(dto -> result.put(dto.id(), dto));
+    store(loaded, observedGeneration);
+    return result;
+  }
+
+  /**
+   * 이미 읽어 둔 사용자를 변환한다. 캐시에 있으면 프로필을 읽지 않는다.
+   */
+  public UserDto get(User user) {
+    Map<UUID, UserDto> result = new HashMap<>(1);
+    long observedGeneration = lookup(List.of(user.getId()), result, new ArrayList<>(1));
+    UserDto cached = result.get(user.getId());
+    if (cached != null) {
+      return cached;
+    }
+    missCounter.increment();
+    UserDto dto = userMapper.toDto(user);
+    store(List.of(dto), observedGeneration);
+    return dto;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(UserChangedEvent event) {
+    invalidate(event.userId());
+  }
+
+  public void invalidate(UUID userId) {
+    if (entries.remove(userId) != null) {
+      invalidationCounter.increment();
+    }
+    log.debug("사용자 DTO 캐시 무효화: userId={}", userId);
+  }
+
+  /**
+   * 읽는 시점의 접속 여부를 채운다.
+   */
+  public static UserDto withOnline(UserDto userDto, Set<UUID> onlineUserIds) {
+    if (userDto == null) {
+      return null;
+    }
+    return new UserDto(userDto.id(), userDto.username(), userDto.email(), userDto.profile(),
+        onlineUserIds.contains(userDto.id()), userDto.role());
+  }
+
+  /**
+   * @return 조회 전의 무효화 세대. 읽어 온 값은 이 세대가 그대로일 때만 저장한다.
+   */
+  private long lookup(Collection<UUID> userIds, Map<UUID, UserDto> result, List<UUID> misses) {
+    long observedGeneration = entries.generation();
+    for (UUID userId : userIds) {
+      if (result.containsKey(userId)) {
+        continue;
+      }
+      UserDto cached = entries.get(userId);
+      if (cached != null) {
+        hitCounter.increment();
+        result.put(userId, cached);
+      } else if (!misses.contains(userId)) {
+        misses.add(userId);
+      }
+    }
+    return observedGeneration;
+  }
+
+  private void store(List<UserDto> userDtos, long observedGeneration) {
+    Map<UUID, UserDto> storable = new LinkedHashMap<>();
+    for (UserDto userDto : userDtos) {
+      if (userDto.profile() == null
+          || userDto.profile().status() != BinaryContentStatus.PENDING) {
+        storable.put(userDto.id(), userDto);
+      }
+    }
+    entries.putAllIfGeneration(storable, observedGeneration);
+  }
+}
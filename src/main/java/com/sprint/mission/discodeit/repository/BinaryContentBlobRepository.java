@@ -0,0 +1,119 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.entity.BinaryContentBlob;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BinaryContentBlobRepository extends JpaRepository<BinaryContentBlob, UUID> {
+
+  Optional<BinaryContentBlob> findByHash(String hash);
+
+  /**
+   * 같은 해시의 blob이 이미 있으면(커밋 전인 다른 트랜잭션의 행이면 그 결과를 기다린 뒤) 아무것도 하지 않고
+   * 0을 돌려준다. 같은 내용이 동시에 처음 올라와도 유니크 제약 위반으로 실패하지 않게 한다.
+   */
+  @Modifying
+  @Query(value = "INSERT INTO binary_content_blobs "
+      + "(id, created_at, hash, size, reference_count, status, encoding) "
+      + "VALUES (:id, :createdAt, :hash, :size, 1, 'PENDING', 'IDENTITY') "
+      + "ON CONFLICT DO NOTHING", nativeQuery = true)
+  int insertIfAbsent(@Param("id") UUID id, @Param("createdAt") Instant createdAt,
+      @Param("hash") String hash, @Param("size") long size);
+
+  boolean existsByHashAndStatusNot(String hash, BinaryContentStatus status);
+
+  @Modifying
+  @Query("UPDATE BinaryContentBlob b "
+      + "SET b.referenceCount = b.referenceCount + 1 "
+      + "WHERE b.id = :blobId")
+  int incrementReferenceCount(@Param("blobId") UUID blobId);
+
+  @Modifying
+  @Query("UPDATE BinaryContentBlob b "
+      + "SET b.referenceCount = b.referenceCount - 1 "
+      + "WHERE b.id = :blobId AND b.referenceCount > 0")
+  int decrementReferenceCount(@Param("blobId") UUID blobId);
+
+  /**
+   * 같은 blob을 가리키는 첨부가 여러 개면 그 수만큼 줄인다. JPQL은 SET 절의 집계 서브쿼리를 보장하지
+   * 않으므로 네이티브 쿼리로 쓴다.
+   */
+  @Modifying
+  @Query(value = "UPDATE binary_content_blobs b "
+      + "SET reference_count = GREATEST(b.reference_count - ("
+      + "SELECT COUNT(*) FROM message_attachments ma "
+      + "JOIN binary_contents c ON c.id = ma.attachment_id "
+      + "WHERE ma.message_id = :messageId AND c.blob_id = b.id), 0) "
+      + "WHERE b.id IN (SELECT c.blob_id FROM message_attachments ma "
+      + "JOIN binary_contents c ON c.id = ma.attachment_id WHERE ma.message_id = :messageId)",
+      nativeQuery = true)
+  int decrementReferenceCountByMessageId(@Param("messageId") UUID messageId);
+
+  @Modifying
+  @Query(value = "UPDATE binary_content_blobs b "
+      + "SET reference_count = GREATEST(b.reference_count - ("
+      + "SELECT COUNT(*) FROM messages m "
+      + "JOIN message_attachments ma ON ma.message_id = m.id "
+      + "JOIN binary_contents c ON c.id = ma.attachment_id "
+      + "WHERE m.channel_id = :channelId AND c.blob_id = b.id), 0) "
+      + "WHERE b.id IN (SELECT c.blob_id FROM messages m "
+      + "JOIN message_attachments ma ON ma.message_id = m.id "
+      + "JOIN binary_contents c ON c.id = ma.attachment_id WHERE m.channel_id = :channelId)",
+      nativeQuery = true)
+  int decrementReferenceCountByChannelId(@Param("channelId") UUID channelId);
+
+  /**
+   * 사용자의 프로필은 하나뿐이므로 1만 줄인다.
+   */
+  @Modifying
+  @Query("UPDATE BinaryContentBlob b "
+      + "SET b.referenceCount = b.referenceCount - 1 "
+      + "WHERE b.referenceCount > 0 AND b.id IN ("
+      + "SELECT p.blob.id FROM User u JOIN u.profile p WHERE u.id = :userId)")
+  int decrementReferenceCountByUserId(@Param("userId") UUID userId);
+
+  @Query("SELECT b.status FROM BinaryContentBlob b WHERE b.id = :blobId")
+  BinaryContentStatus findStatusById(@Param("blobId") UUID blobId);
+
+  @Modifying
+  @Query("UPDATE BinaryContentBlob b "
+      + "SET b.status = :status "
+      + "WHERE b.id = :blobId AND b.status = :expected")
+  int updateStatus(@Param("blobId") UUID blobId, @Param("expected") BinaryContentStatus expected,
+      @Param("status") BinaryContentStatus status);
+
+  @Query("SELECT b.id FROM BinaryContentBlob b "
+      + "WHERE b.status = :status AND b.createdAt < :cutoff "
+      + "ORDER BY b.createdAt")
+  List<UUID> findIdsByStatusAndCreatedAtBefore(@Param("status") BinaryContentStatus status,
+      @Param("cutoff") Instant cutoff, Pageable pageable);
+
+  @Query("SELECT b.id FROM BinaryContentBlob b WHERE b.id IN :ids")
+  Set<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+  /**
+   * 참조 카운트가 아니라 실제로 가리키는 {@code BinaryContent}가 있는지로 판단한다.
+   */
+  @Query("SELECT b.id FROM BinaryContentBlob b "
+      + "WHERE b.id > :after AND b.createdAt < :cutoff "
+      + "AND NOT EXISTS (SELECT c.id FROM BinaryContent c WHERE c.blob = b) "
+      + "ORDER BY b.id")
+  List<UUID> findUnreferencedIds(@Param("after") UUID after, @Param("cutoff") Instant cutoff,
+      Pageable pageable);
+
+  @Modifying
+  @Query("DELETE FROM BinaryContentBlob b "
+      + "WHERE b.id IN :ids "
+      + "AND NOT EXISTS (SELECT c.id FROM BinaryContent c WHERE c.blob = b)")
+  int deleteUnreferencedByIdIn(@Param("ids") Collection<UUID> ids);
+}
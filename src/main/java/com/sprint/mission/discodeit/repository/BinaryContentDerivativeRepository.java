@@ -0,0 +1,38 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.entity.BinaryContentDerivative;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BinaryContentDerivativeRepository extends
+    JpaRepository<BinaryContentDerivative, UUID> {
+
+  Optional<BinaryContentDerivative> findBySourceKeyAndVariant(UUID sourceKey, String variant);
+
+  @Query("SELECT d.id FROM BinaryContentDerivative d WHERE d.id IN :ids")
+  Set<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+  /**
+   * 원본(blob 또는 blob이 없는 BinaryContent)이 사라진 축소본
+   */
+  @Query("SELECT d.id FROM BinaryContentDerivative d "
+      + "WHERE d.id > :after AND d.createdAt < :cutoff "
+      + "AND NOT EXISTS (SELECT b.id FROM BinaryContentBlob b WHERE b.id = d.sourceKey) "
+      + "AND NOT EXISTS (SELECT c.id FROM BinaryContent c WHERE c.id = d.sourceKey AND c.blob IS NULL) "
+      + "ORDER BY d.id")
+  List<UUID> findDanglingIds(@Param("after") UUID after, @Param("cutoff") Instant cutoff,
+      Pageable pageable);
+
+  @Modifying
+  @Query("DELETE FROM BinaryContentDerivative d WHERE d.id IN :ids")
+  int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -1,9 +1,39 @@
 package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BinaryContentRepository extends JpaRepository<BinaryContent, UUID> {
 
+  /**
+   * blob이 없는(중복 제거 이전) 행은 자신의 id를 저장 키로 쓴다.
+   */
+  @Query("SELECT c.id FROM BinaryContent c WHERE c.id IN :ids AND c.blob IS NULL")
+  Set<UUID> findLegacyStorageKeysByIdIn(@Param("ids") Collection<UUID> ids);
+
+  /**
+   * {@code ownerId}가 올렸고 아직 어느 메시지나 프로필에도 쓰이지 않은 첨부 파일만 조회한다. 첨부 파일은 메시지와 함께 지워지므로
+   * 두 곳에서 공유할 수 없다.
+   */
+  @Query("SELECT c FROM BinaryContent c "
+      + "WHERE c.id IN :ids AND c.ownerId = :ownerId "
+      + "AND NOT EXISTS (SELECT 1 FROM Message m JOIN m.attachments a WHERE a.id = c.id) "
+      + "AND NOT EXISTS (SELECT 1 FROM User u WHERE u.profile.id = c.id)")
+  List<BinaryContent> findDetachedByIdIn(@Param("ids") Collection<UUID> ids,
+      @Param("ownerId") UUID ownerId);
+
+  @Modifying
+  @Query("UPDATE BinaryContent c "
+      + "SET c.status = :status "
+      + "WHERE c.blob.id = :blobId AND c.status = :expected")
+  int updateStatusByBlobId(@Param("blobId") UUID blobId,
+      @Param("expected") BinaryContentStatus expected, @Param("status") BinaryContentStatus status);
 }
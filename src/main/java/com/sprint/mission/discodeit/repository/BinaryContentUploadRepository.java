@@ -0,0 +1,44 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.entity.BinaryContentUpload;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface BinaryContentUploadRepository extends JpaRepository<BinaryContentUpload, UUID> {
+
+  /**
+   * 완료 처리를 한 번만 하도록 행을 지우는 것으로 선점한다.
+   */
+  @Modifying
+  @Query("DELETE FROM BinaryContentUpload u WHERE u.id = :uploadId")
+  int deleteByIdReturningCount(@Param("uploadId") UUID uploadId);
+
+  /**
+   * 청크를 다 쓴 뒤에 받은 위치를 늘린다. 같은 청크가 동시에 들어오면 하나만 반영된다.
+   */
+  @Transactional
+  @Modifying
+  @Query("UPDATE BinaryContentUpload u "
+      + "SET u.uploadOffset = :newOffset, u.partCount = u.partCount + 1, u.expiresAt = :expiresAt "
+      + "WHERE u.id = :uploadId AND u.uploadOffset = :expected")
+  int advanceOffset(@Param("uploadId") UUID uploadId, @Param("expected") long expected,
+      @Param("newOffset") long newOffset, @Param("expiresAt") Instant expiresAt);
+
+  /**
+   * 트랜잭션 밖에서 연 저장소 측 세션 id를 기록한다.
+   */
+  @Transactional
+  @Modifying
+  @Query("UPDATE BinaryContentUpload u SET u.multipartId = :multipartId WHERE u.id = :uploadId")
+  int startMultipart(@Param("uploadId") UUID uploadId, @Param("multipartId") String multipartId);
+
+  @Query("SELECT u FROM BinaryContentUpload u WHERE u.expiresAt < :cutoff ORDER BY u.expiresAt")
+  List<BinaryContentUpload> findExpired(@Param("cutoff") Instant cutoff, Pageable pageable);
+}
@@ -1,7 +1,9 @@
 package com.sprint.mission.discodeit.repository;
 
+import com.sprint.mission.discodeit.dto.data.AttachmentArchiveEntry;
 import com.sprint.mission.discodeit.entity.Message;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
@@ -12,12 +14,13 @@ import org.springframework.data.repository.query.Param;
 
 public interface MessageRepository extends JpaRepository<Message, UUID> {
 
+  /**
+   * 작성자는 조인하지 않는다. {@code m.author}는 id만 채워진 프록시이며 작성자 정보는
+   * {@link com.sprint.mission.discodeit.mapper.UserDtoCache}에서 가져온다.
+   */
   @Query("SELECT m FROM Message m "
-      + "LEFT JOIN FETCH m.author a "
-      + "JOIN FETCH a.status "
-      + "LEFT JOIN FETCH a.profile "
       + "WHERE m.channel.id=:channelId AND m.createdAt < :createdAt")
-  Slice<Message> findAllByChannelIdWithAuthor(@Param("channelId") UUID channelId,
+  Slice<Message> findAllByChannelId(@Param("channelId") UUID channelId,
       @Param("createdAt") Instant createdAt,
       Pageable pageable);
 
@@ -28,5 +31,28 @@ public interface MessageRepository extends JpaRepository<Message, UUID> {
       + "ORDER BY m.createdAt DESC LIMIT 1")
   Optional<Instant> findLastMessageAtByChannelId(@Param("channelId") UUID channelId);
 
+  @Query("SELECT new com.sprint.mission.discodeit.dto.data.AttachmentArchiveEntry("
+      + "m.id, a.id, COALESCE(b.id, a.id), a.fileName, a.size, a.contentType, a.status, "
+      + "b.encoding) "
+      + "FROM Message m "
+      + "JOIN m.attachments a "
+      + "LEFT JOIN a.blob b "
+      + "WHERE m.id = :messageId "
+      + "ORDER BY a.createdAt")
+  List<AttachmentArchiveEntry> findAttachmentArchiveEntriesByMessageId(
+      @Param("messageId") UUID messageId);
+
+  @Query("SELECT new com.sprint.mission.discodeit.dto.data.AttachmentArchiveEntry("
+      + "m.id, a.id, COALESCE(b.id, a.id), a.fileName, a.size, a.contentType, a.status, "
+      + "b.encoding) "
+      + "FROM Message m "
+      + "JOIN m.attachments a "
+      + "LEFT JOIN a.blob b "
+      + "WHERE m.channel.id = :channelId AND m.createdAt >= :from AND m.createdAt < :to "
+      + "ORDER BY m.createdAt, a.createdAt")
+  List<AttachmentArchiveEntry> findAttachmentArchiveEntriesByChannelId(
+      @Param("channelId") UUID channelId, @Param("from") Instant from, @Param("to") Instant to,
+      Pageable pageable);
+
   void deleteAllByChannelId(UUID channelId);
 }
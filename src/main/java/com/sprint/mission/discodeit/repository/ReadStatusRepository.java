@@ -19,6 +19,9 @@ public interface ReadStatusRepository extends JpaRepository<ReadStatus, UUID> {
       + "WHERE r.channel.id = :channelId")
   List<ReadStatus> findAllByChannelIdWithUser(@Param("channelId") UUID channelId);
 
+  @Query("SELECT r.user.id FROM ReadStatus r WHERE r.channel.id = :channelId")
+  List<UUID> findUserIdsByChannelId(@Param("channelId") UUID channelId);
+
   Boolean existsByUserIdAndChannelId(UUID userId, UUID channelId);
 
   void deleteAllByChannelId(UUID channelId);
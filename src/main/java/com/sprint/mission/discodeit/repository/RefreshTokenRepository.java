@@ -0,0 +1,36 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.entity.RefreshToken;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+
+  /**
+   * 아직 쓰지 않은 토큰만 사용 처리한다. 같은 토큰으로 동시에 갱신하면 하나만 1을 돌려받는다.
+   */
+  @Modifying
+  @Query("UPDATE RefreshToken t SET t.usedAt = :usedAt "
+      + "WHERE t.id = :id AND t.usedAt IS NULL AND t.revoked = false")
+  int markUsed(@Param("id") UUID id, @Param("usedAt") Instant usedAt);
+
+  @Modifying
+  @Query("UPDATE RefreshToken t SET t.revoked = true WHERE t.familyId = :familyId")
+  int revokeFamily(@Param("familyId") UUID familyId);
+
+  /**
+   * 사용자의 모든 계열을 폐기한다. 비밀번호를 바꾸면 다른 기기의 로그인도 더 이어지지 않게 한다.
+   */
+  @Modifying
+  @Query("UPDATE RefreshToken t SET t.revoked = true "
+      + "WHERE t.userId = :userId AND t.revoked = false")
+  int revokeAllByUserId(@Param("userId") UUID userId);
+
+  @Modifying
+  @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :cutoff")
+  int deleteExpired(@Param("cutoff") Instant cutoff);
+}
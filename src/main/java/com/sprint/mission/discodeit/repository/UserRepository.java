@@ -1,14 +1,27 @@
 package com.sprint.mission.discodeit.repository;
 
+import com.sprint.mission.discodeit.dto.data.PasswordHashPrefixCount;
 import com.sprint.mission.discodeit.entity.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
 
+  /**
+   * BCrypt 해시는 세 번째 '$'까지({@code {bcrypt}$2a$12$}), 그 외에는 '}'까지({@code {pbkdf2}})
+   * 잘라 솔트와 해시 본문을 제외한 알고리즘·cost 부분만 남긴다.
+   */
+  String PASSWORD_HASH_PREFIX = "CASE WHEN LOCATE('$', u.password) = 0 "
+      + "THEN SUBSTRING(u.password, 1, LOCATE('}', u.password)) "
+      + "ELSE SUBSTRING(u.password, 1, LOCATE('$', u.password, "
+      + "LOCATE('$', u.password, LOCATE('$', u.password) + 1) + 1)) END";
+
   Optional<User> findByUsername(String username);
 
   boolean existsByEmail(String email);
@@ -25,4 +38,27 @@ public interface UserRepository extends JpaRepository<User, UUID> {
       LEFT JOIN FETCH u.profile
       """)
   List<User> findAllWithProfile();
+
+  @Query("""
+      SELECT u FROM User u
+      LEFT JOIN FETCH u.profile
+      WHERE u.id IN :ids
+      """)
+  List<User> findAllWithProfileByIdIn(@Param("ids") Collection<UUID> ids);
+
+  @Query("SELECT new com.sprint.mission.discodeit.dto.data.PasswordHashPrefixCount("
+      + PASSWORD_HASH_PREFIX + ", COUNT(u)) "
+      + "FROM User u "
+      + "GROUP BY " + PASSWORD_HASH_PREFIX)
+  List<PasswordHashPrefixCount> countByPasswordHashPrefix();
+
+  /**
+   * 로그인 중 재해싱한 비밀번호를 저장한다. 그 사이 사용자가 비밀번호를 바꿨다면 덮어쓰지 않도록
+   * 이전 해시가 그대로일 때만 갱신한다.
+   */
+  @Modifying
+  @Query("UPDATE User u SET u.password = :newPassword "
+      + "WHERE u.username = :username AND u.password = :oldPassword")
+  int updatePasswordIfUnchanged(@Param("username") String username,
+      @Param("oldPassword") String oldPassword, @Param("newPassword") String newPassword);
 }
@@ -0,0 +1,145 @@
+package com.sprint.mission.discodeit.security;
+
+import com.sprint.mission.discodeit.exception.user.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 해싱(BCrypt)을 요청 스레드가 아닌 전용 스레드 풀에서 실행한다.
+ * <p>
+ * 로그인이 몰리면 해싱이 모든 코어를 차지해 다른 API까지 느려지므로, 해싱에 쓰는 스레드 수와 대기열 길이를 제한한다. 대기열이
+ * 가득 찼거나 {@code timeout} 안에 끝나지 않으면 기다리지 않고 {@link PasswordHashingRejectedException}(503)으로 거절한다.
+ * 요청 스레드는 결과를 기다리는 동안 CPU를 쓰지 않는다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final int queueCapacity;
+  private final Duration timeout;
+
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Timer waitTimer;
+  private final Counter queueFullCounter;
+  private final Counter timeoutCounter;
+
+  public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+      Duration timeout, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.queueCapacity = queueCapacity;
+    this.timeout = timeout;
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable,
+              "password-hashing-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+
+    this.encodeTimer = Timer.builder("discodeit.security.password-hashing")
+        .tag("operation", "encode")
+        .description("비밀번호 해싱에 걸린 시간 (대기 시간 제외)")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+    this.matchesTimer = Timer.builder("discodeit.security.password-hashing")
+        .tag("operation", "matches")
+        .description("비밀번호 해싱에 걸린 시간 (대기 시간 제외)")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+    this.waitTimer = Timer.builder("discodeit.security.password-hashing.wait")
+        .description("해싱 스레드를 기다린 시간")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+    this.queueFullCounter = Counter.builder("discodeit.security.password-hashing.rejections")
+        .tag("reason", "queue-full")
+        .description("대기열이 가득 차 거절한 해싱 요청 수")
+        .register(meterRegistry);
+    this.timeoutCounter = Counter.builder("discodeit.security.password-hashing.rejections")
+        .tag("reason", "timeout")
+        .description("제한 시간 안에 끝나지 않아 거절한 해싱 요청 수")
+        .register(meterRegistry);
+    Gauge.builder("discodeit.security.password-hashing.queue", executor,
+            pool -> pool.getQueue().size())
+        .description("해싱을 기다리는 요청 수")
+        .register(meterRegistry);
+    Gauge.builder("discodeit.security.password-hashing.active", executor,
+            ThreadPoolExecutor::getActiveCount)
+        .description("해싱 중인 스레드 수")
+        .register(meterRegistry);
+  }
+
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return execute(encodeTimer, () -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    // 해시 문자열만 보고 판단하므로 요청 스레드에서 바로 처리한다.
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  private <T> T execute(Timer timer, Callable<T> hashing) {
+    long submittedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future = executor.submit(() -> {
+        waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        return timer.recordCallable(hashing);
+      });
+    } catch (RejectedExecutionException e) {
+      queueFullCounter.increment();
+      log.warn("비밀번호 해싱 대기열이 가득 차 요청을 거절함: queueCapacity={}", queueCapacity);
+      throw PasswordHashingRejectedException.withQueueFull(queueCapacity);
+    }
+
+    try {
+      return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      // 아직 대기열에 있으면 해싱하지 않고 버린다.
+      future.cancel(false);
+      timeoutCounter.increment();
+      log.warn("비밀번호 해싱이 제한 시간 안에 끝나지 않음: timeout={}", timeout);
+      throw PasswordHashingRejectedException.withTimeout(timeout);
+    } catch (InterruptedException e) {
+      future.cancel(false);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("비밀번호 해싱을 기다리는 중 중단됨", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+}
@@ -0,0 +1,236 @@
+package com.sprint.mission.discodeit.security;
+
+import com.sprint.mission.discodeit.cache.BoundedCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+
+/**
+ * {@code persistent_logins}에 remember-me 토큰을 저장한다.
+ * <p>
+ * series로 읽은 토큰은 {@code cache-ttl} 동안 인스턴스 안에 보관한다. 다른 인스턴스가 토큰을 바꿨다면
+ * 캐시의 토큰 값이 쿠키와 달라지는데, 이때는 {@link #reloadTokenForSeries(String)}로 DB를 다시 본 뒤에
+ * 판단하므로 캐시 때문에 도난으로 오인하지 않는다. 바꾸기 직전의 토큰 값도 함께 기억해 동시에 들어온 요청이
+ * 이전 쿠키를 보내도 {@code rotation-grace} 동안은 받아들일 수 있게 한다.
+ * <p>
+ * 로그아웃이나 도난 감지로 다른 인스턴스가 지운 series를 캐시로 계속 받아 주면 안 되므로, 캐시에서 찾은
+ * 경우에도 series가 아직 있는지 기본 키로 확인한다. 캐시가 줄이는 것은 토큰 전체를 읽고 매핑하는 일과
+ * 교체 유예 판단을 위한 상태이고, 폐기 여부는 항상 DB를 따른다.
+ * <p>
+ * 사용 기간이 지난 토큰은 {@code purge-interval}마다 지운다.
+ */
+@Slf4j
+public class CachingPersistentTokenRepository implements PersistentTokenRepository {
+
+  private static final RowMapper<PersistentRememberMeToken> TOKEN_ROW_MAPPER =
+      CachingPersistentTokenRepository::mapRow;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Duration rotationGrace;
+  private final Duration tokenValidity;
+  private final int purgeBatchSize;
+  private final Clock clock;
+
+  private final BoundedCache<String, CachedToken> cache;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter revokedCounter;
+  private final Counter purgedCounter;
+
+  public CachingPersistentTokenRepository(JdbcTemplate jdbcTemplate, Duration cacheTtl,
+      int cacheSize, Duration rotationGrace, Duration tokenValidity, int purgeBatchSize,
+      MeterRegistry meterRegistry) {
+    this(jdbcTemplate, cacheTtl, cacheSize, rotationGrace, tokenValidity, purgeBatchSize,
+        Clock.systemUTC(), meterRegistry);
+  }
+
+  CachingPersistentTokenRepository(JdbcTemplate jdbcTemplate, Duration cacheTtl, int cacheSize,
+      Duration rotationGrace, Duration tokenValidity, int purgeBatchSize, Clock clock,
+      MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.rotationGrace = rotationGrace;
+    this.tokenValidity = tokenValidity;
+    this.purgeBatchSize = purgeBatchSize;
+    this.clock = clock;
+    this.cache = new BoundedCache<>("discodeit.security.remember-me.cache", cacheSize, cacheTtl,
+        clock, meterRegistry);
+
+    this.hitCounter = Counter.builder("discodeit.security.remember-me.cache")
+        .tag("result", "hit")
+        .description("인스턴스 캐시에서 읽은 remember-me 토큰 조회 수")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder("discodeit.security.remember-me.cache")
+        .tag("result", "miss")
+        .description("DB에서 읽은 remember-me 토큰 조회 수")
+        .register(meterRegistry);
+    this.revokedCounter = Counter.builder("discodeit.security.remember-me.cache")
+        .tag("result", "revoked")
+        .description("캐시에는 있었지만 DB에서 지워져 거부한 remember-me 토큰 조회 수")
+        .register(meterRegistry);
+    this.purgedCounter = Counter.builder("discodeit.security.remember-me.purge.deleted")
+        .description("사용 기간이 지나 지운 remember-me 토큰 수")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void createNewToken(PersistentRememberMeToken token) {
+    jdbcTemplate.update(
+        "INSERT INTO persistent_logins (username, series, token, last_used) VALUES (?, ?, ?, ?)",
+        token.getUsername(), token.getSeries(), token.getTokenValue(),
+        new Timestamp(token.getDate().getTime()));
+    cache.put(token.getSeries(), new CachedToken(token, null, clock.instant()));
+  }
+
+  /**
+   * 토큰 값을 바꾼다. 쿠키에 실린 값과 맞아야 하므로 모으지 않고 바로 쓴다.
+   */
+  @Override
+  public void updateToken(String series, String tokenValue, Date lastUsed) {
+    jdbcTemplate.update("UPDATE persistent_logins SET token = ?, last_used = ? WHERE series = ?",
+        tokenValue, new Timestamp(lastUsed.getTime()), series);
+    cacheReplaced(series, null, tokenValue, lastUsed);
+  }
+
+  /**
+   * 토큰 값이 아직 {@code expectedTokenValue}일 때만 바꾼다. 같은 쿠키로 동시에 들어온 요청들이 저마다
+   * 토큰을 바꾸면 앞서 내려준 쿠키가 곧바로 무효가 되어 도난으로 처리되므로, 그중 하나만 바꾸게 한다.
+   *
+   * @return 바꿨으면 {@code true}, 그 사이 다른 요청이 먼저 바꿨으면 {@code false}
+   */
+  public boolean replaceToken(String series, String expectedTokenValue, String tokenValue,
+      Date lastUsed) {
+    int updated = jdbcTemplate.update(
+        "UPDATE persistent_logins SET token = ?, last_used = ? WHERE series = ? AND token = ?",
+        tokenValue, new Timestamp(lastUsed.getTime()), series, expectedTokenValue);
+    if (updated == 0) {
+      return false;
+    }
+    cacheReplaced(series, expectedTokenValue, tokenValue, lastUsed);
+    return true;
+  }
+
+  private void cacheReplaced(String series, String expectedTokenValue, String tokenValue,
+      Date lastUsed) {
+    cache.compute(series, (key, cached) -> {
+      if (cached == null) {
+        return null;
+      }
+      PersistentRememberMeToken previous = cached.token();
+      String previousTokenValue = expectedTokenValue != null
+          ? expectedTokenValue : previous.getTokenValue();
+      return new CachedToken(
+          new PersistentRememberMeToken(previous.getUsername(), series, tokenValue, lastUsed),
+          previousTokenValue, clock.instant());
+    });
+  }
+
+  @Override
+  public PersistentRememberMeToken getTokenForSeries(String seriesId) {
+    CachedToken cached = cache.get(seriesId);
+    if (cached == null) {
+      return reloadTokenForSeries(seriesId);
+    }
+    if (jdbcTemplate.queryForList("SELECT 1 FROM persistent_logins WHERE series = ?",
+        Integer.class, seriesId).isEmpty()) {
+      // 다른 인스턴스에서 로그아웃했거나 도난으로 지웠다.
+      evict(seriesId);
+      revokedCounter.increment();
+      return null;
+    }
+    hitCounter.increment();
+    return cached.token();
+  }
+
+  /**
+   * 캐시를 거치지 않고 DB에서 다시 읽는다.
+   */
+  public PersistentRememberMeToken reloadTokenForSeries(String seriesId) {
+    missCounter.increment();
+    List<PersistentRememberMeToken> tokens = jdbcTemplate.query(
+        "SELECT username, series, token, last_used FROM persistent_logins WHERE series = ?",
+        TOKEN_ROW_MAPPER, seriesId);
+    if (tokens.isEmpty()) {
+      evict(seriesId);
+      return null;
+    }
+    PersistentRememberMeToken token = tokens.get(0);
+    cache.compute(seriesId, (key, cached) -> {
+      if (cached == null) {
+        return new CachedToken(token, null, clock.instant());
+      }
+      // 이 인스턴스가 바꾼 토큰이면 바꾸기 전 값을 잃지 않도록 그대로 둔다.
+      if (cached.token().getTokenValue().equals(token.getTokenValue())) {
+        return new CachedToken(token, cached.previousTokenValue(), cached.rotatedAt());
+      }
+      // 다른 요청이 방금 바꿨다. 지금까지 캐시로 받아 주던 값이므로 이전 값으로 남겨 유예 시간 동안 받는다.
+      return new CachedToken(token, cached.token().getTokenValue(), clock.instant());
+    });
+    return token;
+  }
+
+  /**
+   * 이 인스턴스가 {@code rotation-grace} 안에 바꾼 토큰의 이전 값인지 확인한다. 동시에 보낸 요청들이 같은
+   * 쿠키를 실어 오는 경우(재접속 직후 등) 첫 요청 뒤의 나머지를 도난으로 처리하지 않기 위해 쓴다.
+   */
+  public boolean isRecentlyReplaced(String seriesId, String tokenValue) {
+    CachedToken cached = cache.get(seriesId);
+    return cached != null && tokenValue.equals(cached.previousTokenValue())
+        && cached.rotatedAt().plus(rotationGrace).isAfter(clock.instant());
+  }
+
+  @Override
+  public void removeUserTokens(String username) {
+    jdbcTemplate.update("DELETE FROM persistent_logins WHERE username = ?", username);
+    cache.removeIf((series, cached) -> cached.token().getUsername().equals(username));
+  }
+
+  @Scheduled(fixedDelayString = "${security.remember-me.purge-interval:PT1H}")
+  public void purgeExpiredTokens() {
+    Timestamp cutoff = Timestamp.from(clock.instant().minus(tokenValidity));
+    long total = 0;
+    int deleted;
+    // 한 번에 지우는 행 수를 제한해 긴 잠금을 피한다.
+    do {
+      deleted = jdbcTemplate.update("DELETE FROM persistent_logins WHERE series IN ("
+          + "SELECT series FROM persistent_logins WHERE last_used < ? LIMIT ?)",
+          cutoff, purgeBatchSize);
+      total += deleted;
+    } while (deleted == purgeBatchSize);
+    if (total > 0) {
+      purgedCounter.increment(total);
+      log.info("만료된 remember-me 토큰 정리 완료: count={}", total);
+    }
+  }
+
+  private void evict(String seriesId) {
+    cache.remove(seriesId);
+  }
+
+  private static PersistentRememberMeToken mapRow(ResultSet rs, int rowNum) throws SQLException {
+    return new PersistentRememberMeToken(rs.getString("username"), rs.getString("series"),
+        rs.getString("token"), rs.getTimestamp("last_used"));
+  }
+
+  /**
+   * @param previousTokenValue 이 인스턴스가 바꾸기 직전의 토큰 값 (없으면 null)
+   * @param rotatedAt          {@code previousTokenValue}를 바꾼 시각
+   */
+  private record CachedToken(PersistentRememberMeToken token, String previousTokenValue,
+                             Instant rotatedAt) {
+
+  }
+}
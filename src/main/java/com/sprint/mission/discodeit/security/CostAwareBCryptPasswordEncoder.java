@@ -0,0 +1,45 @@
+package com.sprint.mission.discodeit.security;
+
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 저장된 해시의 cost가 설정값과 다르면 높든 낮든 재해싱 대상으로 본다.
+ * <p>
+ * 기본 {@link BCryptPasswordEncoder}는 cost가 낮은 경우에만 업그레이드하므로, 하드웨어가 바뀌어
+ * cost를 낮춘 경우에는 기존 사용자의 로그인이 계속 느린 채로 남는다.
+ */
+public class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+  private static final Pattern BCRYPT_PREFIX = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+
+  private final int strength;
+
+  public CostAwareBCryptPasswordEncoder(int strength) {
+    super(strength);
+    this.strength = strength;
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    OptionalInt cost = costOf(encodedPassword);
+    return cost.isPresent() && cost.getAsInt() != strength;
+  }
+
+  public int getStrength() {
+    return strength;
+  }
+
+  public static OptionalInt costOf(String encodedPassword) {
+    if (encodedPassword == null) {
+      return OptionalInt.empty();
+    }
+    Matcher matcher = BCRYPT_PREFIX.matcher(encodedPassword);
+    if (!matcher.find()) {
+      return OptionalInt.empty();
+    }
+    return OptionalInt.of(Integer.parseInt(matcher.group(1)));
+  }
+}
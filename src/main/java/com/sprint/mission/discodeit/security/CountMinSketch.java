@@ -0,0 +1,112 @@
+package com.sprint.mission.discodeit.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 키별 횟수를 고정된 메모리로 근사하는 count-min sketch. 추정값은 실제보다 작지 않으며, 다른 키와 겹친 만큼만
+ * 크게 나온다. 키 수와 상관없이 {@code depth * width}개의 카운터만 쓴다.
+ * <p>
+ * 행마다 시드가 다른 murmur3로 키의 UTF-8 바이트를 따로 해싱한다. 한 해시값에서 행 인덱스를 모두 끌어내면
+ * 그 해시가 같은 키들은 모든 행에서 겹치므로 추정이 나빠진다. 시드는 인스턴스마다 무작위로 정해 겹치는 키를
+ * 미리 만들어 둘 수 없게 한다.
+ * <p>
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 한다.
+ */
+final class CountMinSketch {
+
+  private final int width;
+  private final int[] seeds;
+  private final int[][] counters;
+
+  CountMinSketch(int depth, int width) {
+    if (depth <= 0 || width <= 0) {
+      throw new IllegalArgumentException("depth와 width는 0보다 커야 합니다.");
+    }
+    this.width = width;
+    this.seeds = ThreadLocalRandom.current().ints(depth).toArray();
+    this.counters = new int[depth][width];
+  }
+
+  /**
+   * @return 증가시킨 뒤의 추정값
+   */
+  int increment(String key) {
+    byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+    int estimate = Integer.MAX_VALUE;
+    for (int row = 0; row < counters.length; row++) {
+      int index = index(bytes, row);
+      if (counters[row][index] < Integer.MAX_VALUE) {
+        counters[row][index]++;
+      }
+      estimate = Math.min(estimate, counters[row][index]);
+    }
+    return estimate;
+  }
+
+  int estimate(String key) {
+    byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+    int estimate = Integer.MAX_VALUE;
+    for (int row = 0; row < counters.length; row++) {
+      estimate = Math.min(estimate, counters[row][index(bytes, row)]);
+    }
+    return estimate;
+  }
+
+  void clear() {
+    for (int[] row : counters) {
+      Arrays.fill(row, 0);
+    }
+  }
+
+  private int index(byte[] key, int row) {
+    return Math.floorMod(murmur3(key, seeds[row]), width);
+  }
+
+  /**
+   * MurmurHash3 x86_32
+   */
+  static int murmur3(byte[] data, int seed) {
+    int h = seed;
+    int blocks = data.length / 4;
+    for (int i = 0; i < blocks; i++) {
+      int offset = i * 4;
+      int k = (data[offset] & 0xFF) | (data[offset + 1] & 0xFF) << 8
+          | (data[offset + 2] & 0xFF) << 16 | (data[offset + 3] & 0xFF) << 24;
+      h ^= mixK(k);
+      h = Integer.rotateLeft(h, 13) * 5 + 0xE6546B64;
+    }
+
+    int tail = blocks * 4;
+    int k = 0;
+    switch (data.length & 3) {
+      case 3:
+        k ^= (data[tail + 2] & 0xFF) << 16;
+        // fall through
+      case 2:
+        k ^= (data[tail + 1] & 0xFF) << 8;
+        // fall through
+      case 1:
+        k ^= data[tail] & 0xFF;
+        h ^= mixK(k);
+        break;
+      default:
+        break;
+    }
+
+    h ^= data.length;
+    h ^= h >>> 16;
+    h *= 0x85EBCA6B;
+    h ^= h >>> 13;
+    h *= 0xC2B2AE35;
+    h ^= h >>> 16;
+    return h;
+  }
+
+  private static int mixK(int k) {
+    k *= 0xCC9E2D51;
+    k = Integer.rotateLeft(k, 15);
+    return k * 0x1B873593;
+  }
+}
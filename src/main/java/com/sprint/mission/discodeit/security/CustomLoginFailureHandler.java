@@ -2,11 +2,16 @@ package com.sprint.mission.discodeit.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.mission.discodeit.exception.ErrorResponse;
+import com.sprint.mission.discodeit.exception.GlobalExceptionHandler;
+import com.sprint.mission.discodeit.exception.user.LoginThrottledException;
+import com.sprint.mission.discodeit.exception.user.PasswordHashingRejectedException;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
@@ -19,6 +24,24 @@ public class CustomLoginFailureHandler implements AuthenticationFailureHandler {
   @Override
   public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
       AuthenticationException exception) throws IOException, ServletException {
+    if (exception.getCause() instanceof PasswordHashingRejectedException rejected) {
+      response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+      response.setHeader(HttpHeaders.RETRY_AFTER, GlobalExceptionHandler.RETRY_AFTER_SECONDS);
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      ErrorResponse errorResponse = new ErrorResponse(rejected,
+          HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+      response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+      return;
+    }
+    if (exception.getCause() instanceof LoginThrottledException throttled) {
+      response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(throttled.retryAfterSeconds()));
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      ErrorResponse errorResponse = new ErrorResponse(throttled,
+          HttpStatus.TOO_MANY_REQUESTS.value());
+      response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+      return;
+    }
     response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
     response.setContentType(MediaType.APPLICATION_JSON_VALUE);
     ErrorResponse errorResponse = new ErrorResponse(exception, HttpServletResponse.SC_UNAUTHORIZED);
@@ -0,0 +1,111 @@
+package com.sprint.mission.discodeit.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.authentication.rememberme.CookieTheftException;
+import org.springframework.security.web.authentication.rememberme.InvalidCookieException;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenBasedRememberMeServices;
+import org.springframework.security.web.authentication.rememberme.RememberMeAuthenticationException;
+
+/**
+ * {@link PersistentTokenBasedRememberMeServices}와 같지만 자동 로그인마다 토큰을 바꾸지 않는다.
+ * <p>
+ * 토큰을 바꾼 지 {@code rotation-interval}이 지나지 않았으면 토큰 값도 마지막 사용 시각도 쓰지 않는다. 그
+ * 사이의 사용은 다음 교체 때 한 번의 UPDATE로 합쳐지므로, 세션이 한꺼번에 끊겨 자동 로그인이 몰릴 때 대부분의
+ * 요청이 캐시만 보고 끝난다. 대신 마지막 사용 시각이 최대 그만큼 늦게 기록되어 만료가 그만큼 당겨질 수 있고,
+ * 같은 시간 동안은 훔친 쿠키를 써도 도난이 감지되지 않는다.
+ */
+@Slf4j
+public class CustomRememberMeServices extends PersistentTokenBasedRememberMeServices {
+
+  private final CachingPersistentTokenRepository tokenRepository;
+  private final Duration rotationInterval;
+  private final Clock clock;
+
+  public CustomRememberMeServices(String key, UserDetailsService userDetailsService,
+      CachingPersistentTokenRepository tokenRepository, Duration rotationInterval) {
+    this(key, userDetailsService, tokenRepository, rotationInterval, Clock.systemUTC());
+  }
+
+  CustomRememberMeServices(String key, UserDetailsService userDetailsService,
+      CachingPersistentTokenRepository tokenRepository, Duration rotationInterval, Clock clock) {
+    super(key, userDetailsService, tokenRepository);
+    this.tokenRepository = tokenRepository;
+    this.rotationInterval = rotationInterval;
+    this.clock = clock;
+  }
+
+  @Override
+  protected UserDetails processAutoLoginCookie(String[] cookieTokens, HttpServletRequest request,
+      HttpServletResponse response) {
+    if (cookieTokens.length != 2) {
+      throw new InvalidCookieException("Cookie token did not contain 2 tokens, but contained '"
+          + Arrays.asList(cookieTokens) + "'");
+    }
+    String series = cookieTokens[0];
+    String presentedToken = cookieTokens[1];
+
+    PersistentRememberMeToken token = tokenRepository.getTokenForSeries(series);
+    if (token != null && !presentedToken.equals(token.getTokenValue())) {
+      // 다른 인스턴스가 토큰을 바꿨을 수 있으므로 도난으로 판단하기 전에 DB를 다시 본다.
+      token = tokenRepository.reloadTokenForSeries(series);
+    }
+    if (token == null) {
+      throw new RememberMeAuthenticationException(
+          "No persistent token found for series id: " + series);
+    }
+
+    if (!presentedToken.equals(token.getTokenValue())) {
+      if (!tokenRepository.isRecentlyReplaced(series, presentedToken)) {
+        tokenRepository.removeUserTokens(token.getUsername());
+        throw new CookieTheftException(messages.getMessage(
+            "PersistentTokenBasedRememberMeServices.cookieStolen",
+            "Invalid remember-me token (Series/token) mismatch. Implies previous cookie theft attack."));
+      }
+      // 방금 바꾼 토큰의 이전 쿠키로 동시에 들어온 요청: 새 쿠키를 다시 내려준다.
+      setCookie(new String[]{series, token.getTokenValue()}, getTokenValiditySeconds(), request,
+          response);
+      return getUserDetailsService().loadUserByUsername(token.getUsername());
+    }
+
+    Instant now = clock.instant();
+    Instant lastUsed = token.getDate().toInstant();
+    if (lastUsed.plusSeconds(getTokenValiditySeconds()).isBefore(now)) {
+      throw new RememberMeAuthenticationException("Remember-me login has expired");
+    }
+
+    if (!lastUsed.plus(rotationInterval).isAfter(now)) {
+      String newTokenValue = generateTokenData();
+      boolean replaced;
+      try {
+        replaced = tokenRepository.replaceToken(series, presentedToken, newTokenValue,
+            Date.from(now));
+      } catch (Exception e) {
+        log.error("remember-me 토큰 갱신 실패: series={}", series, e);
+        throw new RememberMeAuthenticationException(
+            "Autologin failed due to data access problem");
+      }
+      if (!replaced) {
+        // 같은 쿠키로 들어온 다른 요청이 먼저 바꿨다. 다시 바꾸지 않고 바뀐 토큰을 내려준다.
+        token = tokenRepository.reloadTokenForSeries(series);
+        if (token == null) {
+          throw new RememberMeAuthenticationException(
+              "No persistent token found for series id: " + series);
+        }
+        newTokenValue = token.getTokenValue();
+      }
+      setCookie(new String[]{series, newTokenValue}, getTokenValiditySeconds(), request,
+          response);
+    }
+    return getUserDetailsService().loadUserByUsername(token.getUsername());
+  }
+}
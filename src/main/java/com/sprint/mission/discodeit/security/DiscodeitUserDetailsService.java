@@ -1,30 +1,78 @@
 package com.sprint.mission.discodeit.security;
 
 import com.sprint.mission.discodeit.entity.User;
-import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.UserMapper;
 import com.sprint.mission.discodeit.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class DiscodeitUserDetailsService implements UserDetailsService {
+public class DiscodeitUserDetailsService implements UserDetailsService,
+    UserDetailsPasswordService {
 
   private final UserRepository userRepository;
   private final UserMapper userMapper;
+  private final UserDetailsCache userDetailsCache;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate readOnlyTransactionTemplate;
 
-  @Transactional(readOnly = true)
+  public DiscodeitUserDetailsService(
+      UserRepository userRepository,
+      UserMapper userMapper,
+      UserDetailsCache userDetailsCache,
+      ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager
+  ) {
+    this.userRepository = userRepository;
+    this.userMapper = userMapper;
+    this.userDetailsCache = userDetailsCache;
+    this.eventPublisher = eventPublisher;
+    this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate.setReadOnly(true);
+  }
+
+  /**
+   * 캐시에 있으면 트랜잭션(DB 커넥션) 없이 바로 돌려준다. 없는 사용자는
+   * {@link UsernameNotFoundException}으로 알려, 로그인에서는 비밀번호가 틀린 경우와 같은 실패로 처리되고
+   * remember-me에서는 쿠키가 지워지게 한다.
+   */
   @Override
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+    return userDetailsCache.get(username,
+        key -> readOnlyTransactionTemplate.execute(status -> load(key)));
+  }
 
+  private DiscodeitUserDetails load(String username) {
     User user = userRepository.findByUsername(username)
-        .orElseThrow(() -> UserNotFoundException.withUsername(username));
+        .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
 
     return new DiscodeitUserDetails(userMapper.toDto(user), user.getPassword());
   }
+
+  /**
+   * 로그인 성공 후 저장된 해시의 알고리즘이나 cost가 현재 정책과 다를 때 호출된다.
+   */
+  @Transactional
+  @Override
+  public UserDetails updatePassword(UserDetails user, String newPassword) {
+    int updated = userRepository.updatePasswordIfUnchanged(user.getUsername(),
+        user.getPassword(), newPassword);
+    if (updated == 0) {
+      log.debug("비밀번호 재해싱 생략 (그 사이 비밀번호 변경됨): username={}", user.getUsername());
+      return user;
+    }
+    log.info("비밀번호 재해싱 완료: username={}", user.getUsername());
+    DiscodeitUserDetails userDetails = (DiscodeitUserDetails) user;
+    eventPublisher.publishEvent(new UserDetailsChangedEvent(userDetails.getUserDto().id()));
+    return new DiscodeitUserDetails(userDetails.getUserDto(), newPassword);
+  }
 }
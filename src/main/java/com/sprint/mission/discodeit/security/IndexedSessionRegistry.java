@@ -0,0 +1,184 @@
+package com.sprint.mission.discodeit.security;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationListener;
+import org.springframework.security.core.session.AbstractSessionEvent;
+import org.springframework.security.core.session.SessionDestroyedEvent;
+import org.springframework.security.core.session.SessionIdChangedEvent;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.core.session.SessionRegistryImpl;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SessionRegistryImpl}과 같은 주체 → 세션 맵에 더해 사용자 id → 세션 색인을 함께 유지한다.
+ * <p>
+ * 기존에는 권한 변경이나 온라인 사용자 계산 때마다 모든 주체를 훑어야 했다. 여기서는 사용자 id로 바로 찾고,
+ * 온라인 사용자는 만료되지 않은 세션이 있는 사용자만 모아 둔 색인에서 읽는다. {@link SessionInformation#expireNow()}도
+ * 색인에 반영되도록 직접 만든 {@link SessionInformation}을 돌려준다.
+ */
+@Slf4j
+public class IndexedSessionRegistry implements UserSessionRegistry,
+    ApplicationListener<AbstractSessionEvent> {
+
+  // <sessionId, SessionInformation>
+  private final ConcurrentMap<String, SessionInformation> sessionIds = new ConcurrentHashMap<>();
+  // <principal, Set<sessionId>>
+  private final ConcurrentMap<Object, Set<String>> principals = new ConcurrentHashMap<>();
+  // <userId, Set<sessionId>>, 만료된 세션 포함
+  private final ConcurrentMap<UUID, Set<String>> userSessions = new ConcurrentHashMap<>();
+  // <userId, Set<sessionId>>, 만료되지 않은 세션만
+  private final ConcurrentMap<UUID, Set<String>> activeUserSessions = new ConcurrentHashMap<>();
+  private final Set<UUID> onlineUserIds = Collections.unmodifiableSet(
+      activeUserSessions.keySet());
+
+  @Override
+  public List<Object> getAllPrincipals() {
+    return new ArrayList<>(principals.keySet());
+  }
+
+  @Override
+  public List<SessionInformation> getAllSessions(Object principal,
+      boolean includeExpiredSessions) {
+    return collect(principals.get(principal), includeExpiredSessions);
+  }
+
+  @Override
+  public List<SessionInformation> getAllSessions(UUID userId, boolean includeExpiredSessions) {
+    return collect(userSessions.get(userId), includeExpiredSessions);
+  }
+
+  @Override
+  public Set<UUID> getOnlineUserIds() {
+    return onlineUserIds;
+  }
+
+  @Override
+  public SessionInformation getSessionInformation(String sessionId) {
+    Assert.hasText(sessionId, "SessionId required as per interface contract");
+    return sessionIds.get(sessionId);
+  }
+
+  @Override
+  public void refreshLastRequest(String sessionId) {
+    Assert.hasText(sessionId, "SessionId required as per interface contract");
+    SessionInformation info = getSessionInformation(sessionId);
+    if (info != null) {
+      info.refreshLastRequest();
+    }
+  }
+
+  @Override
+  public void registerNewSession(String sessionId, Object principal) {
+    Assert.hasText(sessionId, "SessionId required as per interface contract");
+    Assert.notNull(principal, "Principal required as per interface contract");
+    if (getSessionInformation(sessionId) != null) {
+      removeSessionInformation(sessionId);
+    }
+    log.debug("세션 등록: sessionId={}, principal={}", sessionId, principal);
+
+    UUID userId = userIdOf(principal);
+    sessionIds.put(sessionId, new IndexedSessionInformation(principal, sessionId, userId));
+    add(principals, principal, sessionId);
+    if (userId != null) {
+      add(userSessions, userId, sessionId);
+      add(activeUserSessions, userId, sessionId);
+    }
+  }
+
+  @Override
+  public void removeSessionInformation(String sessionId) {
+    Assert.hasText(sessionId, "SessionId required as per interface contract");
+    SessionInformation info = sessionIds.remove(sessionId);
+    if (info == null) {
+      return;
+    }
+    log.debug("세션 제거: sessionId={}", sessionId);
+
+    remove(principals, info.getPrincipal(), sessionId);
+    UUID userId = ((IndexedSessionInformation) info).userId;
+    if (userId != null) {
+      remove(userSessions, userId, sessionId);
+      remove(activeUserSessions, userId, sessionId);
+    }
+  }
+
+  @Override
+  public void onApplicationEvent(AbstractSessionEvent event) {
+    if (event instanceof SessionDestroyedEvent sessionDestroyedEvent) {
+      removeSessionInformation(sessionDestroyedEvent.getId());
+    } else if (event instanceof SessionIdChangedEvent sessionIdChangedEvent) {
+      String oldSessionId = sessionIdChangedEvent.getOldSessionId();
+      SessionInformation info = sessionIds.get(oldSessionId);
+      if (info != null) {
+        removeSessionInformation(oldSessionId);
+        registerNewSession(sessionIdChangedEvent.getNewSessionId(), info.getPrincipal());
+      }
+    }
+  }
+
+  private List<SessionInformation> collect(Set<String> sessionsUsedByPrincipal,
+      boolean includeExpiredSessions) {
+    if (sessionsUsedByPrincipal == null) {
+      return Collections.emptyList();
+    }
+    List<SessionInformation> list = new ArrayList<>(sessionsUsedByPrincipal.size());
+    for (String sessionId : sessionsUsedByPrincipal) {
+      SessionInformation info = sessionIds.get(sessionId);
+      if (info != null && (includeExpiredSessions || !info.isExpired())) {
+        list.add(info);
+      }
+    }
+    return list;
+  }
+
+  private static <K> void add(ConcurrentMap<K, Set<String>> index, K key, String sessionId) {
+    index.compute(key, (k, sessions) -> {
+      Set<String> result = sessions != null ? sessions : new CopyOnWriteArraySet<>();
+      result.add(sessionId);
+      return result;
+    });
+  }
+
+  private static <K> void remove(ConcurrentMap<K, Set<String>> index, K key, String sessionId) {
+    // 비면 키까지 지워야 온라인 사용자 색인이 만료된 사용자를 남기지 않는다.
+    index.computeIfPresent(key, (k, sessions) -> {
+      sessions.remove(sessionId);
+      return sessions.isEmpty() ? null : sessions;
+    });
+  }
+
+  private static UUID userIdOf(Object principal) {
+    return principal instanceof DiscodeitUserDetails userDetails
+        ? userDetails.getUserDto().id() : null;
+  }
+
+  /**
+   * 만료 처리 시 온라인 사용자 색인에서 바로 빠지도록 registry에 알린다.
+   */
+  private class IndexedSessionInformation extends SessionInformation {
+
+    private final UUID userId;
+
+    IndexedSessionInformation(Object principal, String sessionId, UUID userId) {
+      super(principal, sessionId, new Date());
+      this.userId = userId;
+    }
+
+    @Override
+    public void expireNow() {
+      super.expireNow();
+      if (userId != null) {
+        remove(activeUserSessions, userId, getSessionId());
+      }
+    }
+  }
+}
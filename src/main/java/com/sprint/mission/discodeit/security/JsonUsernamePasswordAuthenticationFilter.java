@@ -2,17 +2,21 @@ package com.sprint.mission.discodeit.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.mission.discodeit.dto.request.LoginRequest;
+import com.sprint.mission.discodeit.exception.user.LoginThrottledException;
+import com.sprint.mission.discodeit.exception.user.PasswordHashingRejectedException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractAuthenticationFilterConfigurer;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.security.web.util.matcher.RequestMatcher;
@@ -21,6 +25,7 @@ import org.springframework.security.web.util.matcher.RequestMatcher;
 public class JsonUsernamePasswordAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
   private final ObjectMapper objectMapper;
+  private final LoginThrottle loginThrottle;
 
   @Override
   public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response)
@@ -34,14 +39,33 @@ public class JsonUsernamePasswordAuthenticationFilter extends UsernamePasswordAu
       // JSON 요청 본문 파싱
       LoginRequest loginRequest = objectMapper.readValue(request.getInputStream(), LoginRequest.class);
 
+      // 사용자 조회와 비밀번호 해싱 전에 거부해 반복 시도가 CPU를 쓰지 못하게 한다.
+      String clientAddress = request.getRemoteAddr();
+      loginThrottle.check(loginRequest.username(), clientAddress);
+
       UsernamePasswordAuthenticationToken authRequest = new UsernamePasswordAuthenticationToken(
           loginRequest.username(), loginRequest.password());
 
       setDetails(request, authRequest);
 
-      return this.getAuthenticationManager().authenticate(authRequest);
+      Authentication authentication;
+      try {
+        authentication = this.getAuthenticationManager().authenticate(authRequest);
+      } catch (InternalAuthenticationServiceException e) {
+        // 사용자 조회 자체가 실패한 서버 쪽 오류다. 시도한 쪽의 실패로 세지 않는다.
+        throw e;
+      } catch (AuthenticationException e) {
+        // 없는 사용자(숨김 처리되어 BadCredentials), 틀린 비밀번호, 잠긴 계정 등은 모두 실패로 센다.
+        loginThrottle.recordFailure(loginRequest.username(), clientAddress);
+        throw e;
+      }
+      loginThrottle.recordSuccess(loginRequest.username());
+      return authentication;
     } catch (IOException e) {
       throw new AuthenticationServiceException("Request parsing failed", e);
+    } catch (PasswordHashingRejectedException | LoginThrottledException e) {
+      // 실패 처리기에서 503/429로 응답하도록 인증 예외로 감싼다.
+      throw new AuthenticationServiceException(e.getMessage(), e);
     }
   }
 
@@ -49,10 +73,21 @@ public class JsonUsernamePasswordAuthenticationFilter extends UsernamePasswordAu
       AbstractAuthenticationFilterConfigurer<HttpSecurity, Configurer, JsonUsernamePasswordAuthenticationFilter> {
 
     private final ObjectMapper objectMapper;
+    private final AuthenticationSuccessHandler loginSuccessHandler;
+
+    public Configurer(ObjectMapper objectMapper, LoginThrottle loginThrottle) {
+      this(objectMapper, loginThrottle, new CustomLoginSuccessHandler(objectMapper));
+    }
 
-    public Configurer(ObjectMapper objectMapper) {
-      super(new JsonUsernamePasswordAuthenticationFilter(objectMapper), SecurityMatchers.LOGIN_URL);
+    /**
+     * @param loginSuccessHandler 로그인 성공 응답 (토큰 인증 모드에서는 토큰을 내려준다)
+     */
+    public Configurer(ObjectMapper objectMapper, LoginThrottle loginThrottle,
+        AuthenticationSuccessHandler loginSuccessHandler) {
+      super(new JsonUsernamePasswordAuthenticationFilter(objectMapper, loginThrottle),
+          SecurityMatchers.LOGIN_URL);
       this.objectMapper = objectMapper;
+      this.loginSuccessHandler = loginSuccessHandler;
     }
 
     @Override
@@ -63,7 +98,7 @@ public class JsonUsernamePasswordAuthenticationFilter extends UsernamePasswordAu
     @Override
     public void init(HttpSecurity http) throws Exception {
       loginProcessingUrl(SecurityMatchers.LOGIN_URL);
-      successHandler(new CustomLoginSuccessHandler(objectMapper));
+      successHandler(loginSuccessHandler);
       failureHandler(new CustomLoginFailureHandler(objectMapper));
     }
   }
@@ -0,0 +1,248 @@
+package com.sprint.mission.discodeit.security;
+
+import com.sprint.mission.discodeit.cache.BoundedCache;
+import com.sprint.mission.discodeit.exception.user.LoginThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 실패를 사용자명과 클라이언트 주소별로 세어, 너무 많이 실패한 쪽의 로그인 시도를 사용자 조회와 비밀번호
+ * 해싱 전에 거부한다. 크리덴셜 스터핑이 BCrypt 비교로 CPU를 다 써 버리는 것을 막는다.
+ * <p>
+ * 두 기준 모두 직전 창과 현재 창의 실패 수를 경과 비율로 섞은 슬라이딩 윈도로 센다.
+ * <ul>
+ *   <li>사용자명: 창 안의 실패가 {@code max-failures}를 넘으면 넘은 횟수마다 2배씩 늘어나는 시간
+ *   ({@code base-delay} ~ {@code max-delay}) 동안 막는다. 로그인에 성공하면 초기화된다. 최근에 실패한
+ *   {@code max-entries}개만 LRU로 보관하고, 더 세거나 막을 일이 없어진 항목은 만료시킨다.</li>
+ *   <li>클라이언트 주소: 여러 사용자명을 돌려 가며 시도하는 경우를 막는다. 주소 수와 상관없이 메모리가 일정하도록
+ *   count-min sketch로 세며, 다른 주소와 겹쳐 실제보다 크게 셀 수는 있어도 작게 세지는 않는다.</li>
+ * </ul>
+ * 인스턴스마다 따로 세므로 여러 대로 나뉘어 들어오는 시도는 인스턴스 수만큼 더 허용된다.
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+  private final boolean enabled;
+  private final Duration window;
+  private final int maxUsernameFailures;
+  private final Duration baseDelay;
+  private final Duration maxDelay;
+  private final int maxClientFailures;
+  private final Clock clock;
+
+  private final BoundedCache<String, UsernameFailures> usernames;
+  private final Object clientLock = new Object();
+  private CountMinSketch previousClients;
+  private CountMinSketch currentClients;
+  private Instant clientWindowStart;
+
+  private final Counter allowedCounter;
+  private final Counter usernameRejectedCounter;
+  private final Counter clientRejectedCounter;
+  private final Counter failureCounter;
+
+  @Autowired
+  public LoginThrottle(
+      @Value("${security.login-throttle.enabled:true}") boolean enabled,
+      @Value("${security.login-throttle.window:PT15M}") Duration window,
+      @Value("${security.login-throttle.username.max-failures:5}") int maxUsernameFailures,
+      @Value("${security.login-throttle.username.base-delay:PT1S}") Duration baseDelay,
+      @Value("${security.login-throttle.username.max-delay:PT15M}") Duration maxDelay,
+      @Value("${security.login-throttle.username.max-entries:100000}") int maxUsernames,
+      @Value("${security.login-throttle.client.max-failures:100}") int maxClientFailures,
+      @Value("${security.login-throttle.client.sketch-depth:4}") int sketchDepth,
+      @Value("${security.login-throttle.client.sketch-width:8192}") int sketchWidth,
+      MeterRegistry meterRegistry
+  ) {
+    this(enabled, window, maxUsernameFailures, baseDelay, maxDelay, maxUsernames,
+        maxClientFailures, sketchDepth, sketchWidth, Clock.systemUTC(), meterRegistry);
+  }
+
+  LoginThrottle(boolean enabled, Duration window, int maxUsernameFailures, Duration baseDelay,
+      Duration maxDelay, int maxUsernames, int maxClientFailures, int sketchDepth,
+      int sketchWidth, Clock clock, MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.window = window;
+    this.maxUsernameFailures = maxUsernameFailures;
+    this.baseDelay = baseDelay;
+    this.maxDelay = maxDelay;
+    this.maxClientFailures = maxClientFailures;
+    this.clock = clock;
+    this.previousClients = new CountMinSketch(sketchDepth, sketchWidth);
+    this.currentClients = new CountMinSketch(sketchDepth, sketchWidth);
+    this.clientWindowStart = clock.instant();
+    // 마지막 실패 후 두 창이 지나면 실패 수가 0이 되고, 제한은 길어야 max-delay 동안이다.
+    Duration retention = window.multipliedBy(2);
+    this.usernames = new BoundedCache<>("discodeit.security.login.throttle.usernames",
+        maxUsernames, retention.compareTo(maxDelay) > 0 ? retention : maxDelay, clock,
+        meterRegistry);
+
+    this.allowedCounter = attemptCounter(meterRegistry, "allowed", "none");
+    this.usernameRejectedCounter = attemptCounter(meterRegistry, "rejected", "username");
+    this.clientRejectedCounter = attemptCounter(meterRegistry, "rejected", "client");
+    this.failureCounter = Counter.builder("discodeit.security.login.failures")
+        .description("비밀번호가 틀리거나 없는 사용자로 실패한 로그인 수")
+        .register(meterRegistry);
+  }
+
+  private static Counter attemptCounter(MeterRegistry meterRegistry, String result,
+      String reason) {
+    return Counter.builder("discodeit.security.login.attempts")
+        .tag("result", result)
+        .tag("reason", reason)
+        .description("로그인 제한 판정 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 사용자 조회 전에 호출한다.
+   *
+   * @throws LoginThrottledException 사용자명이나 클라이언트 주소가 제한 중인 경우
+   */
+  public void check(String username, String clientAddress) {
+    if (!enabled) {
+      return;
+    }
+    Instant now = clock.instant();
+
+    UsernameFailures failures = usernames.get(key(username));
+    Instant blockedUntil = failures != null ? failures.blockedUntil : null;
+    if (blockedUntil != null && blockedUntil.isAfter(now)) {
+      usernameRejectedCounter.increment();
+      throw LoginThrottledException.forUsername(Duration.between(now, blockedUntil));
+    }
+
+    if (maxClientFailures > 0) {
+      synchronized (clientLock) {
+        rollClientWindow(now);
+        double fraction = windowFraction(clientWindowStart, now);
+        double estimate = previousClients.estimate(key(clientAddress)) * (1 - fraction)
+            + currentClients.estimate(key(clientAddress));
+        if (estimate >= maxClientFailures) {
+          clientRejectedCounter.increment();
+          log.debug("로그인 제한 (클라이언트): address={}, failures≈{}", clientAddress, estimate);
+          throw LoginThrottledException.forClient(
+              Duration.between(now, clientWindowStart.plus(window)));
+        }
+      }
+    }
+    allowedCounter.increment();
+  }
+
+  public void recordFailure(String username, String clientAddress) {
+    if (!enabled) {
+      return;
+    }
+    failureCounter.increment();
+    Instant now = clock.instant();
+
+    usernames.compute(key(username), (key, existing) -> {
+      UsernameFailures failures = existing != null ? existing : new UsernameFailures(now);
+      failures.roll(now);
+      failures.current++;
+      int excess = (int) failures.estimate(now) - maxUsernameFailures;
+      if (excess >= 0) {
+        failures.blockedUntil = now.plus(delay(excess));
+        log.debug("로그인 제한 (사용자명): username={}, until={}", username,
+            failures.blockedUntil);
+      }
+      return failures;
+    });
+
+    if (maxClientFailures > 0) {
+      synchronized (clientLock) {
+        rollClientWindow(now);
+        currentClients.increment(key(clientAddress));
+      }
+    }
+  }
+
+  public void recordSuccess(String username) {
+    if (!enabled) {
+      return;
+    }
+    usernames.remove(key(username));
+  }
+
+  int trackedUsernames() {
+    return usernames.size();
+  }
+
+  private Duration delay(int excess) {
+    // 2^excess가 넘치기 전에 상한으로 자른다.
+    if (excess >= 30) {
+      return maxDelay;
+    }
+    Duration delay = baseDelay.multipliedBy(1L << excess);
+    return delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
+  }
+
+  private void rollClientWindow(Instant now) {
+    Instant windowEnd = clientWindowStart.plus(window);
+    if (now.isBefore(windowEnd)) {
+      return;
+    }
+    // 끝난 직전 창의 카운터를 비워 새 현재 창으로 다시 쓴다.
+    CountMinSketch recycled = previousClients;
+    recycled.clear();
+    if (now.isBefore(windowEnd.plus(window))) {
+      previousClients = currentClients;
+      clientWindowStart = windowEnd;
+    } else {
+      // 한 창 넘게 실패가 없었으면 직전 창도 비어 있어야 한다.
+      currentClients.clear();
+      previousClients = currentClients;
+      clientWindowStart = now;
+    }
+    currentClients = recycled;
+  }
+
+  private double windowFraction(Instant windowStart, Instant now) {
+    return Math.min(1.0, (double) Duration.between(windowStart, now).toMillis()
+        / window.toMillis());
+  }
+
+  private static String key(String value) {
+    return value == null ? "" : value;
+  }
+
+  private final class UsernameFailures {
+
+    private Instant windowStart;
+    private int previous;
+    private int current;
+    // check는 캐시 락 밖에서 읽는다.
+    private volatile Instant blockedUntil;
+
+    UsernameFailures(Instant now) {
+      this.windowStart = now;
+    }
+
+    void roll(Instant now) {
+      Instant windowEnd = windowStart.plus(window);
+      if (now.isBefore(windowEnd)) {
+        return;
+      }
+      if (now.isBefore(windowEnd.plus(window))) {
+        previous = current;
+        windowStart = windowEnd;
+      } else {
+        previous = 0;
+        windowStart = now;
+      }
+      current = 0;
+    }
+
+    double estimate(Instant now) {
+      return previous * (1 - windowFraction(windowStart, now)) + current;
+    }
+  }
+}
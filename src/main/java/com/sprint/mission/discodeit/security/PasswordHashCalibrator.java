@@ -0,0 +1,67 @@
+package com.sprint.mission.discodeit.security;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * 현재 하드웨어에서 목표 해싱 시간을 넘지 않는 가장 높은 BCrypt cost를 찾는다.
+ * <p>
+ * cost가 1 오를 때마다 해싱 시간이 두 배가 되므로, 최소값부터 올라가다가 목표를 처음 넘는 지점에서
+ * 멈추면 측정은 몇 번으로 끝난다.
+ */
+@Slf4j
+public final class PasswordHashCalibrator {
+
+  static final int MIN_BCRYPT_STRENGTH = 4;
+  static final int MAX_BCRYPT_STRENGTH = 31;
+
+  private static final int SAMPLES = 3;
+  private static final String SAMPLE_PASSWORD = "calibration-Password1!";
+
+  private PasswordHashCalibrator() {
+  }
+
+  public static int calibrateBCrypt(Duration targetTime, int minStrength, int maxStrength) {
+    // JIT 워밍업 전의 첫 측정은 실제보다 느리게 나오므로 버린다.
+    measureBCrypt(minStrength);
+    int strength = chooseStrength(targetTime, minStrength, maxStrength,
+        PasswordHashCalibrator::measureBCrypt);
+    log.info("BCrypt cost 보정 완료: targetTime={}, strength={}, range=[{}, {}]",
+        targetTime, strength, minStrength, maxStrength);
+    return strength;
+  }
+
+  static int chooseStrength(Duration targetTime, int minStrength, int maxStrength,
+      IntFunction<Duration> measure) {
+    if (minStrength < MIN_BCRYPT_STRENGTH || maxStrength > MAX_BCRYPT_STRENGTH
+        || minStrength > maxStrength) {
+      throw new IllegalArgumentException(
+          "BCrypt strength 범위가 올바르지 않습니다: [" + minStrength + ", " + maxStrength + "]");
+    }
+    // 최소값은 목표 시간을 넘더라도 보안 하한으로 유지한다.
+    int chosen = minStrength;
+    for (int strength = minStrength; strength <= maxStrength; strength++) {
+      Duration elapsed = measure.apply(strength);
+      log.debug("BCrypt cost 측정: strength={}, elapsed={}ms", strength, elapsed.toMillis());
+      if (elapsed.compareTo(targetTime) > 0) {
+        break;
+      }
+      chosen = strength;
+    }
+    return chosen;
+  }
+
+  private static Duration measureBCrypt(int strength) {
+    long[] samples = new long[SAMPLES];
+    for (int i = 0; i < SAMPLES; i++) {
+      long start = System.nanoTime();
+      BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(strength));
+      samples[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(samples);
+    return Duration.ofNanos(samples[SAMPLES / 2]);
+  }
+}
@@ -0,0 +1,88 @@
+package com.sprint.mission.discodeit.security;
+
+import com.sprint.mission.discodeit.dto.data.PasswordHashPrefixCount;
+import com.sprint.mission.discodeit.dto.response.PasswordHashReport;
+import com.sprint.mission.discodeit.dto.response.PasswordHashReport.Bucket;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 저장된 비밀번호 해시를 알고리즘·cost별로 집계해, 재해싱이 얼마나 진행됐는지 보여준다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordHashReporter {
+
+  static final String UNKNOWN_ALGORITHM = "unknown";
+
+  private final UserRepository userRepository;
+  private final PasswordHashingPolicy passwordHashingPolicy;
+
+  @Transactional(readOnly = true)
+  public PasswordHashReport report() {
+    return toReport(userRepository.countByPasswordHashPrefix());
+  }
+
+  PasswordHashReport toReport(List<PasswordHashPrefixCount> prefixCounts) {
+    // DB마다 대소문자나 버전 문자($2a/$2b) 차이로 같은 버킷이 여러 행으로 나올 수 있어 다시 합친다.
+    Map<BucketKey, Long> counts = new LinkedHashMap<>();
+    for (PasswordHashPrefixCount prefixCount : prefixCounts) {
+      counts.merge(parse(prefixCount.prefix()), prefixCount.count(), Long::sum);
+    }
+
+    List<Bucket> buckets = new ArrayList<>();
+    long total = 0;
+    long outdated = 0;
+    for (Map.Entry<BucketKey, Long> entry : counts.entrySet()) {
+      BucketKey key = entry.getKey();
+      boolean current = passwordHashingPolicy.isCurrent(key.algorithm(), key.cost(),
+          key.prefixed());
+      buckets.add(new Bucket(key.algorithm(), key.cost(), key.prefixed(), current,
+          entry.getValue()));
+      total += entry.getValue();
+      if (!current) {
+        outdated += entry.getValue();
+      }
+    }
+    buckets.sort(Comparator.comparing(Bucket::algorithm)
+        .thenComparing(Bucket::cost, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(Bucket::prefixed));
+
+    return new PasswordHashReport(Instant.now(), passwordHashingPolicy.algorithm(),
+        passwordHashingPolicy.bcryptStrength(), total, outdated, buckets);
+  }
+
+  static BucketKey parse(String prefix) {
+    String value = Objects.requireNonNullElse(prefix, "");
+    String algorithm = null;
+    boolean prefixed = false;
+    if (value.startsWith("{")) {
+      int end = value.indexOf('}');
+      if (end > 0) {
+        algorithm = value.substring(1, end).toLowerCase();
+        value = value.substring(end + 1);
+        prefixed = true;
+      }
+    }
+    OptionalInt cost = CostAwareBCryptPasswordEncoder.costOf(value);
+    if (algorithm == null) {
+      // 접두사 없는 기존 해시는 BCrypt로 검증되므로 BCrypt 형식일 때만 BCrypt로 분류한다.
+      algorithm = cost.isPresent() ? PasswordHashingPolicy.BCRYPT : UNKNOWN_ALGORITHM;
+    }
+    return new BucketKey(algorithm, cost.isPresent() ? cost.getAsInt() : null, prefixed);
+  }
+
+  record BucketKey(String algorithm, Integer cost, boolean prefixed) {
+
+  }
+}
@@ -0,0 +1,67 @@
+package com.sprint.mission.discodeit.security;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+/**
+ * 새 해시를 만들 때 사용할 알고리즘과 BCrypt cost.
+ * <p>
+ * 저장된 해시는 {@code {bcrypt}$2a$12$...}처럼 알고리즘 접두사를 가지며, 접두사나 cost가 이
+ * 정책과 다른 해시는 다음 로그인 성공 시 재해싱된다. 접두사가 없는 기존 해시는 BCrypt로 검증한다.
+ */
+public record PasswordHashingPolicy(
+    String algorithm,
+    int bcryptStrength
+) {
+
+  public static final String BCRYPT = "bcrypt";
+  public static final String PBKDF2 = "pbkdf2";
+  public static final Set<String> SUPPORTED_ALGORITHMS = Set.of(BCRYPT, PBKDF2);
+
+  // BCryptPasswordEncoder가 비교 전에 확인하는 형식
+  private static final Pattern BCRYPT_HASH =
+      Pattern.compile("^\\{bcrypt}\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}$");
+  // defaultsForSpringSecurity_v5_8: 16바이트 salt와 256비트 해시를 16진수로 이어 붙인 96자
+  private static final Pattern PBKDF2_HASH = Pattern.compile("^\\{pbkdf2}[0-9a-fA-F]{96}$");
+
+  public PasswordHashingPolicy {
+    if (!SUPPORTED_ALGORITHMS.contains(algorithm)) {
+      throw new IllegalArgumentException(
+          "지원하지 않는 비밀번호 해싱 알고리즘입니다: " + algorithm);
+    }
+  }
+
+  public DelegatingPasswordEncoder createEncoder() {
+    PasswordEncoder bcrypt = new CostAwareBCryptPasswordEncoder(bcryptStrength);
+    Map<String, PasswordEncoder> encoders = Map.of(
+        BCRYPT, bcrypt,
+        PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()
+    );
+    DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, encoders);
+    encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+    return encoder;
+  }
+
+  /**
+   * 다른 시스템에서 가져온 해시를 그대로 저장해도 {@link #createEncoder()}로 검증할 수 있는 형식인지 여부.
+   * 형식이 틀린 해시를 저장하면 그 계정은 어떤 비밀번호로도 로그인할 수 없다.
+   */
+  public static boolean isWellFormed(String encodedPassword) {
+    return encodedPassword != null && (BCRYPT_HASH.matcher(encodedPassword).matches()
+        || PBKDF2_HASH.matcher(encodedPassword).matches());
+  }
+
+  /**
+   * 저장된 해시가 이 정책으로 만든 해시와 같은 알고리즘·cost인지 여부.
+   */
+  public boolean isCurrent(String algorithm, Integer cost, boolean prefixed) {
+    if (!prefixed || !this.algorithm.equals(algorithm)) {
+      return false;
+    }
+    return !BCRYPT.equals(algorithm) || (cost != null && cost == bcryptStrength);
+  }
+}
@@ -0,0 +1,180 @@
+package com.sprint.mission.discodeit.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증된 요청을 처리할 때마다 사용자의 마지막 활동 시각을 인스턴스 메모리에 기록한다. 클라이언트가
+ * {@code PATCH /api/users/{userId}/userStatus}를 주기적으로 보내지 않아도 접속 상태가 유지된다.
+ * <p>
+ * 사용자마다 {@code record-interval} 안에 다시 들어온 요청은 기록하지 않는다. 기록된 시각은
+ * {@code flush-interval}마다 {@code flush-batch-size}개씩 묶어 {@code user_statuses}에 쓰며,
+ * 더 최근 시각이 이미 저장되어 있으면 덮어쓰지 않는다. 종료할 때도 남은 기록을 한 번 쓴다.
+ * <p>
+ * {@code retention}보다 오래 활동이 없고 이미 저장된 사용자는 메모리에서 지운다.
+ */
+@Slf4j
+@Component
+public class PresenceTracker {
+
+  private static final String UPDATE_SQL = "UPDATE user_statuses"
+      + " SET last_active_at = ?, updated_at = ? WHERE user_id = ? AND last_active_at < ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Duration recordInterval;
+  private final Duration retention;
+  private final int flushBatchSize;
+  private final Clock clock;
+
+  // 사용자별 마지막 활동 시각
+  private final Map<UUID, Instant> lastActive = new ConcurrentHashMap<>();
+  // 아직 user_statuses에 쓰지 않은 마지막 활동 시각
+  private final Map<UUID, Instant> pending = new ConcurrentHashMap<>();
+
+  private final Counter recordedCounter;
+  private final Counter throttledCounter;
+  private final Counter flushedCounter;
+
+  @Autowired
+  public PresenceTracker(
+      JdbcTemplate jdbcTemplate,
+      @Value("${discodeit.presence.record-interval:PT30S}") Duration recordInterval,
+      @Value("${discodeit.presence.retention:PT10M}") Duration retention,
+      @Value("${discodeit.presence.flush-batch-size:500}") int flushBatchSize,
+      MeterRegistry meterRegistry
+  ) {
+    this(jdbcTemplate, recordInterval, retention, flushBatchSize, Clock.systemUTC(),
+        meterRegistry);
+  }
+
+  PresenceTracker(JdbcTemplate jdbcTemplate, Duration recordInterval, Duration retention,
+      int flushBatchSize, Clock clock, MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.recordInterval = recordInterval;
+    this.retention = retention;
+    this.flushBatchSize = flushBatchSize;
+    this.clock = clock;
+
+    this.recordedCounter = recordCounter(meterRegistry, "recorded");
+    this.throttledCounter = recordCounter(meterRegistry, "throttled");
+    this.flushedCounter = Counter.builder("discodeit.presence.flushed")
+        .description("user_statuses에 쓴 마지막 활동 시각 수")
+        .register(meterRegistry);
+    Gauge.builder("discodeit.presence.pending", pending, Map::size)
+        .description("아직 user_statuses에 쓰지 않은 사용자 수")
+        .register(meterRegistry);
+    Gauge.builder("discodeit.presence.tracked", lastActive, Map::size)
+        .description("메모리에 마지막 활동 시각을 보관 중인 사용자 수")
+        .register(meterRegistry);
+  }
+
+  private static Counter recordCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("discodeit.presence.records")
+        .tag("result", result)
+        .description("활동 기록 요청 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 지금을 마지막 활동 시각으로 기록한다.
+   *
+   * @return 기록했으면 {@code true}, {@code record-interval} 안이라 건너뛰었으면 {@code false}
+   */
+  public boolean record(UUID userId) {
+    return record(userId, clock.instant());
+  }
+
+  public boolean record(UUID userId, Instant activeAt) {
+    Instant previous = lastActive.get(userId);
+    if (previous != null && activeAt.isBefore(previous.plus(recordInterval))) {
+      throttledCounter.increment();
+      return false;
+    }
+    lastActive.merge(userId, activeAt, PresenceTracker::latest);
+    pending.merge(userId, activeAt, PresenceTracker::latest);
+    recordedCounter.increment();
+    return true;
+  }
+
+  /**
+   * 이 인스턴스가 기록한 마지막 활동 시각. DB에 아직 쓰지 않았을 수 있다.
+   */
+  public Optional<Instant> lastActiveAt(UUID userId) {
+    return Optional.ofNullable(lastActive.get(userId));
+  }
+
+  @PreDestroy
+  @Scheduled(fixedDelayString = "${discodeit.presence.flush-interval:PT1M}")
+  public void flush() {
+    Instant now = clock.instant();
+    Timestamp updatedAt = Timestamp.from(now);
+    List<Object[]> batch = new ArrayList<>(Math.min(pending.size(), flushBatchSize));
+    int flushed = 0;
+    for (Map.Entry<UUID, Instant> entry : pending.entrySet()) {
+      UUID userId = entry.getKey();
+      Instant activeAt = entry.getValue();
+      // 쓰는 사이에 더 최근 시각이 기록되었다면 남겨 두고 다음 주기에 쓴다.
+      if (!pending.remove(userId, activeAt)) {
+        continue;
+      }
+      Timestamp activeAtTimestamp = Timestamp.from(activeAt);
+      batch.add(new Object[]{activeAtTimestamp, updatedAt, userId, activeAtTimestamp});
+      if (batch.size() >= flushBatchSize) {
+        flushed += write(batch);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      flushed += write(batch);
+    }
+    if (flushed > 0) {
+      flushedCounter.increment(flushed);
+      log.debug("마지막 활동 시각 저장 완료: count={}", flushed);
+    }
+
+    Instant cutoff = now.minus(retention);
+    lastActive.entrySet().removeIf(entry -> entry.getValue().isBefore(cutoff)
+        && !pending.containsKey(entry.getKey()));
+  }
+
+  int pendingCount() {
+    return pending.size();
+  }
+
+  private int write(List<Object[]> batch) {
+    try {
+      jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+      return batch.size();
+    } catch (RuntimeException e) {
+      // 실패한 기록은 다시 넣어 다음 주기에 쓴다. 그 사이 더 최근 시각이 들어왔다면 그쪽을 남긴다.
+      log.warn("마지막 활동 시각 저장 실패: count={}", batch.size(), e);
+      for (Object[] args : batch) {
+        pending.merge((UUID) args[2], ((Timestamp) args[0]).toInstant(),
+            PresenceTracker::latest);
+      }
+      return 0;
+    }
+  }
+
+  private static Instant latest(Instant a, Instant b) {
+    return a.isAfter(b) ? a : b;
+  }
+}
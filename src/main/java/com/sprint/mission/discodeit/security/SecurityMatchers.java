@@ -3,6 +3,7 @@ package com.sprint.mission.discodeit.security;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 
 public class SecurityMatchers {
@@ -18,6 +19,19 @@ public class SecurityMatchers {
       "/api/auth/login", HttpMethod.POST.name());
   public static final RequestMatcher LOGOUT = new AntPathRequestMatcher(
       "/api/auth/logout", HttpMethod.POST.name());
+  // 토큰 인증 모드에서 리프레시 토큰으로 새 토큰을 받는다.
+  public static final RequestMatcher TOKEN_REFRESH = new AntPathRequestMatcher(
+      "/api/auth/refresh", HttpMethod.POST.name());
+  // 로컬 저장소의 직접 업로드 URL. 세션 대신 URL의 일회용 토큰으로 인증한다.
+  public static final RequestMatcher DIRECT_UPLOAD = new AntPathRequestMatcher(
+      "/api/binaryContents/uploads/*/content", HttpMethod.PUT.name());
+
+  // 번들된 프런트엔드 정적 파일. 보안 필터 체인을 아예 거치지 않는다.
+  public static final RequestMatcher STATIC_RESOURCES = new OrRequestMatcher(
+      new AntPathRequestMatcher("/", HttpMethod.GET.name()),
+      new AntPathRequestMatcher("/index.html", HttpMethod.GET.name()),
+      new AntPathRequestMatcher("/favicon.ico", HttpMethod.GET.name()),
+      new AntPathRequestMatcher("/assets/**", HttpMethod.GET.name()));
 
   public static final String LOGIN_URL = "/api/auth/login";
 }
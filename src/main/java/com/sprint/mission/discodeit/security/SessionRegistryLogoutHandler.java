@@ -5,6 +5,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.session.SessionInformation;
 import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 
@@ -17,8 +18,13 @@ public class SessionRegistryLogoutHandler implements LogoutHandler {
   public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
 
     HttpSession session = request.getSession(false);
-    if (session != null) {
-      sessionRegistry.getSessionInformation(session.getId()).expireNow();
+    if (session == null) {
+      return;
+    }
+    // 공유 세션 저장소에서는 아직 저장되지 않은 세션이 레지스트리에 없을 수 있다.
+    SessionInformation sessionInformation = sessionRegistry.getSessionInformation(session.getId());
+    if (sessionInformation != null) {
+      sessionInformation.expireNow();
     }
   }
 }
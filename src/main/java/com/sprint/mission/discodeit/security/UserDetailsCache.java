@@ -0,0 +1,104 @@
+package com.sprint.mission.discodeit.security;
+
+import com.sprint.mission.discodeit.cache.BoundedCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * username을 키로 {@link DiscodeitUserDetails}를 일정 시간 보관하는 LRU 캐시.
+ * <p>
+ * 배포로 세션이 모두 사라지면 remember-me 자동 로그인이 한꺼번에 몰리는데, 이때 같은 사용자의 반복 조회가
+ * DB까지 가지 않게 한다. 변경은 {@link UserDetailsChangedEvent}로 커밋 후에 무효화하며, 무효화와 겹친 조회
+ * 결과는 옛 값일 수 있으므로 저장하지 않는다.
+ * <p>
+ * 이벤트는 변경한 인스턴스 안에서만 전달되므로, 다른 인스턴스에서 바꾼 비밀번호나 낮춘 권한은 {@code ttl}이
+ * 지나야 반영된다. 캐시된 값에는 비밀번호 해시와 권한이 들어 있어 이 지연이 곧 옛 비밀번호·권한이 통하는
+ * 시간이므로, {@code ttl}은 몰린 요청을 흡수할 만큼인 몇 초로 짧게 둔다.
+ * <p>
+ * 캐시된 객체가 그대로 인증 주체가 되므로 {@link DiscodeitUserDetails}는 불변이어야 하고
+ * {@code CredentialsContainer}를 구현하면 안 된다. 인증 후 비밀번호 지우기가 캐시까지 지우게 된다.
+ */
+@Slf4j
+@Component
+public class UserDetailsCache {
+
+  private final BoundedCache<String, DiscodeitUserDetails> entries;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter invalidationCounter;
+
+  @Autowired
+  public UserDetailsCache(
+      @Value("${security.user-details-cache.max-size:10000}") int maxSize,
+      @Value("${security.user-details-cache.ttl:PT5S}") Duration ttl,
+      MeterRegistry meterRegistry
+  ) {
+    this(maxSize, ttl, Clock.systemUTC(), meterRegistry);
+  }
+
+  UserDetailsCache(int maxSize, Duration ttl, Clock clock, MeterRegistry meterRegistry) {
+    this.entries = new BoundedCache<>("discodeit.security.user-details.cache", maxSize, ttl,
+        clock, meterRegistry);
+
+    this.hitCounter = Counter.builder("discodeit.security.user-details.cache")
+        .tag("result", "hit")
+        .description("캐시에서 응답한 사용자 인증 정보 조회 수")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder("discodeit.security.user-details.cache")
+        .tag("result", "miss")
+        .description("DB에서 가져온 사용자 인증 정보 조회 수")
+        .register(meterRegistry);
+    this.invalidationCounter = Counter.builder("discodeit.security.user-details.cache.evictions")
+        .tag("cause", "invalidated")
+        .description("변경 이벤트로 캐시에서 제거된 사용자 인증 정보 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 캐시에 있으면 돌려주고, 없으면 {@code loader}로 조회해 채운다. {@code loader}가 던진 예외(사용자
+   * 없음 등)는 캐시하지 않고 그대로 전파한다.
+   */
+  public DiscodeitUserDetails get(String username,
+      Function<String, DiscodeitUserDetails> loader) {
+    long observedGeneration = entries.generation();
+    DiscodeitUserDetails cached = entries.get(username);
+    if (cached != null) {
+      hitCounter.increment();
+      return cached;
+    }
+
+    missCounter.increment();
+    // DB 조회는 락 밖에서 한다. 같은 사용자를 동시에 조회하면 중복 조회가 생길 수 있지만 결과는 같다.
+    DiscodeitUserDetails userDetails = loader.apply(username);
+    entries.putIfGeneration(username, userDetails, observedGeneration);
+    return userDetails;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(UserDetailsChangedEvent event) {
+    invalidate(event.userId());
+  }
+
+  public void invalidate(UUID userId) {
+    // 무효화는 권한·비밀번호 변경이나 탈퇴 때만 일어나므로 역인덱스 없이 훑는다.
+    invalidationCounter.increment(entries.removeIf(
+        (username, userDetails) -> userDetails.getUserDto().id().equals(userId)));
+    log.debug("사용자 인증 정보 캐시 무효화: userId={}", userId);
+  }
+
+  public void invalidate(String username) {
+    if (entries.remove(username) != null) {
+      invalidationCounter.increment();
+    }
+  }
+}
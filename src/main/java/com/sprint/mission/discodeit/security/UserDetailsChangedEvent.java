@@ -0,0 +1,13 @@
+package com.sprint.mission.discodeit.security;
+
+import java.util.UUID;
+
+/**
+ * 인증 정보(권한, 비밀번호, 사용자명 등)가 바뀌었거나 사용자가 삭제되었음을 알린다. 커밋 후 캐시된
+ * {@link DiscodeitUserDetails}를 무효화한다.
+ */
+public record UserDetailsChangedEvent(
+    UUID userId
+) {
+
+}
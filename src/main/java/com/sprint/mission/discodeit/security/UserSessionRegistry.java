@@ -0,0 +1,20 @@
+package com.sprint.mission.discodeit.security;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.core.session.SessionRegistry;
+
+/**
+ * 주체 객체 대신 사용자 id로 세션을 찾는 {@link SessionRegistry}.
+ */
+public interface UserSessionRegistry extends SessionRegistry {
+
+  List<SessionInformation> getAllSessions(UUID userId, boolean includeExpiredSessions);
+
+  /**
+   * 만료되지 않은 세션이 하나 이상 있는 사용자 id. 읽기 전용이며 호출 이후의 변경이 반영될 수 있다.
+   */
+  Set<UUID> getOnlineUserIds();
+}
@@ -0,0 +1,164 @@
+package com.sprint.mission.discodeit.security.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.session.Session;
+
+/**
+ * {@link JdbcSessionRepository}가 관리하는 세션. 요청 하나 동안만 쓰이며 스레드 간에 공유하지 않는다.
+ * <p>
+ * 속성이나 id가 바뀐 경우에만 행 전체를 다시 쓰고, 마지막 접근 시각만 바뀐 경우는 모아서 갱신한다.
+ */
+public class JdbcSession implements Session {
+
+  // maxInactiveInterval이 음수(만료 없음)인 세션의 만료 시각
+  static final Instant NEVER_EXPIRES = Instant.parse("9999-12-31T00:00:00Z");
+
+  private String id;
+  private String originalId;
+  private final Instant creationTime;
+  private Instant lastAccessedTime;
+  private Duration maxInactiveInterval;
+  private final Map<String, Object> attributes;
+  private boolean isNew;
+  private boolean changed;
+
+  JdbcSession(Duration maxInactiveInterval, Instant now) {
+    this.id = generateId();
+    this.originalId = id;
+    this.creationTime = now;
+    this.lastAccessedTime = now;
+    this.maxInactiveInterval = maxInactiveInterval;
+    this.attributes = new HashMap<>();
+    this.isNew = true;
+    this.changed = true;
+  }
+
+  JdbcSession(String id, Instant creationTime, Instant lastAccessedTime,
+      Duration maxInactiveInterval, Map<String, Object> attributes) {
+    this.id = id;
+    this.originalId = id;
+    this.creationTime = creationTime;
+    this.lastAccessedTime = lastAccessedTime;
+    this.maxInactiveInterval = maxInactiveInterval;
+    this.attributes = attributes;
+    this.isNew = false;
+    this.changed = false;
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public String changeSessionId() {
+    this.id = generateId();
+    this.changed = true;
+    return id;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T getAttribute(String attributeName) {
+    return (T) attributes.get(attributeName);
+  }
+
+  @Override
+  public Set<String> getAttributeNames() {
+    return Set.copyOf(attributes.keySet());
+  }
+
+  @Override
+  public void setAttribute(String attributeName, Object attributeValue) {
+    if (attributeValue == null) {
+      removeAttribute(attributeName);
+      return;
+    }
+    attributes.put(attributeName, attributeValue);
+    changed = true;
+  }
+
+  @Override
+  public void removeAttribute(String attributeName) {
+    if (attributes.remove(attributeName) != null) {
+      changed = true;
+    }
+  }
+
+  @Override
+  public Instant getCreationTime() {
+    return creationTime;
+  }
+
+  @Override
+  public void setLastAccessedTime(Instant lastAccessedTime) {
+    this.lastAccessedTime = lastAccessedTime;
+  }
+
+  @Override
+  public Instant getLastAccessedTime() {
+    return lastAccessedTime;
+  }
+
+  @Override
+  public void setMaxInactiveInterval(Duration interval) {
+    if (!interval.equals(maxInactiveInterval)) {
+      this.maxInactiveInterval = interval;
+      this.changed = true;
+    }
+  }
+
+  @Override
+  public Duration getMaxInactiveInterval() {
+    return maxInactiveInterval;
+  }
+
+  @Override
+  public boolean isExpired() {
+    return isExpired(Instant.now());
+  }
+
+  boolean isExpired(Instant now) {
+    return !now.isBefore(getExpiryTime());
+  }
+
+  Instant getExpiryTime() {
+    return maxInactiveInterval.isNegative() ? NEVER_EXPIRES
+        : lastAccessedTime.plus(maxInactiveInterval);
+  }
+
+  /**
+   * 저장 후 호출한다. 응답 커밋 시점과 필터 종료 시점에 두 번 저장될 수 있으므로 두 번째 저장이 다시 INSERT하지
+   * 않게 한다.
+   */
+  void markSaved() {
+    this.originalId = id;
+    this.isNew = false;
+    this.changed = false;
+  }
+
+  String getOriginalId() {
+    return originalId;
+  }
+
+  boolean isNew() {
+    return isNew;
+  }
+
+  boolean isChanged() {
+    return changed;
+  }
+
+  Map<String, Object> getAttributes() {
+    return attributes;
+  }
+
+  private static String generateId() {
+    return UUID.randomUUID().toString();
+  }
+}
@@ -0,0 +1,114 @@
+package com.sprint.mission.discodeit.security.session;
+
+import com.sprint.mission.discodeit.security.UserSessionRegistry;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * {@link JdbcSessionRepository}의 세션 테이블을 그대로 읽는 세션 레지스트리. 어느 인스턴스에서 만든 세션이든
+ * 보이므로 {@code maximumSessions(1)}과 권한 변경 시 세션 만료가 인스턴스 경계를 넘어 동작한다.
+ */
+@RequiredArgsConstructor
+public class JdbcSessionRegistry implements UserSessionRegistry {
+
+  private final JdbcSessionRepository sessionRepository;
+
+  @Override
+  public List<Object> getAllPrincipals() {
+    return new ArrayList<>(sessionRepository.findPrincipalNames());
+  }
+
+  @Override
+  public List<SessionInformation> getAllSessions(Object principal,
+      boolean includeExpiredSessions) {
+    return toSessionInformation(sessionRepository.findRowsByPrincipalName(nameOf(principal)),
+        principal, includeExpiredSessions);
+  }
+
+  @Override
+  public List<SessionInformation> getAllSessions(UUID userId, boolean includeExpiredSessions) {
+    return toSessionInformation(sessionRepository.findRowsByUserId(userId), null,
+        includeExpiredSessions);
+  }
+
+  @Override
+  public Set<UUID> getOnlineUserIds() {
+    return sessionRepository.findOnlineUserIds();
+  }
+
+  @Override
+  public SessionInformation getSessionInformation(String sessionId) {
+    SessionRow row = sessionRepository.findRow(sessionId);
+    return row != null ? new JdbcSessionInformation(row.principalName(), row) : null;
+  }
+
+  /**
+   * 마지막 접근 시각은 세션 저장소가 요청마다 갱신한다.
+   */
+  @Override
+  public void refreshLastRequest(String sessionId) {
+  }
+
+  /**
+   * 세션의 주체는 세션이 저장될 때 SecurityContext에서 꺼내 기록한다.
+   */
+  @Override
+  public void registerNewSession(String sessionId, Object principal) {
+  }
+
+  @Override
+  public void removeSessionInformation(String sessionId) {
+    sessionRepository.deleteById(sessionId);
+  }
+
+  private List<SessionInformation> toSessionInformation(List<SessionRow> rows, Object principal,
+      boolean includeExpiredSessions) {
+    List<SessionInformation> sessions = new ArrayList<>(rows.size());
+    for (SessionRow row : rows) {
+      if (includeExpiredSessions || !row.expired()) {
+        sessions.add(new JdbcSessionInformation(
+            principal != null ? principal : row.principalName(), row));
+      }
+    }
+    return sessions;
+  }
+
+  private static String nameOf(Object principal) {
+    if (principal instanceof UserDetails userDetails) {
+      return userDetails.getUsername();
+    }
+    if (principal instanceof Principal namedPrincipal) {
+      return namedPrincipal.getName();
+    }
+    return principal.toString();
+  }
+
+  private class JdbcSessionInformation extends SessionInformation {
+
+    private boolean markedExpired;
+
+    JdbcSessionInformation(Object principal, SessionRow row) {
+      super(principal, row.id(), Date.from(row.lastAccessedAt()));
+      this.markedExpired = row.expired();
+    }
+
+    @Override
+    public boolean isExpired() {
+      return markedExpired || super.isExpired();
+    }
+
+    @Override
+    public void expireNow() {
+      super.expireNow();
+      markedExpired = true;
+      sessionRepository.markExpired(getSessionId());
+    }
+  }
+}
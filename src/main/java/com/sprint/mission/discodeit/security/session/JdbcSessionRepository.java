@@ -0,0 +1,362 @@
+package com.sprint.mission.discodeit.security.session;
+
+import com.sprint.mission.discodeit.cache.BoundedCache;
+import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.FindByIndexNameSessionRepository;
+
+/**
+ * 여러 인스턴스가 함께 쓰는 DB 세션 저장소.
+ * <p>
+ * 요청마다 바뀌는 마지막 접근 시각은 바로 쓰지 않고 모아 두었다가 {@code flush-interval}마다 한 번의 배치로
+ * 갱신한다. 조회한 행은 {@code near-cache-ttl} 동안 인스턴스 안에 보관하므로, 다른 인스턴스에서 바꾼 속성이나
+ * 만료 표시는 최대 그 시간만큼 늦게 보인다. 접속 중인 사용자 목록도 같은 시간 동안 재사용하며, 이 인스턴스에서
+ * 세션을 만들거나 지우면 바로 버린다. 시간이 지나 만료된 세션은 {@code cleanup-interval}마다 지운다.
+ */
+@Slf4j
+public class JdbcSessionRepository implements FindByIndexNameSessionRepository<JdbcSession> {
+
+  private static final String COLUMNS = "id, principal_name, user_id, created_at, "
+      + "last_accessed_at, max_inactive_seconds, expires_at, expired, attributes";
+  private static final RowMapper<SessionRow> SESSION_ROW_MAPPER = JdbcSessionRepository::mapRow;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Duration defaultMaxInactiveInterval;
+  private final Duration nearCacheTtl;
+  private final int cleanupBatchSize;
+  private final Clock clock;
+  private final SerializingConverter serializer = new SerializingConverter();
+  private final DeserializingConverter deserializer;
+
+  private final BoundedCache<String, SessionRow> nearCache;
+  // 마지막으로 읽은 접속 중인 사용자 목록. 없거나 버렸으면 null
+  private volatile CachedOnlineUserIds onlineUserIds;
+  // 아직 DB에 쓰지 않은 마지막 접근 시각
+  private final ConcurrentMap<String, PendingAccess> pendingAccesses = new ConcurrentHashMap<>();
+
+  private final Counter nearCacheHitCounter;
+  private final Counter nearCacheMissCounter;
+  private final Counter flushedCounter;
+  private final Counter cleanedCounter;
+
+  public JdbcSessionRepository(JdbcTemplate jdbcTemplate, Duration defaultMaxInactiveInterval,
+      Duration nearCacheTtl, int nearCacheSize, int cleanupBatchSize,
+      MeterRegistry meterRegistry) {
+    this(jdbcTemplate, defaultMaxInactiveInterval, nearCacheTtl, nearCacheSize, cleanupBatchSize,
+        Clock.systemUTC(), meterRegistry);
+  }
+
+  JdbcSessionRepository(JdbcTemplate jdbcTemplate, Duration defaultMaxInactiveInterval,
+      Duration nearCacheTtl, int nearCacheSize, int cleanupBatchSize, Clock clock,
+      MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+    this.nearCacheTtl = nearCacheTtl;
+    this.cleanupBatchSize = cleanupBatchSize;
+    this.clock = clock;
+    this.deserializer = new DeserializingConverter(getClass().getClassLoader());
+    this.nearCache = new BoundedCache<>("discodeit.session.near-cache", nearCacheSize,
+        nearCacheTtl, clock, meterRegistry);
+
+    this.nearCacheHitCounter = Counter.builder("discodeit.session.near-cache")
+        .tag("result", "hit")
+        .description("인스턴스 캐시에서 읽은 세션 조회 수")
+        .register(meterRegistry);
+    this.nearCacheMissCounter = Counter.builder("discodeit.session.near-cache")
+        .tag("result", "miss")
+        .description("DB에서 읽은 세션 조회 수")
+        .register(meterRegistry);
+    this.flushedCounter = Counter.builder("discodeit.session.last-access.flushed")
+        .description("배치로 갱신한 마지막 접근 시각 수")
+        .register(meterRegistry);
+    this.cleanedCounter = Counter.builder("discodeit.session.cleanup.deleted")
+        .description("만료되어 지운 세션 수")
+        .register(meterRegistry);
+    Gauge.builder("discodeit.session.last-access.pending", pendingAccesses, Map::size)
+        .description("아직 DB에 쓰지 않은 마지막 접근 시각 수")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public JdbcSession createSession() {
+    return new JdbcSession(defaultMaxInactiveInterval, clock.instant());
+  }
+
+  @Override
+  public void save(JdbcSession session) {
+    if (session.isNew()) {
+      SessionPrincipal principal = resolvePrincipal(session);
+      jdbcTemplate.update("INSERT INTO http_sessions (" + COLUMNS + ") "
+              + "VALUES (?, ?, ?, ?, ?, ?, ?, FALSE, ?)",
+          session.getId(), principal.name(), principal.userId(),
+          Timestamp.from(session.getCreationTime()),
+          Timestamp.from(session.getLastAccessedTime()),
+          session.getMaxInactiveInterval().toSeconds(),
+          Timestamp.from(session.getExpiryTime()),
+          serialize(session.getAttributes()));
+      onlineUserIds = null;
+    } else if (session.isChanged()) {
+      SessionPrincipal principal = resolvePrincipal(session);
+      jdbcTemplate.update("UPDATE http_sessions SET id = ?, principal_name = ?, user_id = ?, "
+              + "last_accessed_at = ?, max_inactive_seconds = ?, expires_at = ?, attributes = ? "
+              + "WHERE id = ?",
+          session.getId(), principal.name(), principal.userId(),
+          Timestamp.from(session.getLastAccessedTime()),
+          session.getMaxInactiveInterval().toSeconds(),
+          Timestamp.from(session.getExpiryTime()),
+          serialize(session.getAttributes()),
+          session.getOriginalId());
+      pendingAccesses.remove(session.getOriginalId());
+      evict(session.getOriginalId());
+      onlineUserIds = null;
+    } else {
+      // 마지막 접근 시각만 바뀐 경우: 대부분의 요청이 여기에 해당한다.
+      pendingAccesses.merge(session.getId(),
+          new PendingAccess(session.getLastAccessedTime(), session.getExpiryTime()),
+          PendingAccess::latest);
+    }
+    session.markSaved();
+  }
+
+  @Override
+  public JdbcSession findById(String id) {
+    SessionRow row = findRow(id);
+    if (row == null) {
+      return null;
+    }
+    JdbcSession session = toSession(row);
+    if (session.isExpired(clock.instant())) {
+      deleteById(id);
+      return null;
+    }
+    return session;
+  }
+
+  @Override
+  public void deleteById(String id) {
+    jdbcTemplate.update("DELETE FROM http_sessions WHERE id = ?", id);
+    pendingAccesses.remove(id);
+    evict(id);
+    onlineUserIds = null;
+  }
+
+  @Override
+  public Map<String, JdbcSession> findByIndexNameAndIndexValue(String indexName,
+      String indexValue) {
+    if (!PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
+      return Map.of();
+    }
+    Map<String, JdbcSession> sessions = new HashMap<>();
+    for (SessionRow row : findRowsByPrincipalName(indexValue)) {
+      sessions.put(row.id(), toSession(row));
+    }
+    return sessions;
+  }
+
+  /**
+   * 인스턴스 캐시를 거쳐 행을 읽는다. 세션 레지스트리의 만료 여부 확인도 이 경로를 쓴다.
+   */
+  SessionRow findRow(String id) {
+    SessionRow cached = nearCache.get(id);
+    if (cached != null) {
+      nearCacheHitCounter.increment();
+      return cached;
+    }
+    nearCacheMissCounter.increment();
+    List<SessionRow> rows = jdbcTemplate.query(
+        "SELECT " + COLUMNS + " FROM http_sessions WHERE id = ?", SESSION_ROW_MAPPER, id);
+    if (rows.isEmpty()) {
+      evict(id);
+      return null;
+    }
+    SessionRow row = rows.get(0);
+    nearCache.put(id, row);
+    return row;
+  }
+
+  List<SessionRow> findRowsByPrincipalName(String principalName) {
+    return jdbcTemplate.query("SELECT " + COLUMNS + " FROM http_sessions "
+            + "WHERE principal_name = ? AND expires_at > ?",
+        SESSION_ROW_MAPPER, principalName, Timestamp.from(clock.instant()));
+  }
+
+  List<SessionRow> findRowsByUserId(UUID userId) {
+    return jdbcTemplate.query("SELECT " + COLUMNS + " FROM http_sessions "
+            + "WHERE user_id = ? AND expires_at > ?",
+        SESSION_ROW_MAPPER, userId, Timestamp.from(clock.instant()));
+  }
+
+  List<String> findPrincipalNames() {
+    return jdbcTemplate.queryForList("SELECT DISTINCT principal_name FROM http_sessions "
+            + "WHERE principal_name IS NOT NULL AND expires_at > ?",
+        String.class, Timestamp.from(clock.instant()));
+  }
+
+  /**
+   * 사용자 목록과 검색 응답마다 불리므로 {@code near-cache-ttl} 동안은 마지막으로 읽은 목록을 돌려준다.
+   */
+  Set<UUID> findOnlineUserIds() {
+    Instant now = clock.instant();
+    CachedOnlineUserIds cached = onlineUserIds;
+    if (cached != null && cached.cachedAt().plus(nearCacheTtl).isAfter(now)) {
+      nearCacheHitCounter.increment();
+      return cached.userIds();
+    }
+    nearCacheMissCounter.increment();
+    Set<UUID> userIds = Set.copyOf(jdbcTemplate.queryForList("SELECT DISTINCT user_id "
+            + "FROM http_sessions WHERE user_id IS NOT NULL AND expired = FALSE AND expires_at > ?",
+        UUID.class, Timestamp.from(now)));
+    onlineUserIds = new CachedOnlineUserIds(userIds, now);
+    return userIds;
+  }
+
+  void markExpired(String id) {
+    jdbcTemplate.update("UPDATE http_sessions SET expired = TRUE WHERE id = ?", id);
+    evict(id);
+    onlineUserIds = null;
+  }
+
+  @Scheduled(fixedDelayString = "${discodeit.session.jdbc.flush-interval:PT5S}")
+  public void flushLastAccess() {
+    if (pendingAccesses.isEmpty()) {
+      return;
+    }
+    List<Object[]> batch = new ArrayList<>(pendingAccesses.size());
+    for (String id : pendingAccesses.keySet()) {
+      // 꺼낸 뒤에 들어온 접근은 다음 배치로 넘어간다.
+      PendingAccess access = pendingAccesses.remove(id);
+      if (access != null) {
+        Timestamp lastAccessedAt = Timestamp.from(access.lastAccessedAt());
+        batch.add(new Object[]{lastAccessedAt, Timestamp.from(access.expiresAt()), id,
+            lastAccessedAt});
+      }
+    }
+    // 다른 인스턴스가 더 최근 시각을 이미 썼다면 되돌리지 않는다.
+    jdbcTemplate.batchUpdate("UPDATE http_sessions SET last_accessed_at = ?, expires_at = ? "
+        + "WHERE id = ? AND last_accessed_at < ?", batch);
+    flushedCounter.increment(batch.size());
+    log.debug("세션 마지막 접근 시각 갱신: count={}", batch.size());
+  }
+
+  @Scheduled(fixedDelayString = "${discodeit.session.jdbc.cleanup-interval:PT1M}")
+  public void cleanupExpiredSessions() {
+    Timestamp now = Timestamp.from(clock.instant());
+    long total = 0;
+    int deleted;
+    // 한 번에 지우는 행 수를 제한해 긴 잠금을 피한다.
+    do {
+      deleted = jdbcTemplate.update("DELETE FROM http_sessions WHERE id IN ("
+          + "SELECT id FROM http_sessions WHERE expires_at < ? LIMIT ?)", now, cleanupBatchSize);
+      total += deleted;
+    } while (deleted == cleanupBatchSize);
+    if (total > 0) {
+      cleanedCounter.increment(total);
+      log.info("만료된 세션 정리 완료: count={}", total);
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    flushLastAccess();
+  }
+
+  private JdbcSession toSession(SessionRow row) {
+    Instant lastAccessedAt = row.lastAccessedAt();
+    PendingAccess pending = pendingAccesses.get(row.id());
+    if (pending != null && pending.lastAccessedAt().isAfter(lastAccessedAt)) {
+      lastAccessedAt = pending.lastAccessedAt();
+    }
+    return new JdbcSession(row.id(), row.createdAt(), lastAccessedAt, row.maxInactiveInterval(),
+        deserialize(row.attributes()));
+  }
+
+  private void evict(String id) {
+    nearCache.remove(id);
+  }
+
+  private byte[] serialize(Map<String, Object> attributes) {
+    return serializer.convert(new HashMap<>(attributes));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> deserialize(byte[] attributes) {
+    if (attributes == null) {
+      return new HashMap<>();
+    }
+    // 요청마다 별도 객체가 필요하므로 캐시된 바이트에서 매번 새로 만든다.
+    return (Map<String, Object>) deserializer.convert(attributes);
+  }
+
+  private static SessionPrincipal resolvePrincipal(JdbcSession session) {
+    String name = session.getAttribute(PRINCIPAL_NAME_INDEX_NAME);
+    UUID userId = null;
+    SecurityContext securityContext = session.getAttribute(
+        HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+    Authentication authentication =
+        securityContext != null ? securityContext.getAuthentication() : null;
+    if (authentication != null) {
+      if (name == null) {
+        name = authentication.getName();
+      }
+      if (authentication.getPrincipal() instanceof DiscodeitUserDetails userDetails) {
+        userId = userDetails.getUserDto().id();
+      }
+    }
+    return new SessionPrincipal(name, userId);
+  }
+
+  private static SessionRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+    return new SessionRow(
+        rs.getString("id"),
+        rs.getString("principal_name"),
+        rs.getObject("user_id", UUID.class),
+        rs.getTimestamp("created_at").toInstant(),
+        rs.getTimestamp("last_accessed_at").toInstant(),
+        Duration.ofSeconds(rs.getLong("max_inactive_seconds")),
+        rs.getTimestamp("expires_at").toInstant(),
+        rs.getBoolean("expired"),
+        rs.getBytes("attributes")
+    );
+  }
+
+  private record SessionPrincipal(String name, UUID userId) {
+
+  }
+
+  private record CachedOnlineUserIds(Set<UUID> userIds, Instant cachedAt) {
+
+  }
+
+  private record PendingAccess(Instant lastAccessedAt, Instant expiresAt) {
+
+    PendingAccess latest(PendingAccess other) {
+      return other.lastAccessedAt.isAfter(lastAccessedAt) ? other : this;
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.sprint.mission.discodeit.security.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * http_sessions 테이블의 한 행. 속성은 직렬화된 그대로 들고 있다가 세션을 만들 때 역직렬화한다.
+ *
+ * @param expired 동시 세션 제어나 권한 변경으로 만료 표시된 세션 (시간 만료와는 별개)
+ */
+record SessionRow(
+    String id,
+    String principalName,
+    UUID userId,
+    Instant createdAt,
+    Instant lastAccessedAt,
+    Duration maxInactiveInterval,
+    Instant expiresAt,
+    boolean expired,
+    byte[] attributes
+) {
+
+}
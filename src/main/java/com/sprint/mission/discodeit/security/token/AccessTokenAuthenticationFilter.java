@@ -0,0 +1,69 @@
+package com.sprint.mission.discodeit.security.token;
+
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * {@code Authorization: Bearer <액세스 토큰>}으로 인증한다. 인증 주체는 토큰에 담긴 값으로만 만들고 DB를
+ * 조회하지 않는다. 토큰이 없으면 그대로 넘기고, 있는데 올바르지 않으면 바로 401로 응답한다.
+ * <p>
+ * 인증 객체의 credentials에는 {@link AccessTokenClaims}를 두어 로그아웃 시 폐기할 토큰을 찾는다.
+ */
+@RequiredArgsConstructor
+public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
+
+  private static final String BEARER_PREFIX = "Bearer ";
+
+  private final TokenService tokenService;
+  private final GrantedAuthoritiesMapper authoritiesMapper;
+  private final AuthenticationEntryPoint authenticationEntryPoint;
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+    if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0,
+        BEARER_PREFIX.length())) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    AccessTokenClaims claims;
+    try {
+      claims = tokenService.authenticate(header.substring(BEARER_PREFIX.length()).trim());
+    } catch (AuthenticationException e) {
+      SecurityContextHolder.clearContext();
+      authenticationEntryPoint.commence(request, response, e);
+      return;
+    }
+
+    UserDto userDto = new UserDto(claims.userId(), claims.username(), claims.email(), null, null,
+        claims.role());
+    DiscodeitUserDetails principal = new DiscodeitUserDetails(userDto, null);
+    Collection<? extends GrantedAuthority> authorities =
+        authoritiesMapper.mapAuthorities(principal.getAuthorities());
+
+    SecurityContext context = SecurityContextHolder.createEmptyContext();
+    context.setAuthentication(
+        UsernamePasswordAuthenticationToken.authenticated(principal, claims, authorities));
+    SecurityContextHolder.setContext(context);
+
+    filterChain.doFilter(request, response);
+  }
+}
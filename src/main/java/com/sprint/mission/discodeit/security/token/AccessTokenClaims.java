@@ -0,0 +1,26 @@
+package com.sprint.mission.discodeit.security.token;
+
+import com.sprint.mission.discodeit.entity.Role;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 액세스 토큰에 담는 값. 요청마다 DB를 보지 않도록 인증에 필요한 사용자 정보를 모두 싣는다.
+ *
+ * @param version  발급 당시 사용자의 토큰 버전. 권한이 바뀌면 이보다 낮은 버전의 토큰은 거부된다.
+ * @param familyId 같은 로그인에서 이어진 리프레시 토큰 계열. 로그아웃하면 계열 전체를 폐기한다.
+ * @param tokenId  토큰마다 다른 값(jti). 로그아웃한 토큰을 만료 전까지 거부하는 데 쓴다.
+ */
+public record AccessTokenClaims(
+    UUID userId,
+    String username,
+    String email,
+    Role role,
+    long version,
+    UUID familyId,
+    String tokenId,
+    Instant issuedAt,
+    Instant expiresAt
+) {
+
+}
@@ -0,0 +1,133 @@
+package com.sprint.mission.discodeit.security.token;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.entity.Role;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+
+/**
+ * HS256으로 서명한 JWT 형식의 액세스 토큰을 만들고 검증한다.
+ * <p>
+ * 헤더는 고정값만 받으므로 {@code alg}를 바꾼 토큰(none 등)은 서명 검증 단계에서 거부된다.
+ */
+public class AccessTokenCodec {
+
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+  private static final String HEADER = ENCODER.encodeToString(
+      "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+  private final SecretKeySpec key;
+  private final String issuer;
+  private final ObjectMapper objectMapper;
+  // Mac은 스레드 안전하지 않고 매번 만들기엔 요청마다 부르는 경로라 스레드별로 둔다.
+  private final ThreadLocal<Mac> macs;
+
+  public AccessTokenCodec(byte[] secret, String issuer, ObjectMapper objectMapper) {
+    if (secret.length < 32) {
+      throw new IllegalArgumentException("토큰 서명 키는 32바이트 이상이어야 합니다.");
+    }
+    this.key = new SecretKeySpec(secret, ALGORITHM);
+    this.issuer = issuer;
+    this.objectMapper = objectMapper;
+    this.macs = ThreadLocal.withInitial(this::newMac);
+  }
+
+  public String encode(AccessTokenClaims claims) {
+    Map<String, Object> payload = new LinkedHashMap<>();
+    payload.put("iss", issuer);
+    payload.put("sub", claims.userId().toString());
+    payload.put("name", claims.username());
+    payload.put("email", claims.email());
+    payload.put("role", claims.role().name());
+    payload.put("ver", claims.version());
+    payload.put("sid", claims.familyId().toString());
+    payload.put("jti", claims.tokenId());
+    payload.put("iat", claims.issuedAt().getEpochSecond());
+    payload.put("exp", claims.expiresAt().getEpochSecond());
+
+    String signingInput;
+    try {
+      signingInput = HEADER + "." + ENCODER.encodeToString(objectMapper.writeValueAsBytes(payload));
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return signingInput + "." + ENCODER.encodeToString(sign(signingInput));
+  }
+
+  /**
+   * @throws BadCredentialsException     형식이나 서명이 올바르지 않은 경우
+   * @throws CredentialsExpiredException 만료된 경우
+   */
+  public AccessTokenClaims decode(String token, Instant now) {
+    int first = token.indexOf('.');
+    int last = token.lastIndexOf('.');
+    if (first < 0 || first == last) {
+      throw new BadCredentialsException("형식이 올바르지 않은 토큰입니다.");
+    }
+    String signingInput = token.substring(0, last);
+    byte[] signature;
+    try {
+      signature = DECODER.decode(token.substring(last + 1));
+    } catch (IllegalArgumentException e) {
+      throw new BadCredentialsException("형식이 올바르지 않은 토큰입니다.", e);
+    }
+    if (!MessageDigest.isEqual(sign(signingInput), signature)
+        || !HEADER.equals(token.substring(0, first))) {
+      throw new BadCredentialsException("서명이 올바르지 않은 토큰입니다.");
+    }
+
+    AccessTokenClaims claims;
+    try {
+      JsonNode payload = objectMapper.readTree(DECODER.decode(token.substring(first + 1, last)));
+      if (!issuer.equals(payload.path("iss").asText())) {
+        throw new BadCredentialsException("발급자가 올바르지 않은 토큰입니다.");
+      }
+      claims = new AccessTokenClaims(
+          UUID.fromString(payload.required("sub").asText()),
+          payload.required("name").asText(),
+          payload.required("email").asText(),
+          Role.valueOf(payload.required("role").asText()),
+          payload.required("ver").asLong(),
+          UUID.fromString(payload.required("sid").asText()),
+          payload.required("jti").asText(),
+          Instant.ofEpochSecond(payload.required("iat").asLong()),
+          Instant.ofEpochSecond(payload.required("exp").asLong())
+      );
+    } catch (IOException | IllegalArgumentException e) {
+      throw new BadCredentialsException("형식이 올바르지 않은 토큰입니다.", e);
+    }
+
+    if (!now.isBefore(claims.expiresAt())) {
+      throw new CredentialsExpiredException("만료된 토큰입니다.");
+    }
+    return claims;
+  }
+
+  private byte[] sign(String signingInput) {
+    return macs.get().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  private Mac newMac() {
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(key);
+      return mac;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
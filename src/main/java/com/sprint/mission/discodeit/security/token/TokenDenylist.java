@@ -0,0 +1,97 @@
+package com.sprint.mission.discodeit.security.token;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 만료 전에 거부해야 하는 액세스 토큰 목록. 액세스 토큰은 수명이 짧으므로 항목도 그 토큰이 만료될 때까지만
+ * 보관하면 되고, 그래서 메모리에 둘 수 있다.
+ * <p>
+ * 로그아웃한 토큰은 jti로, 권한이 바뀐 사용자의 토큰은 사용자별 최소 버전으로 거부한다. 최소 버전은 변경 이전에
+ * 발급된 토큰이 모두 만료될 때(액세스 토큰 수명)까지만 유지한다. 인스턴스마다 따로 가지므로 다른 인스턴스에서
+ * 일어난 로그아웃·권한 변경은 이 인스턴스에서 액세스 토큰 수명만큼 늦게 반영될 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.auth.mode", havingValue = "token")
+public class TokenDenylist {
+
+  private final Duration accessTokenTtl;
+  private final Clock clock;
+
+  // jti -> 토큰 만료 시각
+  private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+  private final Map<UUID, VersionFloor> versionFloors = new ConcurrentHashMap<>();
+
+  @Autowired
+  public TokenDenylist(
+      @Value("${security.token.access-token-ttl:PT5M}") Duration accessTokenTtl,
+      MeterRegistry meterRegistry
+  ) {
+    this(accessTokenTtl, Clock.systemUTC(), meterRegistry);
+  }
+
+  TokenDenylist(Duration accessTokenTtl, Clock clock, MeterRegistry meterRegistry) {
+    this.accessTokenTtl = accessTokenTtl;
+    this.clock = clock;
+    Gauge.builder("discodeit.security.token.denylist.size", this, TokenDenylist::size)
+        .description("만료 전에 거부하도록 보관 중인 액세스 토큰·사용자 수")
+        .register(meterRegistry);
+  }
+
+  public void revoke(String tokenId, Instant expiresAt) {
+    revokedTokens.put(tokenId, expiresAt);
+  }
+
+  /**
+   * {@code version}보다 낮은 버전으로 발급된 사용자의 액세스 토큰을 거부한다.
+   */
+  public void raiseMinimumVersion(UUID userId, long version) {
+    Instant expiresAt = clock.instant().plus(accessTokenTtl);
+    versionFloors.merge(userId, new VersionFloor(version, expiresAt),
+        (current, raised) -> current.version() > raised.version() ? current : raised);
+  }
+
+  public boolean isDenied(AccessTokenClaims claims) {
+    if (revokedTokens.containsKey(claims.tokenId())) {
+      return true;
+    }
+    VersionFloor floor = versionFloors.get(claims.userId());
+    return floor != null && claims.version() < floor.version();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(TokenVersionChangedEvent event) {
+    raiseMinimumVersion(event.userId(), event.version());
+  }
+
+  @Scheduled(fixedDelayString = "${security.token.denylist-purge-interval:PT1M}")
+  public void purge() {
+    Instant now = clock.instant();
+    int before = size();
+    revokedTokens.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    versionFloors.values().removeIf(floor -> !floor.expiresAt().isAfter(now));
+    log.debug("토큰 거부 목록 정리: {} -> {}", before, size());
+  }
+
+  int size() {
+    return revokedTokens.size() + versionFloors.size();
+  }
+
+  private record VersionFloor(long version, Instant expiresAt) {
+
+  }
+}
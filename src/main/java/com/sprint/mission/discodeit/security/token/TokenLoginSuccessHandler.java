@@ -0,0 +1,33 @@
+package com.sprint.mission.discodeit.security.token;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.dto.response.TokenResponse;
+import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+
+/**
+ * 토큰 인증 모드의 로그인 응답. 세션 대신 액세스·리프레시 토큰을 본문으로 내려준다.
+ */
+@RequiredArgsConstructor
+public class TokenLoginSuccessHandler implements AuthenticationSuccessHandler {
+
+  private final ObjectMapper objectMapper;
+  private final TokenService tokenService;
+
+  @Override
+  public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
+      Authentication authentication) throws IOException, ServletException {
+    DiscodeitUserDetails principal = (DiscodeitUserDetails) authentication.getPrincipal();
+    TokenResponse tokenResponse = tokenService.issue(principal.getUserDto().id());
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.getWriter().write(objectMapper.writeValueAsString(tokenResponse));
+  }
+}
@@ -0,0 +1,22 @@
+package com.sprint.mission.discodeit.security.token;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+
+@RequiredArgsConstructor
+public class TokenLogoutHandler implements LogoutHandler {
+
+  private final TokenService tokenService;
+
+  @Override
+  public void logout(HttpServletRequest request, HttpServletResponse response,
+      Authentication authentication) {
+    if (authentication != null
+        && authentication.getCredentials() instanceof AccessTokenClaims claims) {
+      tokenService.revoke(claims);
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package com.sprint.mission.discodeit.security.token;
+
+import com.sprint.mission.discodeit.dto.response.TokenResponse;
+import com.sprint.mission.discodeit.entity.RefreshToken;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.exception.user.InvalidRefreshTokenException;
+import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
+import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.repository.RefreshTokenRepository;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 토큰 인증 모드에서 액세스·리프레시 토큰을 발급하고 검증한다.
+ * <p>
+ * 액세스 토큰 검증은 서명과 {@link TokenDenylist}만 보고 DB에 가지 않는다. DB는 로그인과 갱신(리프레시)
+ * 때만 쓰며, 갱신할 때 사용자를 다시 읽어 바뀐 권한과 토큰 버전을 새 액세스 토큰에 싣는다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "security.auth.mode", havingValue = "token")
+public class TokenService {
+
+  public static final String TOKEN_TYPE = "Bearer";
+  private static final int REFRESH_SECRET_BYTES = 32;
+
+  private final AccessTokenCodec accessTokenCodec;
+  private final TokenDenylist tokenDenylist;
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final UserRepository userRepository;
+  private final UserMapper userMapper;
+  private final Duration accessTokenTtl;
+  private final Duration refreshTokenTtl;
+  private final Clock clock;
+  private final SecureRandom random = new SecureRandom();
+
+  @Autowired
+  public TokenService(
+      AccessTokenCodec accessTokenCodec,
+      TokenDenylist tokenDenylist,
+      RefreshTokenRepository refreshTokenRepository,
+      UserRepository userRepository,
+      UserMapper userMapper,
+      @Value("${security.token.access-token-ttl:PT5M}") Duration accessTokenTtl,
+      @Value("${security.token.refresh-token-ttl:P14D}") Duration refreshTokenTtl
+  ) {
+    this(accessTokenCodec, tokenDenylist, refreshTokenRepository, userRepository, userMapper,
+        accessTokenTtl, refreshTokenTtl, Clock.systemUTC());
+  }
+
+  TokenService(AccessTokenCodec accessTokenCodec, TokenDenylist tokenDenylist,
+      RefreshTokenRepository refreshTokenRepository, UserRepository userRepository,
+      UserMapper userMapper, Duration accessTokenTtl, Duration refreshTokenTtl, Clock clock) {
+    this.accessTokenCodec = accessTokenCodec;
+    this.tokenDenylist = tokenDenylist;
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.userRepository = userRepository;
+    this.userMapper = userMapper;
+    this.accessTokenTtl = accessTokenTtl;
+    this.refreshTokenTtl = refreshTokenTtl;
+    this.clock = clock;
+  }
+
+  /**
+   * 로그인 성공 시 새 토큰 계열을 시작한다.
+   */
+  @Transactional
+  public TokenResponse issue(UUID userId) {
+    User user = userRepository.findById(userId)
+        .orElseThrow(() -> UserNotFoundException.withId(userId));
+    return issue(user, UUID.randomUUID());
+  }
+
+  /**
+   * 리프레시 토큰을 한 번 쓰고 같은 계열의 새 토큰 쌍으로 바꾼다. 이미 쓴 토큰이 다시 오면 계열 전체를
+   * 폐기한다. 폐기는 예외를 던진 뒤에도 커밋되어야 하므로 이 예외로는 롤백하지 않는다.
+   */
+  @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+  public TokenResponse refresh(String refreshToken) {
+    int separator = refreshToken.indexOf('.');
+    UUID tokenId;
+    try {
+      tokenId = UUID.fromString(refreshToken.substring(0, Math.max(separator, 0)));
+    } catch (IllegalArgumentException e) {
+      throw InvalidRefreshTokenException.malformed();
+    }
+    String secret = refreshToken.substring(separator + 1);
+
+    RefreshToken stored = refreshTokenRepository.findById(tokenId)
+        .orElseThrow(InvalidRefreshTokenException::notFound);
+    if (!MessageDigest.isEqual(hash(secret).getBytes(StandardCharsets.US_ASCII),
+        stored.getTokenHash().getBytes(StandardCharsets.US_ASCII))) {
+      throw InvalidRefreshTokenException.notFound();
+    }
+    Instant now = clock.instant();
+    if (stored.isExpired(now)) {
+      throw InvalidRefreshTokenException.expired();
+    }
+    if (stored.isRevoked() || refreshTokenRepository.markUsed(tokenId, now) == 0) {
+      int revoked = refreshTokenRepository.revokeFamily(stored.getFamilyId());
+      log.warn("리프레시 토큰 재사용 감지, 계열 폐기: userId={}, familyId={}, revoked={}",
+          stored.getUserId(), stored.getFamilyId(), revoked);
+      throw InvalidRefreshTokenException.reused();
+    }
+
+    User user = userRepository.findById(stored.getUserId())
+        .orElseThrow(InvalidRefreshTokenException::notFound);
+    return issue(user, stored.getFamilyId());
+  }
+
+  /**
+   * 액세스 토큰을 검증한다. DB에 가지 않는다.
+   *
+   * @throws org.springframework.security.core.AuthenticationException 올바르지 않거나 만료·폐기된 경우
+   */
+  public AccessTokenClaims authenticate(String accessToken) {
+    AccessTokenClaims claims = accessTokenCodec.decode(accessToken, clock.instant());
+    if (tokenDenylist.isDenied(claims)) {
+      throw new BadCredentialsException("폐기된 토큰입니다.");
+    }
+    return claims;
+  }
+
+  /**
+   * 로그아웃. 지금 액세스 토큰은 만료 때까지 거부하고, 같은 로그인에서 이어진 리프레시 토큰은 모두 폐기한다.
+   */
+  @Transactional
+  public void revoke(AccessTokenClaims claims) {
+    tokenDenylist.revoke(claims.tokenId(), claims.expiresAt());
+    refreshTokenRepository.revokeFamily(claims.familyId());
+    log.debug("토큰 폐기: userId={}, familyId={}", claims.userId(), claims.familyId());
+  }
+
+  @Scheduled(fixedDelayString = "${security.token.refresh-token-purge-interval:PT1H}")
+  @Transactional
+  public void purgeExpiredRefreshTokens() {
+    int deleted = refreshTokenRepository.deleteExpired(clock.instant());
+    if (deleted > 0) {
+      log.info("만료된 리프레시 토큰 정리: {}건", deleted);
+    }
+  }
+
+  private TokenResponse issue(User user, UUID familyId) {
+    Instant now = clock.instant();
+    AccessTokenClaims claims = new AccessTokenClaims(user.getId(), user.getUsername(),
+        user.getEmail(), user.getRole(), user.getTokenVersion(), familyId,
+        UUID.randomUUID().toString(), now, now.plus(accessTokenTtl));
+
+    byte[] secretBytes = new byte[REFRESH_SECRET_BYTES];
+    random.nextBytes(secretBytes);
+    String secret = Base64.getUrlEncoder().withoutPadding().encodeToString(secretBytes);
+    RefreshToken refreshToken = refreshTokenRepository.save(
+        new RefreshToken(user.getId(), familyId, hash(secret), now.plus(refreshTokenTtl)));
+
+    return new TokenResponse(accessTokenCodec.encode(claims), TOKEN_TYPE,
+        accessTokenTtl.toSeconds(), refreshToken.getId() + "." + secret,
+        refreshTokenTtl.toSeconds(), userMapper.toDto(user));
+  }
+
+  private static String hash(String secret) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(secret.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
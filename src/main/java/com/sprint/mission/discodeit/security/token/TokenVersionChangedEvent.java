@@ -0,0 +1,14 @@
+package com.sprint.mission.discodeit.security.token;
+
+import java.util.UUID;
+
+/**
+ * 사용자의 토큰 버전이 올라갔음을 알린다. 커밋 후 {@link TokenDenylist}가 그보다 낮은 버전의 액세스 토큰을
+ * 거부하기 시작한다.
+ */
+public record TokenVersionChangedEvent(
+    UUID userId,
+    long version
+) {
+
+}
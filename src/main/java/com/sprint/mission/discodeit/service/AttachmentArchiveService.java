@@ -0,0 +1,12 @@
+package com.sprint.mission.discodeit.service;
+
+import com.sprint.mission.discodeit.dto.data.AttachmentArchive;
+import java.time.Instant;
+import java.util.UUID;
+
+public interface AttachmentArchiveService {
+
+  AttachmentArchive findByMessageId(UUID messageId);
+
+  AttachmentArchive findByChannelId(UUID channelId, Instant from, Instant to);
+}
@@ -1,7 +1,9 @@
 package com.sprint.mission.discodeit.service;
 
+import com.sprint.mission.discodeit.dto.data.BinaryContentDownload;
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.request.BinaryContentHashCreateRequest;
 import java.util.List;
 import java.util.UUID;
 
@@ -9,8 +11,14 @@ public interface BinaryContentService {
 
   BinaryContentDto create(BinaryContentCreateRequest request);
 
+  BinaryContentDto createFromHash(String hash, BinaryContentHashCreateRequest request);
+
+  boolean existsByHash(String hash);
+
   BinaryContentDto find(UUID binaryContentId);
 
+  BinaryContentDownload findDownload(UUID binaryContentId);
+
   List<BinaryContentDto> findAllByIdIn(List<UUID> binaryContentIds);
 
   void delete(UUID binaryContentId);
@@ -0,0 +1,26 @@
+package com.sprint.mission.discodeit.service;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.BinaryContentUploadDto;
+import com.sprint.mission.discodeit.dto.data.ResumableUploadDto;
+import com.sprint.mission.discodeit.dto.request.BinaryContentUploadCreateRequest;
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface BinaryContentUploadService {
+
+  BinaryContentUploadDto create(BinaryContentUploadCreateRequest request, UUID ownerId);
+
+  void receive(UUID uploadId, String token, String contentType, InputStream inputStream);
+
+  ResumableUploadDto createResumable(BinaryContentUploadCreateRequest request, UUID ownerId);
+
+  ResumableUploadDto findResumable(UUID uploadId, UUID requesterId);
+
+  ResumableUploadDto appendChunk(UUID uploadId, UUID requesterId, long offset, long length,
+      InputStream inputStream);
+
+  void abort(UUID uploadId, UUID requesterId);
+
+  BinaryContentDto complete(UUID uploadId, UUID requesterId);
+}
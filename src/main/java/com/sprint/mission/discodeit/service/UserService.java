@@ -17,6 +17,11 @@ public interface UserService {
 
   List<UserDto> findAll();
 
+  /**
+   * 사용자명(설정에 따라 이메일도)이 검색어로 시작하거나 비슷한 사용자를 관련도 순으로 최대 {@code limit}명 찾는다.
+   */
+  List<UserDto> search(String query, int limit);
+
   UserDto update(UUID userId, UserUpdateRequest userUpdateRequest,
       Optional<BinaryContentCreateRequest> profileCreateRequest);
 
@@ -0,0 +1,64 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.dto.data.AttachmentArchive;
+import com.sprint.mission.discodeit.dto.data.AttachmentArchiveEntry;
+import com.sprint.mission.discodeit.exception.channel.ChannelNotFoundException;
+import com.sprint.mission.discodeit.exception.message.AttachmentArchiveTooLargeException;
+import com.sprint.mission.discodeit.exception.message.MessageNotFoundException;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.service.AttachmentArchiveService;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BasicAttachmentArchiveService implements AttachmentArchiveService {
+
+  private final MessageRepository messageRepository;
+  private final ChannelRepository channelRepository;
+
+  @Value("${discodeit.storage.archive.max-entries:1000}")
+  private int maxEntries;
+
+  @Transactional(readOnly = true)
+  @Override
+  public AttachmentArchive findByMessageId(UUID messageId) {
+    log.debug("메시지 첨부 파일 묶음 조회 시작: messageId={}", messageId);
+    if (!messageRepository.existsById(messageId)) {
+      throw MessageNotFoundException.withId(messageId);
+    }
+    List<AttachmentArchiveEntry> entries =
+        messageRepository.findAttachmentArchiveEntriesByMessageId(messageId);
+    log.info("메시지 첨부 파일 묶음 조회 완료: messageId={}, count={}", messageId, entries.size());
+    return new AttachmentArchive("message-" + messageId + "-attachments.zip", entries, false);
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public AttachmentArchive findByChannelId(UUID channelId, Instant from, Instant to) {
+    log.debug("채널 첨부 파일 묶음 조회 시작: channelId={}, from={}, to={}", channelId, from, to);
+    if (!channelRepository.existsById(channelId)) {
+      throw ChannelNotFoundException.withId(channelId);
+    }
+    List<AttachmentArchiveEntry> entries =
+        messageRepository.findAttachmentArchiveEntriesByChannelId(channelId,
+        Optional.ofNullable(from).orElse(Instant.EPOCH),
+        Optional.ofNullable(to).orElse(Instant.now()),
+        PageRequest.of(0, maxEntries + 1));
+    if (entries.size() > maxEntries) {
+      throw AttachmentArchiveTooLargeException.withChannelId(channelId, maxEntries);
+    }
+    log.info("채널 첨부 파일 묶음 조회 완료: channelId={}, count={}", channelId, entries.size());
+    return new AttachmentArchive("channel-" + channelId + "-attachments.zip", entries, true);
+  }
+}
@@ -9,15 +9,17 @@ import com.sprint.mission.discodeit.exception.user.InvalidCredentialsException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.UserMapper;
 import com.sprint.mission.discodeit.repository.UserRepository;
-import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
+import com.sprint.mission.discodeit.security.UserDetailsChangedEvent;
+import com.sprint.mission.discodeit.security.UserSessionRegistry;
+import com.sprint.mission.discodeit.security.token.TokenVersionChangedEvent;
 import com.sprint.mission.discodeit.service.AuthService;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.session.SessionInformation;
-import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,9 +37,10 @@ public class BasicAuthService implements AuthService {
   @Value("${discodeit.admin.email}")
   private String email;
   private final UserRepository userRepository;
-  private final SessionRegistry sessionRegistry;
+  private final UserSessionRegistry sessionRegistry;
   private final UserMapper userMapper;
   private final PasswordEncoder passwordEncoder;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   @Override
@@ -83,16 +86,17 @@ public class BasicAuthService implements AuthService {
     UUID userId = request.userId();
     User user = userRepository.findById(userId)
         .orElseThrow(() -> UserNotFoundException.withId(userId));
+    long previousVersion = user.getTokenVersion();
     user.updateRole(request.newRole());
+    eventPublisher.publishEvent(new UserDetailsChangedEvent(userId));
+    eventPublisher.publishEvent(new UserChangedEvent(userId));
+    if (user.getTokenVersion() != previousVersion) {
+      eventPublisher.publishEvent(new TokenVersionChangedEvent(userId, user.getTokenVersion()));
+    }
 
-    sessionRegistry.getAllPrincipals().stream()
-        .filter(principal -> ((DiscodeitUserDetails) principal).getUserDto().id().equals(userId))
-        .findFirst()
-        .ifPresent(principal -> {
-          List<SessionInformation> activeSessions = sessionRegistry.getAllSessions(principal, false);
-          log.debug("Active sessions: {}", activeSessions.size());
-          activeSessions.forEach(SessionInformation::expireNow);
-        });
+    List<SessionInformation> activeSessions = sessionRegistry.getAllSessions(userId, false);
+    log.debug("Active sessions: {}", activeSessions.size());
+    activeSessions.forEach(SessionInformation::expireNow);
 
     return userMapper.toDto(user);
   }
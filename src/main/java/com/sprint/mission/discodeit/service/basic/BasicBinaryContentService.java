@@ -1,13 +1,17 @@
 package com.sprint.mission.discodeit.service.basic;
 
+import com.sprint.mission.discodeit.dto.data.BinaryContentDownload;
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.request.BinaryContentHashCreateRequest;
 import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
 import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentNotFoundException;
+import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentNotReadyException;
 import com.sprint.mission.discodeit.mapper.BinaryContentMapper;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.service.BinaryContentService;
-import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.BinaryContentBlobStore;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -22,7 +26,7 @@ public class BasicBinaryContentService implements BinaryContentService {
 
   private final BinaryContentRepository binaryContentRepository;
   private final BinaryContentMapper binaryContentMapper;
-  private final BinaryContentStorage binaryContentStorage;
+  private final BinaryContentBlobStore binaryContentBlobStore;
 
   @Transactional
   @Override
@@ -33,19 +37,28 @@ public class BasicBinaryContentService implements BinaryContentService {
     String fileName = request.fileName();
     byte[] bytes = request.bytes();
     String contentType = request.contentType();
-    BinaryContent binaryContent = new BinaryContent(
-        fileName,
-        (long) bytes.length,
-        contentType
-    );
-    binaryContentRepository.save(binaryContent);
-    binaryContentStorage.put(binaryContent.getId(), bytes);
+    BinaryContent binaryContent = binaryContentBlobStore.create(fileName, contentType, bytes);
 
     log.info("바이너리 컨텐츠 생성 완료: id={}, fileName={}, size={}", 
         binaryContent.getId(), fileName, bytes.length);
     return binaryContentMapper.toDto(binaryContent);
   }
 
+  @Transactional
+  @Override
+  public BinaryContentDto createFromHash(String hash, BinaryContentHashCreateRequest request) {
+    log.debug("해시 기반 바이너리 컨텐츠 생성 시작: hash={}, fileName={}", hash, request.fileName());
+    BinaryContent binaryContent = binaryContentBlobStore.createFromHash(hash, request.fileName(),
+        request.contentType());
+    log.info("해시 기반 바이너리 컨텐츠 생성 완료: id={}, hash={}", binaryContent.getId(), hash);
+    return binaryContentMapper.toDto(binaryContent);
+  }
+
+  @Override
+  public boolean existsByHash(String hash) {
+    return binaryContentBlobStore.exists(hash);
+  }
+
   @Override
   public BinaryContentDto find(UUID binaryContentId) {
     log.debug("바이너리 컨텐츠 조회 시작: id={}", binaryContentId);
@@ -57,6 +70,18 @@ public class BasicBinaryContentService implements BinaryContentService {
     return dto;
   }
 
+  @Transactional(readOnly = true)
+  @Override
+  public BinaryContentDownload findDownload(UUID binaryContentId) {
+    BinaryContent binaryContent = binaryContentRepository.findById(binaryContentId)
+        .orElseThrow(() -> BinaryContentNotFoundException.withId(binaryContentId));
+    if (binaryContent.getStatus() != BinaryContentStatus.READY) {
+      throw BinaryContentNotReadyException.withStatus(binaryContentId, binaryContent.getStatus());
+    }
+    return new BinaryContentDownload(binaryContentMapper.toDto(binaryContent),
+        binaryContent.getStorageKey(), binaryContent.getContentEncoding());
+  }
+
   @Override
   public List<BinaryContentDto> findAllByIdIn(List<UUID> binaryContentIds) {
     log.debug("바이너리 컨텐츠 목록 조회 시작: ids={}", binaryContentIds);
@@ -74,6 +99,7 @@ public class BasicBinaryContentService implements BinaryContentService {
     if (!binaryContentRepository.existsById(binaryContentId)) {
       throw BinaryContentNotFoundException.withId(binaryContentId);
     }
+    binaryContentBlobStore.releaseByBinaryContentId(binaryContentId);
     binaryContentRepository.deleteById(binaryContentId);
     log.info("바이너리 컨텐츠 삭제 완료: id={}", binaryContentId);
   }
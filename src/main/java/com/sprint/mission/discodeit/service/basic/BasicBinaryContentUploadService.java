@@ -0,0 +1,335 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.BinaryContentUploadDto;
+import com.sprint.mission.discodeit.dto.data.ResumableUploadDto;
+import com.sprint.mission.discodeit.dto.request.BinaryContentUploadCreateRequest;
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.BinaryContentUpload;
+import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentUploadExpiredException;
+import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentUploadNotFoundException;
+import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentUploadOffsetMismatchException;
+import com.sprint.mission.discodeit.exception.binarycontent.InvalidBinaryContentUploadException;
+import com.sprint.mission.discodeit.mapper.BinaryContentMapper;
+import com.sprint.mission.discodeit.repository.BinaryContentUploadRepository;
+import com.sprint.mission.discodeit.service.BinaryContentUploadService;
+import com.sprint.mission.discodeit.storage.BinaryContentBlobStore;
+import com.sprint.mission.discodeit.storage.upload.DirectUploadStorage;
+import com.sprint.mission.discodeit.storage.upload.DirectUploadTarget;
+import com.sprint.mission.discodeit.storage.upload.ResumableUploadStorage;
+import com.sprint.mission.discodeit.storage.upload.StagedObject;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 첨부 파일 바이트를 애플리케이션 서버가 중계하지 않도록, 클라이언트에게 저장소에 직접 올릴 수 있는 URL을 발급하고 업로드가 끝나면
+ * 크기와 해시를 확인해 첨부 파일을 만든다.
+ * <p>
+ * 끊기기 쉬운 네트워크를 위한 이어 올리기(resumable) 업로드도 같은 완료 과정을 거친다. 청크는 받은 위치(offset)를 맞춰 보내야
+ * 하며, 끊기면 현재 위치를 조회해 그 뒤부터 다시 보낸다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BasicBinaryContentUploadService implements BinaryContentUploadService {
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+  private static final int TOKEN_BYTES = 32;
+  private static final int PURGE_BATCH_SIZE = 100;
+
+  private final BinaryContentUploadRepository binaryContentUploadRepository;
+  private final BinaryContentBlobStore binaryContentBlobStore;
+  private final BinaryContentMapper binaryContentMapper;
+  private final DirectUploadStorage directUploadStorage;
+  private final ResumableUploadStorage resumableUploadStorage;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${discodeit.storage.upload.direct.max-size:100MB}")
+  private DataSize maxSize;
+
+  @Value("${discodeit.storage.upload.direct.expiration:PT15M}")
+  private Duration expiration;
+
+  @Value("${discodeit.storage.upload.resumable.max-size:2GB}")
+  private DataSize resumableMaxSize;
+
+  @Value("${discodeit.storage.upload.resumable.min-chunk-size:5MB}")
+  private DataSize minChunkSize;
+
+  @Value("${discodeit.storage.upload.resumable.max-chunk-size:64MB}")
+  private DataSize maxChunkSize;
+
+  @Value("${discodeit.storage.upload.resumable.expiration:PT12H}")
+  private Duration resumableExpiration;
+
+  @Transactional
+  @Override
+  public BinaryContentUploadDto create(BinaryContentUploadCreateRequest request, UUID ownerId) {
+    log.debug("직접 업로드 생성 시작: request={}, ownerId={}", request, ownerId);
+    if (request.size() > maxSize.toBytes()) {
+      throw InvalidBinaryContentUploadException.withSize(request.size(), maxSize.toBytes());
+    }
+    validateContentType(request.contentType());
+
+    String token = newToken();
+    Instant expiresAt = Instant.now().plus(expiration);
+    String hash = request.sha256().toLowerCase(Locale.ROOT);
+    BinaryContentUpload upload = binaryContentUploadRepository.save(new BinaryContentUpload(
+        request.fileName(), request.contentType(), request.size(), hash, sha256(token),
+        expiresAt, ownerId));
+
+    DirectUploadTarget target = directUploadStorage.createTarget(upload.getId(),
+        upload.getContentType(), upload.getSize(), hash, token, expiresAt);
+    log.info("직접 업로드 생성 완료: id={}, size={}, expiresAt={}", upload.getId(), upload.getSize(),
+        expiresAt);
+    return new BinaryContentUploadDto(upload.getId(), target.url(), target.method(),
+        target.headers(), expiresAt);
+  }
+
+  /**
+   * 로컬 저장소의 업로드 URL로 들어온 본문을 쓴다. 트랜잭션 없이 검증만 하고 스트리밍하므로 업로드 동안 DB 커넥션을 잡지 않는다.
+   * 업로드 URL이 저장소를 가리키는 모드(S3)에서는 이 URL을 발급하지 않으므로 없는 업로드로 응답한다.
+   */
+  @Override
+  public void receive(UUID uploadId, String token, String contentType, InputStream inputStream) {
+    if (!directUploadStorage.acceptsUploads()) {
+      throw BinaryContentUploadNotFoundException.withId(uploadId);
+    }
+    BinaryContentUpload upload = binaryContentUploadRepository.findById(uploadId)
+        .filter(found -> token != null && found.getTokenHash() != null && MessageDigest.isEqual(
+            found.getTokenHash().getBytes(StandardCharsets.US_ASCII),
+            sha256(token).getBytes(StandardCharsets.US_ASCII)))
+        .orElseThrow(() -> BinaryContentUploadNotFoundException.withId(uploadId));
+    if (upload.isExpired(Instant.now())) {
+      throw BinaryContentUploadExpiredException.withId(uploadId);
+    }
+    if (!upload.getContentType().equals(contentType)) {
+      throw InvalidBinaryContentUploadException.withReason(uploadId, "contentType");
+    }
+
+    try {
+      directUploadStorage.receive(uploadId, inputStream, upload.getSize());
+    } catch (IllegalArgumentException e) {
+      throw InvalidBinaryContentUploadException.withReason(uploadId, "size");
+    }
+    log.info("직접 업로드 수신 완료: id={}", uploadId);
+  }
+
+  /**
+   * 저장소 측 세션을 여는 호출(S3 CreateMultipartUpload)은 DB 커넥션을 잡지 않고 한다. 업로드 행을 먼저 저장해 id를 얻고, 세션을
+   * 열지 못하면 행을 지운다. 세션 id를 기록하지 못하면 열었던 세션을 취소한다(만료 정리는 세션 id 없이는 취소할 수 없다).
+   */
+  @Override
+  public ResumableUploadDto createResumable(BinaryContentUploadCreateRequest request,
+      UUID ownerId) {
+    log.debug("이어 올리기 업로드 생성 시작: request={}, ownerId={}", request, ownerId);
+    if (request.size() > resumableMaxSize.toBytes()) {
+      throw InvalidBinaryContentUploadException.withSize(request.size(),
+          resumableMaxSize.toBytes());
+    }
+    validateContentType(request.contentType());
+
+    BinaryContentUpload upload = binaryContentUploadRepository.save(new BinaryContentUpload(
+        request.fileName(), request.contentType(), request.size(),
+        request.sha256().toLowerCase(Locale.ROOT), Instant.now().plus(resumableExpiration),
+        ownerId));
+    UUID uploadId = upload.getId();
+    String multipartId;
+    try {
+      multipartId = resumableUploadStorage.begin(uploadId, upload.getContentType());
+    } catch (RuntimeException e) {
+      binaryContentUploadRepository.deleteById(uploadId);
+      throw e;
+    }
+    if (multipartId != null) {
+      try {
+        binaryContentUploadRepository.startMultipart(uploadId, multipartId);
+      } catch (RuntimeException e) {
+        resumableUploadStorage.abort(uploadId, multipartId);
+        throw e;
+      }
+      upload.startMultipart(multipartId);
+    }
+    log.info("이어 올리기 업로드 생성 완료: id={}, size={}", upload.getId(), upload.getSize());
+    return toResumableDto(upload);
+  }
+
+  @Override
+  public ResumableUploadDto findResumable(UUID uploadId, UUID requesterId) {
+    return toResumableDto(getResumable(uploadId, requesterId));
+  }
+
+  /**
+   * 트랜잭션 없이 청크를 저장소로 흘려 보낸 뒤, 받은 위치만 조건부로 갱신한다. 청크를 받는 동안 DB 커넥션을 잡지 않는다.
+   */
+  @Override
+  public ResumableUploadDto appendChunk(UUID uploadId, UUID requesterId, long offset,
+      long length, InputStream inputStream) {
+    BinaryContentUpload upload = getResumable(uploadId, requesterId);
+    long currentOffset = upload.getUploadOffset();
+    if (offset != currentOffset) {
+      throw BinaryContentUploadOffsetMismatchException.withOffset(uploadId, offset,
+          currentOffset);
+    }
+    long remaining = upload.getSize() - currentOffset;
+    if (length <= 0 || length > remaining || length > maxChunkSize.toBytes()
+        || (length < remaining && length < minChunkSize.toBytes())) {
+      throw InvalidBinaryContentUploadException.withReason(uploadId, "chunkSize");
+    }
+
+    resumableUploadStorage.writeChunk(uploadId, upload.getMultipartId(),
+        upload.getPartCount() + 1, offset, inputStream, length);
+    long newOffset = offset + length;
+    Instant expiresAt = Instant.now().plus(resumableExpiration);
+    if (binaryContentUploadRepository.advanceOffset(uploadId, offset, newOffset, expiresAt) == 0) {
+      // 같은 위치의 청크가 동시에 들어와 다른 요청이 먼저 반영했다.
+      throw BinaryContentUploadOffsetMismatchException.withOffset(uploadId, offset,
+          getResumable(uploadId, requesterId).getUploadOffset());
+    }
+    log.debug("이어 올리기 청크 수신: id={}, offset={}, length={}", uploadId, offset, length);
+    return new ResumableUploadDto(uploadId, upload.getSize(), newOffset, minChunkSize.toBytes(),
+        maxChunkSize.toBytes(), expiresAt);
+  }
+
+  @Transactional
+  @Override
+  public void abort(UUID uploadId, UUID requesterId) {
+    BinaryContentUpload upload = getResumable(uploadId, requesterId);
+    if (binaryContentUploadRepository.deleteByIdReturningCount(uploadId) == 0) {
+      throw BinaryContentUploadNotFoundException.withId(uploadId);
+    }
+    resumableUploadStorage.abort(uploadId, upload.getMultipartId());
+    log.info("이어 올리기 업로드 취소: id={}", uploadId);
+  }
+
+  /**
+   * multipart 합치기와 크기·해시 확인은 저장소를 오가고 큰 파일은 전부 읽어야 하므로 트랜잭션 밖에서 한다. 검증을 통과하면 짧은
+   * 트랜잭션에서 업로드 행을 지우는 것으로 완료 처리를 선점하므로, 같은 업로드를 동시에 완료해도 첨부 파일은 한 번만 만들어진다(합치기는
+   * 다시 해도 된다). 검증에 실패하면 업로드 행이 남으므로 다시 올린 뒤 완료할 수 있다.
+   * <p>
+   * 업로드를 만든 사용자가 아니면 업로드 id를 알아도 없는 업로드로 응답한다.
+   */
+  @Override
+  public BinaryContentDto complete(UUID uploadId, UUID requesterId) {
+    log.debug("직접 업로드 완료 처리 시작: id={}", uploadId);
+    BinaryContentUpload upload = binaryContentUploadRepository.findById(uploadId)
+        .filter(found -> found.isOwnedBy(requesterId))
+        .orElseThrow(() -> BinaryContentUploadNotFoundException.withId(uploadId));
+    if (upload.isExpired(Instant.now())) {
+      throw BinaryContentUploadExpiredException.withId(uploadId);
+    }
+    if (!upload.isComplete()) {
+      throw InvalidBinaryContentUploadException.withReason(uploadId, "incomplete");
+    }
+    if (upload.isResumable()) {
+      resumableUploadStorage.finish(uploadId, upload.getMultipartId(), upload.getPartCount());
+    }
+
+    StagedObject staged = directUploadStorage.inspect(uploadId)
+        .orElseThrow(() -> InvalidBinaryContentUploadException.withReason(uploadId, "missing"));
+    if (staged.size() != upload.getSize()) {
+      throw InvalidBinaryContentUploadException.withReason(uploadId, "size");
+    }
+    if (staged.sha256() != null && !staged.sha256().equalsIgnoreCase(upload.getHash())) {
+      throw InvalidBinaryContentUploadException.withReason(uploadId, "sha256");
+    }
+    if (staged.contentType() != null && !staged.contentType().equals(upload.getContentType())) {
+      throw InvalidBinaryContentUploadException.withReason(uploadId, "contentType");
+    }
+
+    BinaryContentDto binaryContentDto = transactionTemplate.execute(status -> {
+      if (binaryContentUploadRepository.deleteByIdReturningCount(uploadId) == 0) {
+        throw BinaryContentUploadNotFoundException.withId(uploadId);
+      }
+      return binaryContentMapper.toDto(binaryContentBlobStore.createFromUpload(uploadId,
+          upload.getHash(), upload.getSize(), upload.getFileName(), upload.getContentType()));
+    });
+    log.info("직접 업로드 완료 처리 완료: uploadId={}, binaryContentId={}", uploadId,
+        binaryContentDto.id());
+    return binaryContentDto;
+  }
+
+  /**
+   * 완료되지 않고 만료된 업로드를 지운다. 이어 올리기 업로드는 저장소 측 세션도 취소한다(S3 multipart의 part는 객체 목록에
+   * 보이지 않아 저장소 GC가 찾지 못한다). 한 번에 올린 바이트는 어떤 행도 참조하지 않으므로 저장소 GC가 정리한다.
+   */
+  @Scheduled(fixedDelayString = "${discodeit.storage.upload.direct.purge-interval:PT1H}")
+  public void purgeExpired() {
+    int purged = 0;
+    List<BinaryContentUpload> expired;
+    do {
+      expired = binaryContentUploadRepository.findExpired(Instant.now(),
+          PageRequest.of(0, PURGE_BATCH_SIZE));
+      for (BinaryContentUpload upload : expired) {
+        if (upload.isResumable()) {
+          try {
+            resumableUploadStorage.abort(upload.getId(), upload.getMultipartId());
+          } catch (RuntimeException e) {
+            log.warn("만료된 이어 올리기 업로드 취소 실패: id={}", upload.getId(), e);
+          }
+        }
+      }
+      binaryContentUploadRepository.deleteAllByIdInBatch(
+          expired.stream().map(BinaryContentUpload::getId).toList());
+      purged += expired.size();
+    } while (expired.size() == PURGE_BATCH_SIZE);
+    if (purged > 0) {
+      log.info("만료된 업로드 정리: count={}", purged);
+    }
+  }
+
+  /**
+   * 업로드를 만든 사용자가 아니면 업로드 id를 알아도 없는 업로드로 응답한다.
+   */
+  private BinaryContentUpload getResumable(UUID uploadId, UUID requesterId) {
+    BinaryContentUpload upload = binaryContentUploadRepository.findById(uploadId)
+        .filter(BinaryContentUpload::isResumable)
+        .filter(found -> found.isOwnedBy(requesterId))
+        .orElseThrow(() -> BinaryContentUploadNotFoundException.withId(uploadId));
+    if (upload.isExpired(Instant.now())) {
+      throw BinaryContentUploadExpiredException.withId(uploadId);
+    }
+    return upload;
+  }
+
+  private ResumableUploadDto toResumableDto(BinaryContentUpload upload) {
+    return new ResumableUploadDto(upload.getId(), upload.getSize(), upload.getUploadOffset(),
+        minChunkSize.toBytes(), maxChunkSize.toBytes(), upload.getExpiresAt());
+  }
+
+  private static void validateContentType(String contentType) {
+    try {
+      MediaType.parseMediaType(contentType);
+    } catch (IllegalArgumentException e) {
+      throw InvalidBinaryContentUploadException.withContentType(contentType);
+    }
+  }
+
+  private static String newToken() {
+    byte[] bytes = new byte[TOKEN_BYTES];
+    RANDOM.nextBytes(bytes);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+
+  private static String sha256(String value) {
+    return BinaryContentBlobStore.sha256(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.service.basic;
 
 import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
@@ -9,21 +10,31 @@ import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.Message;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentNotFoundException;
 import com.sprint.mission.discodeit.exception.channel.ChannelNotFoundException;
 import com.sprint.mission.discodeit.exception.message.MessageNotFoundException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.MessageMapper;
 import com.sprint.mission.discodeit.mapper.PageResponseMapper;
+import com.sprint.mission.discodeit.mapper.UserDtoCache;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
 import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.security.UserSessionRegistry;
 import com.sprint.mission.discodeit.service.MessageService;
-import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.BinaryContentBlobStore;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -40,9 +51,11 @@ public class BasicMessageService implements MessageService {
   private final ChannelRepository channelRepository;
   private final UserRepository userRepository;
   private final MessageMapper messageMapper;
-  private final BinaryContentStorage binaryContentStorage;
-  private final BinaryContentRepository binaryContentRepository;
+  private final BinaryContentBlobStore binaryContentBlobStore;
   private final PageResponseMapper pageResponseMapper;
+  private final BinaryContentRepository binaryContentRepository;
+  private final UserDtoCache userDtoCache;
+  private final UserSessionRegistry sessionRegistry;
 
   @Transactional
   @Override
@@ -57,19 +70,15 @@ public class BasicMessageService implements MessageService {
     User author = userRepository.findById(authorId)
         .orElseThrow(() -> UserNotFoundException.withId(authorId));
 
-    List<BinaryContent> attachments = binaryContentCreateRequests.stream()
-        .map(attachmentRequest -> {
-          String fileName = attachmentRequest.fileName();
-          String contentType = attachmentRequest.contentType();
-          byte[] bytes = attachmentRequest.bytes();
-
-          BinaryContent binaryContent = new BinaryContent(fileName, (long) bytes.length,
-              contentType);
-          binaryContentRepository.save(binaryContent);
-          binaryContentStorage.put(binaryContent.getId(), bytes);
-          return binaryContent;
-        })
-        .toList();
+    List<BinaryContent> attachments = new ArrayList<>(
+        findAttachments(messageCreateRequest.attachmentIds(), authorId));
+    binaryContentCreateRequests.stream()
+        .map(attachmentRequest -> binaryContentBlobStore.create(
+            attachmentRequest.fileName(),
+            attachmentRequest.contentType(),
+            attachmentRequest.bytes()
+        ))
+        .forEach(attachments::add);
 
     String content = messageCreateRequest.content();
     Message message = new Message(
@@ -89,6 +98,7 @@ public class BasicMessageService implements MessageService {
   public MessageDto find(UUID messageId) {
     return messageRepository.findById(messageId)
         .map(messageMapper::toDto)
+        .map(messageDto -> withOnlineAuthor(messageDto, sessionRegistry.getOnlineUserIds()))
         .orElseThrow(() -> MessageNotFoundException.withId(messageId));
   }
 
@@ -96,10 +106,20 @@ public class BasicMessageService implements MessageService {
   @Override
   public PageResponse<MessageDto> findAllByChannelId(UUID channelId, Instant createAt,
       Pageable pageable) {
-    Slice<MessageDto> slice = messageRepository.findAllByChannelIdWithAuthor(channelId,
-            Optional.ofNullable(createAt).orElse(Instant.now()),
-            pageable)
-        .map(messageMapper::toDto);
+    Slice<Message> messages = messageRepository.findAllByChannelId(channelId,
+        Optional.ofNullable(createAt).orElse(Instant.now()),
+        pageable);
+
+    // 작성자는 조인하지 않았으므로 페이지의 작성자를 한 번에 읽어 두고 변환에 넘긴다.
+    Map<UUID, UserDto> authors = userDtoCache.getAll(messages.getContent().stream()
+        .map(Message::getAuthor)
+        .filter(Objects::nonNull)
+        .map(User::getId)
+        .collect(Collectors.toSet()));
+    Set<UUID> onlineUserIds = sessionRegistry.getOnlineUserIds();
+    Slice<MessageDto> slice = messages
+        .map(message -> messageMapper.toDto(message, authors))
+        .map(messageDto -> withOnlineAuthor(messageDto, onlineUserIds));
 
     Instant nextCursor = null;
     if (!slice.getContent().isEmpty()) {
@@ -129,7 +149,40 @@ public class BasicMessageService implements MessageService {
     if (!messageRepository.existsById(messageId)) {
       throw MessageNotFoundException.withId(messageId);
     }
+    binaryContentBlobStore.releaseByMessageId(messageId);
     messageRepository.deleteById(messageId);
     log.info("메시지 삭제 완료: id={}", messageId);
   }
+
+  private MessageDto withOnlineAuthor(MessageDto messageDto, Set<UUID> onlineUserIds) {
+    if (messageDto.author() == null) {
+      return messageDto;
+    }
+    return new MessageDto(messageDto.id(), messageDto.createdAt(), messageDto.updatedAt(),
+        messageDto.content(), messageDto.channelId(),
+        UserDtoCache.withOnline(messageDto.author(), onlineUserIds), messageDto.attachments());
+  }
+
+  /**
+   * 작성자가 올린 첨부 파일만 붙일 수 있으며, 요청한 순서대로 돌려준다. 다른 사용자가 올렸거나 이미 쓰인 첨부 파일은 없는 것으로
+   * 응답한다.
+   */
+  private List<BinaryContent> findAttachments(List<UUID> attachmentIds, UUID authorId) {
+    if (attachmentIds == null || attachmentIds.isEmpty()) {
+      return List.of();
+    }
+    Set<UUID> ids = new LinkedHashSet<>(attachmentIds);
+    Map<UUID, BinaryContent> found = binaryContentRepository.findDetachedByIdIn(ids, authorId)
+        .stream()
+        .collect(Collectors.toMap(BinaryContent::getId, Function.identity()));
+    List<BinaryContent> attachments = new ArrayList<>(ids.size());
+    for (UUID id : ids) {
+      BinaryContent attachment = found.get(id);
+      if (attachment == null) {
+        throw BinaryContentNotFoundException.withId(id);
+      }
+      attachments.add(attachment);
+    }
+    return attachments;
+  }
 }
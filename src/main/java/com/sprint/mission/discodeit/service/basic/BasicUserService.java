@@ -7,26 +7,37 @@ import com.sprint.mission.discodeit.dto.request.UserUpdateRequest;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentNotFoundException;
 import com.sprint.mission.discodeit.exception.user.UserAlreadyExistsException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.UserMapper;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.RefreshTokenRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.repository.UserStatusRepository;
-import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
+import com.sprint.mission.discodeit.security.UserDetailsChangedEvent;
+import com.sprint.mission.discodeit.security.UserSessionRegistry;
+import com.sprint.mission.discodeit.security.token.TokenVersionChangedEvent;
 import com.sprint.mission.discodeit.service.UserService;
-import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.BinaryContentBlobStore;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.session.SessionInformation;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -36,12 +47,22 @@ public class BasicUserService implements UserService {
 
   private final UserRepository userRepository;
   private final UserMapper userMapper;
+  private final BinaryContentBlobStore binaryContentBlobStore;
   private final BinaryContentRepository binaryContentRepository;
-  private final BinaryContentStorage binaryContentStorage;
   private final PasswordEncoder passwordEncoder;
-  private final SessionRegistry sessionRegistry;
+  private final UserSessionRegistry sessionRegistry;
+  private final ApplicationEventPublisher eventPublisher;
+  private final UserIdentifierFilter userIdentifierFilter;
+  private final UserSearchIndex userSearchIndex;
+  private final UserDeletionWorker userDeletionWorker;
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final PersistentTokenRepository persistentTokenRepository;
+  private final TransactionTemplate transactionTemplate;
 
-  @Transactional
+  /**
+   * 비밀번호 해싱은 해싱 스레드를 기다리는 시간까지 몇 초가 걸릴 수 있으므로, 중복 확인과 해싱을 먼저 하고 저장만 트랜잭션
+   * 안에서 한다. 그 사이 같은 값으로 가입한 요청은 저장할 때 unique 제약으로 걸러진다.
+   */
   @Override
   public UserDto create(UserCreateRequest userCreateRequest,
       Optional<BinaryContentCreateRequest> optionalProfileCreateRequest) {
@@ -50,33 +71,36 @@ public class BasicUserService implements UserService {
     String username = userCreateRequest.username();
     String email = userCreateRequest.email();
 
-    if (userRepository.existsByEmail(email)) {
+    if (userIdentifierFilter.isEmailTaken(email, userRepository::existsByEmail)) {
       throw UserAlreadyExistsException.withEmail(email);
     }
-    if (userRepository.existsByUsername(username)) {
+    if (userIdentifierFilter.isUsernameTaken(username, userRepository::existsByUsername)) {
       throw UserAlreadyExistsException.withUsername(username);
     }
 
+    String hashedPassword = passwordEncoder.encode(userCreateRequest.password());
+    return transactionTemplate.execute(status -> create(username, email, hashedPassword,
+        optionalProfileCreateRequest));
+  }
+
+  private UserDto create(String username, String email, String hashedPassword,
+      Optional<BinaryContentCreateRequest> optionalProfileCreateRequest) {
     BinaryContent nullableProfile = optionalProfileCreateRequest
-        .map(profileRequest -> {
-          String fileName = profileRequest.fileName();
-          String contentType = profileRequest.contentType();
-          byte[] bytes = profileRequest.bytes();
-          BinaryContent binaryContent = new BinaryContent(fileName, (long) bytes.length,
-              contentType);
-          binaryContentRepository.save(binaryContent);
-          binaryContentStorage.put(binaryContent.getId(), bytes);
-          return binaryContent;
-        })
+        .map(profileRequest -> binaryContentBlobStore.create(
+            profileRequest.fileName(),
+            profileRequest.contentType(),
+            profileRequest.bytes()
+        ))
         .orElse(null);
-    String password = userCreateRequest.password();
 
-    String hashedPassword = passwordEncoder.encode(password);
     User user = new User(username, email, hashedPassword, nullableProfile);
     Instant now = Instant.now();
     UserStatus userStatus = new UserStatus(user, now);
 
+    userIdentifierFilter.add(username, email);
     userRepository.save(user);
+    flushUniqueIdentifiers(username, email);
+    eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
     log.info("사용자 생성 완료: id={}, username={}", user.getId(), username);
     return userMapper.toDto(user);
   }
@@ -95,11 +119,7 @@ public class BasicUserService implements UserService {
   public List<UserDto> findAll() {
     log.debug("모든 사용자 조회 시작");
 
-    Set<UUID> onlineUserIds = sessionRegistry.getAllPrincipals().stream()
-        .filter(principal -> !sessionRegistry.getAllSessions(principal, false).isEmpty())
-        .filter(principal -> principal instanceof DiscodeitUserDetails)
-        .map(principal -> ((DiscodeitUserDetails) principal).getUserDto().id())
-        .collect(Collectors.toSet());
+    Set<UUID> onlineUserIds = sessionRegistry.getOnlineUserIds();
 
     List<UserDto> userDtos = userRepository.findAllWithProfileAndStatus()
         .stream()
@@ -110,12 +130,46 @@ public class BasicUserService implements UserService {
     return userDtos;
   }
 
-  @Transactional
+  @Override
+  public List<UserDto> search(String query, int limit) {
+    log.debug("사용자 검색 시작: query={}, limit={}", query, limit);
+
+    List<UUID> userIds = userSearchIndex.search(query, limit);
+    if (userIds.isEmpty()) {
+      return List.of();
+    }
+    Set<UUID> onlineUserIds = sessionRegistry.getOnlineUserIds();
+    Map<UUID, User> users = userRepository.findAllWithProfileByIdIn(userIds).stream()
+        .collect(Collectors.toMap(User::getId, Function.identity()));
+
+    // 색인의 관련도 순서를 유지한다. 그 사이 삭제된 사용자는 빠진다.
+    List<UserDto> userDtos = userIds.stream()
+        .map(users::get)
+        .filter(Objects::nonNull)
+        .map(user -> userMapper.toDto(user, onlineUserIds.contains(user.getId())))
+        .toList();
+
+    log.debug("사용자 검색 완료: query={}, 결과 {}명", query, userDtos.size());
+    return userDtos;
+  }
+
+  /**
+   * 새 비밀번호는 {@link #create}와 같은 이유로 트랜잭션을 시작하기 전에 해싱한다.
+   */
   @Override
   public UserDto update(UUID userId, UserUpdateRequest userUpdateRequest,
       Optional<BinaryContentCreateRequest> optionalProfileCreateRequest) {
     log.debug("사용자 수정 시작: id={}, request={}", userId, userUpdateRequest);
 
+    String hashedNewPassword = Optional.ofNullable(userUpdateRequest.newPassword())
+        .map(passwordEncoder::encode)
+        .orElse(null);
+    return transactionTemplate.execute(status -> update(userId, userUpdateRequest,
+        hashedNewPassword, optionalProfileCreateRequest));
+  }
+
+  private UserDto update(UUID userId, UserUpdateRequest userUpdateRequest,
+      String hashedNewPassword, Optional<BinaryContentCreateRequest> optionalProfileCreateRequest) {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> {
           UserNotFoundException exception = UserNotFoundException.withId(userId);
@@ -125,31 +179,46 @@ public class BasicUserService implements UserService {
     String newUsername = userUpdateRequest.newUsername();
     String newEmail = userUpdateRequest.newEmail();
 
-    if (userRepository.existsByEmail(newEmail)) {
+    if (userIdentifierFilter.isEmailTaken(newEmail, userRepository::existsByEmail)) {
       throw UserAlreadyExistsException.withEmail(newEmail);
     }
 
-    if (userRepository.existsByUsername(newUsername)) {
+    if (userIdentifierFilter.isUsernameTaken(newUsername, userRepository::existsByUsername)) {
       throw UserAlreadyExistsException.withUsername(newUsername);
     }
 
     BinaryContent nullableProfile = optionalProfileCreateRequest
         .map(profileRequest -> {
-
-          String fileName = profileRequest.fileName();
-          String contentType = profileRequest.contentType();
-          byte[] bytes = profileRequest.bytes();
-          BinaryContent binaryContent = new BinaryContent(fileName, (long) bytes.length,
-              contentType);
-          binaryContentRepository.save(binaryContent);
-          binaryContentStorage.put(binaryContent.getId(), bytes);
-          return binaryContent;
+          binaryContentBlobStore.release(user.getProfile());
+          return binaryContentBlobStore.create(
+              profileRequest.fileName(),
+              profileRequest.contentType(),
+              profileRequest.bytes()
+          );
         })
+        .or(() -> Optional.ofNullable(userUpdateRequest.newProfileId())
+            .map(profileId -> {
+              BinaryContent profile = binaryContentRepository
+                  .findDetachedByIdIn(List.of(profileId), userId).stream()
+                  .findFirst()
+                  .orElseThrow(() -> BinaryContentNotFoundException.withId(profileId));
+              binaryContentBlobStore.release(user.getProfile());
+              return profile;
+            }))
         .orElse(null);
 
-    String newPassword = userUpdateRequest.newPassword();
-    String hashedNewPassword = Optional.ofNullable(newPassword).map(passwordEncoder::encode).orElse(null);
+    userIdentifierFilter.add(newUsername, newEmail);
+    long previousVersion = user.getTokenVersion();
     user.update(newUsername, newEmail, hashedNewPassword, nullableProfile);
+    flushUniqueIdentifiers(newUsername, newEmail);
+    eventPublisher.publishEvent(new UserDetailsChangedEvent(userId));
+    eventPublisher.publishEvent(new UserChangedEvent(userId));
+    if (user.getTokenVersion() != previousVersion) {
+      // 비밀번호가 바뀌었다. 이전 비밀번호로 받은 액세스 토큰과 리프레시 토큰을 더 쓰지 못하게 한다.
+      eventPublisher.publishEvent(new TokenVersionChangedEvent(userId, user.getTokenVersion()));
+      int revoked = refreshTokenRepository.revokeAllByUserId(userId);
+      log.debug("비밀번호 변경으로 리프레시 토큰 폐기: id={}, revoked={}", userId, revoked);
+    }
 
     log.info("사용자 수정 완료: id={}", userId);
     return userMapper.toDto(user);
@@ -160,11 +229,35 @@ public class BasicUserService implements UserService {
   public void delete(UUID userId) {
     log.debug("사용자 삭제 시작: id={}", userId);
 
-    if (!userRepository.existsById(userId)) {
-      throw UserNotFoundException.withId(userId);
-    }
+    User user = userRepository.findById(userId)
+        .orElseThrow(() -> UserNotFoundException.withId(userId));
+
+    // markDeleted가 사용자 이름을 바꾸므로 remember-me 토큰을 지울 이름을 먼저 잡아 둔다.
+    String username = user.getUsername();
+
+    // 바로 조회되지 않게 표시만 하고, 메시지와 읽음 상태 정리와 행 삭제는 UserDeletionWorker가 나눠서 한다.
+    user.markDeleted(Instant.now());
+    userDeletionWorker.schedule(userId);
+    eventPublisher.publishEvent(new UserDetailsChangedEvent(userId));
+    eventPublisher.publishEvent(new TokenVersionChangedEvent(userId, user.getTokenVersion()));
+    eventPublisher.publishEvent(new UserChangedEvent(userId));
 
-    userRepository.deleteById(userId);
-    log.info("사용자 삭제 완료: id={}", userId);
+    // 삭제된 사용자가 남은 세션이나 remember-me 쿠키로 다시 들어오지 못하게 한다.
+    List<SessionInformation> activeSessions = sessionRegistry.getAllSessions(userId, false);
+    activeSessions.forEach(SessionInformation::expireNow);
+    persistentTokenRepository.removeUserTokens(username);
+    log.info("사용자 삭제 처리 완료: id={}, expiredSessions={}", userId, activeSessions.size());
+  }
+
+  /**
+   * 중복 확인과 저장 사이에 다른 요청(또는 필터에 아직 없는 다른 인스턴스의 가입)이 같은 값을 가져갔다면
+   * unique 제약 위반을 커밋 시점의 서버 오류 대신 중복 사용자 오류로 알린다.
+   */
+  private void flushUniqueIdentifiers(String username, String email) {
+    try {
+      userRepository.flush();
+    } catch (DataIntegrityViolationException e) {
+      throw UserAlreadyExistsException.withUsernameOrEmail(username, email);
+    }
   }
 }
@@ -11,6 +11,7 @@ import com.sprint.mission.discodeit.exception.userstatus.UserStatusNotFoundExcep
 import com.sprint.mission.discodeit.mapper.UserStatusMapper;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.repository.UserStatusRepository;
+import com.sprint.mission.discodeit.security.PresenceTracker;
 import com.sprint.mission.discodeit.service.UserStatusService;
 import java.time.Instant;
 import java.util.List;
@@ -29,6 +30,7 @@ public class BasicUserStatusService implements UserStatusService {
   private final UserStatusRepository userStatusRepository;
   private final UserRepository userRepository;
   private final UserStatusMapper userStatusMapper;
+  private final PresenceTracker presenceTracker;
 
   @Transactional
   @Override
@@ -56,7 +58,7 @@ public class BasicUserStatusService implements UserStatusService {
   public UserStatusDto find(UUID userStatusId) {
     log.debug("사용자 상태 조회 시작: id={}", userStatusId);
     UserStatusDto dto = userStatusRepository.findById(userStatusId)
-        .map(userStatusMapper::toDto)
+        .map(this::toDtoWithPresence)
         .orElseThrow(() -> UserStatusNotFoundException.withId(userStatusId));
     log.info("사용자 상태 조회 완료: id={}", userStatusId);
     return dto;
@@ -66,7 +68,7 @@ public class BasicUserStatusService implements UserStatusService {
   public List<UserStatusDto> findAll() {
     log.debug("전체 사용자 상태 목록 조회 시작");
     List<UserStatusDto> dtos = userStatusRepository.findAll().stream()
-        .map(userStatusMapper::toDto)
+        .map(this::toDtoWithPresence)
         .toList();
     log.info("전체 사용자 상태 목록 조회 완료: 조회된 항목 수={}", dtos.size());
     return dtos;
@@ -96,10 +98,16 @@ public class BasicUserStatusService implements UserStatusService {
     
     UserStatus userStatus = userStatusRepository.findByUserId(userId)
         .orElseThrow(() -> UserStatusNotFoundException.withUserId(userId));
-    userStatus.update(newLastActiveAt);
+    // 인증된 요청마다 기록되는 활동 시각과 같이 모아서 저장한다. 하트비트마다 DB에 쓰지 않는다.
+    // 클라이언트가 보낸 시각은 지금으로 제한한다. 미래 시각이 기록되면 그때까지의 활동이 모두
+    // record-interval 안으로 보여 버려지고, 저장된 뒤에는 실제 활동 시각으로 되돌릴 수 없다.
+    if (newLastActiveAt != null) {
+      Instant now = Instant.now();
+      presenceTracker.record(userId, newLastActiveAt.isAfter(now) ? now : newLastActiveAt);
+    }
     
     log.info("사용자 ID로 상태 수정 완료: userId={}", userId);
-    return userStatusMapper.toDto(userStatus);
+    return toDtoWithPresence(userStatus);
   }
 
   @Transactional
@@ -112,4 +120,15 @@ public class BasicUserStatusService implements UserStatusService {
     userStatusRepository.deleteById(userStatusId);
     log.info("사용자 상태 삭제 완료: id={}", userStatusId);
   }
+
+  /**
+   * 아직 저장되지 않은 마지막 활동 시각이 더 최근이면 그 시각으로 응답한다.
+   */
+  private UserStatusDto toDtoWithPresence(UserStatus userStatus) {
+    UserStatusDto dto = userStatusMapper.toDto(userStatus);
+    return presenceTracker.lastActiveAt(userStatus.getUser().getId())
+        .filter(activeAt -> activeAt.isAfter(userStatus.getLastActiveAt()))
+        .map(activeAt -> new UserStatusDto(dto.id(), dto.userId(), activeAt))
+        .orElse(dto);
+  }
 }
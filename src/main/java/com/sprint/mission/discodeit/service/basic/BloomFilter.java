@@ -0,0 +1,97 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 문자열 집합의 Bloom filter. {@link #mightContain(String)}이 {@code false}이면 넣은 적이 없는 값이고,
+ * {@code true}이면 넣었거나 다른 값과 비트가 겹친 것이다. 지울 수는 없다.
+ * <p>
+ * 예상 개수와 목표 오탐률로 비트 수와 해시 수를 정한다. 여러 스레드에서 동시에 넣고 확인해도 된다.
+ */
+final class BloomFilter {
+
+  private static final double LN2 = Math.log(2);
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+  private final LongAdder insertions = new LongAdder();
+
+  BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    if (expectedInsertions <= 0) {
+      throw new IllegalArgumentException("expectedInsertions는 0보다 커야 합니다.");
+    }
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다.");
+    }
+    long bits = (long) Math.ceil(
+        -expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+    int wordCount = Math.toIntExact(Math.max(1, (bits + 63) / 64));
+    this.words = new AtomicLongArray(wordCount);
+    this.bitCount = (long) wordCount * 64;
+    this.hashCount = Math.max(1,
+        (int) Math.round((double) bitCount / expectedInsertions * LN2));
+  }
+
+  void put(String value) {
+    long h1 = hash(value, 0x9E3779B97F4A7C15L);
+    long h2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(h1 + i * h2, bitCount);
+      int word = (int) (bit >>> 6);
+      long mask = 1L << bit;
+      long current = words.get(word);
+      while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+        current = words.get(word);
+      }
+    }
+    insertions.increment();
+  }
+
+  boolean mightContain(String value) {
+    long h1 = hash(value, 0x9E3779B97F4A7C15L);
+    long h2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(h1 + i * h2, bitCount);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  long insertions() {
+    return insertions.sum();
+  }
+
+  long sizeInBytes() {
+    return (long) words.length() * Long.BYTES;
+  }
+
+  int hashCount() {
+    return hashCount;
+  }
+
+  /**
+   * 지금까지 넣은 개수 기준의 이론상 오탐률. 같은 값을 여러 번 넣었다면 실제보다 크게 나온다.
+   */
+  double expectedFalsePositiveRate() {
+    return Math.pow(1 - Math.exp(-hashCount * (double) insertions() / bitCount), hashCount);
+  }
+
+  private static long hash(String value, long seed) {
+    // FNV-1a로 훑은 뒤 murmur3 finalizer로 섞는다. 시드가 다른 두 값을 이중 해싱에 쓴다.
+    long h = 0xCBF29CE484222325L ^ seed;
+    for (int i = 0; i < value.length(); i++) {
+      h ^= value.charAt(i);
+      h *= 0x100000001B3L;
+    }
+    h ^= h >>> 33;
+    h *= 0xFF51AFD7ED558CCDL;
+    h ^= h >>> 33;
+    h *= 0xC4CEB9FE1A85EC53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
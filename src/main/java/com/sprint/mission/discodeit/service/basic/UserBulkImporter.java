@@ -0,0 +1,598 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
+import com.sprint.mission.discodeit.dto.request.UserImportRow;
+import com.sprint.mission.discodeit.dto.response.UserImportResult;
+import com.sprint.mission.discodeit.dto.response.UserImportResult.Status;
+import com.sprint.mission.discodeit.dto.response.UserImportSummary;
+import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.exception.user.InvalidUserImportException;
+import com.sprint.mission.discodeit.security.PasswordHashingPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+/**
+ * {@code POST /api/admin/users/bulk}로 받은 사용자 목록을 한 번에 가입시킨다.
+ * <ul>
+ *   <li>사용자명/이메일 중복은 요청 안에서는 메모리로, DB와는 필드마다 쿼리 하나로 전체를 확인한다.</li>
+ *   <li>비밀번호는 {@code hashing-threads}개 스레드에서 동시에 해싱한다. 해싱 자체는 공용
+ *   {@link PasswordEncoder} 풀에서 실행되므로 로그인과 같은 한도를 나눠 쓴다. 다른 시스템에서 옮겨 오는
+ *   사용자는 {@code {bcrypt}}/{@code {pbkdf2}} 형식의 {@code passwordHash}를 그대로 넣어 해싱을 건너뛸 수
+ *   있다.</li>
+ *   <li>{@code batch-size}행마다 {@code users}와 {@code user_statuses}를 JDBC 배치로 넣고 커밋한 뒤 그 행들의
+ *   결과를 내보낸다. 확인 뒤에 다른 요청이 같은 값을 가져갔으면 그 배치만 한 행씩 다시 넣는다.</li>
+ * </ul>
+ * 결과는 행마다 {@link UserImportResult} 한 줄, 마지막에 {@link UserImportSummary} 한 줄인 NDJSON이다.
+ * 가져오기는 요청과 별개인 스레드에서 끝까지 실행한다. 클라이언트가 끊기거나 {@code response-timeout}이
+ * 지나면 결과만 더 보내지 않고, 남은 배치는 계속 넣은 뒤 요약을 로그로 남긴다.
+ * 만든 사용자는 사용자명/이메일 필터와 이 인스턴스의 검색 색인에 바로 넣고, 다른 인스턴스는 다음 재생성 때
+ * 반영한다.
+ */
+@Slf4j
+@Component
+public class UserBulkImporter {
+
+  public static final String NDJSON_VALUE = "application/x-ndjson";
+  public static final String CSV_VALUE = "text/csv";
+  private static final MediaType NDJSON = MediaType.parseMediaType(NDJSON_VALUE);
+  private static final MediaType CSV = MediaType.parseMediaType(CSV_VALUE);
+
+  private static final String INSERT_USER_SQL = "INSERT INTO users"
+      + " (id, created_at, updated_at, username, email, password, role, token_version)"
+      + " VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+  private static final String INSERT_STATUS_SQL = "INSERT INTO user_statuses"
+      + " (id, created_at, updated_at, user_id, last_active_at) VALUES (?, ?, ?, ?, ?)";
+  private static final String EXISTING_USERNAMES_SQL =
+      "SELECT username FROM users WHERE username = ANY (?)";
+  private static final String EXISTING_EMAILS_SQL =
+      "SELECT email FROM users WHERE email = ANY (?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final PasswordEncoder passwordEncoder;
+  private final Validator validator;
+  private final ObjectMapper objectMapper;
+  private final UserIdentifierFilter userIdentifierFilter;
+  private final UserSearchIndex userSearchIndex;
+  private final int batchSize;
+  private final int maxRows;
+  private final ThreadPoolExecutor hashingExecutor;
+  private final ThreadPoolExecutor importExecutor;
+  private final Duration responseTimeout;
+  private final Clock clock;
+
+  private final Map<Status, Counter> rowCounters = new EnumMap<>(Status.class);
+
+  @Autowired
+  public UserBulkImporter(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      PasswordEncoder passwordEncoder,
+      Validator validator,
+      ObjectMapper objectMapper,
+      UserIdentifierFilter userIdentifierFilter,
+      UserSearchIndex userSearchIndex,
+      @Value("${discodeit.user.bulk-import.batch-size:500}") int batchSize,
+      @Value("${discodeit.user.bulk-import.max-rows:50000}") int maxRows,
+      @Value("${discodeit.user.bulk-import.hashing-threads:0}") int hashingThreads,
+      @Value("${discodeit.user.bulk-import.concurrent-imports:2}") int concurrentImports,
+      @Value("${discodeit.user.bulk-import.response-timeout:PT1H}") Duration responseTimeout,
+      MeterRegistry meterRegistry
+  ) {
+    this(jdbcTemplate, new TransactionTemplate(transactionManager), passwordEncoder, validator,
+        objectMapper, userIdentifierFilter, userSearchIndex, batchSize, maxRows, hashingThreads,
+        concurrentImports, responseTimeout, Clock.systemUTC(), meterRegistry);
+  }
+
+  UserBulkImporter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+      PasswordEncoder passwordEncoder, Validator validator, ObjectMapper objectMapper,
+      UserIdentifierFilter userIdentifierFilter, UserSearchIndex userSearchIndex, int batchSize,
+      int maxRows, int hashingThreads, int concurrentImports, Duration responseTimeout,
+      Clock clock, MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.passwordEncoder = passwordEncoder;
+    this.validator = validator;
+    this.objectMapper = objectMapper;
+    this.userIdentifierFilter = userIdentifierFilter;
+    this.userSearchIndex = userSearchIndex;
+    this.batchSize = batchSize;
+    this.maxRows = maxRows;
+    this.responseTimeout = responseTimeout;
+    this.clock = clock;
+
+    // 0이면 코어의 절반. 해싱 풀과 같은 크기라 대기열에는 가입 요청이 최대 이만큼만 들어간다.
+    int threads = hashingThreads > 0 ? hashingThreads
+        : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.hashingExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(Math.max(batchSize, 1)),
+        runnable -> {
+          Thread thread = new Thread(runnable,
+              "user-import-hashing-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.CallerRunsPolicy());
+    // 관리자만 호출하므로 동시에 concurrent-imports개까지 실행하고 나머지는 차례를 기다린다.
+    AtomicInteger importThreadNumber = new AtomicInteger();
+    this.importExecutor = new ThreadPoolExecutor(concurrentImports, concurrentImports, 0L,
+        TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+        runnable -> new Thread(runnable, "user-import-" + importThreadNumber.incrementAndGet()));
+
+    for (Status status : Status.values()) {
+      rowCounters.put(status, Counter.builder("discodeit.user.import.rows")
+          .tag("result", status.name().toLowerCase(Locale.ROOT))
+          .description("대량 가입 요청의 행 처리 결과")
+          .register(meterRegistry));
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    importExecutor.shutdownNow();
+    hashingExecutor.shutdownNow();
+  }
+
+  /**
+   * 요청 본문을 행 목록으로 읽는다. 읽지 못한 행은 {@link UserImportRow#parseError()}에 이유를 담아 결과에
+   * 남긴다.
+   *
+   * @throws InvalidUserImportException 지원하지 않는 형식이거나, CSV 헤더에 필수 열이 없거나,
+   *                                    {@code max-rows}를 넘을 때
+   */
+  public List<UserImportRow> read(InputStream body, MediaType contentType) throws IOException {
+    Charset charset = contentType.getCharset() != null ? contentType.getCharset()
+        : StandardCharsets.UTF_8;
+    BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset));
+    if (contentType.isCompatibleWith(NDJSON)) {
+      return readNdjson(reader);
+    }
+    if (contentType.isCompatibleWith(CSV)) {
+      return readCsv(reader);
+    }
+    throw InvalidUserImportException.withUnsupportedContentType(contentType.toString());
+  }
+
+  /**
+   * 가져오기를 별도 스레드에서 시작하고, 결과를 보낼 응답을 돌려준다. 응답은 {@code response-timeout}이
+   * 지나면 끝나지만 가져오기는 계속된다.
+   */
+  public ResponseBodyEmitter importRowsAsync(List<UserImportRow> rows) {
+    ResponseBodyEmitter emitter = new ResponseBodyEmitter(responseTimeout.toMillis());
+    emitter.onTimeout(() -> log.warn("사용자 대량 가입 응답 시간 초과: 남은 행은 계속 가져옵니다"));
+    importExecutor.execute(() -> {
+      try {
+        importRows(rows, new EmitterOutputStream(emitter));
+        emitter.complete();
+      } catch (RuntimeException e) {
+        log.error("사용자 대량 가입 실패: rows={}", rows.size(), e);
+        emitter.completeWithError(e);
+      }
+    });
+    return emitter;
+  }
+
+  /**
+   * 행을 가입시키며 결과를 NDJSON으로 쓴다. 배치마다 커밋한 뒤 결과를 내보내고 flush한다. 결과를 쓰지
+   * 못하면(클라이언트 연결 끊김) 그 뒤로는 쓰지 않고 남은 행을 계속 가입시킨다.
+   */
+  public UserImportSummary importRows(List<UserImportRow> rows, OutputStream out) {
+    long start = System.nanoTime();
+    Map<Status, Integer> totals = new EnumMap<>(Status.class);
+    ResultWriter writer = new ResultWriter(out);
+
+    Map<Integer, UserImportResult> rejected = validate(rows);
+    for (int from = 0; from < rows.size(); from += batchSize) {
+      List<UserImportRow> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+      List<UserImportResult> results = importBatch(batch, rejected);
+      for (UserImportResult result : results) {
+        totals.merge(result.status(), 1, Integer::sum);
+        rowCounters.get(result.status()).increment();
+        writer.write(result);
+      }
+      writer.flush();
+    }
+
+    UserImportSummary summary = new UserImportSummary(rows.size(),
+        totals.getOrDefault(Status.CREATED, 0), totals.getOrDefault(Status.INVALID, 0),
+        totals.getOrDefault(Status.DUPLICATE, 0), totals.getOrDefault(Status.FAILED, 0),
+        (System.nanoTime() - start) / 1_000_000);
+    writer.write(summary);
+    writer.flush();
+    log.info("사용자 대량 가입 완료: {}, resultsDelivered={}", summary, !writer.failed);
+    return summary;
+  }
+
+  /**
+   * 형식과 중복을 먼저 모두 확인한다.
+   *
+   * @return 줄 번호별로 가입시키지 않을 행의 결과
+   */
+  private Map<Integer, UserImportResult> validate(List<UserImportRow> rows) {
+    Map<Integer, UserImportResult> rejected = new HashMap<>();
+    List<UserImportRow> candidates = new ArrayList<>(rows.size());
+    for (UserImportRow row : rows) {
+      String error = row.parseError() != null ? row.parseError() : validateFields(row);
+      if (error != null) {
+        rejected.put(row.line(), result(row, Status.INVALID, null, error));
+      } else {
+        candidates.add(row);
+      }
+    }
+
+    Set<String> existingUsernames = findExisting(EXISTING_USERNAMES_SQL,
+        candidates.stream().map(UserImportRow::username).toList());
+    Set<String> existingEmails = findExisting(EXISTING_EMAILS_SQL,
+        candidates.stream().map(UserImportRow::email).toList());
+    Set<String> seenUsernames = new HashSet<>();
+    Set<String> seenEmails = new HashSet<>();
+    for (UserImportRow row : candidates) {
+      String error = null;
+      if (existingUsernames.contains(row.username())) {
+        error = "이미 존재하는 사용자 이름입니다";
+      } else if (existingEmails.contains(row.email())) {
+        error = "이미 존재하는 이메일입니다";
+      } else if (!seenUsernames.add(row.username())) {
+        error = "요청 안에서 사용자 이름이 중복됩니다";
+      } else if (!seenEmails.add(row.email())) {
+        error = "요청 안에서 이메일이 중복됩니다";
+      }
+      if (error != null) {
+        rejected.put(row.line(), result(row, Status.DUPLICATE, null, error));
+      }
+    }
+    return rejected;
+  }
+
+  private String validateFields(UserImportRow row) {
+    boolean hashed = row.passwordHash() != null;
+    if (hashed && row.password() != null) {
+      return "password와 passwordHash 중 하나만 지정해야 합니다";
+    }
+    if (hashed && !PasswordHashingPolicy.isWellFormed(row.passwordHash())) {
+      return "passwordHash는 {bcrypt} 또는 {pbkdf2} 형식의 올바른 해시여야 합니다";
+    }
+    UserCreateRequest request = new UserCreateRequest(row.username(), row.email(),
+        row.password());
+    return validator.validate(request).stream()
+        .filter(violation -> !(hashed
+            && violation.getPropertyPath().toString().equals("password")))
+        .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+        .map(ConstraintViolation::getMessage)
+        .findFirst()
+        .orElse(null);
+  }
+
+  private Set<String> findExisting(String sql, Collection<String> values) {
+    if (values.isEmpty()) {
+      return Set.of();
+    }
+    return new HashSet<>(jdbcTemplate.query(sql,
+        ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", values.toArray())),
+        (rs, rowNum) -> rs.getString(1)));
+  }
+
+  private List<UserImportResult> importBatch(List<UserImportRow> batch,
+      Map<Integer, UserImportResult> rejected) {
+    List<UserImportRow> accepted = batch.stream()
+        .filter(row -> !rejected.containsKey(row.line()))
+        .toList();
+    Map<Integer, UserImportResult> results = new HashMap<>();
+
+    List<NewUser> users = hash(accepted, results);
+    users.forEach(user -> userIdentifierFilter.add(user.row().username(), user.row().email()));
+    insert(users, results);
+    users.stream()
+        .filter(user -> results.get(user.row().line()).status() == Status.CREATED)
+        .forEach(user -> userSearchIndex.add(user.id(), user.row().username(),
+            user.row().email()));
+
+    return batch.stream()
+        .map(row -> rejected.containsKey(row.line()) ? rejected.get(row.line())
+            : results.get(row.line()))
+        .toList();
+  }
+
+  /**
+   * 배치의 비밀번호를 동시에 해싱한다. 해싱에 실패한 행은 {@code results}에 넣고 빼고 돌려준다.
+   */
+  private List<NewUser> hash(List<UserImportRow> rows, Map<Integer, UserImportResult> results) {
+    List<CompletableFuture<String>> hashes = rows.stream()
+        .map(row -> row.passwordHash() != null
+            ? CompletableFuture.completedFuture(row.passwordHash())
+            : CompletableFuture.supplyAsync(() -> passwordEncoder.encode(row.password()),
+                hashingExecutor))
+        .toList();
+
+    List<NewUser> users = new ArrayList<>(rows.size());
+    for (int i = 0; i < rows.size(); i++) {
+      UserImportRow row = rows.get(i);
+      try {
+        users.add(new NewUser(UUID.randomUUID(), row, hashes.get(i).join()));
+      } catch (CompletionException e) {
+        log.warn("대량 가입 비밀번호 해싱 실패: line={}", row.line(), e.getCause());
+        results.put(row.line(), result(row, Status.FAILED, null, e.getCause().getMessage()));
+      }
+    }
+    return users;
+  }
+
+  private void insert(List<NewUser> users, Map<Integer, UserImportResult> results) {
+    if (users.isEmpty()) {
+      return;
+    }
+    try {
+      transactionTemplate.executeWithoutResult(status -> insertAll(users));
+      users.forEach(user -> results.put(user.row().line(),
+          result(user.row(), Status.CREATED, user.id(), null)));
+    } catch (DataIntegrityViolationException e) {
+      // 확인한 뒤 다른 요청이 같은 값으로 가입했다. 이 배치만 한 행씩 다시 넣는다.
+      log.info("대량 가입 배치 중복으로 행 단위 재시도: size={}", users.size());
+      for (NewUser user : users) {
+        try {
+          transactionTemplate.executeWithoutResult(status -> insertAll(List.of(user)));
+          results.put(user.row().line(), result(user.row(), Status.CREATED, user.id(), null));
+        } catch (DataIntegrityViolationException duplicate) {
+          results.put(user.row().line(), result(user.row(), Status.DUPLICATE, null,
+              "이미 존재하는 사용자 이름 또는 이메일입니다"));
+        }
+      }
+    }
+  }
+
+  private void insertAll(List<NewUser> users) {
+    Timestamp now = Timestamp.from(clock.instant());
+    jdbcTemplate.batchUpdate(INSERT_USER_SQL, users.stream()
+        .map(user -> new Object[]{user.id(), now, now, user.row().username(),
+            user.row().email(), user.passwordHash(), Role.USER.name()})
+        .toList());
+    jdbcTemplate.batchUpdate(INSERT_STATUS_SQL, users.stream()
+        .map(user -> new Object[]{UUID.randomUUID(), now, now, user.id(), now})
+        .toList());
+  }
+
+  private List<UserImportRow> readNdjson(BufferedReader reader) throws IOException {
+    List<UserImportRow> rows = new ArrayList<>();
+    String line;
+    int lineNumber = 0;
+    while ((line = reader.readLine()) != null) {
+      lineNumber++;
+      if (line.isBlank()) {
+        continue;
+      }
+      checkRowCount(rows);
+      try {
+        JsonNode node = objectMapper.readTree(line);
+        rows.add(new UserImportRow(lineNumber, text(node, "username"), text(node, "email"),
+            text(node, "password"), text(node, "passwordHash"), null));
+      } catch (JsonProcessingException e) {
+        rows.add(UserImportRow.unreadable(lineNumber, "JSON 객체가 아닙니다"));
+      }
+    }
+    return rows;
+  }
+
+  private static String text(JsonNode node, String field) {
+    JsonNode value = node.get(field);
+    return value != null && value.isTextual() ? value.asText() : null;
+  }
+
+  /**
+   * 첫 줄은 헤더다. {@code username}, {@code email}은 필수이고 {@code password} 또는
+   * {@code passwordHash} 중 하나가 있어야 한다. 값에 쉼표나 따옴표가 있으면 큰따옴표로 감싼다.
+   */
+  private List<UserImportRow> readCsv(BufferedReader reader) throws IOException {
+    String header = reader.readLine();
+    if (header == null) {
+      return List.of();
+    }
+    Map<String, Integer> columns = new HashMap<>();
+    List<String> names = splitCsv(header.replace("\uFEFF", ""));
+    for (int i = 0; names != null && i < names.size(); i++) {
+      columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+    }
+    for (String required : List.of("username", "email")) {
+      if (!columns.containsKey(required)) {
+        throw InvalidUserImportException.withMissingColumn(required);
+      }
+    }
+    if (!columns.containsKey("password") && !columns.containsKey("passwordhash")) {
+      throw InvalidUserImportException.withMissingColumn("password");
+    }
+
+    List<UserImportRow> rows = new ArrayList<>();
+    String line;
+    int lineNumber = 1;
+    while ((line = reader.readLine()) != null) {
+      lineNumber++;
+      if (line.isBlank()) {
+        continue;
+      }
+      checkRowCount(rows);
+      List<String> values = splitCsv(line);
+      if (values == null) {
+        rows.add(UserImportRow.unreadable(lineNumber, "따옴표가 닫히지 않았습니다"));
+        continue;
+      }
+      rows.add(new UserImportRow(lineNumber, column(values, columns, "username"),
+          column(values, columns, "email"), column(values, columns, "password"),
+          column(values, columns, "passwordhash"), null));
+    }
+    return rows;
+  }
+
+  private static String column(List<String> values, Map<String, Integer> columns, String name) {
+    Integer index = columns.get(name);
+    if (index == null || index >= values.size() || values.get(index).isEmpty()) {
+      return null;
+    }
+    return values.get(index);
+  }
+
+  /**
+   * @return 따옴표가 닫히지 않았으면 {@code null}
+   */
+  static List<String> splitCsv(String line) {
+    List<String> values = new ArrayList<>();
+    StringBuilder value = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          value.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          value.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        values.add(value.toString());
+        value.setLength(0);
+      } else {
+        value.append(c);
+      }
+    }
+    if (quoted) {
+      return null;
+    }
+    values.add(value.toString());
+    return values;
+  }
+
+  private void checkRowCount(List<UserImportRow> rows) {
+    if (rows.size() >= maxRows) {
+      throw InvalidUserImportException.withTooManyRows(maxRows);
+    }
+  }
+
+  /**
+   * 결과 쓰기가 한 번 실패하면 이후 결과는 버린다. 이미 커밋한 배치 뒤의 행이 조용히 빠지지 않도록 쓰기
+   * 실패가 가져오기를 멈추지 않게 한다.
+   */
+  private final class ResultWriter {
+
+    private final OutputStream out;
+    private boolean failed;
+
+    private ResultWriter(OutputStream out) {
+      this.out = out;
+    }
+
+    void write(Object value) {
+      if (failed) {
+        return;
+      }
+      try {
+        // writeValue(OutputStream)는 스트림을 닫으므로 바이트로 바꿔 쓴다.
+        out.write(objectMapper.writeValueAsBytes(value));
+        out.write('\n');
+      } catch (IOException e) {
+        fail(e);
+      }
+    }
+
+    void flush() {
+      if (failed) {
+        return;
+      }
+      try {
+        out.flush();
+      } catch (IOException e) {
+        fail(e);
+      }
+    }
+
+    private void fail(IOException e) {
+      failed = true;
+      log.warn("사용자 대량 가입 결과를 보내지 못했습니다. 남은 행은 계속 가져오고 요약은 로그로 남깁니다: {}",
+          e.getMessage());
+    }
+  }
+
+  /**
+   * flush할 때 모은 결과 줄을 {@link ResponseBodyEmitter}로 보낸다. 응답이 이미 끝났으면(시간 초과)
+   * {@link IOException}으로 알린다.
+   */
+  private static final class EmitterOutputStream extends ByteArrayOutputStream {
+
+    private final ResponseBodyEmitter emitter;
+
+    private EmitterOutputStream(ResponseBodyEmitter emitter) {
+      this.emitter = emitter;
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if (size() == 0) {
+        return;
+      }
+      byte[] lines = toByteArray();
+      reset();
+      try {
+        emitter.send(lines, NDJSON);
+      } catch (IllegalStateException e) {
+        throw new IOException(e.getMessage(), e);
+      }
+    }
+  }
+
+  private static UserImportResult result(UserImportRow row, Status status, UUID userId,
+      String message) {
+    return new UserImportResult(row.line(), row.username(), status, userId, message);
+  }
+
+  private record NewUser(UUID id, UserImportRow row, String passwordHash) {
+
+  }
+}
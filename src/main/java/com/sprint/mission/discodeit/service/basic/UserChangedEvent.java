@@ -0,0 +1,13 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import java.util.UUID;
+
+/**
+ * 사용자가 만들어졌거나 사용자명, 이메일, 프로필 등이 바뀌었거나 삭제되었음을 알린다. 받는 쪽은 커밋 후 DB에서
+ * 사용자를 다시 읽어 반영한다.
+ */
+public record UserChangedEvent(
+    UUID userId
+) {
+
+}
@@ -0,0 +1,255 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 탈퇴 처리한 사용자의 연관 데이터를 나눠서 지운다. 한 트랜잭션으로 지우면 작성한 메시지 전체에 걸친
+ * {@code ON DELETE SET NULL} 때문에 {@code messages}가 오래 잠기므로, 단계마다 {@code batch-size}행씩
+ * 짧은 트랜잭션으로 처리한다.
+ * <ol>
+ *   <li>작성한 메시지의 작성자를 비운다.</li>
+ *   <li>읽음 상태를 지운다.</li>
+ *   <li>프로필 참조를 해제하고 사용자 행을 지운다. 접속 상태와 리프레시 토큰은 FK로 함께 지워진다.</li>
+ * </ol>
+ * 진행 단계와 처리한 행 수는 배치와 같은 트랜잭션에서 {@code user_deletions}에 기록한다. 중단되면 다음
+ * 실행에서 기록된 단계부터 남은 행만 다시 찾아 이어 간다. 배치는 여러 번 실행해도 결과가 같으므로 여러
+ * 인스턴스가 같은 작업을 동시에 처리해도 되며, 마지막 단계만 작업 행을 잠가 한 번만 실행한다.
+ */
+@Slf4j
+@Component
+public class UserDeletionWorker {
+
+  private static final String INSERT_SQL = "INSERT INTO user_deletions"
+      + " (user_id, created_at, updated_at, phase) VALUES (?, ?, ?, ?)";
+  private static final String SELECT_PENDING_SQL = "SELECT user_id, phase FROM user_deletions"
+      + " WHERE phase <> 'COMPLETED' ORDER BY created_at LIMIT ?";
+  private static final String DETACH_MESSAGES_SQL = "UPDATE messages SET author_id = NULL"
+      + " WHERE id IN (SELECT id FROM messages WHERE author_id = ? LIMIT ?)";
+  private static final String DELETE_READ_STATUSES_SQL = "DELETE FROM read_statuses"
+      + " WHERE id IN (SELECT id FROM read_statuses WHERE user_id = ? LIMIT ?)";
+  private static final String MESSAGES_PROGRESS_SQL = "UPDATE user_deletions"
+      + " SET messages_detached = messages_detached + ?, updated_at = ? WHERE user_id = ?";
+  private static final String READ_STATUSES_PROGRESS_SQL = "UPDATE user_deletions"
+      + " SET read_statuses_deleted = read_statuses_deleted + ?, updated_at = ? WHERE user_id = ?";
+  private static final String PHASE_SQL = "UPDATE user_deletions"
+      + " SET phase = ?, updated_at = ?, last_error = NULL WHERE user_id = ? AND phase = ?";
+  private static final String ERROR_SQL = "UPDATE user_deletions"
+      + " SET last_error = ?, updated_at = ? WHERE user_id = ?";
+  private static final String RELEASE_PROFILE_SQL = "UPDATE binary_content_blobs"
+      + " SET reference_count = reference_count - 1"
+      + " WHERE reference_count > 0 AND id IN (SELECT p.blob_id FROM users u"
+      + " JOIN binary_contents p ON p.id = u.profile_id WHERE u.id = ?)";
+  private static final String SELECT_PROFILE_SQL =
+      "SELECT profile_id FROM users WHERE id = ? AND profile_id IS NOT NULL";
+  private static final String DELETE_USER_SQL =
+      "DELETE FROM users WHERE id = ? AND deleted_at IS NOT NULL";
+  private static final String DELETE_PROFILE_SQL = "DELETE FROM binary_contents WHERE id = ?";
+  private static final int MAX_ERROR_LENGTH = 500;
+
+  enum Phase {
+    DETACH_MESSAGES,
+    DELETE_READ_STATUSES,
+    DELETE_USER,
+    COMPLETED
+  }
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final int maxJobsPerRun;
+  private final long batchPauseNanos;
+  private final Clock clock;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final AtomicInteger pendingJobs = new AtomicInteger();
+
+  private final Counter messagesCounter;
+  private final Counter readStatusesCounter;
+  private final Counter completedCounter;
+  private final Counter failedCounter;
+
+  @Autowired
+  public UserDeletionWorker(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${discodeit.user.deletion.batch-size:1000}") int batchSize,
+      @Value("${discodeit.user.deletion.max-jobs-per-run:100}") int maxJobsPerRun,
+      @Value("${discodeit.user.deletion.batch-pause:PT0.05S}") Duration batchPause,
+      MeterRegistry meterRegistry
+  ) {
+    this(jdbcTemplate, new TransactionTemplate(transactionManager), batchSize, maxJobsPerRun,
+        batchPause, Clock.systemUTC(), meterRegistry);
+  }
+
+  UserDeletionWorker(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+      int batchSize, int maxJobsPerRun, Duration batchPause, Clock clock,
+      MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = batchSize;
+    this.maxJobsPerRun = maxJobsPerRun;
+    this.batchPauseNanos = batchPause.toNanos();
+    this.clock = clock;
+
+    this.messagesCounter = rowsCounter(meterRegistry, "messages");
+    this.readStatusesCounter = rowsCounter(meterRegistry, "read-statuses");
+    this.completedCounter = Counter.builder("discodeit.user.deletion.jobs")
+        .tag("result", "completed")
+        .description("끝난 사용자 삭제 작업 수")
+        .register(meterRegistry);
+    this.failedCounter = Counter.builder("discodeit.user.deletion.jobs")
+        .tag("result", "failed")
+        .description("실패해 다음 실행으로 미룬 사용자 삭제 작업 수")
+        .register(meterRegistry);
+    Gauge.builder("discodeit.user.deletion.pending", pendingJobs, AtomicInteger::get)
+        .description("마지막 실행에서 찾은 남은 사용자 삭제 작업 수")
+        .register(meterRegistry);
+  }
+
+  private static Counter rowsCounter(MeterRegistry meterRegistry, String type) {
+    return Counter.builder("discodeit.user.deletion.rows")
+        .tag("type", type)
+        .description("사용자 삭제 작업이 처리한 행 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 삭제 작업을 등록한다. 사용자를 탈퇴 처리하는 트랜잭션 안에서 호출해야 함께 커밋된다.
+   */
+  public void schedule(UUID userId) {
+    Timestamp now = Timestamp.from(clock.instant());
+    jdbcTemplate.update(INSERT_SQL, userId, now, now, Phase.DETACH_MESSAGES.name());
+  }
+
+  @Scheduled(fixedDelayString = "${discodeit.user.deletion.interval:PT10S}")
+  public void run() {
+    if (!lock.tryLock()) {
+      return;
+    }
+    try {
+      List<Job> jobs = jdbcTemplate.query(SELECT_PENDING_SQL,
+          (rs, rowNum) -> new Job(rs.getObject("user_id", UUID.class),
+              Phase.valueOf(rs.getString("phase"))),
+          maxJobsPerRun);
+      pendingJobs.set(jobs.size());
+      for (Job job : jobs) {
+        try {
+          process(job.userId(), job.phase());
+          completedCounter.increment();
+        } catch (RuntimeException e) {
+          // 처리한 배치는 커밋되었으므로 다음 실행에서 남은 행부터 이어 간다.
+          failedCounter.increment();
+          log.warn("사용자 삭제 작업 실패: userId={}, phase={}", job.userId(), job.phase(), e);
+          recordError(job.userId(), e);
+        }
+        pendingJobs.decrementAndGet();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void process(UUID userId, Phase phase) {
+    long start = System.nanoTime();
+    long messages = 0;
+    long readStatuses = 0;
+    if (phase.compareTo(Phase.DELETE_READ_STATUSES) < 0) {
+      messages = drain(userId, DETACH_MESSAGES_SQL, MESSAGES_PROGRESS_SQL, messagesCounter);
+      advance(userId, Phase.DETACH_MESSAGES, Phase.DELETE_READ_STATUSES);
+    }
+    if (phase.compareTo(Phase.DELETE_USER) < 0) {
+      readStatuses = drain(userId, DELETE_READ_STATUSES_SQL, READ_STATUSES_PROGRESS_SQL,
+          readStatusesCounter);
+      advance(userId, Phase.DELETE_READ_STATUSES, Phase.DELETE_USER);
+    }
+    deleteUser(userId);
+    log.info("사용자 삭제 작업 완료: userId={}, resumedFrom={}, messagesDetached={}, "
+            + "readStatusesDeleted={}, elapsedMs={}", userId, phase, messages, readStatuses,
+        (System.nanoTime() - start) / 1_000_000);
+  }
+
+  private long drain(UUID userId, String batchSql, String progressSql, Counter counter) {
+    long total = 0;
+    while (true) {
+      Integer updated = transactionTemplate.execute(status -> {
+        int count = jdbcTemplate.update(batchSql, userId, batchSize);
+        if (count > 0) {
+          jdbcTemplate.update(progressSql, count, Timestamp.from(clock.instant()), userId);
+        }
+        return count;
+      });
+      if (updated == null || updated == 0) {
+        return total;
+      }
+      total += updated;
+      counter.increment(updated);
+      pause();
+    }
+  }
+
+  private void deleteUser(UUID userId) {
+    transactionTemplate.executeWithoutResult(status -> {
+      // 작업 행을 잠가 다른 인스턴스가 프로필 참조를 한 번 더 해제하지 않게 한다.
+      if (advance(userId, Phase.DELETE_USER, Phase.COMPLETED) == 0) {
+        return;
+      }
+      jdbcTemplate.update(RELEASE_PROFILE_SQL, userId);
+      List<UUID> profileIds = jdbcTemplate.queryForList(SELECT_PROFILE_SQL, UUID.class, userId);
+      jdbcTemplate.update(DELETE_USER_SQL, userId);
+      profileIds.forEach(profileId -> jdbcTemplate.update(DELETE_PROFILE_SQL, profileId));
+    });
+  }
+
+  /**
+   * 다른 인스턴스가 이미 넘긴 단계는 되돌리지 않는다.
+   */
+  private int advance(UUID userId, Phase from, Phase to) {
+    return jdbcTemplate.update(PHASE_SQL, to.name(), Timestamp.from(clock.instant()), userId,
+        from.name());
+  }
+
+  private void recordError(UUID userId, RuntimeException e) {
+    String message = String.valueOf(e.getMessage());
+    try {
+      jdbcTemplate.update(ERROR_SQL,
+          message.substring(0, Math.min(message.length(), MAX_ERROR_LENGTH)),
+          Timestamp.from(clock.instant()), userId);
+    } catch (RuntimeException ignored) {
+      // 기록하지 못해도 다음 실행에서 다시 시도한다.
+    }
+  }
+
+  private void pause() {
+    if (batchPauseNanos <= 0) {
+      return;
+    }
+    try {
+      TimeUnit.NANOSECONDS.sleep(batchPauseNanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("사용자 삭제 작업이 중단되었습니다.", e);
+    }
+  }
+
+  private record Job(UUID userId, Phase phase) {
+
+  }
+}
@@ -0,0 +1,214 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자명과 이메일 중복 확인 앞에 두는 Bloom filter. 필터에 없는 값은 DB를 조회하지 않고 바로 사용 가능으로
+ * 판단하고, 있을 수도 있는 값만 DB에 확인한다. 가입과 정보 수정에서 대부분인 "처음 쓰는 값"의 조회를 없앤다.
+ * <p>
+ * 시작할 때와 {@code rebuild-interval}마다 {@code users}를 {@code rebuild-batch-size}개씩 읽어 새로 만든다.
+ * 만들기 전이거나 실패하면 모든 확인을 DB로 보낸다. 이 인스턴스에서 만들거나 바꾼 값은 바로 넣고, 지우거나 바꾸기
+ * 전의 값은 다음에 새로 만들 때 빠진다.
+ * <p>
+ * 다른 인스턴스가 방금 만든 값은 다음 재생성 전까지 없다고 판단할 수 있으므로 DB의 unique 제약이 최종 판단이다.
+ * 오탐률과 메모리 사용량은 {@code discodeit.user.identifier-filter.*} 지표로 보고한다.
+ */
+@Slf4j
+@Component
+public class UserIdentifierFilter {
+
+  private static final String SELECT_SQL =
+      "SELECT id, username, email FROM users WHERE id > ? AND deleted_at IS NULL "
+          + "ORDER BY id LIMIT ?";
+  private static final UUID MIN_ID = new UUID(0L, 0L);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean enabled;
+  private final long expectedInsertions;
+  private final double falsePositiveRate;
+  private final int rebuildBatchSize;
+
+  // 만들기 전에는 null
+  private volatile Filters filters;
+  // 새로 만드는 동안 들어온 값을 같이 넣는다.
+  private volatile Filters building;
+
+  private final FieldMetrics usernameMetrics;
+  private final FieldMetrics emailMetrics;
+
+  public UserIdentifierFilter(
+      JdbcTemplate jdbcTemplate,
+      @Value("${discodeit.user.identifier-filter.enabled:true}") boolean enabled,
+      @Value("${discodeit.user.identifier-filter.expected-insertions:1000000}")
+      long expectedInsertions,
+      @Value("${discodeit.user.identifier-filter.false-positive-rate:0.01}")
+      double falsePositiveRate,
+      @Value("${discodeit.user.identifier-filter.rebuild-batch-size:10000}")
+      int rebuildBatchSize,
+      MeterRegistry meterRegistry
+  ) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.enabled = enabled;
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+    this.rebuildBatchSize = rebuildBatchSize;
+    this.usernameMetrics = new FieldMetrics(meterRegistry, "username", Filters::usernames);
+    this.emailMetrics = new FieldMetrics(meterRegistry, "email", Filters::emails);
+  }
+
+  /**
+   * @param exists 필터에 있을 수도 있을 때 DB에서 확인하는 함수
+   */
+  public boolean isUsernameTaken(String username, Predicate<String> exists) {
+    Filters current = filters;
+    return check(username, current == null ? null : current.usernames(), exists,
+        usernameMetrics);
+  }
+
+  public boolean isEmailTaken(String email, Predicate<String> exists) {
+    Filters current = filters;
+    return check(email, current == null ? null : current.emails(), exists, emailMetrics);
+  }
+
+  /**
+   * 만들거나 바꾼 사용자명과 이메일을 넣는다. 저장 전에 넣어야 다른 요청이 없다고 판단하지 않는다.
+   */
+  public void add(String username, String email) {
+    add(filters, username, email);
+    add(building, username, email);
+  }
+
+  @Scheduled(fixedDelayString = "${discodeit.user.identifier-filter.rebuild-interval:PT6H}")
+  public synchronized void rebuild() {
+    if (!enabled) {
+      return;
+    }
+    long start = System.nanoTime();
+    try {
+      Long userCount = jdbcTemplate.queryForObject(
+          "SELECT COUNT(*) FROM users WHERE deleted_at IS NULL", Long.class);
+      // 다음 재생성 전까지 가입할 사용자를 고려해 여유를 둔다.
+      long capacity = Math.max(expectedInsertions, (userCount == null ? 0 : userCount) * 3 / 2);
+      Filters next = new Filters(new BloomFilter(capacity, falsePositiveRate),
+          new BloomFilter(capacity, falsePositiveRate));
+      building = next;
+
+      UUID lastId = MIN_ID;
+      List<UUID> ids;
+      do {
+        ids = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> {
+          add(next, rs.getString("username"), rs.getString("email"));
+          return rs.getObject("id", UUID.class);
+        }, lastId, rebuildBatchSize);
+        if (!ids.isEmpty()) {
+          lastId = ids.get(ids.size() - 1);
+        }
+      } while (ids.size() == rebuildBatchSize);
+
+      filters = next;
+      log.info("사용자명/이메일 필터 생성 완료: users={}, capacity={}, bytes={}, hashes={}, "
+              + "expectedFalsePositiveRate={}, elapsedMs={}",
+          next.usernames().insertions(), capacity,
+          next.usernames().sizeInBytes() + next.emails().sizeInBytes(),
+          next.usernames().hashCount(),
+          String.format("%.4f", next.usernames().expectedFalsePositiveRate()),
+          (System.nanoTime() - start) / 1_000_000);
+    } catch (RuntimeException e) {
+      // 이전 필터가 있으면 계속 쓴다. 없으면 모든 확인을 DB로 보낸다.
+      log.warn("사용자명/이메일 필터 생성 실패", e);
+    } finally {
+      building = null;
+    }
+  }
+
+  boolean isReady() {
+    return filters != null;
+  }
+
+  private static void add(Filters target, String username, String email) {
+    if (target == null) {
+      return;
+    }
+    if (username != null) {
+      target.usernames().put(username);
+    }
+    if (email != null) {
+      target.emails().put(email);
+    }
+  }
+
+  private static boolean check(String value, BloomFilter filter, Predicate<String> exists,
+      FieldMetrics metrics) {
+    if (value == null || filter == null) {
+      metrics.unavailable.increment();
+      return exists.test(value);
+    }
+    if (!filter.mightContain(value)) {
+      metrics.negative.increment();
+      return false;
+    }
+    boolean taken = exists.test(value);
+    (taken ? metrics.positive : metrics.falsePositive).increment();
+    return taken;
+  }
+
+  private static Counter checkCounter(MeterRegistry meterRegistry, String field,
+      String result) {
+    return Counter.builder("discodeit.user.identifier-filter.checks")
+        .tag("field", field)
+        .tag("result", result)
+        .description("중복 확인 결과 (negative는 DB를 조회하지 않음)")
+        .register(meterRegistry);
+  }
+
+  private record Filters(BloomFilter usernames, BloomFilter emails) {
+
+  }
+
+  private final class FieldMetrics {
+
+    private final Counter negative;
+    private final Counter positive;
+    private final Counter falsePositive;
+    private final Counter unavailable;
+
+    FieldMetrics(MeterRegistry meterRegistry, String field,
+        Function<Filters, BloomFilter> selector) {
+      this.negative = checkCounter(meterRegistry, field, "negative");
+      this.positive = checkCounter(meterRegistry, field, "positive");
+      this.falsePositive = checkCounter(meterRegistry, field, "false-positive");
+      this.unavailable = checkCounter(meterRegistry, field, "unavailable");
+      gauge(meterRegistry, "discodeit.user.identifier-filter.bytes", field,
+          "필터 비트 배열 크기", filter -> filter.sizeInBytes(), selector);
+      gauge(meterRegistry, "discodeit.user.identifier-filter.entries", field,
+          "필터에 넣은 값 수 (중복 포함)", filter -> filter.insertions(), selector);
+      gauge(meterRegistry, "discodeit.user.identifier-filter.expected-false-positive-rate",
+          field, "넣은 값 수 기준 이론상 오탐률", BloomFilter::expectedFalsePositiveRate,
+          selector);
+    }
+
+    private void gauge(MeterRegistry meterRegistry, String name, String field,
+        String description, ToDoubleFunction<BloomFilter> value,
+        Function<Filters, BloomFilter> selector) {
+      Gauge.builder(name, UserIdentifierFilter.this, owner -> {
+            Filters current = owner.filters;
+            return current == null ? Double.NaN : value.applyAsDouble(selector.apply(current));
+          })
+          .tag("field", field)
+          .description(description)
+          .register(meterRegistry);
+    }
+  }
+}
@@ -0,0 +1,619 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자명(설정하면 이메일도)으로 사용자를 찾는 인스턴스 메모리 색인. @-멘션과 DM 상대 선택처럼 입력할 때마다
+ * 호출되는 검색을 DB 없이 처리한다.
+ * <p>
+ * 입력으로 시작하는 사용자를 정렬된 맵에서 먼저 찾고, 모자라면 trigram 색인에서 글자가 비슷한 사용자를
+ * 유사도(공유 trigram / 전체 trigram, {@code pg_trgm}과 같은 방식) 순으로 채운다. 너무 흔해서
+ * {@code max-postings}보다 긴 trigram 목록은 후보를 찾는 데 쓰지 않는다.
+ * <p>
+ * 시작할 때와 {@code rebuild-interval}마다 {@code users}를 {@code rebuild-batch-size}개씩 읽어 새로 만들고,
+ * 그 사이에는 {@link UserChangedEvent}를 받아 커밋 후 해당 사용자만 다시 읽어 반영한다. 처음 만들기 전에는
+ * {@code pg_trgm}으로, 확장이 없으면 접두사 {@code LIKE}로 DB에서 찾는다.
+ * <p>
+ * 이벤트는 변경한 인스턴스 안에서만 전달되므로, {@code catch-up-interval}마다 {@code updated_at}이 마지막 확인
+ * 이후인 사용자를 읽어 다른 인스턴스의 가입·이름 변경·탈퇴를 반영한다. 커밋이 늦은 트랜잭션과 인스턴스 간 시계
+ * 차이는 {@code catch-up-overlap}만큼 겹쳐 읽어 흡수한다. 따라서 다른 인스턴스의 변경은 보통
+ * {@code catch-up-interval} 안에 보이고, 그보다 오래 걸려 커밋된 변경이나 {@code updated_at}을 남기지 않고
+ * 지워진 행은 다음 {@code rebuild-interval}에 반영된다. 검색 결과의 id로 사용자를 다시 조회하므로 지운 사용자가
+ * 남아 있어도 응답에는 나오지 않는다.
+ * <p>
+ * 지우거나 이름을 바꾼 사용자의 슬롯은 비워 두기만 하므로, 빈 슬롯이 {@code max-tombstone-ratio}를 넘으면
+ * DB를 다시 읽지 않고 남은 사용자만으로 색인을 새로 만든다.
+ */
+@Slf4j
+@Component
+public class UserSearchIndex {
+
+  private static final String SELECT_PAGE_SQL =
+      "SELECT id, username, email FROM users WHERE id > ? AND deleted_at IS NULL "
+          + "ORDER BY id LIMIT ?";
+  private static final String SELECT_ONE_SQL =
+      "SELECT id, username, email FROM users WHERE id = ? AND deleted_at IS NULL";
+  private static final String SELECT_CHANGED_SQL =
+      "SELECT id, username, email, deleted_at, updated_at FROM users "
+          + "WHERE (updated_at, id) > (?, ?) ORDER BY updated_at, id LIMIT ?";
+  private static final String TRIGRAM_SEARCH_SQL = """
+      SELECT id FROM users
+      WHERE (username ILIKE ? ESCAPE '\\' OR username % ?) AND deleted_at IS NULL
+      ORDER BY (username ILIKE ? ESCAPE '\\') DESC, similarity(username, ?) DESC, username
+      LIMIT ?
+      """;
+  private static final String PREFIX_SEARCH_SQL = """
+      SELECT id FROM users
+      WHERE LOWER(username) LIKE ? ESCAPE '\\' AND deleted_at IS NULL
+      ORDER BY LOWER(username)
+      LIMIT ?
+      """;
+  private static final UUID MIN_ID = new UUID(0L, 0L);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean includeEmail;
+  private final int maxLimit;
+  private final double similarityThreshold;
+  private final int maxPostings;
+  private final int rebuildBatchSize;
+  private final double maxTombstoneRatio;
+  private final Duration catchUpOverlap;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  // 만들기 전에는 null. 바꾸거나 읽을 때는 lock을 잡는다.
+  private Index index;
+  // 새로 만드는 동안 바뀐 사용자. 새 색인으로 바꾼 뒤 다시 읽는다.
+  private Set<UUID> changedWhileRebuilding;
+  // pg_trgm이 없으면 다시 시도하지 않는다.
+  private volatile boolean trigramExtensionMissing;
+  // 이 시각 전에 바뀐 사용자는 색인에 반영되어 있다. rebuild, catchUp에서만 바꾸고 둘은 synchronized로 겹치지 않는다.
+  private Instant caughtUpTo;
+
+  private final Counter indexCounter;
+  private final Counter trigramCounter;
+  private final Counter likeCounter;
+  private final Counter compactionCounter;
+
+  @Autowired
+  public UserSearchIndex(
+      JdbcTemplate jdbcTemplate,
+      @Value("${discodeit.user.search.include-email:false}") boolean includeEmail,
+      @Value("${discodeit.user.search.max-limit:50}") int maxLimit,
+      @Value("${discodeit.user.search.similarity-threshold:0.3}") double similarityThreshold,
+      @Value("${discodeit.user.search.max-postings:20000}") int maxPostings,
+      @Value("${discodeit.user.search.rebuild-batch-size:10000}") int rebuildBatchSize,
+      @Value("${discodeit.user.search.max-tombstone-ratio:0.2}") double maxTombstoneRatio,
+      @Value("${discodeit.user.search.catch-up-overlap:PT1M}") Duration catchUpOverlap,
+      MeterRegistry meterRegistry
+  ) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.includeEmail = includeEmail;
+    this.maxLimit = maxLimit;
+    this.similarityThreshold = similarityThreshold;
+    this.maxPostings = maxPostings;
+    this.rebuildBatchSize = rebuildBatchSize;
+    this.maxTombstoneRatio = maxTombstoneRatio;
+    this.catchUpOverlap = catchUpOverlap;
+
+    this.indexCounter = searchCounter(meterRegistry, "index");
+    this.trigramCounter = searchCounter(meterRegistry, "pg_trgm");
+    this.likeCounter = searchCounter(meterRegistry, "like");
+    this.compactionCounter = Counter.builder("discodeit.user.search.index.compactions")
+        .description("빈 슬롯이 많아 남은 사용자만으로 색인을 새로 만든 횟수")
+        .register(meterRegistry);
+    Gauge.builder("discodeit.user.search.index.size", this, UserSearchIndex::size)
+        .description("검색 색인에 들어 있는 사용자 수")
+        .register(meterRegistry);
+  }
+
+  private static Counter searchCounter(MeterRegistry meterRegistry, String source) {
+    return Counter.builder("discodeit.user.search")
+        .tag("source", source)
+        .description("사용자 검색 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * @return 관련도 순 사용자 id. 접두사가 일치하는 사용자가 먼저 온다.
+   */
+  public List<UUID> search(String query, int limit) {
+    String normalized = normalize(query);
+    int boundedLimit = Math.min(Math.max(limit, 1), maxLimit);
+    if (normalized.isEmpty()) {
+      return List.of();
+    }
+    lock.readLock().lock();
+    try {
+      if (index != null) {
+        indexCounter.increment();
+        return index.search(normalized, boundedLimit);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return searchDatabase(normalized, boundedLimit);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(UserChangedEvent event) {
+    reload(event.userId());
+  }
+
+  /**
+   * DB에서 사용자를 다시 읽어 색인에 반영한다. 없으면 색인에서 뺀다.
+   */
+  public void reload(UUID userId) {
+    List<Row> rows = jdbcTemplate.query(SELECT_ONE_SQL, (rs, rowNum) -> new Row(
+        rs.getObject("id", UUID.class), rs.getString("username"), rs.getString("email")),
+        userId);
+    lock.writeLock().lock();
+    try {
+      if (changedWhileRebuilding != null) {
+        changedWhileRebuilding.add(userId);
+      }
+      if (index == null) {
+        return;
+      }
+      if (rows.isEmpty()) {
+        index.remove(userId);
+      } else {
+        Row row = rows.get(0);
+        index.put(row.id(), row.username(), row.email());
+      }
+      compactIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 방금 커밋된 사용자를 DB를 다시 읽지 않고 반영한다. 대량 가입처럼 사용자마다 이벤트를 보내기엔 많을 때 쓴다.
+   */
+  public void add(UUID userId, String username, String email) {
+    lock.writeLock().lock();
+    try {
+      if (changedWhileRebuilding != null) {
+        changedWhileRebuilding.add(userId);
+      }
+      if (index != null) {
+        index.put(userId, username, email);
+        compactIfNeeded();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${discodeit.user.search.rebuild-interval:PT6H}")
+  public synchronized void rebuild() {
+    long start = System.nanoTime();
+    Instant startedAt = Instant.now();
+    lock.writeLock().lock();
+    try {
+      changedWhileRebuilding = new HashSet<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    Index next = new Index(includeEmail, similarityThreshold, maxPostings);
+    Set<UUID> changed;
+    try {
+      UUID lastId = MIN_ID;
+      List<UUID> ids;
+      do {
+        ids = jdbcTemplate.query(SELECT_PAGE_SQL, (rs, rowNum) -> {
+          UUID id = rs.getObject("id", UUID.class);
+          next.put(id, rs.getString("username"), rs.getString("email"));
+          return id;
+        }, lastId, rebuildBatchSize);
+        if (!ids.isEmpty()) {
+          lastId = ids.get(ids.size() - 1);
+        }
+      } while (ids.size() == rebuildBatchSize);
+    } catch (RuntimeException e) {
+      // 이전 색인이 있으면 계속 쓴다. 없으면 DB에서 찾는다.
+      log.warn("사용자 검색 색인 생성 실패", e);
+      lock.writeLock().lock();
+      try {
+        changedWhileRebuilding = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      return;
+    }
+
+    lock.writeLock().lock();
+    try {
+      index = next;
+      changed = changedWhileRebuilding;
+      changedWhileRebuilding = null;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    caughtUpTo = startedAt;
+    // 읽은 페이지보다 늦게 커밋된 변경을 덮어쓰지 않도록 다시 읽는다.
+    changed.forEach(this::reload);
+    log.info("사용자 검색 색인 생성 완료: users={}, elapsedMs={}", next.size(),
+        (System.nanoTime() - start) / 1_000_000);
+  }
+
+  /**
+   * 다른 인스턴스에서 바뀐 사용자를 반영한다. 탈퇴한 사용자는 {@code deleted_at}이 채워진 채로 읽혀 색인에서 빠진다.
+   * 실패하면 확인한 시각을 그대로 두고 다음 주기에 다시 읽는다.
+   */
+  @Scheduled(fixedDelayString = "${discodeit.user.search.catch-up-interval:PT10S}")
+  public synchronized void catchUp() {
+    if (caughtUpTo == null) {
+      return;
+    }
+    Instant startedAt = Instant.now();
+    Timestamp lastUpdatedAt = Timestamp.from(caughtUpTo.minus(catchUpOverlap));
+    UUID lastId = MIN_ID;
+    int applied = 0;
+    try {
+      List<ChangedRow> rows;
+      do {
+        rows = jdbcTemplate.query(SELECT_CHANGED_SQL, (rs, rowNum) -> new ChangedRow(
+                rs.getObject("id", UUID.class), rs.getString("username"), rs.getString("email"),
+                rs.getTimestamp("deleted_at") != null, rs.getTimestamp("updated_at")),
+            lastUpdatedAt, lastId, rebuildBatchSize);
+        apply(rows);
+        applied += rows.size();
+        if (!rows.isEmpty()) {
+          ChangedRow last = rows.get(rows.size() - 1);
+          lastUpdatedAt = last.updatedAt();
+          lastId = last.id();
+        }
+      } while (rows.size() == rebuildBatchSize);
+    } catch (DataAccessException e) {
+      log.warn("사용자 검색 색인 따라잡기 실패", e);
+      return;
+    }
+    caughtUpTo = startedAt;
+    if (applied > 0) {
+      log.debug("사용자 검색 색인 따라잡기 완료: users={}", applied);
+    }
+  }
+
+  private void apply(List<ChangedRow> rows) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      for (ChangedRow row : rows) {
+        if (row.deleted()) {
+          index.remove(row.id());
+        } else {
+          index.put(row.id(), row.username(), row.email());
+        }
+      }
+      compactIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 벤치마크처럼 DB 없이 색인을 채울 때 쓴다.
+   */
+  void put(UUID userId, String username, String email) {
+    lock.writeLock().lock();
+    try {
+      if (index == null) {
+        index = new Index(includeEmail, similarityThreshold, maxPostings);
+      }
+      index.put(userId, username, email);
+      compactIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 쓰기 락을 잡은 채로 부른다. 메모리 안에서만 옮기므로 DB에서 새로 만드는 것보다 훨씬 짧게 잠근다.
+   */
+  private void compactIfNeeded() {
+    if (index.tombstoneRatio() <= maxTombstoneRatio) {
+      return;
+    }
+    index = index.compact();
+    compactionCounter.increment();
+    log.debug("사용자 검색 색인 압축 완료: users={}", index.size());
+  }
+
+  int size() {
+    lock.readLock().lock();
+    try {
+      return index == null ? 0 : index.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private List<UUID> searchDatabase(String query, int limit) {
+    String prefix = escapeLike(query) + "%";
+    if (!trigramExtensionMissing) {
+      try {
+        List<UUID> ids = jdbcTemplate.queryForList(TRIGRAM_SEARCH_SQL, UUID.class, prefix,
+            query, prefix, query, limit);
+        trigramCounter.increment();
+        return ids;
+      } catch (DataAccessException e) {
+        // 처음 색인을 만드는 동안에만 쓰이므로 실패하면 그 뒤로는 바로 접두사 검색을 쓴다.
+        trigramExtensionMissing = true;
+        log.warn("pg_trgm을 쓸 수 없어 접두사 검색으로 대신합니다: {}", e.getMessage());
+      }
+    }
+    likeCounter.increment();
+    return jdbcTemplate.queryForList(PREFIX_SEARCH_SQL, UUID.class, prefix, limit);
+  }
+
+  private static String escapeLike(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+
+  static String normalize(String value) {
+    return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+  }
+
+  private record Row(UUID id, String username, String email) {
+
+  }
+
+  private record ChangedRow(UUID id, String username, String email, boolean deleted,
+      Timestamp updatedAt) {
+
+  }
+
+  /**
+   * 색인 본체. 스레드 안전하지 않으므로 바깥에서 잠근다.
+   */
+  private static final class Index {
+
+    private final boolean includeEmail;
+    private final double similarityThreshold;
+    private final int maxPostings;
+
+    // 슬롯 번호로 사용자 참조. 지운 사용자는 null로 남기고, 그런 슬롯이 많아지면 compact로 새로 만든다.
+    private final List<Entry> slots = new ArrayList<>();
+    private final Map<UUID, Integer> slotByUserId = new HashMap<>();
+    // 정규화한 검색어 -> 슬롯. 같은 접두사로 시작하는 항목이 이어져 있다.
+    private final TreeMap<String, int[]> terms = new TreeMap<>();
+    // trigram -> 슬롯 목록. 지운 슬롯은 빼지 않고 검색할 때 건너뛴다.
+    private final Map<Long, IntList> postings = new HashMap<>();
+
+    Index(boolean includeEmail, double similarityThreshold, int maxPostings) {
+      this.includeEmail = includeEmail;
+      this.similarityThreshold = similarityThreshold;
+      this.maxPostings = maxPostings;
+    }
+
+    int size() {
+      return slotByUserId.size();
+    }
+
+    /**
+     * 비어 있는 슬롯의 비율. 빈 슬롯은 trigram 목록에 남아 검색할 때마다 건너뛰어야 한다.
+     */
+    double tombstoneRatio() {
+      return slots.isEmpty() ? 0 : 1 - (double) slotByUserId.size() / slots.size();
+    }
+
+    /**
+     * 남은 사용자만 앞에서부터 새 슬롯에 다시 넣은 색인. 빈 슬롯과 그 슬롯을 가리키던 trigram 목록 항목이 빠진다.
+     */
+    Index compact() {
+      Index compacted = new Index(includeEmail, similarityThreshold, maxPostings);
+      for (Entry entry : slots) {
+        if (entry != null) {
+          compacted.add(entry);
+        }
+      }
+      return compacted;
+    }
+
+    void put(UUID userId, String username, String email) {
+      remove(userId);
+      add(new Entry(userId, normalize(username), includeEmail ? normalize(email) : null));
+    }
+
+    private void add(Entry entry) {
+      int slot = slots.size();
+      slots.add(entry);
+      slotByUserId.put(entry.userId(), slot);
+      for (String term : entry.terms()) {
+        terms.merge(term, new int[]{slot}, Index::concat);
+        for (long trigram : trigrams(term)) {
+          postings.computeIfAbsent(trigram, key -> new IntList()).add(slot);
+        }
+      }
+    }
+
+    void remove(UUID userId) {
+      Integer slot = slotByUserId.remove(userId);
+      if (slot == null) {
+        return;
+      }
+      Entry entry = slots.set(slot, null);
+      for (String term : entry.terms()) {
+        terms.computeIfPresent(term, (key, value) -> without(value, slot));
+      }
+    }
+
+    List<UUID> search(String query, int limit) {
+      Set<Integer> matched = new LinkedHashSet<>();
+      NavigableMap<String, int[]> prefixed =
+          terms.subMap(query, true, query + Character.MAX_VALUE, false);
+      outer:
+      for (int[] termSlots : prefixed.values()) {
+        for (int slot : termSlots) {
+          matched.add(slot);
+          if (matched.size() >= limit) {
+            break outer;
+          }
+        }
+      }
+      if (matched.size() < limit && query.length() >= 3) {
+        fuzzy(query, limit - matched.size(), matched);
+      }
+      List<UUID> userIds = new ArrayList<>(matched.size());
+      for (int slot : matched) {
+        userIds.add(slots.get(slot).userId());
+      }
+      return userIds;
+    }
+
+    private void fuzzy(String query, int limit, Set<Integer> matched) {
+      long[] queryTrigrams = trigrams(query);
+      Map<Integer, Integer> hits = new HashMap<>();
+      for (long trigram : queryTrigrams) {
+        IntList slotList = postings.get(trigram);
+        if (slotList == null || slotList.size() > maxPostings) {
+          continue;
+        }
+        for (int i = 0; i < slotList.size(); i++) {
+          hits.merge(slotList.get(i), 1, Integer::sum);
+        }
+      }
+      // 유사도가 기준 이상이려면 적어도 이만큼의 trigram을 공유해야 한다.
+      int minHits = Math.max(1, (int) Math.ceil(queryTrigrams.length * similarityThreshold));
+      PriorityQueue<Scored> top = new PriorityQueue<>(Comparator.comparingDouble(Scored::score));
+      for (Map.Entry<Integer, Integer> hit : hits.entrySet()) {
+        int slot = hit.getKey();
+        Entry entry = slots.get(slot);
+        if (hit.getValue() < minHits || entry == null || matched.contains(slot)) {
+          continue;
+        }
+        double score = 0;
+        for (String term : entry.terms()) {
+          score = Math.max(score, similarity(queryTrigrams, trigrams(term)));
+        }
+        if (score < similarityThreshold) {
+          continue;
+        }
+        top.add(new Scored(slot, score));
+        if (top.size() > limit) {
+          top.poll();
+        }
+      }
+      List<Scored> ranked = new ArrayList<>(top);
+      ranked.sort(Comparator.comparingDouble(Scored::score).reversed()
+          .thenComparing(scored -> slots.get(scored.slot()).username()));
+      ranked.forEach(scored -> matched.add(scored.slot()));
+    }
+
+    private static double similarity(long[] a, long[] b) {
+      int shared = 0;
+      int i = 0;
+      int j = 0;
+      while (i < a.length && j < b.length) {
+        if (a[i] == b[j]) {
+          shared++;
+          i++;
+          j++;
+        } else if (a[i] < b[j]) {
+          i++;
+        } else {
+          j++;
+        }
+      }
+      return (double) shared / (a.length + b.length - shared);
+    }
+
+    /**
+     * 앞에 공백 두 개, 뒤에 하나를 붙여 자른 중복 없는 trigram. 정렬되어 있다.
+     */
+    private static long[] trigrams(String term) {
+      String padded = "  " + term + " ";
+      long[] trigrams = new long[padded.length() - 2];
+      for (int i = 0; i < trigrams.length; i++) {
+        trigrams[i] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16)
+            | padded.charAt(i + 2);
+      }
+      Arrays.sort(trigrams);
+      int distinct = 0;
+      for (int i = 0; i < trigrams.length; i++) {
+        if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+          trigrams[distinct++] = trigrams[i];
+        }
+      }
+      return Arrays.copyOf(trigrams, distinct);
+    }
+
+    private static int[] concat(int[] a, int[] b) {
+      int[] merged = Arrays.copyOf(a, a.length + b.length);
+      System.arraycopy(b, 0, merged, a.length, b.length);
+      return merged;
+    }
+
+    private static int[] without(int[] slots, int slot) {
+      int[] remaining = Arrays.stream(slots).filter(value -> value != slot).toArray();
+      return remaining.length == 0 ? null : remaining;
+    }
+  }
+
+  private record Entry(UUID userId, String username, String email) {
+
+    List<String> terms() {
+      return email == null || email.equals(username) ? List.of(username)
+          : List.of(username, email);
+    }
+  }
+
+  private record Scored(int slot, double score) {
+
+  }
+
+  /**
+   * 늘어나는 int 배열. 사용자 수만큼 생기는 trigram 목록을 Integer 박싱 없이 보관한다.
+   */
+  private static final class IntList {
+
+    private int[] values = new int[4];
+    private int size;
+
+    void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    int get(int index) {
+      return values[index];
+    }
+
+    int size() {
+      return size;
+    }
+  }
+}
@@ -0,0 +1,273 @@
+package com.sprint.mission.discodeit.storage;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.BinaryContentBlob;
+import com.sprint.mission.discodeit.entity.BinaryContentEncoding;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentBlobNotFoundException;
+import com.sprint.mission.discodeit.repository.BinaryContentBlobRepository;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
+import com.sprint.mission.discodeit.storage.codec.BinaryContentCodec;
+import com.sprint.mission.discodeit.storage.codec.EncodedBytes;
+import com.sprint.mission.discodeit.storage.upload.BinaryContentPromoteRequestedEvent;
+import com.sprint.mission.discodeit.storage.upload.DirectUploadDiscardRequestedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 업로드된 바이트를 SHA-256 기준으로 중복 제거하여 저장한다.
+ * <p>
+ * 같은 해시의 blob이 이미 있으면 참조 카운트만 올리고 {@link BinaryContentStorage}에는 쓰지 않는다. 저장소 구현(local, s3)과
+ * 무관하게 동작하며, 참조 카운트가 0이 된 blob은 바로 지우지 않고 같은 내용이 다시 올라오면 재사용한다.
+ */
+@Slf4j
+@Component
+public class BinaryContentBlobStore {
+
+  private static final Pattern SHA_256_HEX = Pattern.compile("^[0-9a-f]{64}$");
+  private static final int DIGEST_CHUNK_SIZE = 64 * 1024;
+
+  private final BinaryContentBlobRepository binaryContentBlobRepository;
+  private final BinaryContentRepository binaryContentRepository;
+  private final BinaryContentUploader binaryContentUploader;
+  private final BinaryContentCodec binaryContentCodec;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final Counter dedupHitCounter;
+  private final Counter dedupMissCounter;
+  private final Counter bytesSavedCounter;
+
+  public BinaryContentBlobStore(
+      BinaryContentBlobRepository binaryContentBlobRepository,
+      BinaryContentRepository binaryContentRepository,
+      BinaryContentUploader binaryContentUploader,
+      BinaryContentCodec binaryContentCodec,
+      ApplicationEventPublisher eventPublisher,
+      MeterRegistry meterRegistry
+  ) {
+    this.binaryContentBlobRepository = binaryContentBlobRepository;
+    this.binaryContentRepository = binaryContentRepository;
+    this.binaryContentUploader = binaryContentUploader;
+    this.binaryContentCodec = binaryContentCodec;
+    this.eventPublisher = eventPublisher;
+
+    this.dedupHitCounter = Counter.builder("discodeit.binary-content.dedup")
+        .tag("result", "hit")
+        .description("이미 저장된 blob을 재사용한 업로드 수")
+        .register(meterRegistry);
+    this.dedupMissCounter = Counter.builder("discodeit.binary-content.dedup")
+        .tag("result", "miss")
+        .description("새 blob을 저장한 업로드 수")
+        .register(meterRegistry);
+    this.bytesSavedCounter = Counter.builder("discodeit.binary-content.dedup.bytes-saved")
+        .baseUnit("bytes")
+        .description("중복 제거로 저장소에 쓰지 않은 바이트 수")
+        .register(meterRegistry);
+    Gauge.builder("discodeit.binary-content.dedup.ratio", this, BinaryContentBlobStore::dedupRatio)
+        .description("전체 업로드 중 중복 제거된 비율")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 새 blob이면 {@link BinaryContentStatus#PENDING} 상태로 행만 만들고, 실제 저장은 커밋 이후 {@link BinaryContentUploader}가
+   * 한다. 따라서 이 트랜잭션은 저장소 I/O를 기다리지 않는다. {@code discodeit.storage.upload.async=false}이면 예전처럼
+   * 트랜잭션 안에서 바로 저장하고 READY로 만든다. 압축할 만한 내용이면 {@link BinaryContentCodec}으로 압축해서 저장한다.
+   */
+  @Transactional
+  public BinaryContent create(String fileName, String contentType, byte[] bytes) {
+    return create(sha256(bytes), bytes.length, fileName, contentType,
+        blob -> {
+          EncodedBytes encoded = binaryContentCodec.encode(contentType, bytes);
+          blob.encodeWith(encoded.encoding());
+          return store(blob, contentType, encoded.bytes());
+        }, () -> {
+        });
+  }
+
+  /**
+   * 클라이언트가 저장소에 직접 올린 바이트({@code uploadKey})로 첨부 파일을 만든다. 새 blob이면 업로드된 바이트를 blob의 저장
+   * 키로 옮기고, 같은 내용이 이미 있으면 업로드된 바이트는 커밋 이후에 지운다.
+   */
+  @Transactional
+  public BinaryContent createFromUpload(UUID uploadKey, String hash, long size, String fileName,
+      String contentType) {
+    return create(normalize(hash), size, fileName, contentType,
+        blob -> promote(uploadKey, blob, contentType),
+        () -> eventPublisher.publishEvent(new DirectUploadDiscardRequestedEvent(uploadKey)));
+  }
+
+  private BinaryContent create(String hash, long size, String fileName, String contentType,
+      Function<BinaryContentBlob, BinaryContentStatus> storer, Runnable onDedupHit) {
+    Optional<BinaryContentBlob> existing = binaryContentBlobRepository.findByHash(hash);
+    boolean inserted = existing.isEmpty() && binaryContentBlobRepository.insertIfAbsent(
+        UUID.randomUUID(), Instant.now(), hash, size) == 1;
+    if (existing.isEmpty()) {
+      // 직접 넣었거나, 같은 내용을 동시에 올린 다른 요청이 먼저 넣은 행을 읽는다.
+      existing = binaryContentBlobRepository.findByHash(hash);
+    }
+
+    BinaryContentBlob blob = existing.orElseThrow(
+        () -> new IllegalStateException("blob을 찾을 수 없습니다: hash=" + hash));
+    BinaryContentStatus status;
+    if (inserted) {
+      status = storer.apply(blob);
+      dedupMissCounter.increment();
+    } else {
+      binaryContentBlobRepository.incrementReferenceCount(blob.getId());
+      // 위의 UPDATE가 업로드 완료 처리와 같은 행 잠금을 거치므로, 여기서 다시 읽은 상태는 최신이다.
+      status = binaryContentBlobRepository.findStatusById(blob.getId());
+      if (status == BinaryContentStatus.FAILED) {
+        // 저장에 실패했던 내용이 다시 올라왔으므로 이번 바이트로 재시도한다.
+        binaryContentBlobRepository.updateStatus(blob.getId(), BinaryContentStatus.FAILED,
+            BinaryContentStatus.PENDING);
+        binaryContentRepository.updateStatusByBlobId(blob.getId(), BinaryContentStatus.FAILED,
+            BinaryContentStatus.PENDING);
+        status = storer.apply(blob);
+        binaryContentRepository.updateStatusByBlobId(blob.getId(), BinaryContentStatus.PENDING,
+            status);
+        dedupMissCounter.increment();
+      } else {
+        onDedupHit.run();
+        dedupHitCounter.increment();
+        bytesSavedCounter.increment(size);
+        log.debug("중복 blob 재사용: blobId={}, hash={}", blob.getId(), hash);
+      }
+    }
+
+    BinaryContent binaryContent = new BinaryContent(fileName, size, contentType, blob, status);
+    binaryContent.assignOwner(currentUserId());
+    return binaryContentRepository.save(binaryContent);
+  }
+
+  @Transactional
+  public BinaryContent createFromHash(String hash, String fileName, String contentType) {
+    String normalizedHash = normalize(hash);
+    BinaryContentBlob blob = binaryContentBlobRepository.findByHash(normalizedHash)
+        .filter(found -> found.getStatus() != BinaryContentStatus.FAILED)
+        .orElseThrow(() -> BinaryContentBlobNotFoundException.withHash(hash));
+    binaryContentBlobRepository.incrementReferenceCount(blob.getId());
+    BinaryContentStatus status = binaryContentBlobRepository.findStatusById(blob.getId());
+    dedupHitCounter.increment();
+    bytesSavedCounter.increment(blob.getSize());
+
+    BinaryContent binaryContent = new BinaryContent(fileName, blob.getSize(), contentType, blob,
+        status);
+    binaryContent.assignOwner(currentUserId());
+    return binaryContentRepository.save(binaryContent);
+  }
+
+  @Transactional(readOnly = true)
+  public boolean exists(String hash) {
+    String normalizedHash = normalize(hash);
+    return SHA_256_HEX.matcher(normalizedHash).matches()
+        && binaryContentBlobRepository.existsByHashAndStatusNot(normalizedHash,
+        BinaryContentStatus.FAILED);
+  }
+
+  @Transactional
+  public void release(BinaryContent binaryContent) {
+    Optional.ofNullable(binaryContent)
+        .map(BinaryContent::getBlob)
+        .ifPresent(blob -> binaryContentBlobRepository.decrementReferenceCount(blob.getId()));
+  }
+
+  @Transactional
+  public void releaseByBinaryContentId(UUID binaryContentId) {
+    binaryContentRepository.findById(binaryContentId).ifPresent(this::release);
+  }
+
+  @Transactional
+  public void releaseByMessageId(UUID messageId) {
+    binaryContentBlobRepository.decrementReferenceCountByMessageId(messageId);
+  }
+
+  @Transactional
+  public void releaseByChannelId(UUID channelId) {
+    binaryContentBlobRepository.decrementReferenceCountByChannelId(channelId);
+  }
+
+  @Transactional
+  public void releaseByUserId(UUID userId) {
+    binaryContentBlobRepository.decrementReferenceCountByUserId(userId);
+  }
+
+  public static String sha256(byte[] bytes) {
+    MessageDigest digest = newSha256Digest();
+    for (int offset = 0; offset < bytes.length; offset += DIGEST_CHUNK_SIZE) {
+      digest.update(bytes, offset, Math.min(DIGEST_CHUNK_SIZE, bytes.length - offset));
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  public static MessageDigest newSha256Digest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private BinaryContentStatus store(BinaryContentBlob blob, String contentType, byte[] bytes) {
+    if (binaryContentUploader.isAsync()) {
+      eventPublisher.publishEvent(
+          new BinaryContentUploadRequestedEvent(blob.getId(), contentType, bytes));
+      return BinaryContentStatus.PENDING;
+    }
+    binaryContentUploader.uploadNow(blob.getId(), contentType, bytes);
+    blob.markReady();
+    return BinaryContentStatus.READY;
+  }
+
+  private BinaryContentStatus promote(UUID uploadKey, BinaryContentBlob blob,
+      String contentType) {
+    // 클라이언트가 올린 바이트는 원본 그대로 옮긴다.
+    blob.encodeWith(BinaryContentEncoding.IDENTITY);
+    if (binaryContentUploader.isAsync()) {
+      eventPublisher.publishEvent(
+          new BinaryContentPromoteRequestedEvent(uploadKey, blob.getId(), contentType));
+      return BinaryContentStatus.PENDING;
+    }
+    binaryContentUploader.promoteNow(uploadKey, blob.getId(), contentType);
+    blob.markReady();
+    return BinaryContentStatus.READY;
+  }
+
+  private double dedupRatio() {
+    double hits = dedupHitCounter.count();
+    double total = hits + dedupMissCounter.count();
+    return total == 0 ? 0 : hits / total;
+  }
+
+  /**
+   * 요청한 사용자. 인증 없이 만드는 경우(가입 시 프로필 등)에는 {@code null}이다.
+   */
+  private static UUID currentUserId() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null
+        && authentication.getPrincipal() instanceof DiscodeitUserDetails userDetails) {
+      return userDetails.getUserDto().id();
+    }
+    return null;
+  }
+
+  private static String normalize(String hash) {
+    return hash == null ? "" : hash.trim().toLowerCase(Locale.ROOT);
+  }
+}
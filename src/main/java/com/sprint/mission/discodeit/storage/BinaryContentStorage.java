@@ -3,6 +3,8 @@ package com.sprint.mission.discodeit.storage;
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import java.io.InputStream;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 
 public interface BinaryContentStorage {
@@ -11,5 +13,38 @@ public interface BinaryContentStorage {
 
   InputStream get(UUID binaryContentId);
 
-  ResponseEntity<?> download(BinaryContentDto metaData);
+  /**
+   * 없는 키는 무시한다.
+   */
+  void delete(UUID key);
+
+  /**
+   * 저장된 모든 키를 순서 없이 흘려보낸다. 키 형식이 아닌 파일은 제외하며, 사용 후 반드시 닫아야 한다.
+   */
+  Stream<StoredObject> list();
+
+  ResponseEntity<?> download(UUID key, BinaryContentDto metaData);
+
+  /**
+   * 저장된 바이트를 풀지 않고 {@code Content-Encoding} 헤더와 함께 그대로 내려보낸다. {@code contentEncoding}이
+   * {@code null}이면 {@link #download(UUID, BinaryContentDto)}와 같다.
+   */
+  default ResponseEntity<?> download(UUID key, BinaryContentDto metaData,
+      String contentEncoding) {
+    ResponseEntity<?> response = download(key, metaData);
+    if (contentEncoding == null || !response.getStatusCode().is2xxSuccessful()) {
+      return response;
+    }
+    HttpHeaders headers = new HttpHeaders();
+    headers.putAll(response.getHeaders());
+    // 메타데이터의 크기는 원본 기준이라 저장된 바이트 길이와 다르다.
+    headers.remove(HttpHeaders.CONTENT_LENGTH);
+    headers.set(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+    headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
+  }
+
+  default ResponseEntity<?> download(BinaryContentDto metaData) {
+    return download(metaData.id(), metaData);
+  }
 }
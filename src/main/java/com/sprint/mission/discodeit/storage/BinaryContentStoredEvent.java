@@ -0,0 +1,13 @@
+package com.sprint.mission.discodeit.storage;
+
+import java.util.UUID;
+
+/**
+ * 새 바이트가 {@link BinaryContentStorage}에 저장되었을 때 발행된다. 이미 있는 blob을 재사용한 경우에는 발행되지 않는다.
+ */
+public record BinaryContentStoredEvent(
+    UUID storageKey,
+    String contentType
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.sprint.mission.discodeit.storage;
+
+import java.util.UUID;
+
+/**
+ * PENDING 상태의 blob을 저장소에 써야 할 때 발행된다. 트랜잭션이 커밋된 뒤에 {@link BinaryContentUploader}가 처리한다.
+ */
+public record BinaryContentUploadRequestedEvent(
+    UUID blobId,
+    String contentType,
+    byte[] bytes
+) {
+
+}
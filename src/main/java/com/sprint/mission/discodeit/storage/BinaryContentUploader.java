@@ -0,0 +1,281 @@
+package com.sprint.mission.discodeit.storage;
+
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.repository.BinaryContentBlobRepository;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.storage.upload.BinaryContentPromoteRequestedEvent;
+import com.sprint.mission.discodeit.storage.upload.DirectUploadDiscardRequestedEvent;
+import com.sprint.mission.discodeit.storage.upload.DirectUploadStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * PENDING 상태의 blob을 커밋 이후에 저장소에 쓴다. 직접 업로드된 바이트를 blob의 저장 키로 옮기는 것도 같은 방식으로 처리한다.
+ * <p>
+ * 첨부 파일마다 별도 작업으로 제출하므로 한 메시지의 첨부 파일들은 병렬로 올라간다. 실패하면 지수 백오프로 재시도하고, 끝내 실패하면
+ * FAILED로 표시한다. 큐가 가득 차면 요청 스레드가 직접 올리므로(이미 커밋된 뒤라 DB 커넥션은 잡고 있지 않다) 메모리에 쌓이는 바이트의
+ * 양이 제한된다.
+ * <p>
+ * 바이트는 메모리에만 있으므로 올리던 인스턴스가 죽으면 blob이 PENDING으로 남는다. 만든 지 {@code stale-pending-timeout}이
+ * 지나도 PENDING인 blob은 주기적으로 FAILED로 바꾸며, 같은 내용이 다시 업로드되면 {@link BinaryContentBlobStore}가 새로 올린다.
+ */
+@Slf4j
+@Component
+public class BinaryContentUploader {
+
+  private static final int SWEEP_BATCH_SIZE = 500;
+
+  private final BinaryContentStorage binaryContentStorage;
+  private final DirectUploadStorage directUploadStorage;
+  private final BinaryContentBlobRepository binaryContentBlobRepository;
+  private final BinaryContentRepository binaryContentRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final boolean async;
+  private final int maxAttempts;
+  private final Duration retryBackoff;
+  private final Duration stalePendingTimeout;
+  private final Clock clock;
+  private final ThreadPoolExecutor executor;
+
+  private final Counter readyCounter;
+  private final Counter failedCounter;
+  private final Counter retryCounter;
+  private final Counter staleCounter;
+  private final Timer uploadTimer;
+
+  @Autowired
+  public BinaryContentUploader(
+      BinaryContentStorage binaryContentStorage,
+      DirectUploadStorage directUploadStorage,
+      BinaryContentBlobRepository binaryContentBlobRepository,
+      BinaryContentRepository binaryContentRepository,
+      PlatformTransactionManager transactionManager,
+      ApplicationEventPublisher eventPublisher,
+      MeterRegistry meterRegistry,
+      @Value("${discodeit.storage.upload.async:true}") boolean async,
+      @Value("${discodeit.storage.upload.worker-threads:4}") int workerThreads,
+      @Value("${discodeit.storage.upload.queue-capacity:64}") int queueCapacity,
+      @Value("${discodeit.storage.upload.max-attempts:3}") int maxAttempts,
+      @Value("${discodeit.storage.upload.retry-backoff:PT1S}") Duration retryBackoff,
+      @Value("${discodeit.storage.upload.stale-pending-timeout:PT1H}") Duration stalePendingTimeout
+  ) {
+    this(binaryContentStorage, directUploadStorage, binaryContentBlobRepository,
+        binaryContentRepository, transactionManager, eventPublisher, meterRegistry, async,
+        workerThreads, queueCapacity, maxAttempts, retryBackoff, stalePendingTimeout,
+        Clock.systemUTC());
+  }
+
+  BinaryContentUploader(BinaryContentStorage binaryContentStorage,
+      DirectUploadStorage directUploadStorage,
+      BinaryContentBlobRepository binaryContentBlobRepository,
+      BinaryContentRepository binaryContentRepository,
+      PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+      MeterRegistry meterRegistry, boolean async, int workerThreads, int queueCapacity,
+      int maxAttempts, Duration retryBackoff, Duration stalePendingTimeout, Clock clock) {
+    this.binaryContentStorage = binaryContentStorage;
+    this.directUploadStorage = directUploadStorage;
+    this.binaryContentBlobRepository = binaryContentBlobRepository;
+    this.binaryContentRepository = binaryContentRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.eventPublisher = eventPublisher;
+    this.async = async;
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.retryBackoff = retryBackoff;
+    this.stalePendingTimeout = stalePendingTimeout;
+    this.clock = clock;
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable,
+              "binary-content-upload-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.CallerRunsPolicy());
+
+    this.readyCounter = Counter.builder("discodeit.binary-content.upload")
+        .tag("result", "ready")
+        .register(meterRegistry);
+    this.failedCounter = Counter.builder("discodeit.binary-content.upload")
+        .tag("result", "failed")
+        .register(meterRegistry);
+    this.retryCounter = Counter.builder("discodeit.binary-content.upload.retries")
+        .register(meterRegistry);
+    this.staleCounter = Counter.builder("discodeit.binary-content.upload")
+        .tag("result", "stale")
+        .description("올리던 인스턴스가 사라져 FAILED로 바꾼 blob 수")
+        .register(meterRegistry);
+    this.uploadTimer = Timer.builder("discodeit.binary-content.upload.duration")
+        .description("저장소 쓰기 소요 시간 (재시도 포함)")
+        .register(meterRegistry);
+  }
+
+  public boolean isAsync() {
+    return async;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(BinaryContentUploadRequestedEvent event) {
+    executor.execute(() -> uploadTimer.record(() -> upload(event)));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(BinaryContentPromoteRequestedEvent event) {
+    executor.execute(() -> uploadTimer.record(() -> promote(event)));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(DirectUploadDiscardRequestedEvent event) {
+    executor.execute(() -> {
+      try {
+        binaryContentStorage.delete(event.uploadKey());
+      } catch (RuntimeException e) {
+        // 남은 파일은 저장소 GC가 정리한다.
+        log.warn("업로드 파일 삭제 실패: uploadKey={}", event.uploadKey(), e);
+      }
+    });
+  }
+
+  /**
+   * 동기 모드에서 호출하는 쪽의 트랜잭션 안에서 바로 저장한다. 실패하면 예외가 그대로 전파되어 트랜잭션이 롤백된다.
+   */
+  public void uploadNow(UUID blobId, String contentType, byte[] bytes) {
+    uploadTimer.record(() -> binaryContentStorage.put(blobId, bytes));
+    readyCounter.increment();
+    eventPublisher.publishEvent(new BinaryContentStoredEvent(blobId, contentType));
+  }
+
+  /**
+   * 동기 모드에서 직접 업로드된 바이트를 호출하는 쪽의 트랜잭션 안에서 바로 옮긴다.
+   */
+  public void promoteNow(UUID uploadKey, UUID blobId, String contentType) {
+    uploadTimer.record(() -> directUploadStorage.promote(uploadKey, blobId));
+    readyCounter.increment();
+    eventPublisher.publishEvent(new BinaryContentStoredEvent(blobId, contentType));
+  }
+
+  /**
+   * 만든 지 {@code stale-pending-timeout}이 지나도록 PENDING인 blob을 FAILED로 바꾼다. 조건부 갱신이므로 여러 인스턴스가
+   * 함께 돌거나 그 사이 업로드가 끝나도 안전하다.
+   */
+  @Scheduled(fixedDelayString = "${discodeit.storage.upload.stale-pending-sweep-interval:PT10M}")
+  public void failStalePendingBlobs() {
+    Instant cutoff = clock.instant().minus(stalePendingTimeout);
+    int failed = 0;
+    List<UUID> blobIds;
+    // 바꾼 행은 다음 조회에서 빠지므로 항상 첫 페이지를 읽는다.
+    do {
+      blobIds = binaryContentBlobRepository.findIdsByStatusAndCreatedAtBefore(
+          BinaryContentStatus.PENDING, cutoff, PageRequest.of(0, SWEEP_BATCH_SIZE));
+      for (UUID blobId : blobIds) {
+        if (markAs(blobId, BinaryContentStatus.FAILED)) {
+          failed++;
+        }
+      }
+    } while (blobIds.size() == SWEEP_BATCH_SIZE);
+    if (failed > 0) {
+      staleCounter.increment(failed);
+      log.warn("오래 PENDING으로 남은 blob을 FAILED로 변경: count={}", failed);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+      log.warn("종료 시점에 끝나지 않은 업로드가 있습니다: queued={}", executor.getQueue().size());
+    }
+  }
+
+  void upload(BinaryContentUploadRequestedEvent event) {
+    store(event.blobId(), event.contentType(),
+        () -> binaryContentStorage.put(event.blobId(), event.bytes()));
+  }
+
+  void promote(BinaryContentPromoteRequestedEvent event) {
+    store(event.blobId(), event.contentType(),
+        () -> directUploadStorage.promote(event.uploadKey(), event.blobId()));
+  }
+
+  private void store(UUID blobId, String contentType, Runnable write) {
+    for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+      try {
+        if (attempt > 1) {
+          // 이전 시도에서 일부만 쓰였을 수 있다.
+          binaryContentStorage.delete(blobId);
+        }
+        write.run();
+        markAs(blobId, BinaryContentStatus.READY);
+        readyCounter.increment();
+        log.info("첨부 파일 저장 완료: blobId={}, attempt={}", blobId, attempt);
+        eventPublisher.publishEvent(new BinaryContentStoredEvent(blobId, contentType));
+        return;
+      } catch (RuntimeException e) {
+        log.warn("첨부 파일 저장 실패: blobId={}, attempt={}/{}", blobId, attempt, maxAttempts, e);
+        if (attempt < maxAttempts) {
+          retryCounter.increment();
+          if (!sleep(retryBackoff.multipliedBy(1L << (attempt - 1)))) {
+            break;
+          }
+        }
+      }
+    }
+    markAs(blobId, BinaryContentStatus.FAILED);
+    failedCounter.increment();
+    log.error("첨부 파일 저장 최종 실패: blobId={}", blobId);
+  }
+
+  /**
+   * @return blob의 상태를 바꿨으면 {@code true}
+   */
+  private boolean markAs(UUID blobId, BinaryContentStatus status) {
+    // blob 행을 먼저 바꿔 같은 blob을 참조하는 동시 생성과 순서를 맞춘다.
+    Boolean updated = transactionTemplate.execute(transactionStatus -> {
+      int rows = binaryContentBlobRepository.updateStatus(blobId, BinaryContentStatus.PENDING,
+          status);
+      binaryContentRepository.updateStatusByBlobId(blobId, BinaryContentStatus.PENDING, status);
+      if (rows == 0 && status == BinaryContentStatus.READY) {
+        // 오래 걸린 재업로드를 정리 작업이 먼저 FAILED로 바꿨어도 바이트는 저장되었다.
+        rows = binaryContentBlobRepository.updateStatus(blobId, BinaryContentStatus.FAILED,
+            status);
+        binaryContentRepository.updateStatusByBlobId(blobId, BinaryContentStatus.FAILED, status);
+      }
+      return rows > 0;
+    });
+    return Boolean.TRUE.equals(updated);
+  }
+
+  private static boolean sleep(Duration duration) {
+    try {
+      Thread.sleep(duration.toMillis());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package com.sprint.mission.discodeit.storage;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record StoredObject(
+    UUID key,
+    long size,
+    Instant lastModified
+) {
+
+}
@@ -0,0 +1,209 @@
+package com.sprint.mission.discodeit.storage.archive;
+
+import com.sprint.mission.discodeit.dto.data.AttachmentArchiveEntry;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.codec.BinaryContentCodec;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 첨부 파일들을 임시 파일 없이 바로 ZIP 응답 본문으로 흘려 보낸다.
+ * <p>
+ * 현재 파일을 쓰는 동안 다음 {@code read-ahead}개 파일의 스트림을 미리 열어 두어 저장소 응답 대기 시간을 숨긴다. 미리 여는 개수가
+ * 정해져 있으므로 묶음의 크기와 무관하게 동시에 열린 스트림 수가 제한된다. 이미 압축된 미디어는 다시 압축하지 않는다.
+ */
+@Slf4j
+@Component
+public class AttachmentZipWriter {
+
+  static final String MISSING_ENTRY_NAME = "MISSING.txt";
+
+  private static final Set<String> COMPRESSIBLE_TYPES = Set.of(
+      "image/svg+xml", "image/bmp", "image/x-icon", "image/tiff");
+  private static final Set<String> COMPRESSED_TYPES = Set.of(
+      "application/zip", "application/gzip", "application/x-gzip", "application/x-7z-compressed",
+      "application/x-rar-compressed", "application/vnd.rar", "application/x-bzip2",
+      "application/x-xz", "application/zstd", "application/pdf");
+
+  private final BinaryContentStorage binaryContentStorage;
+  private final int readAhead;
+  private final ThreadPoolExecutor executor;
+
+  public AttachmentZipWriter(
+      BinaryContentStorage binaryContentStorage,
+      @Value("${discodeit.storage.archive.read-ahead:2}") int readAhead,
+      @Value("${discodeit.storage.archive.worker-threads:4}") int workerThreads
+  ) {
+    this.binaryContentStorage = binaryContentStorage;
+    this.readAhead = Math.max(0, readAhead);
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(workerThreads * 16),
+        runnable -> {
+          Thread thread = new Thread(runnable,
+              "attachment-archive-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * 응답 헤더를 이미 보낸 뒤이므로 읽을 수 없는 파일 때문에 전체를 실패시키지 않는다. 빠진 파일은 마지막에
+   * {@value #MISSING_ENTRY_NAME}에 적는다. {@code outputStream}은 닫지 않는다.
+   */
+  public void write(List<AttachmentArchiveEntry> entries, boolean groupByMessage,
+      OutputStream outputStream) throws IOException {
+    ZipOutputStream zip = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+    Set<String> usedNames = new HashSet<>();
+    List<String> missing = new ArrayList<>();
+    Deque<Prefetch> pending = new ArrayDeque<>();
+
+    Iterator<AttachmentArchiveEntry> iterator = entries.stream()
+        .filter(entry -> {
+          if (entry.status() != BinaryContentStatus.READY) {
+            missing.add(entry.fileName() + " (" + entry.status() + ")");
+            return false;
+          }
+          return true;
+        })
+        .iterator();
+    try {
+      fill(pending, iterator);
+      while (!pending.isEmpty()) {
+        Prefetch current = pending.poll();
+        fill(pending, iterator);
+        String name = uniqueName(current.entry(), groupByMessage, usedNames);
+        writeEntry(zip, current, name, missing);
+      }
+      if (!missing.isEmpty()) {
+        zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+        zip.putNextEntry(new ZipEntry(uniqueName(MISSING_ENTRY_NAME, usedNames)));
+        zip.write(String.join("\n", missing).getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+      }
+      zip.finish();
+    } finally {
+      pending.forEach(Prefetch::discard);
+    }
+  }
+
+  private void fill(Deque<Prefetch> pending, Iterator<AttachmentArchiveEntry> iterator) {
+    // 지금 쓸 파일 하나와 미리 열어 둘 파일 readAhead개
+    while (pending.size() <= readAhead && iterator.hasNext()) {
+      AttachmentArchiveEntry entry = iterator.next();
+      pending.add(new Prefetch(entry, CompletableFuture.supplyAsync(
+          () -> BinaryContentCodec.decode(entry.encoding(),
+              binaryContentStorage.get(entry.storageKey())), executor)));
+    }
+  }
+
+  private void writeEntry(ZipOutputStream zip, Prefetch prefetch, String name,
+      List<String> missing) throws IOException {
+    InputStream inputStream;
+    try {
+      inputStream = prefetch.stream().join();
+    } catch (CompletionException e) {
+      log.warn("첨부 파일 묶음에서 파일을 읽지 못함: binaryContentId={}",
+          prefetch.entry().binaryContentId(), e.getCause());
+      missing.add(name);
+      return;
+    }
+
+    try (inputStream) {
+      // ZipOutputStream의 STORED는 CRC를 미리 알아야 해서 스트리밍할 수 없다. 압축 없는 DEFLATE로 같은 효과를 낸다.
+      zip.setLevel(isCompressed(prefetch.entry().contentType())
+          ? Deflater.NO_COMPRESSION : Deflater.DEFAULT_COMPRESSION);
+      zip.putNextEntry(new ZipEntry(name));
+      inputStream.transferTo(zip);
+      zip.closeEntry();
+    }
+  }
+
+  static boolean isCompressed(String contentType) {
+    if (contentType == null) {
+      return false;
+    }
+    String type = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+    if (COMPRESSIBLE_TYPES.contains(type)) {
+      return false;
+    }
+    return type.startsWith("image/") || type.startsWith("video/") || type.startsWith("audio/")
+        || COMPRESSED_TYPES.contains(type);
+  }
+
+  private static String uniqueName(AttachmentArchiveEntry entry, boolean groupByMessage,
+      Set<String> usedNames) {
+    String fileName = sanitize(entry.fileName());
+    if (fileName.isEmpty()) {
+      fileName = entry.binaryContentId().toString();
+    }
+    String name = groupByMessage ? entry.messageId() + "/" + fileName : fileName;
+    return uniqueName(name, usedNames);
+  }
+
+  private static String uniqueName(String name, Set<String> usedNames) {
+    String candidate = name;
+    int dot = name.lastIndexOf('.');
+    boolean hasExtension = dot > name.lastIndexOf('/') + 1;
+    String base = hasExtension ? name.substring(0, dot) : name;
+    String extension = hasExtension ? name.substring(dot) : "";
+    for (int i = 1; !usedNames.add(candidate); i++) {
+      candidate = base + " (" + i + ")" + extension;
+    }
+    return candidate;
+  }
+
+  private static String sanitize(String fileName) {
+    if (fileName == null) {
+      return "";
+    }
+    // 압축을 풀 때 다른 경로에 쓰이지 않도록 디렉터리 구분자와 앞쪽 점을 없앤다.
+    return fileName.replace('/', '_').replace('\\', '_').replaceAll("^\\.+", "").trim();
+  }
+
+  private record Prefetch(AttachmentArchiveEntry entry, CompletableFuture<InputStream> stream) {
+
+    void discard() {
+      stream.whenComplete((inputStream, e) -> {
+        if (inputStream != null) {
+          try {
+            inputStream.close();
+          } catch (IOException ignored) {
+            // 이미 응답이 끝났다.
+          }
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,362 @@
+package com.sprint.mission.discodeit.storage.cache;
+
+import com.sprint.mission.discodeit.cache.BoundedCache;
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.StoredObject;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * S3 앞에 두는 로컬 디스크 LRU 캐시.
+ * <p>
+ * {@code put}은 원격 저장소에 먼저 쓴 뒤 캐시에도 쓴다(write-through). 캐시에 있는 파일은 presigned URL로 리다이렉트하지 않고
+ * 디스크 파일을 그대로 응답하며, 없으면 원격에서 받아 캐시에 채운 뒤 응답한다. 전체 크기가 {@code max-size}를 넘으면 가장 오래
+ * 사용하지 않은 파일부터 지운다.
+ */
+@Slf4j
+@Primary
+@ConditionalOnExpression(
+    "'${discodeit.storage.type}' == 's3' and ${discodeit.storage.cache.enabled:false}")
+@Component
+public class CachingBinaryContentStorage implements BinaryContentStorage {
+
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private final BinaryContentStorage delegate;
+  private final Path root;
+  private final long maxObjectSizeBytes;
+
+  // 값은 파일 크기. 한도를 넘어 밀려난 항목의 파일을 지운다.
+  private final BoundedCache<UUID, Long> entries;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public CachingBinaryContentStorage(
+      @Qualifier("s3BinaryContentStorage") BinaryContentStorage delegate,
+      @Value("${discodeit.storage.cache.root-path:.discodeit/cache}") Path root,
+      @Value("${discodeit.storage.cache.max-size:1GB}") DataSize maxSize,
+      @Value("${discodeit.storage.cache.max-object-size:10MB}") DataSize maxObjectSize,
+      MeterRegistry meterRegistry
+  ) {
+    this.delegate = delegate;
+    this.root = root;
+    this.maxObjectSizeBytes = Math.min(maxObjectSize.toBytes(), maxSize.toBytes());
+    // 이미 연 스트림(get, OpenedFileResource)은 파일이 지워져도 끝까지 읽을 수 있다.
+    this.entries = new BoundedCache<>("discodeit.storage.cache", maxSize.toBytes(), null,
+        Long::longValue, (key, size) -> deleteQuietly(resolvePath(key)), Clock.systemUTC(),
+        meterRegistry);
+
+    this.hitCounter = Counter.builder("discodeit.storage.cache")
+        .tag("result", "hit")
+        .description("로컬 디스크 캐시에서 응답한 요청 수")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder("discodeit.storage.cache")
+        .tag("result", "miss")
+        .description("원격 저장소에서 가져온 요청 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 재시작 후에도 캐시를 이어 쓰도록 디스크의 파일로 인덱스를 다시 만든다. 수정 시각이 오래된 파일이 먼저 제거 대상이 된다.
+   */
+  @PostConstruct
+  public void init() {
+    try {
+      Files.createDirectories(root);
+      try (Stream<Path> files = Files.list(root)) {
+        files.filter(Files::isRegularFile)
+            .sorted(Comparator.comparingLong(CachingBinaryContentStorage::lastModified))
+            .forEach(this::restore);
+      }
+      log.info("로컬 캐시 초기화 완료: root={}, entries={}, size={}", root, entries.size(),
+          entries.weight());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public UUID put(UUID binaryContentId, byte[] bytes) {
+    UUID key = delegate.put(binaryContentId, bytes);
+    cache(binaryContentId, bytes);
+    return key;
+  }
+
+  @Override
+  public InputStream get(UUID binaryContentId) {
+    Path cached = touch(binaryContentId);
+    if (cached != null) {
+      try {
+        InputStream inputStream = Files.newInputStream(cached);
+        hitCounter.increment();
+        return inputStream;
+      } catch (IOException e) {
+        // 다른 스레드가 방금 지웠다면 원격에서 다시 가져온다.
+        remove(binaryContentId);
+      }
+    }
+
+    missCounter.increment();
+    return fetchAndCache(binaryContentId);
+  }
+
+  @Override
+  public void delete(UUID key) {
+    delegate.delete(key);
+    remove(key);
+    deleteQuietly(resolvePath(key));
+  }
+
+  @Override
+  public Stream<StoredObject> list() {
+    return delegate.list();
+  }
+
+  @Override
+  public ResponseEntity<?> download(BinaryContentDto metaData) {
+    return download(metaData.id(), metaData);
+  }
+
+  @Override
+  public ResponseEntity<?> download(UUID key, BinaryContentDto metaData) {
+    return download(key, metaData, null);
+  }
+
+  @Override
+  public ResponseEntity<?> download(UUID key, BinaryContentDto metaData,
+      String contentEncoding) {
+    Path cached = touch(key);
+    if (cached != null) {
+      ResponseEntity<Resource> response = fileResponse(key, cached, metaData, contentEncoding);
+      if (response != null) {
+        hitCounter.increment();
+        return response;
+      }
+    }
+    if (metaData.size() != null && metaData.size() > maxObjectSizeBytes) {
+      missCounter.increment();
+      return delegate.download(key, metaData, contentEncoding);
+    }
+
+    missCounter.increment();
+    closeQuietly(fetchAndCache(key));
+    Path filled = touch(key);
+    ResponseEntity<Resource> response =
+        filled != null ? fileResponse(key, filled, metaData, contentEncoding) : null;
+    return response != null ? response : delegate.download(key, metaData, contentEncoding);
+  }
+
+  /**
+   * 원격 객체를 임시 파일로 받아 캐시에 채우고, 그 파일을 읽는 스트림을 돌려준다. 객체 전체를 힙에 올리지 않는다.
+   * {@code max-object-size}를 넘으면 캐시하지 않고, 임시 파일에 받은 앞부분에 이어 원격 스트림을 그대로 읽게 한다.
+   */
+  private InputStream fetchAndCache(UUID key) {
+    InputStream remote = delegate.get(key);
+    Path temp = tempPath(key);
+    try {
+      long copied;
+      try (OutputStream outputStream = Files.newOutputStream(temp)) {
+        copied = StreamUtils.copyRange(remote, outputStream, 0, maxObjectSizeBytes);
+      }
+      // 열어 둔 스트림은 파일이 옮겨지거나 지워져도 끝까지 읽을 수 있다.
+      if (copied > maxObjectSizeBytes) {
+        InputStream head = Files.newInputStream(temp);
+        deleteQuietly(temp);
+        return new SequenceInputStream(head, remote);
+      }
+      remote.close();
+      InputStream inputStream = Files.newInputStream(temp);
+      commit(key, temp, copied);
+      return inputStream;
+    } catch (IOException e) {
+      closeQuietly(remote);
+      deleteQuietly(temp);
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * @return 그 사이 제거되어 파일을 열 수 없으면 {@code null}
+   */
+  private ResponseEntity<Resource> fileResponse(UUID key, Path file, BinaryContentDto metaData,
+      String contentEncoding) {
+    // 파일 전체를 힙에 올리지 않고 디스크에서 바로 응답 본문으로 흘려보낸다. Range 요청도 그대로 처리된다.
+    Resource resource;
+    try {
+      resource = new OpenedFileResource(file);
+    } catch (IOException e) {
+      remove(key);
+      return null;
+    }
+    ResponseEntity.BodyBuilder builder = ResponseEntity
+        .status(HttpStatus.OK)
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"" + metaData.fileName() + "\"")
+        .header(HttpHeaders.CONTENT_TYPE, metaData.contentType());
+    if (contentEncoding == null) {
+      builder.header(HttpHeaders.CONTENT_LENGTH, String.valueOf(metaData.size()));
+    } else {
+      // 길이는 캐시 파일(인코딩된 바이트) 기준으로 채워진다.
+      builder.header(HttpHeaders.CONTENT_ENCODING, contentEncoding)
+          .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+    return builder.body(resource);
+  }
+
+  private void cache(UUID key, byte[] bytes) {
+    if (bytes.length > maxObjectSizeBytes) {
+      return;
+    }
+    Path temp = tempPath(key);
+    try {
+      Files.write(temp, bytes);
+    } catch (IOException e) {
+      // 캐시 쓰기 실패는 원격 저장에 영향을 주지 않는다.
+      log.warn("로컬 캐시 쓰기 실패: key={}", key, e);
+      deleteQuietly(temp);
+      return;
+    }
+    commit(key, temp, bytes.length);
+  }
+
+  private void commit(UUID key, Path temp, long size) {
+    try {
+      Files.move(temp, resolvePath(key), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      log.warn("로컬 캐시 쓰기 실패: key={}", key, e);
+      deleteQuietly(temp);
+      return;
+    }
+    entries.put(key, size);
+  }
+
+  private Path tempPath(UUID key) {
+    return root.resolve(key + "." + Thread.currentThread().getId() + TEMP_SUFFIX);
+  }
+
+  private Path touch(UUID key) {
+    return entries.get(key) != null ? resolvePath(key) : null;
+  }
+
+  private void remove(UUID key) {
+    entries.remove(key);
+  }
+
+  private void restore(Path file) {
+    String fileName = file.getFileName().toString();
+    if (fileName.endsWith(TEMP_SUFFIX)) {
+      deleteQuietly(file);
+      return;
+    }
+    try {
+      UUID key = UUID.fromString(fileName);
+      // 오래된 파일부터 넣으므로 한도를 넘으면 그 파일들이 먼저 지워진다.
+      entries.put(key, Files.size(file));
+    } catch (IllegalArgumentException | IOException e) {
+      log.debug("캐시 디렉토리의 알 수 없는 파일 무시: {}", file);
+    }
+  }
+
+  private Path resolvePath(UUID key) {
+    return root.resolve(key.toString());
+  }
+
+  private static long lastModified(Path file) {
+    try {
+      return Files.getLastModifiedTime(file).toMillis();
+    } catch (IOException e) {
+      return 0L;
+    }
+  }
+
+  /**
+   * 응답을 만들 때 미리 열어 둔 캐시 파일. 본문을 쓰기 전에 용량 한도로 밀려나 파일이 지워져도 열어 둔 스트림과 처음에
+   * 확인한 길이로 끝까지 응답한다. 여러 구간을 요청한 Range 요청처럼 스트림을 다시 열 때만 경로에서 새로 연다.
+   */
+  private static class OpenedFileResource extends FileSystemResource {
+
+    private final long contentLength;
+    private final AtomicReference<InputStream> opened;
+
+    OpenedFileResource(Path file) throws IOException {
+      super(file);
+      SeekableByteChannel channel = Files.newByteChannel(file);
+      try {
+        this.contentLength = channel.size();
+      } catch (IOException e) {
+        channel.close();
+        throw e;
+      }
+      this.opened = new AtomicReference<>(Channels.newInputStream(channel));
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+      InputStream inputStream = opened.getAndSet(null);
+      return inputStream != null ? inputStream : super.getInputStream();
+    }
+
+    @Override
+    public long contentLength() {
+      return contentLength;
+    }
+
+    @Override
+    public boolean exists() {
+      return true;
+    }
+
+    @Override
+    public boolean isReadable() {
+      return true;
+    }
+  }
+
+  private static void closeQuietly(InputStream inputStream) {
+    try {
+      inputStream.close();
+    } catch (IOException e) {
+      log.debug("원격 스트림 닫기 실패", e);
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.debug("캐시 파일 삭제 실패: {}", file);
+    }
+  }
+}
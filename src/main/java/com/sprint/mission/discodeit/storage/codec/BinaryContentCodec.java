@@ -0,0 +1,202 @@
+package com.sprint.mission.discodeit.storage.codec;
+
+import com.sprint.mission.discodeit.entity.BinaryContentEncoding;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 텍스트 계열 첨부 파일을 저장하기 전에 압축하고, 읽을 때 스트림으로 풀어 준다.
+ * <p>
+ * 압축 여부는 저장 시점에 컨텐츠 타입과 앞부분 {@code sample-size}만큼의 압축률로 정한다. 결과 인코딩은 blob에 기록되며, 해시와
+ * 크기는 항상 원본 기준이라 중복 제거에는 영향이 없다. gzip을 쓰므로 클라이언트가 받을 수 있으면 저장된 바이트를 풀지 않고
+ * {@code Content-Encoding: gzip}으로 그대로 내려보낼 수 있다.
+ */
+@Slf4j
+@Component
+public class BinaryContentCodec {
+
+  private static final Set<String> COMPRESSIBLE_TYPES = Set.of(
+      "application/json", "application/x-ndjson", "application/xml", "application/javascript",
+      "application/x-javascript", "application/yaml", "application/x-yaml", "application/csv",
+      "application/sql", "application/x-sh", "application/x-tex", "application/rtf",
+      "image/svg+xml");
+  private static final int BUFFER_SIZE = 8 * 1024;
+
+  private final boolean enabled;
+  private final long minSizeBytes;
+  private final int sampleSizeBytes;
+  private final double minRatio;
+  private final int level;
+
+  private final Counter compressedCounter;
+  private final Counter skippedCounter;
+  private final Counter bytesSavedCounter;
+
+  public BinaryContentCodec(
+      @Value("${discodeit.storage.compression.enabled:true}") boolean enabled,
+      @Value("${discodeit.storage.compression.min-size:1KB}") DataSize minSize,
+      @Value("${discodeit.storage.compression.sample-size:64KB}") DataSize sampleSize,
+      @Value("${discodeit.storage.compression.min-ratio:1.5}") double minRatio,
+      @Value("${discodeit.storage.compression.level:6}") int level,
+      MeterRegistry meterRegistry
+  ) {
+    this.enabled = enabled;
+    this.minSizeBytes = minSize.toBytes();
+    this.sampleSizeBytes = (int) Math.min(sampleSize.toBytes(), Integer.MAX_VALUE);
+    this.minRatio = minRatio;
+    this.level = level;
+
+    this.compressedCounter = Counter.builder("discodeit.binary-content.compression")
+        .tag("result", "compressed")
+        .description("압축해서 저장한 blob 수")
+        .register(meterRegistry);
+    this.skippedCounter = Counter.builder("discodeit.binary-content.compression")
+        .tag("result", "skipped")
+        .description("압축 대상 타입이지만 압축률이 낮아 원본 그대로 저장한 blob 수")
+        .register(meterRegistry);
+    this.bytesSavedCounter = Counter.builder("discodeit.binary-content.compression.bytes-saved")
+        .baseUnit("bytes")
+        .description("압축으로 저장소에 쓰지 않은 바이트 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 압축할 가치가 없으면 원본 배열을 그대로 {@link BinaryContentEncoding#IDENTITY}로 돌려준다.
+   */
+  public EncodedBytes encode(String contentType, byte[] bytes) {
+    if (!enabled || bytes.length < minSizeBytes || !isCompressible(contentType)) {
+      return new EncodedBytes(BinaryContentEncoding.IDENTITY, bytes);
+    }
+    int sampleLength = Math.min(bytes.length, sampleSizeBytes);
+    if (sampleLength < minRatio * deflatedLength(bytes, sampleLength)) {
+      skippedCounter.increment();
+      return new EncodedBytes(BinaryContentEncoding.IDENTITY, bytes);
+    }
+
+    byte[] compressed = gzip(bytes);
+    if (bytes.length < minRatio * compressed.length) {
+      // 앞부분만 잘 압축되는 파일
+      skippedCounter.increment();
+      return new EncodedBytes(BinaryContentEncoding.IDENTITY, bytes);
+    }
+    compressedCounter.increment();
+    bytesSavedCounter.increment(bytes.length - compressed.length);
+    log.debug("blob 압축: contentType={}, size={}, compressedSize={}", contentType,
+        bytes.length, compressed.length);
+    return new EncodedBytes(BinaryContentEncoding.GZIP, compressed);
+  }
+
+  /**
+   * 저장소에서 읽은 스트림을 원본 바이트 스트림으로 바꾼다. 전체를 메모리에 올리지 않고 읽는 만큼만 푼다.
+   */
+  public static InputStream decode(BinaryContentEncoding encoding, InputStream inputStream) {
+    if (encoding == null || encoding == BinaryContentEncoding.IDENTITY) {
+      return inputStream;
+    }
+    try {
+      return new GZIPInputStream(inputStream, BUFFER_SIZE);
+    } catch (IOException e) {
+      closeQuietly(inputStream);
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * {@code Accept-Encoding} 헤더가 주어진 인코딩(또는 {@code *})을 0이 아닌 q 값으로 허용하는지 확인한다.
+   */
+  public static boolean accepts(String acceptEncoding, BinaryContentEncoding encoding) {
+    if (encoding == BinaryContentEncoding.IDENTITY) {
+      return true;
+    }
+    if (acceptEncoding == null || acceptEncoding.isBlank()) {
+      return false;
+    }
+    Double wildcard = null;
+    for (String part : acceptEncoding.split(",")) {
+      String[] tokens = part.split(";");
+      String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+      double quality = tokens.length < 2 ? 1 : qualityOf(tokens[1]);
+      if (coding.equals(encoding.getHeaderValue())) {
+        return quality > 0;
+      }
+      if (coding.equals("*")) {
+        wildcard = quality;
+      }
+    }
+    return wildcard != null && wildcard > 0;
+  }
+
+  static boolean isCompressible(String contentType) {
+    if (contentType == null) {
+      return false;
+    }
+    String mediaType = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+    return mediaType.startsWith("text/")
+        || mediaType.endsWith("+json")
+        || mediaType.endsWith("+xml")
+        || COMPRESSIBLE_TYPES.contains(mediaType);
+  }
+
+  private long deflatedLength(byte[] bytes, int length) {
+    Deflater deflater = new Deflater(level, true);
+    try {
+      deflater.setInput(bytes, 0, length);
+      deflater.finish();
+      byte[] buffer = new byte[BUFFER_SIZE];
+      long total = 0;
+      while (!deflater.finished()) {
+        total += deflater.deflate(buffer);
+      }
+      return total;
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private byte[] gzip(byte[] bytes) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE) {
+      {
+        def.setLevel(level);
+      }
+    }) {
+      gzip.write(bytes);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  private static double qualityOf(String parameter) {
+    String[] pair = parameter.split("=", 2);
+    if (pair.length < 2 || !pair[0].trim().equalsIgnoreCase("q")) {
+      return 1;
+    }
+    try {
+      return Double.parseDouble(pair[1].trim());
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private static void closeQuietly(InputStream inputStream) {
+    try {
+      inputStream.close();
+    } catch (IOException ignored) {
+      // 이미 실패한 스트림
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package com.sprint.mission.discodeit.storage.codec;
+
+import com.sprint.mission.discodeit.entity.BinaryContentEncoding;
+
+/**
+ * 저장소에 그대로 쓸 바이트와 그 인코딩.
+ */
+public record EncodedBytes(BinaryContentEncoding encoding, byte[] bytes) {
+
+}
@@ -0,0 +1,247 @@
+package com.sprint.mission.discodeit.storage.derivative;
+
+import com.sprint.mission.discodeit.cache.BoundedCache;
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.entity.BinaryContentDerivative;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.exception.binarycontent.UnsupportedBinaryContentVariantException;
+import com.sprint.mission.discodeit.repository.BinaryContentDerivativeRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.BinaryContentStoredEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 이미지 축소본(variant)을 만들고 찾는다.
+ * <p>
+ * 업로드 커밋 후 제한된 크기의 작업 풀에서 미리 만들어 두고, 풀이 가득 차 건너뛴 경우에는 첫 다운로드 요청에서 만든다. 같은 축소본을
+ * 동시에 요청하면 진행 중인 작업 하나의 결과를 함께 기다린다. 다른 인스턴스가 같은 축소본을 먼저 저장했으면 그 행을 다시 읽어 쓴다.
+ * <p>
+ * 읽을 수 없거나 너무 큰 원본은 {@code negative-cache-ttl} 동안 기억해 두고, 그동안은 원본을 다시 받아 디코딩하지 않는다.
+ */
+@Slf4j
+@Component
+public class BinaryContentDerivativeStore {
+
+  private final BinaryContentDerivativeRepository binaryContentDerivativeRepository;
+  private final BinaryContentStorage binaryContentStorage;
+  private final ImageResizer imageResizer;
+  private final List<Integer> sizes;
+  private final boolean eagerGeneration;
+  private final ThreadPoolExecutor executor;
+
+  private final Map<String, CompletableFuture<BinaryContentDerivative>> inFlight =
+      new ConcurrentHashMap<>();
+  // 축소본을 만들 수 없었던 원본의 저장 키
+  private final BoundedCache<UUID, Boolean> unresizableSources;
+
+  public BinaryContentDerivativeStore(
+      BinaryContentDerivativeRepository binaryContentDerivativeRepository,
+      BinaryContentStorage binaryContentStorage,
+      @Value("${discodeit.storage.derivative.sizes:64,256,1024}") List<Integer> sizes,
+      @Value("${discodeit.storage.derivative.format:jpeg}") String format,
+      @Value("${discodeit.storage.derivative.max-source-pixels:40000000}") long maxSourcePixels,
+      @Value("${discodeit.storage.derivative.eager:true}") boolean eagerGeneration,
+      @Value("${discodeit.storage.derivative.worker-threads:2}") int workerThreads,
+      @Value("${discodeit.storage.derivative.queue-capacity:100}") int queueCapacity,
+      @Value("${discodeit.storage.derivative.negative-cache-size:10000}") int negativeCacheSize,
+      @Value("${discodeit.storage.derivative.negative-cache-ttl:PT1H}") Duration negativeCacheTtl,
+      MeterRegistry meterRegistry
+  ) {
+    this.binaryContentDerivativeRepository = binaryContentDerivativeRepository;
+    this.binaryContentStorage = binaryContentStorage;
+    this.imageResizer = new ImageResizer(format, maxSourcePixels);
+    this.sizes = List.copyOf(sizes);
+    this.eagerGeneration = eagerGeneration;
+    this.unresizableSources = new BoundedCache<>("discodeit.storage.derivative.unresizable",
+        negativeCacheSize, negativeCacheTtl, Clock.systemUTC(), meterRegistry);
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable,
+              "binary-content-derivative-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(BinaryContentStoredEvent event) {
+    if (!eagerGeneration || !isImage(event.contentType())) {
+      return;
+    }
+    for (Integer size : sizes) {
+      String variant = String.valueOf(size);
+      try {
+        executor.execute(() -> {
+          try {
+            getOrGenerate(event.storageKey(), variant);
+          } catch (RuntimeException e) {
+            log.warn("축소본 생성 실패: sourceKey={}, variant={}", event.storageKey(), variant, e);
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        // 첫 다운로드 요청에서 만들어진다.
+        log.debug("축소본 작업 큐가 가득 차 건너뜀: sourceKey={}, variant={}", event.storageKey(),
+            variant);
+      }
+    }
+  }
+
+  /**
+   * @param sourceKey 원본의 저장 키
+   * @param source    원본의 메타 정보
+   */
+  public BinaryContentDerivative getOrGenerate(UUID sourceKey, BinaryContentDto source,
+      String variant) {
+    if (!isImage(source.contentType()) || !sizes.contains(parseSize(variant))) {
+      throw UnsupportedBinaryContentVariantException.withVariant(source.id(), variant);
+    }
+    try {
+      return getOrGenerate(sourceKey, variant)
+          .orElseThrow(() -> UnsupportedBinaryContentVariantException.withVariant(source.id(),
+              variant));
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  public BinaryContentDto toMetaData(BinaryContentDto source, BinaryContentDerivative derivative) {
+    return new BinaryContentDto(
+        source.id(),
+        derivativeFileName(source.fileName(), derivative.getVariant()),
+        derivative.getSize(),
+        derivative.getContentType(),
+        BinaryContentStatus.READY
+    );
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private Optional<BinaryContentDerivative> getOrGenerate(UUID sourceKey, String variant) {
+    Optional<BinaryContentDerivative> existing =
+        binaryContentDerivativeRepository.findBySourceKeyAndVariant(sourceKey, variant);
+    if (existing.isPresent()) {
+      return existing;
+    }
+    if (unresizableSources.get(sourceKey) != null) {
+      return Optional.empty();
+    }
+
+    String inFlightKey = sourceKey + ":" + variant;
+    CompletableFuture<BinaryContentDerivative> future = new CompletableFuture<>();
+    CompletableFuture<BinaryContentDerivative> running = inFlight.putIfAbsent(inFlightKey, future);
+    if (running != null) {
+      return Optional.ofNullable(running.join());
+    }
+
+    try {
+      // 조회와 등록 사이에 다른 작업이 끝났을 수 있다.
+      BinaryContentDerivative derivative = binaryContentDerivativeRepository
+          .findBySourceKeyAndVariant(sourceKey, variant)
+          .orElseGet(() -> generate(sourceKey, variant));
+      future.complete(derivative);
+      return Optional.ofNullable(derivative);
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(inFlightKey, future);
+    }
+  }
+
+  private BinaryContentDerivative generate(UUID sourceKey, String variant) {
+    log.debug("축소본 생성 시작: sourceKey={}, variant={}", sourceKey, variant);
+    byte[] sourceBytes;
+    try (InputStream source = binaryContentStorage.get(sourceKey)) {
+      sourceBytes = source.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    Optional<byte[]> resized;
+    try {
+      resized = imageResizer.resize(sourceBytes, parseSize(variant));
+    } catch (IOException | RuntimeException e) {
+      // 손상된 이미지는 다시 시도해도 같은 결과다.
+      log.debug("축소본 디코딩 실패: sourceKey={}", sourceKey, e);
+      resized = Optional.empty();
+    }
+    if (resized.isEmpty()) {
+      log.debug("축소본을 만들 수 없는 원본: sourceKey={}", sourceKey);
+      unresizableSources.put(sourceKey, Boolean.TRUE);
+      return null;
+    }
+
+    byte[] bytes = resized.get();
+    BinaryContentDerivative derivative;
+    try {
+      derivative = binaryContentDerivativeRepository.save(
+          new BinaryContentDerivative(sourceKey, variant, (long) bytes.length,
+              imageResizer.getContentType()));
+    } catch (DataIntegrityViolationException e) {
+      // 다른 인스턴스가 같은 축소본을 먼저 저장했다.
+      log.debug("축소본이 이미 저장됨: sourceKey={}, variant={}", sourceKey, variant);
+      return binaryContentDerivativeRepository.findBySourceKeyAndVariant(sourceKey, variant)
+          .orElseThrow(() -> e);
+    }
+    try {
+      binaryContentStorage.put(derivative.getId(), bytes);
+    } catch (RuntimeException e) {
+      binaryContentDerivativeRepository.delete(derivative);
+      throw e;
+    }
+    log.info("축소본 생성 완료: sourceKey={}, variant={}, size={}", sourceKey, variant,
+        bytes.length);
+    return derivative;
+  }
+
+  private static int parseSize(String variant) {
+    try {
+      return Integer.parseInt(variant);
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private static boolean isImage(String contentType) {
+    return contentType != null && contentType.startsWith("image/");
+  }
+
+  private String derivativeFileName(String fileName, String variant) {
+    String extension = imageResizer.getContentType().substring("image/".length());
+    int dot = fileName.lastIndexOf('.');
+    String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+    return baseName + "_" + variant + "." + extension;
+  }
+}
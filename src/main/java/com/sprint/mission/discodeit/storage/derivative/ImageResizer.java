@@ -0,0 +1,102 @@
+package com.sprint.mission.discodeit.storage.derivative;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Optional;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * {@link ImageIO}로 이미지를 긴 변 기준으로 축소한다. 원본이 목표 크기보다 작으면 확대하지 않는다.
+ * <p>
+ * 큰 원본은 디코딩 단계에서 서브샘플링하여 목표 크기의 2배 정도로만 읽으므로, 전체 해상도의 픽셀 배열을 만들지 않는다.
+ */
+public class ImageResizer {
+
+  private final String format;
+  private final long maxSourcePixels;
+
+  public ImageResizer(String format, long maxSourcePixels) {
+    if (!ImageIO.getImageWritersByFormatName(format).hasNext()) {
+      throw new IllegalStateException("지원하지 않는 이미지 출력 형식입니다: " + format);
+    }
+    this.format = format;
+    this.maxSourcePixels = maxSourcePixels;
+  }
+
+  public String getContentType() {
+    return "image/" + format;
+  }
+
+  /**
+   * @return 읽을 수 없는 이미지이거나 픽셀 수 제한을 넘으면 {@link Optional#empty()}
+   */
+  public Optional<byte[]> resize(byte[] source, int maxDimension) throws IOException {
+    try (ImageInputStream input = ImageIO.createImageInputStream(
+        new ByteArrayInputStream(source))) {
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+      if (!readers.hasNext()) {
+        return Optional.empty();
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(input, true, true);
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if ((long) width * height > maxSourcePixels) {
+          return Optional.empty();
+        }
+
+        ImageReadParam param = reader.getDefaultReadParam();
+        int subsampling = Math.max(1, Math.max(width, height) / (maxDimension * 2));
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        BufferedImage decoded = reader.read(0, param);
+
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        return Optional.of(encode(draw(decoded, targetWidth, targetHeight)));
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  private BufferedImage draw(BufferedImage source, int width, int height) {
+    // JPEG은 알파 채널을 쓸 수 없으므로 RGB로 그린다.
+    boolean keepAlpha = !"jpeg".equalsIgnoreCase(format) && !"jpg".equalsIgnoreCase(format)
+        && source.getColorModel().hasAlpha();
+    BufferedImage target = new BufferedImage(width, height,
+        keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = target.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+          RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      if (!keepAlpha) {
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, width, height);
+      }
+      graphics.drawImage(source, 0, 0, width, height, null);
+    } finally {
+      graphics.dispose();
+    }
+    return target;
+  }
+
+  private byte[] encode(BufferedImage image) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    if (!ImageIO.write(image, format, output)) {
+      throw new IOException("이미지 인코딩 실패: format=" + format);
+    }
+    return output.toByteArray();
+  }
+}
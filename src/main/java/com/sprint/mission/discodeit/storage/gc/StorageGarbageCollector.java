@@ -0,0 +1,240 @@
+package com.sprint.mission.discodeit.storage.gc;
+
+import com.sprint.mission.discodeit.dto.response.StorageGcReport;
+import com.sprint.mission.discodeit.exception.binarycontent.StorageGcAlreadyRunningException;
+import com.sprint.mission.discodeit.repository.BinaryContentBlobRepository;
+import com.sprint.mission.discodeit.repository.BinaryContentDerivativeRepository;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.StoredObject;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * DB에서 참조하지 않는 blob과 저장소 파일을 정리한다.
+ * <ol>
+ *   <li>어떤 {@code BinaryContent}도 가리키지 않는 blob 행을 지운다.</li>
+ *   <li>원본이 사라진 축소본 행을 지운다.</li>
+ *   <li>저장소 키 목록을 배치 단위로 흘려 읽으면서 DB에 없는 키를 지운다.</li>
+ * </ol>
+ * 모든 단계는 유예 기간({@code grace-period})보다 오래된 대상만 건드리므로, 커밋 전에 저장소에 먼저 쓴 업로드는 지워지지 않는다.
+ * 저장소 삭제는 초당 {@code deletes-per-second}개로 제한한다.
+ */
+@Slf4j
+@Component
+public class StorageGarbageCollector {
+
+  private static final UUID MIN_UUID = new UUID(0L, 0L);
+  private static final int SAMPLE_SIZE = 100;
+
+  private final BinaryContentBlobRepository binaryContentBlobRepository;
+  private final BinaryContentRepository binaryContentRepository;
+  private final BinaryContentDerivativeRepository binaryContentDerivativeRepository;
+  private final BinaryContentStorage binaryContentStorage;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration gracePeriod;
+  private final int batchSize;
+  private final long deleteIntervalNanos;
+  private final boolean scheduledDryRun;
+  private final Clock clock;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  @Autowired
+  public StorageGarbageCollector(
+      BinaryContentBlobRepository binaryContentBlobRepository,
+      BinaryContentRepository binaryContentRepository,
+      BinaryContentDerivativeRepository binaryContentDerivativeRepository,
+      BinaryContentStorage binaryContentStorage,
+      PlatformTransactionManager transactionManager,
+      @Value("${discodeit.storage.gc.grace-period:PT24H}") Duration gracePeriod,
+      @Value("${discodeit.storage.gc.batch-size:500}") int batchSize,
+      @Value("${discodeit.storage.gc.deletes-per-second:50}") int deletesPerSecond,
+      @Value("${discodeit.storage.gc.scheduled-dry-run:true}") boolean scheduledDryRun
+  ) {
+    this(binaryContentBlobRepository, binaryContentRepository, binaryContentDerivativeRepository,
+        binaryContentStorage, new TransactionTemplate(transactionManager), gracePeriod, batchSize,
+        deletesPerSecond, scheduledDryRun, Clock.systemUTC());
+  }
+
+  StorageGarbageCollector(
+      BinaryContentBlobRepository binaryContentBlobRepository,
+      BinaryContentRepository binaryContentRepository,
+      BinaryContentDerivativeRepository binaryContentDerivativeRepository,
+      BinaryContentStorage binaryContentStorage,
+      TransactionTemplate transactionTemplate,
+      Duration gracePeriod,
+      int batchSize,
+      int deletesPerSecond,
+      boolean scheduledDryRun,
+      Clock clock
+  ) {
+    this.binaryContentBlobRepository = binaryContentBlobRepository;
+    this.binaryContentRepository = binaryContentRepository;
+    this.binaryContentDerivativeRepository = binaryContentDerivativeRepository;
+    this.binaryContentStorage = binaryContentStorage;
+    this.transactionTemplate = transactionTemplate;
+    this.gracePeriod = gracePeriod;
+    this.batchSize = batchSize;
+    this.deleteIntervalNanos = deletesPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / deletesPerSecond
+        : 0L;
+    this.scheduledDryRun = scheduledDryRun;
+    this.clock = clock;
+  }
+
+  @Scheduled(cron = "${discodeit.storage.gc.cron:-}")
+  public void scheduledCollect() {
+    try {
+      collect(scheduledDryRun);
+    } catch (StorageGcAlreadyRunningException e) {
+      log.info("저장소 정리 작업이 이미 실행 중이어서 이번 주기는 건너뜀");
+    }
+  }
+
+  public StorageGcReport collect(boolean dryRun) {
+    if (!lock.tryLock()) {
+      throw new StorageGcAlreadyRunningException();
+    }
+    try {
+      Instant startedAt = clock.instant();
+      Instant cutoff = startedAt.minus(gracePeriod);
+      log.info("저장소 정리 시작: dryRun={}, cutoff={}", dryRun, cutoff);
+
+      long unreferencedBlobs = collectRows(cutoff, dryRun,
+          after -> binaryContentBlobRepository.findUnreferencedIds(after, cutoff,
+              Pageable.ofSize(batchSize)),
+          binaryContentBlobRepository::deleteUnreferencedByIdIn);
+      long danglingDerivatives = collectRows(cutoff, dryRun,
+          after -> binaryContentDerivativeRepository.findDanglingIds(after, cutoff,
+              Pageable.ofSize(batchSize)),
+          binaryContentDerivativeRepository::deleteByIdIn);
+      StorageGcReport report = collectObjects(startedAt, cutoff, dryRun, unreferencedBlobs,
+          danglingDerivatives);
+
+      log.info("저장소 정리 완료: {}", report);
+      return report;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private long collectRows(Instant cutoff, boolean dryRun, Function<UUID, List<UUID>> nextBatch,
+      Function<List<UUID>, Integer> delete) {
+    long count = 0;
+    UUID after = MIN_UUID;
+    while (true) {
+      List<UUID> ids = nextBatch.apply(after);
+      if (ids.isEmpty()) {
+        return count;
+      }
+      after = ids.get(ids.size() - 1);
+      if (dryRun) {
+        count += ids.size();
+        continue;
+      }
+      try {
+        Integer deleted = transactionTemplate.execute(status -> delete.apply(ids));
+        count += deleted == null ? 0 : deleted;
+      } catch (DataIntegrityViolationException e) {
+        // 조회 후 새로 참조된 행이 있으면 이 배치는 다음 실행으로 미룬다.
+        log.warn("저장소 정리 중 참조가 생긴 행이 있어 배치를 건너뜀: cutoff={}, size={}", cutoff,
+            ids.size());
+      }
+    }
+  }
+
+  private StorageGcReport collectObjects(Instant startedAt, Instant cutoff, boolean dryRun,
+      long unreferencedBlobs, long danglingDerivatives) {
+    long scanned = 0;
+    long orphans = 0;
+    long orphanBytes = 0;
+    long deleted = 0;
+    List<UUID> samples = new ArrayList<>();
+    long nextDeleteAt = System.nanoTime();
+
+    try (Stream<StoredObject> objects = binaryContentStorage.list()) {
+      Iterator<StoredObject> iterator = objects.iterator();
+      List<StoredObject> batch = new ArrayList<>(batchSize);
+      while (iterator.hasNext() || !batch.isEmpty()) {
+        if (iterator.hasNext()) {
+          StoredObject object = iterator.next();
+          scanned++;
+          if (object.lastModified().isBefore(cutoff)) {
+            batch.add(object);
+          }
+          if (batch.size() < batchSize && iterator.hasNext()) {
+            continue;
+          }
+        }
+
+        for (StoredObject orphan : findOrphans(batch)) {
+          orphans++;
+          orphanBytes += orphan.size();
+          if (samples.size() < SAMPLE_SIZE) {
+            samples.add(orphan.key());
+          }
+          if (dryRun) {
+            continue;
+          }
+          nextDeleteAt = throttle(nextDeleteAt);
+          try {
+            binaryContentStorage.delete(orphan.key());
+            deleted++;
+          } catch (RuntimeException e) {
+            log.warn("저장소 파일 삭제 실패: key={}", orphan.key(), e);
+          }
+        }
+        batch.clear();
+      }
+    }
+
+    return new StorageGcReport(dryRun, startedAt, clock.instant(), unreferencedBlobs,
+        danglingDerivatives, scanned, orphans, orphanBytes, deleted, samples);
+  }
+
+  private List<StoredObject> findOrphans(List<StoredObject> batch) {
+    if (batch.isEmpty()) {
+      return List.of();
+    }
+    List<UUID> keys = batch.stream().map(StoredObject::key).toList();
+    Set<UUID> known = new HashSet<>(binaryContentBlobRepository.findIdsByIdIn(keys));
+    known.addAll(binaryContentRepository.findLegacyStorageKeysByIdIn(keys));
+    known.addAll(binaryContentDerivativeRepository.findIdsByIdIn(keys));
+    return batch.stream()
+        .filter(object -> !known.contains(object.key()))
+        .toList();
+  }
+
+  private long throttle(long nextDeleteAt) {
+    long waitNanos = nextDeleteAt - System.nanoTime();
+    if (waitNanos > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("저장소 정리 작업이 중단되었습니다.", e);
+      }
+    }
+    return Math.max(nextDeleteAt, System.nanoTime()) + deleteIntervalNanos;
+  }
+}
@@ -2,26 +2,50 @@ package com.sprint.mission.discodeit.storage.local;
 
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.BinaryContentBlobStore;
+import com.sprint.mission.discodeit.storage.StoredObject;
+import com.sprint.mission.discodeit.storage.upload.DirectUploadStorage;
+import com.sprint.mission.discodeit.storage.upload.DirectUploadTarget;
+import com.sprint.mission.discodeit.storage.upload.ResumableUploadStorage;
+import com.sprint.mission.discodeit.storage.upload.StagedObject;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @ConditionalOnProperty(name = "discodeit.storage.type", havingValue = "local")
 @Component
-public class LocalBinaryContentStorage implements BinaryContentStorage {
+public class LocalBinaryContentStorage implements BinaryContentStorage, DirectUploadStorage,
+    ResumableUploadStorage {
+
+  private static final String UPLOAD_PATH = "/api/binaryContents/uploads/{uploadId}/content";
+  private static final String PARTIAL_SUFFIX = ".part";
+  private static final int BUFFER_SIZE = 64 * 1024;
 
   private final Path root;
 
@@ -69,13 +93,184 @@ public class LocalBinaryContentStorage implements BinaryContentStorage {
     }
   }
 
+  @Override
+  public void delete(UUID key) {
+    try {
+      Files.deleteIfExists(resolvePath(key));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public Stream<StoredObject> list() {
+    try {
+      return Files.list(root)
+          .map(LocalBinaryContentStorage::toStoredObject)
+          .flatMap(Optional::stream);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * 로컬 저장소에서는 애플리케이션 서버가 업로드 URL이므로, 서명 대신 토큰을 쿼리 파라미터로 붙인다.
+   */
+  @Override
+  public DirectUploadTarget createTarget(UUID uploadKey, String contentType, long size,
+      String sha256, String token, Instant expiresAt) {
+    String url = UriComponentsBuilder.fromPath(UPLOAD_PATH)
+        .queryParam("token", token)
+        .buildAndExpand(uploadKey)
+        .toUriString();
+    return new DirectUploadTarget(url, HttpMethod.PUT.name(),
+        Map.of(HttpHeaders.CONTENT_TYPE, contentType));
+  }
+
+  @Override
+  public Optional<StagedObject> inspect(UUID uploadKey) {
+    Path filePath = resolvePath(uploadKey);
+    if (Files.notExists(filePath)) {
+      return Optional.empty();
+    }
+    MessageDigest digest = BinaryContentBlobStore.newSha256Digest();
+    byte[] buffer = new byte[BUFFER_SIZE];
+    long size = 0;
+    try (InputStream inputStream = Files.newInputStream(filePath)) {
+      int read;
+      while ((read = inputStream.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+        size += read;
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return Optional.of(new StagedObject(size, HexFormat.of().formatHex(digest.digest()), null));
+  }
+
+  @Override
+  public void promote(UUID uploadKey, UUID storageKey) {
+    try {
+      Files.move(resolvePath(uploadKey), resolvePath(storageKey), StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public boolean acceptsUploads() {
+    return true;
+  }
+
+  /**
+   * 임시 파일에 끝까지 쓴 뒤에 키 이름으로 옮기므로, 도중에 끊긴 업로드가 완료된 것처럼 보이지 않는다. 같은 업로드를 다시 올리면
+   * 덮어쓴다.
+   */
+  @Override
+  public void receive(UUID uploadKey, InputStream inputStream, long maxBytes) {
+    Path partialPath = root.resolve(uploadKey + PARTIAL_SUFFIX);
+    try {
+      try (OutputStream outputStream = Files.newOutputStream(partialPath)) {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long written = 0;
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+          written += read;
+          if (written > maxBytes) {
+            throw new IllegalArgumentException(
+                "Upload " + uploadKey + " exceeds " + maxBytes + " bytes");
+          }
+          outputStream.write(buffer, 0, read);
+        }
+      }
+      Files.move(partialPath, resolvePath(uploadKey), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    } finally {
+      try {
+        Files.deleteIfExists(partialPath);
+      } catch (IOException e) {
+        // 다음 업로드에서 덮어쓴다.
+      }
+    }
+  }
+
+  @Override
+  public String begin(UUID uploadKey, String contentType) {
+    try {
+      Files.deleteIfExists(resolvePath(uploadKey));
+      Files.createFile(resolvePath(uploadKey));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return null;
+  }
+
+  /**
+   * 이어 붙이지 않고 {@code offset} 위치에 쓰므로, 끊긴 청크나 중복 청크가 와도 파일이 어긋나지 않는다.
+   */
+  @Override
+  public void writeChunk(UUID uploadKey, String multipartId, int partNumber, long offset,
+      InputStream inputStream, long length) {
+    try (FileChannel channel = FileChannel.open(resolvePath(uploadKey), StandardOpenOption.WRITE)) {
+      byte[] buffer = new byte[BUFFER_SIZE];
+      long position = offset;
+      long remaining = length;
+      while (remaining > 0) {
+        int read = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+        if (read == -1) {
+          throw new IOException("Chunk ended after " + (length - remaining) + " of " + length
+              + " bytes");
+        }
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+        while (byteBuffer.hasRemaining()) {
+          position += channel.write(byteBuffer, position);
+        }
+        remaining -= read;
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void finish(UUID uploadKey, String multipartId, int partCount) {
+    // 청크를 받을 때마다 이미 키 파일에 썼다.
+  }
+
+  @Override
+  public void abort(UUID uploadKey, String multipartId) {
+    delete(uploadKey);
+  }
+
+  private static Optional<StoredObject> toStoredObject(Path path) {
+    try {
+      UUID key = UUID.fromString(path.getFileName().toString());
+      BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+      if (!attributes.isRegularFile()) {
+        return Optional.empty();
+      }
+      return Optional.of(new StoredObject(key, attributes.size(),
+          attributes.lastModifiedTime().toInstant()));
+    } catch (IllegalArgumentException | IOException e) {
+      // 키 형식이 아니거나 나열 중에 지워진 파일
+      return Optional.empty();
+    }
+  }
+
   private Path resolvePath(UUID key) {
     return root.resolve(key.toString());
   }
 
   @Override
   public ResponseEntity<Resource> download(BinaryContentDto metaData) {
-    InputStream inputStream = get(metaData.id());
+    return download(metaData.id(), metaData);
+  }
+
+  @Override
+  public ResponseEntity<Resource> download(UUID key, BinaryContentDto metaData) {
+    InputStream inputStream = get(key);
     Resource resource = new InputStreamResource(inputStream);
 
     return ResponseEntity
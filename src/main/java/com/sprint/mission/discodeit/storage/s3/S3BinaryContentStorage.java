@@ -2,11 +2,28 @@ package com.sprint.mission.discodeit.storage.s3;
 
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
-import java.io.ByteArrayInputStream;
+import com.sprint.mission.discodeit.storage.BinaryContentBlobStore;
+import com.sprint.mission.discodeit.storage.StoredObject;
+import com.sprint.mission.discodeit.storage.upload.DirectUploadStorage;
+import com.sprint.mission.discodeit.storage.upload.DirectUploadTarget;
+import com.sprint.mission.discodeit.storage.upload.ResumableUploadStorage;
+import com.sprint.mission.discodeit.storage.upload.StagedObject;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -19,22 +36,42 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 @Slf4j
 @ConditionalOnProperty(name = "discodeit.storage.type", havingValue = "s3")
 @Component
-public class S3BinaryContentStorage implements BinaryContentStorage {
+public class S3BinaryContentStorage implements BinaryContentStorage, DirectUploadStorage,
+    ResumableUploadStorage {
+
+  private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
 
-  private final String accessKey;
-  private final String secretKey;
-  private final String region;
   private final String bucket;
+  // 스레드 안전하고 커넥션 풀을 가지므로 요청마다 만들지 않고 하나를 같이 쓴다.
+  private final S3Client s3Client;
+  private final S3Presigner s3Presigner;
 
   @Value("${discodeit.storage.s3.presigned-url-expiration:600}") // 기본값 10분
   private long presignedUrlExpirationSeconds;
@@ -45,18 +82,29 @@ public class S3BinaryContentStorage implements BinaryContentStorage {
       @Value("${discodeit.storage.s3.region}") String region,
       @Value("${discodeit.storage.s3.bucket}") String bucket
   ) {
-    this.accessKey = accessKey;
-    this.secretKey = secretKey;
-    this.region = region;
     this.bucket = bucket;
+    StaticCredentialsProvider credentialsProvider = StaticCredentialsProvider.create(
+        AwsBasicCredentials.create(accessKey, secretKey));
+    this.s3Client = S3Client.builder()
+        .region(Region.of(region))
+        .credentialsProvider(credentialsProvider)
+        .build();
+    this.s3Presigner = S3Presigner.builder()
+        .region(Region.of(region))
+        .credentialsProvider(credentialsProvider)
+        .build();
+  }
+
+  @PreDestroy
+  public void close() {
+    s3Presigner.close();
+    s3Client.close();
   }
 
   @Override
   public UUID put(UUID binaryContentId, byte[] bytes) {
     String key = binaryContentId.toString();
     try {
-      S3Client s3Client = getS3Client();
-
       PutObjectRequest request = PutObjectRequest.builder()
           .bucket(bucket)
           .key(key)
@@ -72,41 +120,269 @@ public class S3BinaryContentStorage implements BinaryContentStorage {
     }
   }
 
+  /**
+   * 객체 전체를 메모리에 올리지 않고 응답 본문을 그대로 돌려준다. 스트림을 닫으면 커넥션이 풀로 돌아간다.
+   */
   @Override
   public InputStream get(UUID binaryContentId) {
     String key = binaryContentId.toString();
     try {
-      S3Client s3Client = getS3Client();
-
       GetObjectRequest request = GetObjectRequest.builder()
           .bucket(bucket)
           .key(key)
           .build();
 
-      byte[] bytes = s3Client.getObjectAsBytes(request).asByteArray();
-      return new ByteArrayInputStream(bytes);
+      return s3Client.getObject(request);
     } catch (S3Exception e) {
       log.error("S3에서 파일 다운로드 실패: {}", e.getMessage());
       throw new NoSuchElementException("File with key " + key + " does not exist");
     }
   }
 
-  private S3Client getS3Client() {
-    return S3Client.builder()
-        .region(Region.of(region))
-        .credentialsProvider(
-            StaticCredentialsProvider.create(
-                AwsBasicCredentials.create(accessKey, secretKey)
-            )
-        )
+  @Override
+  public void delete(UUID key) {
+    try {
+      DeleteObjectRequest request = DeleteObjectRequest.builder()
+          .bucket(bucket)
+          .key(key.toString())
+          .build();
+
+      s3Client.deleteObject(request);
+      log.info("S3에서 파일 삭제 성공: {}", key);
+    } catch (S3Exception e) {
+      log.error("S3에서 파일 삭제 실패: {}", e.getMessage());
+      throw new RuntimeException("S3에서 파일 삭제 실패: " + key, e);
+    }
+  }
+
+  @Override
+  public Stream<StoredObject> list() {
+    ListObjectsV2Request request = ListObjectsV2Request.builder()
+        .bucket(bucket)
         .build();
+
+    // 페이지 단위(최대 1000개)로 필요할 때마다 가져온다.
+    return s3Client.listObjectsV2Paginator(request).contents().stream()
+        .map(S3BinaryContentStorage::toStoredObject)
+        .flatMap(Optional::stream);
+  }
+
+  /**
+   * 크기와 SHA-256을 서명에 포함시키므로, 요청한 것과 다른 바이트는 S3가 거부한다.
+   */
+  @Override
+  public DirectUploadTarget createTarget(UUID uploadKey, String contentType, long size,
+      String sha256, String token, Instant expiresAt) {
+    PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+        .bucket(bucket)
+        .key(uploadKey.toString())
+        .contentType(contentType)
+        .contentLength(size)
+        .checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256)))
+        .build();
+
+    PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+        .signatureDuration(Duration.between(Instant.now(), expiresAt))
+        .putObjectRequest(putObjectRequest)
+        .build();
+
+    PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(presignRequest);
+    Map<String, String> headers = new LinkedHashMap<>();
+    presignedRequest.signedHeaders().forEach((name, values) -> {
+      // host는 클라이언트가 URL에서 알아서 채운다.
+      if (!name.equalsIgnoreCase(HttpHeaders.HOST)) {
+        headers.put(name, String.join(",", values));
+      }
+    });
+    return new DirectUploadTarget(presignedRequest.url().toString(),
+        presignedRequest.httpRequest().method().name(), headers);
+  }
+
+  @Override
+  public Optional<StagedObject> inspect(UUID uploadKey) {
+    try {
+      HeadObjectRequest request = HeadObjectRequest.builder()
+          .bucket(bucket)
+          .key(uploadKey.toString())
+          .checksumMode(ChecksumMode.ENABLED)
+          .build();
+
+      HeadObjectResponse response = s3Client.headObject(request);
+      // multipart로 완성된 객체에는 전체 SHA-256이 없으므로 직접 읽어서 계산한다.
+      String sha256 = Optional.ofNullable(response.checksumSHA256())
+          .filter(checksum -> !checksum.contains("-"))
+          .map(checksum -> HexFormat.of().formatHex(Base64.getDecoder().decode(checksum)))
+          .orElseGet(() -> sha256Of(uploadKey));
+      return Optional.of(new StagedObject(response.contentLength(), sha256,
+          response.contentType()));
+    } catch (S3Exception e) {
+      if (e.statusCode() == HttpStatus.NOT_FOUND.value()) {
+        return Optional.empty();
+      }
+      throw e;
+    }
+  }
+
+  private String sha256Of(UUID key) {
+    GetObjectRequest request = GetObjectRequest.builder()
+        .bucket(bucket)
+        .key(key.toString())
+        .build();
+
+    MessageDigest digest = BinaryContentBlobStore.newSha256Digest();
+    byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+    try (InputStream inputStream = s3Client.getObject(request)) {
+      int read;
+      while ((read = inputStream.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * 같은 버킷 안에서 서버 측 복사로 옮기므로 바이트가 애플리케이션 서버를 거치지 않는다.
+   */
+  @Override
+  public void promote(UUID uploadKey, UUID storageKey) {
+    try {
+      CopyObjectRequest copyRequest = CopyObjectRequest.builder()
+          .sourceBucket(bucket)
+          .sourceKey(uploadKey.toString())
+          .destinationBucket(bucket)
+          .destinationKey(storageKey.toString())
+          .build();
+
+      s3Client.copyObject(copyRequest);
+      s3Client.deleteObject(DeleteObjectRequest.builder()
+          .bucket(bucket)
+          .key(uploadKey.toString())
+          .build());
+      log.info("S3 업로드 파일 이동 완료: {} -> {}", uploadKey, storageKey);
+    } catch (S3Exception e) {
+      log.error("S3 업로드 파일 이동 실패: {}", e.getMessage());
+      throw new RuntimeException("S3 업로드 파일 이동 실패: " + uploadKey, e);
+    }
+  }
+
+  @Override
+  public String begin(UUID uploadKey, String contentType) {
+    CreateMultipartUploadRequest request = CreateMultipartUploadRequest.builder()
+        .bucket(bucket)
+        .key(uploadKey.toString())
+        .contentType(contentType)
+        .build();
+
+    String multipartId = s3Client.createMultipartUpload(request).uploadId();
+    log.info("S3 multipart 업로드 시작: key={}, multipartId={}", uploadKey, multipartId);
+    return multipartId;
+  }
+
+  /**
+   * 청크 하나를 multipart의 part 하나로 올린다. 길이를 알려 주므로 SDK가 본문 전체를 메모리에 올리지 않고 흘려 보낸다.
+   */
+  @Override
+  public void writeChunk(UUID uploadKey, String multipartId, int partNumber, long offset,
+      InputStream inputStream, long length) {
+    try {
+      UploadPartRequest request = UploadPartRequest.builder()
+          .bucket(bucket)
+          .key(uploadKey.toString())
+          .uploadId(multipartId)
+          .partNumber(partNumber)
+          .contentLength(length)
+          .build();
+
+      s3Client.uploadPart(request, RequestBody.fromInputStream(inputStream, length));
+    } catch (S3Exception e) {
+      log.error("S3 part 업로드 실패: key={}, part={}, {}", uploadKey, partNumber, e.getMessage());
+      throw new RuntimeException("S3 part 업로드 실패: " + uploadKey, e);
+    }
+  }
+
+  @Override
+  public void finish(UUID uploadKey, String multipartId, int partCount) {
+    try {
+      ListPartsRequest listRequest = ListPartsRequest.builder()
+          .bucket(bucket)
+          .key(uploadKey.toString())
+          .uploadId(multipartId)
+          .build();
+      // 받은 위치에 반영되지 못한 part(중복 전송 등)는 순번이 partCount를 넘으므로 뺀다.
+      List<CompletedPart> parts = s3Client.listPartsPaginator(listRequest).parts().stream()
+          .filter(part -> part.partNumber() <= partCount)
+          .map(part -> CompletedPart.builder()
+              .partNumber(part.partNumber())
+              .eTag(part.eTag())
+              .build())
+          .toList();
+
+      CompleteMultipartUploadRequest request = CompleteMultipartUploadRequest.builder()
+          .bucket(bucket)
+          .key(uploadKey.toString())
+          .uploadId(multipartId)
+          .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+          .build();
+      s3Client.completeMultipartUpload(request);
+      log.info("S3 multipart 업로드 완료: key={}, parts={}", uploadKey, parts.size());
+    } catch (NoSuchUploadException e) {
+      // 이전 완료 요청에서 이미 합쳐졌다.
+      if (inspect(uploadKey).isEmpty()) {
+        throw e;
+      }
+    }
+  }
+
+  @Override
+  public void abort(UUID uploadKey, String multipartId) {
+    if (multipartId == null) {
+      delete(uploadKey);
+      return;
+    }
+    try {
+      AbortMultipartUploadRequest request = AbortMultipartUploadRequest.builder()
+          .bucket(bucket)
+          .key(uploadKey.toString())
+          .uploadId(multipartId)
+          .build();
+
+      s3Client.abortMultipartUpload(request);
+      log.info("S3 multipart 업로드 취소: key={}", uploadKey);
+    } catch (NoSuchUploadException e) {
+      log.debug("이미 없는 S3 multipart 업로드: key={}", uploadKey);
+    }
+  }
+
+  private static Optional<StoredObject> toStoredObject(S3Object object) {
+    try {
+      return Optional.of(new StoredObject(UUID.fromString(object.key()), object.size(),
+          object.lastModified()));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
   }
 
   @Override
   public ResponseEntity<Void> download(BinaryContentDto metaData) {
+    return download(metaData.id(), metaData);
+  }
+
+  @Override
+  public ResponseEntity<Void> download(UUID key, BinaryContentDto metaData) {
+    return download(key, metaData, null);
+  }
+
+  /**
+   * 저장된 바이트를 그대로 받도록 presigned URL에 {@code response-content-encoding}을 함께 서명한다.
+   */
+  @Override
+  public ResponseEntity<Void> download(UUID key, BinaryContentDto metaData,
+      String contentEncoding) {
     try {
-      String key = metaData.id().toString();
-      String presignedUrl = generatePresignedUrl(key, metaData.contentType());
+      String presignedUrl = generatePresignedUrl(key.toString(), metaData.contentType(),
+          contentEncoding);
 
       log.info("생성된 Presigned URL: {}", presignedUrl);
 
@@ -120,32 +396,20 @@ public class S3BinaryContentStorage implements BinaryContentStorage {
     }
   }
 
-  private String generatePresignedUrl(String key, String contentType) {
-    try (S3Presigner presigner = getS3Presigner()) {
-      GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-          .bucket(bucket)
-          .key(key)
-          .responseContentType(contentType)
-          .build();
-
-      GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-          .signatureDuration(Duration.ofSeconds(presignedUrlExpirationSeconds))
-          .getObjectRequest(getObjectRequest)
-          .build();
-
-      PresignedGetObjectRequest presignedRequest = presigner.presignGetObject(presignRequest);
-      return presignedRequest.url().toString();
-    }
-  }
+  private String generatePresignedUrl(String key, String contentType, String contentEncoding) {
+    GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+        .bucket(bucket)
+        .key(key)
+        .responseContentType(contentType)
+        .responseContentEncoding(contentEncoding)
+        .build();
 
-  private S3Presigner getS3Presigner() {
-    return S3Presigner.builder()
-        .region(Region.of(region))
-        .credentialsProvider(
-            StaticCredentialsProvider.create(
-                AwsBasicCredentials.create(accessKey, secretKey)
-            )
-        )
+    GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+        .signatureDuration(Duration.ofSeconds(presignedUrlExpirationSeconds))
+        .getObjectRequest(getObjectRequest)
         .build();
+
+    PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
+    return presignedRequest.url().toString();
   }
 } 
\ No newline at end of file
@@ -0,0 +1,204 @@
+package com.sprint.mission.discodeit.storage.segment;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * 작은 blob들을 이어 붙여 쓰는 세그먼트 파일 하나.
+ * <p>
+ * 레코드 형식: {@code magic(4) type(1) key(16) length(4) payload(length) crc32(4)}. CRC는 type부터 payload까지
+ * 계산한다. 쓰기는 항상 파일 끝에 덧붙이기만 하며, 더 이상 쓰지 않는 세그먼트는 {@link #seal()}로 읽기 전용 매핑한다.
+ */
+class SegmentFile {
+
+  static final byte PUT = 1;
+  static final byte DELETE = 2;
+
+  private static final int MAGIC = 0x44534731; // "DSG1"
+  static final int HEADER_SIZE = 4 + 1 + 16 + 4;
+  static final int TRAILER_SIZE = 4;
+
+  private final int id;
+  private final Path path;
+  private final FileChannel channel;
+  private final AtomicLong deadBytes = new AtomicLong();
+  private volatile long size;
+  private volatile MappedByteBuffer mapped;
+  private volatile Instant lastModified;
+
+  private SegmentFile(int id, Path path, FileChannel channel, long size, Instant lastModified) {
+    this.id = id;
+    this.path = path;
+    this.channel = channel;
+    this.size = size;
+    this.lastModified = lastModified;
+  }
+
+  static SegmentFile create(int id, Path path) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    return new SegmentFile(id, path, channel, 0, Instant.now());
+  }
+
+  static SegmentFile open(int id, Path path) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    return new SegmentFile(id, path, channel, channel.size(),
+        Files.getLastModifiedTime(path).toInstant());
+  }
+
+  static int recordSize(int payloadLength) {
+    return HEADER_SIZE + payloadLength + TRAILER_SIZE;
+  }
+
+  /**
+   * 레코드를 덧붙이고 payload의 시작 위치를 돌려준다. 호출하는 쪽에서 쓰기를 직렬화해야 한다.
+   */
+  long append(byte type, UUID key, byte[] payload) throws IOException {
+    int length = payload == null ? 0 : payload.length;
+    ByteBuffer buffer = ByteBuffer.allocate(recordSize(length));
+    buffer.putInt(MAGIC)
+        .put(type)
+        .putLong(key.getMostSignificantBits())
+        .putLong(key.getLeastSignificantBits())
+        .putInt(length);
+    if (length > 0) {
+      buffer.put(payload);
+    }
+    CRC32 crc = new CRC32();
+    crc.update(buffer.array(), 4, HEADER_SIZE - 4 + length);
+    buffer.putInt((int) crc.getValue());
+    buffer.flip();
+
+    long recordOffset = size;
+    while (buffer.hasRemaining()) {
+      channel.write(buffer, recordOffset + buffer.position());
+    }
+    size = recordOffset + buffer.limit();
+    lastModified = Instant.now();
+    return recordOffset + HEADER_SIZE;
+  }
+
+  /**
+   * 봉인된 세그먼트는 매핑된 메모리를 복사 없이 잘라서 돌려주고, 쓰는 중인 세그먼트는 파일에서 읽는다.
+   */
+  ByteBuffer read(long payloadOffset, int length) throws IOException {
+    MappedByteBuffer buffer = mapped;
+    if (buffer != null) {
+      return buffer.slice((int) payloadOffset, length).asReadOnlyBuffer();
+    }
+    ByteBuffer target = ByteBuffer.allocate(length);
+    while (target.hasRemaining()) {
+      if (channel.read(target, payloadOffset + target.position()) < 0) {
+        throw new IOException("세그먼트가 예상보다 짧습니다: " + path);
+      }
+    }
+    return target.flip();
+  }
+
+  /**
+   * 파일 처음부터 올바른 레코드를 차례로 넘긴다. 깨진 레코드(쓰다가 중단된 꼬리 등)를 만나면 멈추고, 그때까지 읽은 올바른 끝
+   * 위치를 돌려준다.
+   */
+  long scan(Consumer<Record> consumer) throws IOException {
+    long offset = 0;
+    long fileSize = channel.size();
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    while (offset + HEADER_SIZE + TRAILER_SIZE <= fileSize) {
+      header.clear();
+      readFully(header, offset);
+      header.flip();
+      if (header.getInt() != MAGIC) {
+        break;
+      }
+      byte type = header.get();
+      UUID key = new UUID(header.getLong(), header.getLong());
+      int length = header.getInt();
+      if ((type != PUT && type != DELETE) || length < 0
+          || offset + recordSize(length) > fileSize) {
+        break;
+      }
+      ByteBuffer rest = ByteBuffer.allocate(length + TRAILER_SIZE);
+      readFully(rest, offset + HEADER_SIZE);
+      CRC32 crc = new CRC32();
+      crc.update(header.array(), 4, HEADER_SIZE - 4);
+      crc.update(rest.array(), 0, length);
+      if (rest.getInt(length) != (int) crc.getValue()) {
+        break;
+      }
+      consumer.accept(new Record(type, key, offset + HEADER_SIZE, length));
+      offset += recordSize(length);
+    }
+    return offset;
+  }
+
+  void truncate(long validSize) throws IOException {
+    channel.truncate(validSize);
+    size = validSize;
+  }
+
+  void seal() throws IOException {
+    channel.force(false);
+    mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+  }
+
+  void close() throws IOException {
+    mapped = null;
+    channel.close();
+  }
+
+  void closeAndDelete() throws IOException {
+    close();
+    Files.deleteIfExists(path);
+  }
+
+  void force() throws IOException {
+    channel.force(false);
+  }
+
+  void addDeadBytes(long bytes) {
+    deadBytes.addAndGet(bytes);
+  }
+
+  int getId() {
+    return id;
+  }
+
+  long getSize() {
+    return size;
+  }
+
+  long getDeadBytes() {
+    return deadBytes.get();
+  }
+
+  boolean isSealed() {
+    return mapped != null;
+  }
+
+  Instant getLastModified() {
+    return lastModified;
+  }
+
+  private void readFully(ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("세그먼트가 예상보다 짧습니다: " + path);
+      }
+    }
+  }
+
+  record Record(byte type, UUID key, long payloadOffset, int length) {
+
+  }
+}
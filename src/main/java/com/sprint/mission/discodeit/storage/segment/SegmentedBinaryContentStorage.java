@@ -0,0 +1,448 @@
+package com.sprint.mission.discodeit.storage.segment;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.StoredObject;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 작은 blob을 파일 하나씩 만들지 않고 큰 세그먼트 파일에 이어 붙여 저장하는 로컬 저장소.
+ * <p>
+ * {@code max-entry-size} 이하의 blob은 쓰는 중인 세그먼트 끝에 덧붙이고 키 → (세그먼트, 위치, 길이) 인덱스를 메모리에 둔다.
+ * 더 큰 blob과 직접 업로드로 들어온 파일은 기존 {@code LocalBinaryContentStorage}에 개별 파일로 남는다. 다 쓴 세그먼트는
+ * 읽기 전용으로 메모리 매핑해서 복사 없이 읽는다. 삭제는 tombstone 레코드를 덧붙이는 것으로 끝나고, 지워진 바이트 비율이
+ * {@code compaction-threshold} 이상인 세그먼트는 살아 있는 레코드만 새 세그먼트로 옮긴 뒤 지운다. 인덱스는 저장하지
+ * 않으며 시작할 때 세그먼트를 차례로 읽어 다시 만든다.
+ */
+@Slf4j
+@Primary
+@ConditionalOnExpression(
+    "'${discodeit.storage.type}' == 'local' and ${discodeit.storage.local.segment.enabled:false}")
+@Component
+public class SegmentedBinaryContentStorage implements BinaryContentStorage {
+
+  private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("^segment-(\\d{6})\\.dat$");
+
+  // 인덱스 값 하나(long)에 세그먼트 id, payload 위치, 길이를 함께 담는다. 항목당 메모리를 줄이기 위함이다.
+  private static final int SEGMENT_ID_BITS = 18;
+  private static final int OFFSET_BITS = 29;
+  private static final int LENGTH_BITS = 17;
+  static final long MAX_SEGMENT_SIZE = 1L << OFFSET_BITS;
+  static final int MAX_ENTRY_SIZE = (1 << LENGTH_BITS) - 1;
+  private static final int MAX_SEGMENT_ID = (1 << SEGMENT_ID_BITS) - 1;
+  private static final int MAX_READ_ATTEMPTS = 3;
+
+  private final BinaryContentStorage delegate;
+  private final Path root;
+  private final int maxEntrySizeBytes;
+  private final long segmentSizeBytes;
+  private final double compactionThreshold;
+
+  private final Map<UUID, Long> index = new ConcurrentHashMap<>();
+  private final ConcurrentSkipListMap<Integer, SegmentFile> segments =
+      new ConcurrentSkipListMap<>();
+  private final Object writeLock = new Object();
+  private final ReentrantLock compactionLock = new ReentrantLock();
+  private SegmentFile active;
+
+  private final Counter compactionCounter;
+  private final Counter reclaimedBytesCounter;
+
+  public SegmentedBinaryContentStorage(
+      @Qualifier("localBinaryContentStorage") BinaryContentStorage delegate,
+      @Value("${discodeit.storage.local.segment.root-path:.discodeit/segments}") Path root,
+      @Value("${discodeit.storage.local.segment.max-entry-size:64KB}") DataSize maxEntrySize,
+      @Value("${discodeit.storage.local.segment.segment-size:256MB}") DataSize segmentSize,
+      @Value("${discodeit.storage.local.segment.compaction-threshold:0.5}")
+      double compactionThreshold,
+      MeterRegistry meterRegistry
+  ) {
+    this.delegate = delegate;
+    this.root = root;
+    this.maxEntrySizeBytes = (int) Math.min(maxEntrySize.toBytes(), MAX_ENTRY_SIZE);
+    this.segmentSizeBytes = Math.min(segmentSize.toBytes(), MAX_SEGMENT_SIZE);
+    this.compactionThreshold = compactionThreshold;
+
+    this.compactionCounter = Counter.builder("discodeit.storage.segment.compactions")
+        .description("다시 써서 지운 세그먼트 수")
+        .register(meterRegistry);
+    this.reclaimedBytesCounter = Counter.builder("discodeit.storage.segment.reclaimed-bytes")
+        .baseUnit("bytes")
+        .description("세그먼트 압축(compaction)으로 되찾은 디스크 바이트 수")
+        .register(meterRegistry);
+    Gauge.builder("discodeit.storage.segment.count", segments, Map::size)
+        .description("세그먼트 파일 수")
+        .register(meterRegistry);
+    Gauge.builder("discodeit.storage.segment.entries", index, Map::size)
+        .description("세그먼트에 저장된 blob 수")
+        .register(meterRegistry);
+    Gauge.builder("discodeit.storage.segment.dead-bytes", this,
+            SegmentedBinaryContentStorage::deadBytes)
+        .baseUnit("bytes")
+        .description("지워졌지만 아직 압축되지 않은 바이트 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 세그먼트를 id 순서대로 읽어 인덱스를 다시 만든다. 같은 키는 나중 레코드가 이긴다. 마지막 세그먼트의 깨진 꼬리(쓰다가
+   * 중단된 레코드)는 잘라낸다.
+   */
+  @PostConstruct
+  public void init() {
+    try {
+      Files.createDirectories(root);
+      List<Path> files;
+      try (Stream<Path> stream = Files.list(root)) {
+        files = stream.filter(path -> segmentIdOf(path) >= 0)
+            .sorted((a, b) -> Integer.compare(segmentIdOf(a), segmentIdOf(b)))
+            .toList();
+      }
+      for (int i = 0; i < files.size(); i++) {
+        Path file = files.get(i);
+        SegmentFile segment = SegmentFile.open(segmentIdOf(file), file);
+        segments.put(segment.getId(), segment);
+        long validSize = segment.scan(record -> replay(segment, record));
+        boolean last = i == files.size() - 1;
+        if (validSize < segment.getSize()) {
+          log.warn("세그먼트의 깨진 꼬리 발견: segment={}, validSize={}, size={}", file, validSize,
+              segment.getSize());
+          if (last) {
+            segment.truncate(validSize);
+          } else {
+            segment.addDeadBytes(segment.getSize() - validSize);
+          }
+        }
+        if (last && segment.getSize() < segmentSizeBytes) {
+          active = segment;
+        } else {
+          segment.seal();
+        }
+      }
+      log.info("세그먼트 저장소 초기화 완료: root={}, segments={}, entries={}", root,
+          segments.size(), index.size());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    synchronized (writeLock) {
+      for (SegmentFile segment : segments.values()) {
+        try {
+          if (!segment.isSealed()) {
+            segment.force();
+          }
+          segment.close();
+        } catch (IOException e) {
+          log.warn("세그먼트 닫기 실패: segment={}", segment.getId(), e);
+        }
+      }
+    }
+  }
+
+  @Override
+  public UUID put(UUID binaryContentId, byte[] bytes) {
+    if (bytes.length > maxEntrySizeBytes) {
+      return delegate.put(binaryContentId, bytes);
+    }
+    synchronized (writeLock) {
+      if (index.containsKey(binaryContentId)) {
+        throw new IllegalArgumentException(
+            "File with key " + binaryContentId + " already exists");
+      }
+      index.put(binaryContentId, append(SegmentFile.PUT, binaryContentId, bytes));
+    }
+    return binaryContentId;
+  }
+
+  @Override
+  public InputStream get(UUID binaryContentId) {
+    for (int attempt = 0; attempt < MAX_READ_ATTEMPTS; attempt++) {
+      Long location = index.get(binaryContentId);
+      if (location == null) {
+        return delegate.get(binaryContentId);
+      }
+      SegmentFile segment = segments.get(segmentIdOf(location));
+      if (segment == null) {
+        // 압축으로 다른 세그먼트로 옮겨졌다. 인덱스를 다시 읽는다.
+        continue;
+      }
+      try {
+        return new ByteBufferInputStream(segment.read(offsetOf(location), lengthOf(location)));
+      } catch (ClosedChannelException e) {
+        log.debug("읽는 중에 세그먼트가 압축됨: key={}", binaryContentId);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return delegate.get(binaryContentId);
+  }
+
+  @Override
+  public void delete(UUID key) {
+    synchronized (writeLock) {
+      Long location = index.get(key);
+      if (location != null) {
+        append(SegmentFile.DELETE, key, null);
+        active.addDeadBytes(SegmentFile.recordSize(0));
+        index.remove(key);
+        markDead(location);
+        return;
+      }
+    }
+    delegate.delete(key);
+  }
+
+  /**
+   * 세그먼트에 든 blob의 수정 시각은 세그먼트의 마지막 쓰기 시각이다. 실제보다 늦으므로 저장소 GC의 유예 기간 판단에는
+   * 안전한 쪽이다.
+   */
+  @Override
+  public Stream<StoredObject> list() {
+    Stream<StoredObject> packed = index.entrySet().stream()
+        .map(entry -> {
+          SegmentFile segment = segments.get(segmentIdOf(entry.getValue()));
+          return segment == null ? null : new StoredObject(entry.getKey(),
+              lengthOf(entry.getValue()), segment.getLastModified());
+        })
+        .filter(Objects::nonNull);
+    return Stream.concat(packed, delegate.list());
+  }
+
+  @Override
+  public ResponseEntity<?> download(BinaryContentDto metaData) {
+    return download(metaData.id(), metaData);
+  }
+
+  @Override
+  public ResponseEntity<?> download(UUID key, BinaryContentDto metaData) {
+    if (!index.containsKey(key)) {
+      return delegate.download(key, metaData);
+    }
+    Resource resource = new InputStreamResource(get(key));
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"" + metaData.fileName() + "\"")
+        .header(HttpHeaders.CONTENT_TYPE, metaData.contentType())
+        .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(metaData.size()))
+        .body(resource);
+  }
+
+  /**
+   * 지워진 바이트 비율이 높은 봉인된 세그먼트를 다시 쓴다. 살아 있는 레코드만 쓰는 중인 세그먼트로 옮기고 원래 파일은 지운다.
+   */
+  @Scheduled(fixedDelayString = "${discodeit.storage.local.segment.compaction-interval:PT10M}")
+  public void compact() {
+    if (!compactionLock.tryLock()) {
+      return;
+    }
+    try {
+      List<SegmentFile> candidates = segments.values().stream()
+          .filter(SegmentFile::isSealed)
+          .filter(segment -> segment.getSize() > 0
+              && (double) segment.getDeadBytes() / segment.getSize() >= compactionThreshold)
+          .toList();
+      for (SegmentFile segment : candidates) {
+        compact(segment);
+      }
+    } catch (IOException e) {
+      log.error("세그먼트 압축 실패", e);
+    } finally {
+      compactionLock.unlock();
+    }
+  }
+
+  private void compact(SegmentFile segment) throws IOException {
+    // 더 오래된 세그먼트가 없을 때만 tombstone을 버릴 수 있다. 아니면 재시작 시 지워진 blob이 되살아난다.
+    boolean oldest = segments.firstKey() == segment.getId();
+    List<SegmentFile.Record> records = new ArrayList<>();
+    segment.scan(records::add);
+
+    long moved = 0;
+    for (SegmentFile.Record record : records) {
+      if (record.type() == SegmentFile.PUT) {
+        long location = pack(segment.getId(), record.payloadOffset(), record.length());
+        if (!Objects.equals(index.get(record.key()), location)) {
+          continue;
+        }
+        byte[] bytes = new byte[record.length()];
+        segment.read(record.payloadOffset(), record.length()).get(bytes);
+        synchronized (writeLock) {
+          // 복사하는 사이에 지워졌으면 옮기지 않는다.
+          if (Objects.equals(index.get(record.key()), location)) {
+            index.put(record.key(), append(SegmentFile.PUT, record.key(), bytes));
+            moved += SegmentFile.recordSize(record.length());
+          }
+        }
+      } else if (!oldest) {
+        synchronized (writeLock) {
+          append(SegmentFile.DELETE, record.key(), null);
+          active.addDeadBytes(SegmentFile.recordSize(0));
+          moved += SegmentFile.recordSize(0);
+        }
+      }
+    }
+
+    synchronized (writeLock) {
+      if (active != null) {
+        // 옮긴 레코드가 디스크에 닿기 전에 원본을 지우지 않는다.
+        active.force();
+      }
+      segments.remove(segment.getId());
+    }
+    segment.closeAndDelete();
+    compactionCounter.increment();
+    reclaimedBytesCounter.increment(segment.getSize() - moved);
+    log.info("세그먼트 압축 완료: segment={}, size={}, moved={}", segment.getId(),
+        segment.getSize(), moved);
+  }
+
+  /**
+   * writeLock 안에서만 호출한다. 쓰는 중인 세그먼트가 가득 차면 봉인하고 새 세그먼트를 연다.
+   */
+  private long append(byte type, UUID key, byte[] payload) {
+    int length = payload == null ? 0 : payload.length;
+    try {
+      if (active == null || active.getSize() + SegmentFile.recordSize(length) > segmentSizeBytes) {
+        rollOver();
+      }
+      long offset = active.append(type, key, payload);
+      return pack(active.getId(), offset, length);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void rollOver() throws IOException {
+    if (active != null) {
+      active.seal();
+    }
+    int nextId = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+    if (nextId > MAX_SEGMENT_ID) {
+      throw new IllegalStateException("세그먼트 id를 모두 사용했습니다: " + nextId);
+    }
+    active = SegmentFile.create(nextId, root.resolve(String.format("segment-%06d.dat", nextId)));
+    segments.put(nextId, active);
+    log.debug("새 세그먼트 시작: segment={}", nextId);
+  }
+
+  private void replay(SegmentFile segment, SegmentFile.Record record) {
+    Long previous;
+    if (record.type() == SegmentFile.PUT) {
+      previous = index.put(record.key(),
+          pack(segment.getId(), record.payloadOffset(), record.length()));
+    } else {
+      previous = index.remove(record.key());
+      segment.addDeadBytes(SegmentFile.recordSize(0));
+    }
+    if (previous != null) {
+      markDead(previous);
+    }
+  }
+
+  private void markDead(long location) {
+    SegmentFile segment = segments.get(segmentIdOf(location));
+    if (segment != null) {
+      segment.addDeadBytes(SegmentFile.recordSize(lengthOf(location)));
+    }
+  }
+
+  private double deadBytes() {
+    return segments.values().stream().mapToLong(SegmentFile::getDeadBytes).sum();
+  }
+
+  static long pack(int segmentId, long payloadOffset, int length) {
+    return ((long) segmentId << (OFFSET_BITS + LENGTH_BITS))
+        | (payloadOffset << LENGTH_BITS)
+        | length;
+  }
+
+  static int segmentIdOf(long location) {
+    return (int) (location >>> (OFFSET_BITS + LENGTH_BITS));
+  }
+
+  static long offsetOf(long location) {
+    return (location >>> LENGTH_BITS) & ((1L << OFFSET_BITS) - 1);
+  }
+
+  static int lengthOf(long location) {
+    return (int) (location & ((1L << LENGTH_BITS) - 1));
+  }
+
+  private static int segmentIdOf(Path path) {
+    Matcher matcher = SEGMENT_FILE_NAME.matcher(path.getFileName().toString());
+    return matcher.matches() ? Integer.parseInt(matcher.group(1)) : -1;
+  }
+
+  /**
+   * 매핑된 세그먼트의 일부를 복사 없이 읽는 스트림
+   */
+  private static class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.sprint.mission.discodeit.storage.upload;
+
+import java.util.UUID;
+
+/**
+ * 직접 업로드된 바이트({@code uploadKey})를 새 blob의 저장 키로 옮겨 달라는 요청. 커밋 이후에 처리된다.
+ */
+public record BinaryContentPromoteRequestedEvent(
+    UUID uploadKey,
+    UUID blobId,
+    String contentType
+) {
+
+}
@@ -0,0 +1,12 @@
+package com.sprint.mission.discodeit.storage.upload;
+
+import java.util.UUID;
+
+/**
+ * 같은 내용의 blob이 이미 있어 필요 없어진 업로드 바이트를 커밋 이후에 지워 달라는 요청.
+ */
+public record DirectUploadDiscardRequestedEvent(
+    UUID uploadKey
+) {
+
+}
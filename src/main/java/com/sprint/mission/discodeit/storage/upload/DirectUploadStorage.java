@@ -0,0 +1,48 @@
+package com.sprint.mission.discodeit.storage.upload;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 클라이언트가 애플리케이션 서버를 거치지 않고 저장소에 바로 바이트를 올리는 업로드.
+ * <p>
+ * 업로드된 바이트는 업로드 id를 키로 놓였다가, 완료 처리 때 blob의 저장 키로 옮겨진다({@link #promote}). 완료되지 않은
+ * 업로드는 어떤 행도 참조하지 않는 키로 남으므로 저장소 GC가 유예 기간 이후에 지운다.
+ */
+public interface DirectUploadStorage {
+
+  /**
+   * @param sha256 클라이언트가 알려 준 SHA-256 (hex). 저장소가 지원하면 업로드 서명에 포함시켜 다른 내용이 올라오지 못하게 한다.
+   * @param token  로컬 업로드 URL처럼 서명 대신 쓰는 일회용 토큰
+   */
+  DirectUploadTarget createTarget(UUID uploadKey, String contentType, long size, String sha256,
+      String token, Instant expiresAt);
+
+  /**
+   * 업로드된 바이트의 크기와 해시를 확인한다. 아직 아무것도 올라오지 않았으면 비어 있다.
+   */
+  Optional<StagedObject> inspect(UUID uploadKey);
+
+  /**
+   * 업로드된 바이트를 저장 키로 옮기고 업로드 키는 지운다.
+   */
+  void promote(UUID uploadKey, UUID storageKey);
+
+  /**
+   * 업로드 URL이 애플리케이션 서버를 가리키는지. 아니면 {@link #receive}로 들어오는 요청은 이 저장소가 발급한 URL이 아니다.
+   */
+  default boolean acceptsUploads() {
+    return false;
+  }
+
+  /**
+   * 업로드 URL을 애플리케이션 서버가 직접 받는 저장소(local)에서 요청 본문을 스트리밍으로 쓴다.
+   *
+   * @throws IllegalArgumentException {@code maxBytes}보다 많이 올라온 경우
+   */
+  default void receive(UUID uploadKey, InputStream inputStream, long maxBytes) {
+    throw new UnsupportedOperationException("이 저장소는 업로드를 직접 받지 않습니다.");
+  }
+}
@@ -0,0 +1,14 @@
+package com.sprint.mission.discodeit.storage.upload;
+
+import java.util.Map;
+
+/**
+ * @param headers 업로드 요청에 그대로 실어 보내야 하는 헤더
+ */
+public record DirectUploadTarget(
+    String url,
+    String method,
+    Map<String, String> headers
+) {
+
+}
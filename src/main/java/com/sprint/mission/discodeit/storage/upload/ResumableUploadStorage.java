@@ -0,0 +1,32 @@
+package com.sprint.mission.discodeit.storage.upload;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * 청크 단위로 이어 올리는 업로드. 청크는 업로드 id를 키로 이어 붙고, 마지막 청크까지 받으면 {@link #finish}로 하나의 객체가
+ * 된다. 그 뒤의 확인과 blob 저장 키로의 이동은 {@link DirectUploadStorage}와 같다.
+ */
+public interface ResumableUploadStorage {
+
+  /**
+   * @return 저장소 측 세션 id (S3 multipart upload id). 필요 없는 저장소는 null
+   */
+  String begin(UUID uploadKey, String contentType);
+
+  /**
+   * {@code offset} 위치부터 {@code length} 바이트를 쓴다. 요청 본문을 고정 크기 버퍼로 흘려 보내므로 청크 크기와 무관하게 메모리
+   * 사용량이 일정하다. 같은 청크를 다시 보내면 덮어쓴다.
+   *
+   * @param partNumber 1부터 시작하는 청크 순번
+   */
+  void writeChunk(UUID uploadKey, String multipartId, int partNumber, long offset,
+      InputStream inputStream, long length);
+
+  void finish(UUID uploadKey, String multipartId, int partCount);
+
+  /**
+   * 지금까지 받은 청크를 버린다. 이미 없는 세션이면 무시한다.
+   */
+  void abort(UUID uploadKey, String multipartId);
+}
@@ -0,0 +1,12 @@
+package com.sprint.mission.discodeit.storage.upload;
+
+/**
+ * @param contentType 저장소가 기록하지 않으면 null
+ */
+public record StagedObject(
+    long size,
+    String sha256,
+    String contentType
+) {
+
+}
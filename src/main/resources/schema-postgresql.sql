@@ -0,0 +1,10 @@
+-- PostgreSQL 전용 (schema.sql 이후 실행, H2 테스트에서는 쓰지 않음)
+
+-- 사용자 검색 색인을 만들기 전 DB 검색 (GET /api/users/search)
+-- 확장이 없으면 접두사 LIKE 검색으로 대신한다.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_users_username_trgm ON users USING gin (username gin_trgm_ops);
+
+-- 오래 PENDING으로 남은 blob 정리 (BinaryContentUploader.failStalePendingBlobs)
+CREATE INDEX IF NOT EXISTS idx_binary_content_blobs_pending
+    ON binary_content_blobs (created_at) WHERE status = 'PENDING';
@@ -7,10 +7,14 @@ CREATE TABLE users
     updated_at timestamp with time zone,
     username   varchar(50) UNIQUE       NOT NULL,
     email      varchar(100) UNIQUE      NOT NULL,
-    password   varchar(60)              NOT NULL,
+    password   varchar(255)             NOT NULL,
     profile_id uuid,
-    role       varchar(20)              NOT NULL
+    role       varchar(20)              NOT NULL,
+    token_version bigint                NOT NULL DEFAULT 0,
+    deleted_at timestamp with time zone
 );
+-- 다른 인스턴스에서 바뀐 사용자를 검색 색인에 반영할 때 사용
+CREATE INDEX idx_users_updated_at ON users (updated_at, id);
 
 -- BinaryContent
 CREATE TABLE binary_contents
@@ -19,10 +23,56 @@ CREATE TABLE binary_contents
     created_at   timestamp with time zone NOT NULL,
     file_name    varchar(255)             NOT NULL,
     size         bigint                   NOT NULL,
-    content_type varchar(100)             NOT NULL
+    content_type varchar(100)             NOT NULL,
+    blob_id      uuid,
+    status       varchar(20)              NOT NULL DEFAULT 'READY',
+    owner_id     uuid -- 올린 사용자. 메시지나 프로필에 붙일 때 확인한다.
 --     ,bytes        bytea        NOT NULL
 );
 
+-- BinaryContentBlob (SHA-256 기준으로 중복 제거된 실제 바이트)
+CREATE TABLE binary_content_blobs
+(
+    id              uuid PRIMARY KEY,
+    created_at      timestamp with time zone NOT NULL,
+    hash            varchar(64) UNIQUE       NOT NULL,
+    size            bigint                   NOT NULL,
+    reference_count integer                  NOT NULL,
+    status          varchar(20)              NOT NULL DEFAULT 'READY',
+    encoding        varchar(20)              NOT NULL DEFAULT 'IDENTITY'
+);
+
+-- BinaryContentDerivative (이미지 축소본, source_key는 원본의 저장 키)
+CREATE TABLE binary_content_derivatives
+(
+    id           uuid PRIMARY KEY,
+    created_at   timestamp with time zone NOT NULL,
+    source_key   uuid                     NOT NULL,
+    variant      varchar(20)              NOT NULL,
+    size         bigint                   NOT NULL,
+    content_type varchar(100)             NOT NULL,
+    UNIQUE (source_key, variant)
+);
+
+-- BinaryContentUpload (완료되지 않은 직접 업로드)
+CREATE TABLE binary_content_uploads
+(
+    id            uuid PRIMARY KEY,
+    created_at    timestamp with time zone NOT NULL,
+    file_name     varchar(255)             NOT NULL,
+    content_type  varchar(100)             NOT NULL,
+    size          bigint                   NOT NULL,
+    hash          varchar(64)              NOT NULL,
+    token_hash    varchar(64),
+    expires_at    timestamp with time zone NOT NULL,
+    resumable     boolean                  NOT NULL DEFAULT false,
+    upload_offset bigint,
+    part_count    integer,
+    multipart_id  varchar(255),
+    owner_id      uuid -- 업로드를 만든 사용자. 이어 올리기와 완료는 이 사용자만 할 수 있다.
+);
+CREATE INDEX idx_binary_content_uploads_expires_at ON binary_content_uploads (expires_at);
+
 -- UserStatus
 CREATE TABLE user_statuses
 (
@@ -63,6 +113,19 @@ CREATE TABLE message_attachments
     PRIMARY KEY (message_id, attachment_id)
 );
 
+-- UserDeletion (탈퇴한 사용자의 연관 데이터를 나눠서 지우는 작업과 진행 상황)
+CREATE TABLE user_deletions
+(
+    user_id               uuid PRIMARY KEY,
+    created_at            timestamp with time zone NOT NULL,
+    updated_at            timestamp with time zone NOT NULL,
+    phase                 varchar(30)              NOT NULL,
+    messages_detached     bigint                   NOT NULL DEFAULT 0,
+    read_statuses_deleted bigint                   NOT NULL DEFAULT 0,
+    last_error            varchar(500)
+);
+CREATE INDEX idx_user_deletions_phase ON user_deletions (phase, created_at);
+
 -- ReadStatus
 CREATE TABLE read_statuses
 (
@@ -105,6 +168,9 @@ ALTER TABLE messages
             REFERENCES users (id)
             ON DELETE SET NULL;
 
+-- 탈퇴한 사용자의 메시지를 작성자에서 떼어낼 때 사용
+CREATE INDEX idx_messages_author_id ON messages (author_id);
+
 -- MessageAttachment (1) -> BinaryContent (1)
 ALTER TABLE message_attachments
     ADD CONSTRAINT fk_message_attachment_binary_content
@@ -112,6 +178,14 @@ ALTER TABLE message_attachments
             REFERENCES binary_contents (id)
             ON DELETE CASCADE;
 
+-- BinaryContent (N) -> BinaryContentBlob (1)
+ALTER TABLE binary_contents
+    ADD CONSTRAINT fk_binary_content_blob
+        FOREIGN KEY (blob_id)
+            REFERENCES binary_content_blobs (id);
+
+CREATE INDEX idx_binary_contents_blob_id ON binary_contents (blob_id);
+
 -- ReadStatus (N) -> User (1)
 ALTER TABLE read_statuses
     ADD CONSTRAINT fk_read_status_user
@@ -133,3 +207,45 @@ create table persistent_logins
     token     varchar(64) not null,
     last_used timestamp   not null
 );
+
+-- 로그아웃 시 사용자별 삭제, 만료 토큰 정리
+CREATE INDEX idx_persistent_logins_username ON persistent_logins (username);
+CREATE INDEX idx_persistent_logins_last_used ON persistent_logins (last_used);
+
+-- 여러 인스턴스가 공유하는 HTTP 세션 (discodeit.session.store=jdbc)
+CREATE TABLE http_sessions
+(
+    id                   varchar(64) PRIMARY KEY,
+    principal_name       varchar(100),
+    user_id              uuid,
+    created_at           timestamp with time zone NOT NULL,
+    last_accessed_at     timestamp with time zone NOT NULL,
+    max_inactive_seconds integer                  NOT NULL,
+    expires_at           timestamp with time zone NOT NULL,
+    expired              boolean                  NOT NULL DEFAULT false,
+    attributes           bytea
+);
+
+CREATE INDEX idx_http_sessions_principal_name ON http_sessions (principal_name);
+CREATE INDEX idx_http_sessions_user_id ON http_sessions (user_id);
+CREATE INDEX idx_http_sessions_expires_at ON http_sessions (expires_at);
+
+-- 토큰 인증 모드의 리프레시 토큰 (security.auth.mode=token)
+CREATE TABLE refresh_tokens
+(
+    id            uuid PRIMARY KEY,
+    created_at    timestamp with time zone NOT NULL,
+    user_id       uuid                     NOT NULL,
+    family_id     uuid                     NOT NULL,
+    token_hash    varchar(64)              NOT NULL,
+    expires_at    timestamp with time zone NOT NULL,
+    used_at       timestamp with time zone,
+    revoked       boolean                  NOT NULL DEFAULT false,
+    CONSTRAINT fk_refresh_token_user
+        FOREIGN KEY (user_id)
+            REFERENCES users (id)
+            ON DELETE CASCADE
+);
+
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens (family_id);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
@@ -0,0 +1,147 @@
+package com.sprint.mission.discodeit.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BoundedCache 테스트")
+class BoundedCacheTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private MutableClock clock;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+  }
+
+  @Test
+  @DisplayName("한도를 넘으면 가장 오래 사용하지 않은 항목부터 지우고 리스너에 넘긴다")
+  void put_OverWeight_EvictsLeastRecentlyUsed() {
+    // given
+    List<String> evicted = new ArrayList<>();
+    BoundedCache<String, String> cache = new BoundedCache<>("test.cache", 8, null,
+        String::length, (key, value) -> evicted.add(key), clock, meterRegistry);
+    cache.put("a", "1234");
+    cache.put("b", "1234");
+    cache.get("a");
+
+    // when
+    cache.put("c", "12");
+
+    // then
+    assertThat(evicted).containsExactly("b");
+    assertThat(cache.get("a")).isEqualTo("1234");
+    assertThat(cache.weight()).isEqualTo(6);
+    assertThat(evictions("size")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("TTL이 지난 항목은 읽을 때 지운다")
+  void get_Expired_ReturnsNull() {
+    // given
+    BoundedCache<String, String> cache = new BoundedCache<>("test.cache", 10,
+        Duration.ofMinutes(1), clock, meterRegistry);
+    cache.put("a", "value");
+
+    // when
+    clock.advance(Duration.ofMinutes(1));
+
+    // then
+    assertThat(cache.get("a")).isNull();
+    assertThat(cache.size()).isZero();
+    assertThat(evictions("expired")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("읽은 뒤에 무효화되었으면 읽은 값을 넣지 않는다")
+  void putIfGeneration_AfterRemove_Skips() {
+    // given
+    BoundedCache<String, String> cache = new BoundedCache<>("test.cache", 10,
+        Duration.ofMinutes(1), clock, meterRegistry);
+    long generation = cache.generation();
+
+    // when
+    cache.remove("a");
+    boolean stored = cache.putIfGeneration("a", "stale", generation);
+
+    // then
+    assertThat(stored).isFalse();
+    assertThat(cache.get("a")).isNull();
+  }
+
+  @Test
+  @DisplayName("compute는 만료된 값을 없는 것으로 넘기고, null을 돌려주면 지운다")
+  void compute_ExpiredOrNull() {
+    // given
+    BoundedCache<String, Integer> cache = new BoundedCache<>("test.cache", 10,
+        Duration.ofMinutes(1), clock, meterRegistry);
+    cache.put("a", 1);
+    clock.advance(Duration.ofMinutes(2));
+
+    // when
+    Integer computed = cache.compute("a", (key, current) -> current == null ? 10 : current + 1);
+    cache.compute("b", (key, current) -> null);
+
+    // then
+    assertThat(computed).isEqualTo(10);
+    assertThat(cache.get("a")).isEqualTo(10);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("한도가 0이면 아무것도 보관하지 않는다")
+  void put_Disabled_StoresNothing() {
+    // given
+    BoundedCache<String, String> cache = new BoundedCache<>("test.cache", 0,
+        Duration.ofMinutes(1), clock, meterRegistry);
+
+    // when
+    cache.put("a", "value");
+
+    // then
+    assertThat(cache.get("a")).isNull();
+  }
+
+  private double evictions(String cause) {
+    return meterRegistry.get("test.cache.evictions").tag("cause", cause).counter().count();
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(java.time.ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
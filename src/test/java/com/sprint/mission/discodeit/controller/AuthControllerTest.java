@@ -49,7 +49,7 @@ class AuthControllerTest {
         "testuser",
         "test@example.com",
         null,
-        true
+        true, com.sprint.mission.discodeit.entity.Role.USER
     );
 
     given(authService.login(any(LoginRequest.class))).willReturn(loggedInUser);
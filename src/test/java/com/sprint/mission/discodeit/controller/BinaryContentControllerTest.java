@@ -8,10 +8,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.dto.data.BinaryContentDownload;
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.entity.BinaryContentEncoding;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
 import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentNotFoundException;
 import com.sprint.mission.discodeit.service.BinaryContentService;
+import com.sprint.mission.discodeit.service.BinaryContentUploadService;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.derivative.BinaryContentDerivativeStore;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -37,9 +42,15 @@ class BinaryContentControllerTest {
   @MockitoBean
   private BinaryContentService binaryContentService;
 
+  @MockitoBean
+  private BinaryContentUploadService binaryContentUploadService;
+
   @MockitoBean
   private BinaryContentStorage binaryContentStorage;
 
+  @MockitoBean
+  private BinaryContentDerivativeStore binaryContentDerivativeStore;
+
   @Test
   @DisplayName("바이너리 컨텐츠 조회 성공 테스트")
   void find_Success() throws Exception {
@@ -49,7 +60,8 @@ class BinaryContentControllerTest {
         binaryContentId,
         "test.jpg",
         10240L,
-        MediaType.IMAGE_JPEG_VALUE
+        MediaType.IMAGE_JPEG_VALUE,
+        BinaryContentStatus.READY
     );
 
     given(binaryContentService.find(binaryContentId)).willReturn(binaryContent);
@@ -89,8 +101,10 @@ class BinaryContentControllerTest {
     List<UUID> binaryContentIds = List.of(id1, id2);
 
     List<BinaryContentDto> binaryContents = List.of(
-        new BinaryContentDto(id1, "test1.jpg", 10240L, MediaType.IMAGE_JPEG_VALUE),
-        new BinaryContentDto(id2, "test2.pdf", 20480L, MediaType.APPLICATION_PDF_VALUE)
+        new BinaryContentDto(id1, "test1.jpg", 10240L, MediaType.IMAGE_JPEG_VALUE,
+            BinaryContentStatus.READY),
+        new BinaryContentDto(id2, "test2.pdf", 20480L, MediaType.APPLICATION_PDF_VALUE,
+            BinaryContentStatus.READY)
     );
 
     given(binaryContentService.findAllByIdIn(binaryContentIds)).willReturn(binaryContents);
@@ -115,10 +129,12 @@ class BinaryContentControllerTest {
         binaryContentId,
         "test.jpg",
         10240L,
-        MediaType.IMAGE_JPEG_VALUE
+        MediaType.IMAGE_JPEG_VALUE,
+        BinaryContentStatus.READY
     );
 
-    given(binaryContentService.find(binaryContentId)).willReturn(binaryContent);
+    given(binaryContentService.findDownload(binaryContentId)).willReturn(
+        new BinaryContentDownload(binaryContent, binaryContentId, BinaryContentEncoding.IDENTITY));
 
     // doReturn 사용하여 타입 문제 우회
     ResponseEntity<ByteArrayResource> mockResponse = ResponseEntity.ok()
@@ -126,7 +142,8 @@ class BinaryContentControllerTest {
         .header(HttpHeaders.CONTENT_TYPE, MediaType.IMAGE_JPEG_VALUE)
         .body(new ByteArrayResource("test data".getBytes()));
 
-    doReturn(mockResponse).when(binaryContentStorage).download(any(BinaryContentDto.class));
+    doReturn(mockResponse).when(binaryContentStorage)
+        .download(any(UUID.class), any(BinaryContentDto.class));
 
     // When & Then
     mockMvc.perform(get("/api/binaryContents/{binaryContentId}/download", binaryContentId))
@@ -139,7 +156,7 @@ class BinaryContentControllerTest {
     // Given
     UUID nonExistentId = UUID.randomUUID();
 
-    given(binaryContentService.find(nonExistentId))
+    given(binaryContentService.findDownload(nonExistentId))
         .willThrow(BinaryContentNotFoundException.withId(nonExistentId));
 
     // When & Then
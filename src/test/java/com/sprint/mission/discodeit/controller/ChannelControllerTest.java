@@ -106,7 +106,7 @@ class ChannelControllerTest {
     List<UserDto> participants = new ArrayList<>();
     for (UUID userId : participantIds) {
       participants.add(new UserDto(userId, "user-" + userId.toString().substring(0, 5),
-          "user" + userId.toString().substring(0, 5) + "@example.com", null, false));
+          "user" + userId.toString().substring(0, 5) + "@example.com", null, false, com.sprint.mission.discodeit.entity.Role.USER));
     }
 
     ChannelDto createdChannel = new ChannelDto(
@@ -253,7 +253,7 @@ class ChannelControllerTest {
             ChannelType.PRIVATE,
             null,
             null,
-            List.of(new UserDto(userId, "user1", "user1@example.com", null, true)),
+            List.of(new UserDto(userId, "user1", "user1@example.com", null, true, com.sprint.mission.discodeit.entity.Role.USER)),
             Instant.now().minusSeconds(3600)
         )
     );
@@ -20,8 +20,11 @@ import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
 import com.sprint.mission.discodeit.dto.response.PageResponse;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
 import com.sprint.mission.discodeit.exception.message.MessageNotFoundException;
+import com.sprint.mission.discodeit.service.AttachmentArchiveService;
 import com.sprint.mission.discodeit.service.MessageService;
+import com.sprint.mission.discodeit.storage.archive.AttachmentZipWriter;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -50,6 +53,12 @@ class MessageControllerTest {
   @MockitoBean
   private MessageService messageService;
 
+  @MockitoBean
+  private AttachmentArchiveService attachmentArchiveService;
+
+  @MockitoBean
+  private AttachmentZipWriter attachmentZipWriter;
+
   @Test
   @DisplayName("메시지 생성 성공 테스트")
   void createMessage_Success() throws Exception {
@@ -84,14 +93,15 @@ class MessageControllerTest {
         "testuser",
         "test@example.com",
         null,
-        true
+        true, com.sprint.mission.discodeit.entity.Role.USER
     );
     
     BinaryContentDto attachmentDto = new BinaryContentDto(
         UUID.randomUUID(),
         "test.jpg",
         10L,
-        MediaType.IMAGE_JPEG_VALUE
+        MediaType.IMAGE_JPEG_VALUE,
+        BinaryContentStatus.READY
     );
 
     MessageDto createdMessage = new MessageDto(
@@ -163,7 +173,7 @@ class MessageControllerTest {
         "testuser",
         "test@example.com",
         null,
-        true
+        true, com.sprint.mission.discodeit.entity.Role.USER
     );
 
     MessageDto updatedMessage = new MessageDto(
@@ -251,7 +261,7 @@ class MessageControllerTest {
         "testuser",
         "test@example.com",
         null,
-        true
+        true, com.sprint.mission.discodeit.entity.Role.USER
     );
     
     List<MessageDto> messages = List.of(
@@ -20,6 +20,7 @@ import com.sprint.mission.discodeit.dto.data.UserStatusDto;
 import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
 import com.sprint.mission.discodeit.dto.request.UserStatusUpdateRequest;
 import com.sprint.mission.discodeit.dto.request.UserUpdateRequest;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.service.UserService;
 import com.sprint.mission.discodeit.service.UserStatusService;
@@ -80,7 +81,8 @@ class UserControllerTest {
         UUID.randomUUID(),
         "profile.jpg",
         12L,
-        MediaType.IMAGE_JPEG_VALUE
+        MediaType.IMAGE_JPEG_VALUE,
+        BinaryContentStatus.READY
     );
 
     UserDto createdUser = new UserDto(
@@ -88,7 +90,7 @@ class UserControllerTest {
         "testuser",
         "test@example.com",
         profileDto,
-        false
+        false, com.sprint.mission.discodeit.entity.Role.USER
     );
 
     given(userService.create(any(UserCreateRequest.class), any(Optional.class)))
@@ -143,7 +145,7 @@ class UserControllerTest {
         "user1",
         "user1@example.com",
         null,
-        true
+        true, com.sprint.mission.discodeit.entity.Role.USER
     );
 
     UserDto user2 = new UserDto(
@@ -151,7 +153,7 @@ class UserControllerTest {
         "user2",
         "user2@example.com",
         null,
-        false
+        false, com.sprint.mission.discodeit.entity.Role.USER
     );
 
     List<UserDto> users = List.of(user1, user2);
@@ -199,7 +201,8 @@ class UserControllerTest {
         UUID.randomUUID(),
         "updated-profile.jpg",
         14L,
-        MediaType.IMAGE_JPEG_VALUE
+        MediaType.IMAGE_JPEG_VALUE,
+        BinaryContentStatus.READY
     );
 
     UserDto updatedUser = new UserDto(
@@ -207,7 +210,7 @@ class UserControllerTest {
         "updateduser",
         "updated@example.com",
         profileDto,
-        true
+        true, com.sprint.mission.discodeit.entity.Role.USER
     );
 
     given(userService.update(eq(userId), any(UserUpdateRequest.class), any(Optional.class)))
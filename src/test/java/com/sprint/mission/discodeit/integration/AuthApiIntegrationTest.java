@@ -82,7 +82,8 @@ class AuthApiIntegrationTest {
         mockMvc.perform(post("/api/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(requestBody))
-            .andExpect(status().isNotFound());
+            // 사용자 존재 여부를 드러내지 않도록 비밀번호가 틀린 경우와 같이 응답한다.
+            .andExpect(status().isUnauthorized());
     }
 
     @Test
@@ -0,0 +1,58 @@
+package com.sprint.mission.discodeit.integration;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StaticResourceIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  private static String scriptPath() throws Exception {
+    Resource[] scripts = new PathMatchingResourcePatternResolver()
+        .getResources("classpath:static/assets/index-*.js");
+    return "/assets/" + scripts[0].getFilename();
+  }
+
+  @Test
+  @DisplayName("해시된 파일은 immutable로 오래 캐시하고 보안 필터를 거치지 않는다")
+  void assets_immutable() throws Exception {
+    mockMvc.perform(get(scriptPath()))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=31536000")))
+        // 보안 필터 체인을 거쳤다면 붙었을 헤더
+        .andExpect(header().doesNotExist("X-Content-Type-Options"));
+  }
+
+  @Test
+  @DisplayName("index.html은 매번 ETag로 다시 확인하고, 바뀌지 않았으면 304로 응답한다")
+  void index_etagRevalidation() throws Exception {
+    MvcResult result = mockMvc.perform(get("/index.html"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andReturn();
+    String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/index.html").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+  }
+}
@@ -0,0 +1,233 @@
+package com.sprint.mission.discodeit.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.service.basic.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class UserDtoCacheTest {
+
+  private UserRepository userRepository;
+  private UserMapper userMapper;
+  private MutableClock clock;
+  private SimpleMeterRegistry meterRegistry;
+  private UserDtoCache cache;
+
+  @BeforeEach
+  void setUp() {
+    userRepository = mock(UserRepository.class);
+    userMapper = mock(UserMapper.class);
+    clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    meterRegistry = new SimpleMeterRegistry();
+    cache = new UserDtoCache(userRepository, userMapper, 2, Duration.ofMinutes(10), clock,
+        meterRegistry);
+  }
+
+  @Test
+  @DisplayName("캐시에 없는 사용자만 한 번에 읽고 이후에는 캐시에서 응답한다")
+  void getAll_LoadsMissesOnce() {
+    User alice = user("alice");
+    User bob = user("bob");
+    stubLoad(alice, bob);
+
+    Map<UUID, UserDto> first = cache.getAll(List.of(alice.getId(), bob.getId()));
+    Map<UUID, UserDto> second = cache.getAll(List.of(alice.getId(), bob.getId()));
+
+    assertThat(first).containsOnlyKeys(alice.getId(), bob.getId());
+    assertThat(second).isEqualTo(first);
+    verify(userRepository, times(1)).findAllWithProfileByIdIn(any());
+    assertThat(counter("miss")).isEqualTo(2);
+    assertThat(counter("hit")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("없는 사용자는 결과에서 빠진다")
+  void get_ReturnsNullForUnknownUser() {
+    given(userRepository.findAllWithProfileByIdIn(any())).willReturn(List.of());
+
+    assertThat(cache.get(UUID.randomUUID())).isNull();
+  }
+
+  @Test
+  @DisplayName("이미 읽은 사용자는 변환 결과를 캐시하고 DB를 조회하지 않는다")
+  void getUser_CachesWithoutQuery() {
+    User alice = user("alice");
+    given(userMapper.toDto(alice)).willReturn(dto(alice, null));
+
+    UserDto first = cache.get(alice);
+    UserDto second = cache.get(alice.getId());
+
+    assertThat(second).isEqualTo(first);
+    verify(userMapper, times(1)).toDto(alice);
+    verify(userRepository, never()).findAllWithProfileByIdIn(any());
+  }
+
+  @Test
+  @DisplayName("사용자 변경 이벤트를 받으면 다시 읽는다")
+  void on_UserChanged_Invalidates() {
+    User alice = user("alice");
+    stubLoad(alice);
+    cache.get(alice.getId());
+
+    cache.on(new UserChangedEvent(alice.getId()));
+    cache.get(alice.getId());
+
+    verify(userRepository, times(2)).findAllWithProfileByIdIn(any());
+    assertThat(meterRegistry.get("discodeit.user.dto-cache.invalidations").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("읽는 동안 무효화되면 읽은 값을 캐시하지 않는다")
+  void getAll_DoesNotCacheWhenInvalidatedDuringLoad() {
+    User alice = user("alice");
+    given(userMapper.toDto(alice)).willReturn(dto(alice, null));
+    given(userRepository.findAllWithProfileByIdIn(any())).willAnswer(invocation -> {
+      cache.invalidate(alice.getId());
+      return List.of(alice);
+    });
+
+    assertThat(cache.get(alice.getId())).isNotNull();
+    cache.get(alice.getId());
+
+    verify(userRepository, times(2)).findAllWithProfileByIdIn(any());
+  }
+
+  @Test
+  @DisplayName("TTL이 지나면 다시 읽는다")
+  void get_ReloadsAfterTtl() {
+    User alice = user("alice");
+    stubLoad(alice);
+    cache.get(alice.getId());
+
+    clock.advance(Duration.ofMinutes(11));
+    cache.get(alice.getId());
+
+    verify(userRepository, times(2)).findAllWithProfileByIdIn(any());
+  }
+
+  @Test
+  @DisplayName("최대 크기를 넘으면 가장 오래 쓰지 않은 사용자부터 지운다")
+  void store_EvictsLeastRecentlyUsed() {
+    User alice = user("alice");
+    User bob = user("bob");
+    User carol = user("carol");
+    stubLoad(alice, bob, carol);
+    cache.get(alice.getId());
+    cache.get(bob.getId());
+    cache.get(alice.getId());
+
+    cache.get(carol.getId());
+
+    assertThat(meterRegistry.get("discodeit.user.dto-cache.size").gauge().value()).isEqualTo(2);
+    cache.get(alice.getId());
+    cache.get(bob.getId());
+    // alice는 캐시에 남고 bob은 밀려나 다시 읽는다.
+    verify(userRepository, times(4)).findAllWithProfileByIdIn(any());
+  }
+
+  @Test
+  @DisplayName("저장 중인 프로필을 가진 사용자는 캐시하지 않는다")
+  void getAll_DoesNotCachePendingProfile() {
+    User alice = user("alice");
+    given(userRepository.findAllWithProfileByIdIn(any())).willReturn(List.of(alice));
+    given(userMapper.toDto(alice)).willReturn(dto(alice, BinaryContentStatus.PENDING));
+
+    cache.get(alice.getId());
+    cache.get(alice.getId());
+
+    verify(userRepository, times(2)).findAllWithProfileByIdIn(any());
+  }
+
+  @Test
+  @DisplayName("접속 여부는 읽을 때 채운다")
+  void withOnline_OverlaysOnlineStatus() {
+    User alice = user("alice");
+    UserDto userDto = dto(alice, null);
+
+    assertThat(UserDtoCache.withOnline(userDto, Set.of(alice.getId())).online()).isTrue();
+    assertThat(UserDtoCache.withOnline(userDto, Set.of()).online()).isFalse();
+    assertThat(UserDtoCache.withOnline(null, Set.of())).isNull();
+  }
+
+  private void stubLoad(User... users) {
+    for (User user : users) {
+      given(userMapper.toDto(user)).willReturn(dto(user, null));
+    }
+    given(userRepository.findAllWithProfileByIdIn(any())).willAnswer(invocation -> {
+      List<UUID> ids = List.copyOf(invocation.getArgument(0));
+      return List.of(users).stream()
+          .filter(user -> ids.contains(user.getId()))
+          .toList();
+    });
+  }
+
+  private double counter(String result) {
+    return meterRegistry.get("discodeit.user.dto-cache").tag("result", result).counter().count();
+  }
+
+  private static User user(String username) {
+    User user = new User(username, username + "@example.com", "password", null);
+    ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
+    return user;
+  }
+
+  private static UserDto dto(User user, BinaryContentStatus profileStatus) {
+    BinaryContentDto profile = profileStatus == null ? null
+        : new BinaryContentDto(UUID.randomUUID(), "profile.png", 10L, "image/png", profileStatus);
+    return new UserDto(user.getId(), user.getUsername(), user.getEmail(), profile, null,
+        Role.USER);
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(java.time.ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
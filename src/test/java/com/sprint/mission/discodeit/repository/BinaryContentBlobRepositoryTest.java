@@ -0,0 +1,125 @@
+package com.sprint.mission.discodeit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.BinaryContentBlob;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * BinaryContentBlobRepository 슬라이스 테스트. {@code insertIfAbsent}의 {@code ON CONFLICT}는
+ * PostgreSQL 호환 모드에서만 동작하므로 test 프로필의 데이터소스를 그대로 쓴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@EnableJpaAuditing
+@ActiveProfiles("test")
+class BinaryContentBlobRepositoryTest {
+
+  @Autowired
+  private BinaryContentBlobRepository binaryContentBlobRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  /**
+   * TestFixture: 참조 카운트가 {@code referenceCount}인 blob 생성
+   */
+  private BinaryContentBlob createTestBlob(String hash, int referenceCount) {
+    BinaryContentBlob blob = new BinaryContentBlob(hash, 10L);
+    ReflectionTestUtils.setField(blob, "referenceCount", referenceCount);
+    return entityManager.persist(blob);
+  }
+
+  private BinaryContent createTestAttachment(BinaryContentBlob blob) {
+    return entityManager.persist(
+        new BinaryContent("meme.png", 10L, "image/png", blob, BinaryContentStatus.READY));
+  }
+
+  private Message createTestMessage(Channel channel, List<BinaryContent> attachments) {
+    return entityManager.persist(new Message("메시지", channel, null, new ArrayList<>(attachments)));
+  }
+
+  @Test
+  @DisplayName("채널의 메시지들이 같은 blob을 여러 번 첨부했으면 첨부 수만큼 참조 카운트를 줄인다")
+  void decrementReferenceCountByChannelId_CountsEveryReference() {
+    // given
+    Channel channel = entityManager.persist(new Channel(ChannelType.PUBLIC, "채널", "설명"));
+    Channel otherChannel = entityManager.persist(new Channel(ChannelType.PUBLIC, "다른", "설명"));
+    BinaryContentBlob shared = createTestBlob("a".repeat(64), 4);
+    createTestMessage(channel, List.of(createTestAttachment(shared),
+        createTestAttachment(shared)));
+    createTestMessage(channel, List.of(createTestAttachment(shared)));
+    createTestMessage(otherChannel, List.of(createTestAttachment(shared)));
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    binaryContentBlobRepository.decrementReferenceCountByChannelId(channel.getId());
+
+    // then
+    assertThat(binaryContentBlobRepository.findById(shared.getId()))
+        .hasValueSatisfying(blob -> assertThat(blob.getReferenceCount()).isEqualTo(1));
+  }
+
+  @Test
+  @DisplayName("메시지의 첨부가 같은 blob을 가리키면 첨부 수만큼 참조 카운트를 줄인다")
+  void decrementReferenceCountByMessageId_CountsEveryReference() {
+    // given
+    Channel channel = entityManager.persist(new Channel(ChannelType.PUBLIC, "채널", "설명"));
+    BinaryContentBlob shared = createTestBlob("b".repeat(64), 2);
+    BinaryContentBlob single = createTestBlob("c".repeat(64), 1);
+    Message message = createTestMessage(channel, List.of(createTestAttachment(shared),
+        createTestAttachment(shared), createTestAttachment(single)));
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    binaryContentBlobRepository.decrementReferenceCountByMessageId(message.getId());
+
+    // then
+    assertThat(binaryContentBlobRepository.findById(shared.getId()))
+        .hasValueSatisfying(blob -> assertThat(blob.getReferenceCount()).isZero());
+    assertThat(binaryContentBlobRepository.findById(single.getId()))
+        .hasValueSatisfying(blob -> assertThat(blob.getReferenceCount()).isZero());
+  }
+
+  @Test
+  @DisplayName("같은 해시의 blob이 이미 있으면 새로 넣지 않는다")
+  void insertIfAbsent_SkipsExistingHash() {
+    // given
+    String hash = "d".repeat(64);
+
+    // when
+    int first = binaryContentBlobRepository.insertIfAbsent(UUID.randomUUID(), Instant.now(),
+        hash, 10L);
+    int second = binaryContentBlobRepository.insertIfAbsent(UUID.randomUUID(), Instant.now(),
+        hash, 10L);
+
+    // then
+    assertThat(first).isEqualTo(1);
+    assertThat(second).isZero();
+    assertThat(binaryContentBlobRepository.findByHash(hash))
+        .hasValueSatisfying(blob -> {
+          assertThat(blob.getReferenceCount()).isEqualTo(1);
+          assertThat(blob.getStatus()).isEqualTo(BinaryContentStatus.PENDING);
+        });
+  }
+}
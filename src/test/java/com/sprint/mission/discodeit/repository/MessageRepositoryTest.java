@@ -85,7 +85,7 @@ class MessageRepositoryTest {
 
   @Test
   @DisplayName("채널 ID와 생성 시간으로 메시지를 페이징하여 조회할 수 있다")
-  void findAllByChannelIdWithAuthor_ReturnsMessagesWithAuthor() {
+  void findAllByChannelId_ReturnsMessagesWithoutJoiningAuthor() {
     // given
     User user = createTestUser("testUser", "test@example.com");
     Channel channel = createTestChannel(ChannelType.PUBLIC, "테스트채널");
@@ -104,7 +104,7 @@ class MessageRepositoryTest {
     entityManager.clear();
 
     // when - 최신 메시지보다 이전 시간으로 조회
-    Slice<Message> messages = messageRepository.findAllByChannelIdWithAuthor(
+    Slice<Message> messages = messageRepository.findAllByChannelId(
         channel.getId(),
         now.plus(1, ChronoUnit.MINUTES),  // 현재 시간보다 더 미래
         PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"))
@@ -120,11 +120,10 @@ class MessageRepositoryTest {
     List<Message> content = messages.getContent();
     assertThat(content.get(0).getCreatedAt()).isAfterOrEqualTo(content.get(1).getCreatedAt());
 
-    // 저자 정보가 함께 로드되었는지 확인 (FETCH JOIN)
+    // 저자는 조인하지 않고 id만 가진 프록시로 남는지 확인 (UserDtoCache에서 채움)
     Message firstMessage = content.get(0);
-    assertThat(Hibernate.isInitialized(firstMessage.getAuthor())).isTrue();
-    assertThat(Hibernate.isInitialized(firstMessage.getAuthor().getStatus())).isTrue();
-    assertThat(Hibernate.isInitialized(firstMessage.getAuthor().getProfile())).isTrue();
+    assertThat(Hibernate.isInitialized(firstMessage.getAuthor())).isFalse();
+    assertThat(firstMessage.getAuthor().getId()).isEqualTo(user.getId());
   }
 
   @Test
@@ -203,7 +202,7 @@ class MessageRepositoryTest {
 
     // then
     // 해당 채널의 메시지는 삭제되었는지 확인
-    List<Message> channelMessages = messageRepository.findAllByChannelIdWithAuthor(
+    List<Message> channelMessages = messageRepository.findAllByChannelId(
         channel.getId(), 
         Instant.now().plus(1, ChronoUnit.DAYS), 
         PageRequest.of(0, 100)
@@ -211,7 +210,7 @@ class MessageRepositoryTest {
     assertThat(channelMessages).isEmpty();
 
     // 다른 채널의 메시지는 그대로인지 확인
-    List<Message> otherChannelMessages = messageRepository.findAllByChannelIdWithAuthor(
+    List<Message> otherChannelMessages = messageRepository.findAllByChannelId(
         otherChannel.getId(), 
         Instant.now().plus(1, ChronoUnit.DAYS),
         PageRequest.of(0, 100)
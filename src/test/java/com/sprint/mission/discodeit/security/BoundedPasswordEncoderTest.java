@@ -0,0 +1,100 @@
+package com.sprint.mission.discodeit.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.mission.discodeit.exception.user.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@DisplayName("BoundedPasswordEncoder 테스트")
+class BoundedPasswordEncoderTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private BoundedPasswordEncoder encoder;
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    encoder.shutdown();
+  }
+
+  /**
+   * {@link #release}가 열릴 때까지 해싱이 끝나지 않는 인코더
+   */
+  private PasswordEncoder blockingEncoder() {
+    return new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return "hashed";
+      }
+
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return encode(rawPassword).equals(encodedPassword);
+      }
+    };
+  }
+
+  @Test
+  @DisplayName("전용 스레드에서 해싱한 결과를 그대로 돌려준다")
+  void encodeAndMatches() {
+    encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1,
+        Duration.ofSeconds(5), meterRegistry);
+
+    String hashed = encoder.encode("Password1!");
+
+    assertThat(encoder.matches("Password1!", hashed)).isTrue();
+    assertThat(encoder.matches("wrong", hashed)).isFalse();
+    assertThat(meterRegistry.get("discodeit.security.password-hashing")
+        .tag("operation", "matches").timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("대기열이 가득 차면 기다리지 않고 바로 거절한다")
+  void encode_QueueFull_Rejects() throws Exception {
+    // given: 스레드 1개가 해싱 중이고 대기열 1칸도 찼다.
+    encoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, Duration.ofSeconds(30),
+        meterRegistry);
+    CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+    CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+    while (meterRegistry.get("discodeit.security.password-hashing.queue").gauge().value() < 1) {
+      Thread.sleep(10);
+    }
+
+    // when & then
+    assertThatThrownBy(() -> encoder.encode("c"))
+        .isInstanceOf(PasswordHashingRejectedException.class);
+    assertThat(meterRegistry.get("discodeit.security.password-hashing.rejections")
+        .tag("reason", "queue-full").counter().count()).isEqualTo(1);
+
+    release.countDown();
+    assertThat(running.get()).isEqualTo("hashed");
+    assertThat(queued.get()).isEqualTo("hashed");
+  }
+
+  @Test
+  @DisplayName("제한 시간 안에 끝나지 않으면 거절한다")
+  void encode_Timeout_Rejects() {
+    encoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, Duration.ofMillis(50),
+        meterRegistry);
+
+    assertThatThrownBy(() -> encoder.encode("a"))
+        .isInstanceOf(PasswordHashingRejectedException.class);
+    assertThat(meterRegistry.get("discodeit.security.password-hashing.rejections")
+        .tag("reason", "timeout").counter().count()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,41 @@
+package com.sprint.mission.discodeit.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CountMinSketch 테스트")
+class CountMinSketchTest {
+
+  @Test
+  @DisplayName("String.hashCode()가 같은 키도 따로 센다")
+  void estimate_HashCodeCollision_CountsSeparately() {
+    // given
+    CountMinSketch sketch = new CountMinSketch(4, 1024);
+    assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      sketch.increment("Aa");
+    }
+    sketch.increment("BB");
+
+    // then
+    assertThat(sketch.estimate("Aa")).isEqualTo(5);
+    assertThat(sketch.estimate("BB")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("murmur3는 MurmurHash3 x86_32 참조 값과 같다")
+  void murmur3_MatchesReference() {
+    assertThat(CountMinSketch.murmur3(new byte[0], 0)).isZero();
+    assertThat(CountMinSketch.murmur3(new byte[0], 1)).isEqualTo(0x514E28B7);
+    assertThat(CountMinSketch.murmur3("hello".getBytes(StandardCharsets.UTF_8), 0))
+        .isEqualTo(0x248BFA47);
+    assertThat(CountMinSketch.murmur3(
+        "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8), 0))
+        .isEqualTo(0x2E4FF723);
+  }
+}
@@ -0,0 +1,236 @@
+package com.sprint.mission.discodeit.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.authentication.rememberme.CookieTheftException;
+import org.springframework.security.web.authentication.rememberme.RememberMeAuthenticationException;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+
+/**
+ * 같은 DB를 쓰는 두 인스턴스(node A, node B)의 remember-me 자동 로그인을 확인한다.
+ */
+@DisplayName("CustomRememberMeServices 테스트")
+class CustomRememberMeServicesTest {
+
+  private static final Duration VALIDITY = Duration.ofDays(14);
+  private static final Duration ROTATION_INTERVAL = Duration.ofMinutes(1);
+  private static final Duration ROTATION_GRACE = Duration.ofSeconds(10);
+
+  private final UserDetailsService userDetailsService = username ->
+      User.withUsername(username).password("{noop}password").roles("USER").build();
+
+  private EmbeddedDatabase database;
+  private JdbcTemplate jdbcTemplate;
+  private MutableClock clock;
+  private CachingPersistentTokenRepository repositoryA;
+  private CustomRememberMeServices nodeA;
+  private CustomRememberMeServices nodeB;
+
+  @BeforeEach
+  void setUp() {
+    database = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .setName(UUID.randomUUID() + ";MODE=PostgreSQL")
+        .addScript("classpath:schema.sql")
+        .build();
+    jdbcTemplate = new JdbcTemplate(database);
+    clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    repositoryA = repository();
+    nodeA = services(repositoryA);
+    nodeB = services(repository());
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.shutdown();
+  }
+
+  private CachingPersistentTokenRepository repository() {
+    return new CachingPersistentTokenRepository(jdbcTemplate, Duration.ofMinutes(5), 100,
+        ROTATION_GRACE, VALIDITY, 2, clock, new SimpleMeterRegistry());
+  }
+
+  private CustomRememberMeServices services(CachingPersistentTokenRepository repository) {
+    CustomRememberMeServices services = new CustomRememberMeServices("key", userDetailsService,
+        repository, ROTATION_INTERVAL, clock);
+    services.setTokenValiditySeconds((int) VALIDITY.toSeconds());
+    return services;
+  }
+
+  private void createToken(String series, String tokenValue) {
+    repositoryA.createNewToken(new PersistentRememberMeToken("alice", series, tokenValue,
+        Date.from(clock.instant())));
+  }
+
+  private String storedToken(String series) {
+    return jdbcTemplate.queryForObject(
+        "SELECT token FROM persistent_logins WHERE series = ?", String.class, series);
+  }
+
+  private UserDetails autoLogin(CustomRememberMeServices node, String series, String tokenValue,
+      MockHttpServletResponse response) {
+    return node.processAutoLoginCookie(new String[]{series, tokenValue},
+        new MockHttpServletRequest(), response);
+  }
+
+  @Test
+  @DisplayName("교체 주기 안의 자동 로그인은 토큰을 바꾸지 않는다")
+  void autoLogin_withinRotationInterval() {
+    createToken("series", "token-1");
+    clock.advance(Duration.ofSeconds(30));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    UserDetails user = autoLogin(nodeA, "series", "token-1", response);
+
+    assertThat(user.getUsername()).isEqualTo("alice");
+    assertThat(storedToken("series")).isEqualTo("token-1");
+    assertThat(response.getCookies()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("교체 주기가 지나면 토큰을 바꾸고 새 쿠키를 내려준다")
+  void autoLogin_rotates() {
+    createToken("series", "token-1");
+    clock.advance(ROTATION_INTERVAL);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    autoLogin(nodeA, "series", "token-1", response);
+
+    assertThat(storedToken("series")).isNotEqualTo("token-1");
+    assertThat(response.getCookies()).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("방금 바꾼 토큰의 이전 쿠키는 유예 시간 동안만 받아들인다")
+  void autoLogin_previousTokenWithinGrace() {
+    createToken("series", "token-1");
+    clock.advance(ROTATION_INTERVAL);
+    autoLogin(nodeA, "series", "token-1", new MockHttpServletResponse());
+
+    UserDetails user = autoLogin(nodeA, "series", "token-1", new MockHttpServletResponse());
+    assertThat(user.getUsername()).isEqualTo("alice");
+
+    clock.advance(ROTATION_GRACE);
+    assertThatThrownBy(() -> autoLogin(nodeA, "series", "token-1",
+        new MockHttpServletResponse()))
+        .isInstanceOf(CookieTheftException.class);
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM persistent_logins",
+        Integer.class)).isZero();
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스가 바꾼 토큰은 캐시가 오래됐어도 도난으로 보지 않는다")
+  void autoLogin_rotatedByOtherNode() {
+    createToken("series", "token-1");
+    // node B 캐시에 token-1을 올려 둔다.
+    autoLogin(nodeB, "series", "token-1", new MockHttpServletResponse());
+    clock.advance(ROTATION_INTERVAL);
+    autoLogin(nodeA, "series", "token-1", new MockHttpServletResponse());
+    String rotated = storedToken("series");
+
+    UserDetails user = autoLogin(nodeB, "series", rotated, new MockHttpServletResponse());
+
+    assertThat(user.getUsername()).isEqualTo("alice");
+  }
+
+  @Test
+  @DisplayName("같은 쿠키로 먼저 들어온 요청이 바꾼 토큰은 다시 바꾸지 않고 그대로 내려준다")
+  void autoLogin_concurrentRotation() {
+    createToken("series", "token-1");
+    // node B 캐시에 token-1을 올려 둔다.
+    autoLogin(nodeB, "series", "token-1", new MockHttpServletResponse());
+    clock.advance(ROTATION_INTERVAL);
+    autoLogin(nodeA, "series", "token-1", new MockHttpServletResponse());
+    String rotated = storedToken("series");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    UserDetails user = autoLogin(nodeB, "series", "token-1", response);
+
+    assertThat(user.getUsername()).isEqualTo("alice");
+    assertThat(storedToken("series")).isEqualTo(rotated);
+    String cookie = new String(Base64.getDecoder().decode(response.getCookies()[0].getValue()),
+        StandardCharsets.UTF_8);
+    assertThat(URLDecoder.decode(cookie, StandardCharsets.UTF_8)).isEqualTo("series:" + rotated);
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스에서 지운 토큰은 캐시에 남아 있어도 받아들이지 않는다")
+  void autoLogin_revokedByOtherNode() {
+    createToken("series", "token-1");
+    autoLogin(nodeB, "series", "token-1", new MockHttpServletResponse());
+
+    // node A에서 로그아웃하거나 도난을 감지해 사용자의 토큰을 모두 지운다.
+    repositoryA.removeUserTokens("alice");
+
+    assertThatThrownBy(() -> autoLogin(nodeB, "series", "token-1",
+        new MockHttpServletResponse()))
+        .isInstanceOf(RememberMeAuthenticationException.class);
+  }
+
+  @Test
+  @DisplayName("사용 기간이 지난 토큰을 나눠서 지운다")
+  void purgeExpiredTokens() {
+    for (int i = 0; i < 5; i++) {
+      createToken("old-" + i, "token");
+    }
+    clock.advance(VALIDITY.plusMinutes(1));
+    createToken("fresh", "token");
+
+    repositoryA.purgeExpiredTokens();
+
+    assertThat(jdbcTemplate.queryForList("SELECT series FROM persistent_logins", String.class))
+        .containsExactly("fresh");
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(java.time.ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
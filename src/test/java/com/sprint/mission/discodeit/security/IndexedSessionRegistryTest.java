@@ -0,0 +1,120 @@
+package com.sprint.mission.discodeit.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.Role;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.session.SessionDestroyedEvent;
+import org.springframework.security.core.session.SessionIdChangedEvent;
+import org.springframework.security.core.session.SessionInformation;
+
+@DisplayName("IndexedSessionRegistry 테스트")
+class IndexedSessionRegistryTest {
+
+  private final IndexedSessionRegistry registry = new IndexedSessionRegistry();
+
+  private static DiscodeitUserDetails principal(String username) {
+    UserDto dto = new UserDto(UUID.randomUUID(), username, username + "@example.com", null,
+        false, Role.USER);
+    return new DiscodeitUserDetails(dto, "password");
+  }
+
+  private static UUID idOf(DiscodeitUserDetails principal) {
+    return principal.getUserDto().id();
+  }
+
+  @Test
+  @DisplayName("사용자 id로 세션을 찾고 온라인 사용자에 포함한다")
+  void register() {
+    DiscodeitUserDetails alice = principal("alice");
+    DiscodeitUserDetails bob = principal("bob");
+
+    registry.registerNewSession("s1", alice);
+    registry.registerNewSession("s2", alice);
+    registry.registerNewSession("s3", bob);
+
+    assertThat(registry.getAllSessions(idOf(alice), false))
+        .extracting(SessionInformation::getSessionId)
+        .containsExactlyInAnyOrder("s1", "s2");
+    assertThat(registry.getAllSessions(alice, false)).hasSize(2);
+    assertThat(registry.getOnlineUserIds()).containsExactlyInAnyOrder(idOf(alice), idOf(bob));
+  }
+
+  @Test
+  @DisplayName("모든 세션이 만료되면 온라인 사용자에서 빠지지만 만료 포함 조회에는 남는다")
+  void expireNow() {
+    DiscodeitUserDetails alice = principal("alice");
+    registry.registerNewSession("s1", alice);
+    registry.registerNewSession("s2", alice);
+
+    registry.getSessionInformation("s1").expireNow();
+    assertThat(registry.getOnlineUserIds()).containsExactly(idOf(alice));
+
+    registry.getSessionInformation("s2").expireNow();
+    assertThat(registry.getOnlineUserIds()).isEmpty();
+    assertThat(registry.getAllSessions(idOf(alice), false)).isEmpty();
+    assertThat(registry.getAllSessions(idOf(alice), true)).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("세션이 제거되면 모든 색인에서 빠진다")
+  void remove() {
+    DiscodeitUserDetails alice = principal("alice");
+    registry.registerNewSession("s1", alice);
+
+    registry.onApplicationEvent(new TestSessionDestroyedEvent("s1"));
+
+    assertThat(registry.getSessionInformation("s1")).isNull();
+    assertThat(registry.getAllPrincipals()).isEmpty();
+    assertThat(registry.getAllSessions(idOf(alice), true)).isEmpty();
+    assertThat(registry.getOnlineUserIds()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("세션 id가 바뀌면 새 id로 다시 색인한다")
+  void sessionIdChanged() {
+    DiscodeitUserDetails alice = principal("alice");
+    registry.registerNewSession("old", alice);
+
+    registry.onApplicationEvent(new SessionIdChangedEvent("source") {
+      @Override
+      public String getOldSessionId() {
+        return "old";
+      }
+
+      @Override
+      public String getNewSessionId() {
+        return "new";
+      }
+    });
+
+    assertThat(registry.getAllSessions(idOf(alice), false))
+        .extracting(SessionInformation::getSessionId)
+        .containsExactly("new");
+  }
+
+  private static class TestSessionDestroyedEvent extends SessionDestroyedEvent {
+
+    private final String sessionId;
+
+    TestSessionDestroyedEvent(String sessionId) {
+      super(sessionId);
+      this.sessionId = sessionId;
+    }
+
+    @Override
+    public List<SecurityContext> getSecurityContexts() {
+      return List.of();
+    }
+
+    @Override
+    public String getId() {
+      return sessionId;
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.sprint.mission.discodeit.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.exception.user.LoginThrottledException;
+import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("JsonUsernamePasswordAuthenticationFilter 테스트")
+class JsonUsernamePasswordAuthenticationFilterTest {
+
+  private static final String CLIENT_ADDRESS = "10.0.0.1";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private LoginThrottle loginThrottle;
+  private JsonUsernamePasswordAuthenticationFilter filter;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    UserRepository userRepository = mock(UserRepository.class);
+    given(userRepository.findByUsername(anyString())).willReturn(Optional.empty());
+    UserDetailsCache userDetailsCache = mock(UserDetailsCache.class);
+    given(userDetailsCache.get(anyString(), any())).willAnswer(invocation ->
+        ((Function<String, DiscodeitUserDetails>) invocation.getArgument(1))
+            .apply(invocation.getArgument(0)));
+    DiscodeitUserDetailsService userDetailsService = new DiscodeitUserDetailsService(
+        userRepository, mock(UserMapper.class), userDetailsCache,
+        mock(ApplicationEventPublisher.class), mock(PlatformTransactionManager.class));
+
+    DaoAuthenticationProvider provider = new DaoAuthenticationProvider(
+        new BCryptPasswordEncoder(4));
+    provider.setUserDetailsService(userDetailsService);
+
+    loginThrottle = new LoginThrottle(true, Duration.ofMinutes(15), 3, Duration.ofSeconds(1),
+        Duration.ofSeconds(10), 100, 10, 4, 1024,
+        Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC), meterRegistry);
+    filter = new JsonUsernamePasswordAuthenticationFilter(new ObjectMapper(), loginThrottle);
+    filter.setAuthenticationManager(new ProviderManager(provider));
+  }
+
+  @Test
+  @DisplayName("없는 사용자명으로 로그인하면 비밀번호가 틀린 것과 같이 실패로 세고 제한한다")
+  void attemptAuthentication_UnknownUsername_RecordsFailure() {
+    for (int i = 0; i < 3; i++) {
+      assertThatThrownBy(() -> filter.attemptAuthentication(loginRequest("ghost"),
+          new MockHttpServletResponse()))
+          .isInstanceOf(BadCredentialsException.class);
+    }
+
+    assertThat(meterRegistry.get("discodeit.security.login.failures").counter().count())
+        .isEqualTo(3);
+    assertThatThrownBy(() -> loginThrottle.check("ghost", CLIENT_ADDRESS))
+        .isInstanceOf(LoginThrottledException.class);
+  }
+
+  private static MockHttpServletRequest loginRequest(String username) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+    request.setRemoteAddr(CLIENT_ADDRESS);
+    request.setContentType("application/json");
+    request.setContent(("{\"username\": \"" + username + "\", \"password\": \"Password1!\"}")
+        .getBytes(StandardCharsets.UTF_8));
+    return request;
+  }
+}
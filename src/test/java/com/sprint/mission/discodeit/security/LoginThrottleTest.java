@@ -0,0 +1,142 @@
+package com.sprint.mission.discodeit.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.mission.discodeit.exception.user.LoginThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LoginThrottle 테스트")
+class LoginThrottleTest {
+
+  private static final Duration WINDOW = Duration.ofMinutes(15);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private MutableClock clock;
+  private LoginThrottle throttle;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    throttle = new LoginThrottle(true, WINDOW, 3, Duration.ofSeconds(1), Duration.ofSeconds(10),
+        2, 10, 4, 1024, clock, meterRegistry);
+  }
+
+  private void fail(String username, String address, int times) {
+    for (int i = 0; i < times; i++) {
+      throttle.recordFailure(username, address);
+    }
+  }
+
+  private double attempts(String result, String reason) {
+    return meterRegistry.get("discodeit.security.login.attempts")
+        .tag("result", result).tag("reason", reason).counter().count();
+  }
+
+  @Test
+  @DisplayName("사용자명별 실패가 한도를 넘으면 실패할 때마다 2배씩 오래 막는다")
+  void username_exponentialBackoff() {
+    fail("alice", "10.0.0.1", 2);
+    assertThatCode(() -> throttle.check("alice", "10.0.0.1")).doesNotThrowAnyException();
+
+    fail("alice", "10.0.0.1", 1);
+    assertThatThrownBy(() -> throttle.check("alice", "10.0.0.2"))
+        .isInstanceOfSatisfying(LoginThrottledException.class,
+            e -> assertThat(e.retryAfterSeconds()).isEqualTo(1));
+
+    clock.advance(Duration.ofSeconds(1));
+    fail("alice", "10.0.0.1", 1);
+    assertThatThrownBy(() -> throttle.check("alice", "10.0.0.1"))
+        .isInstanceOfSatisfying(LoginThrottledException.class,
+            e -> assertThat(e.retryAfterSeconds()).isEqualTo(2));
+
+    // 다른 사용자명은 영향을 받지 않는다.
+    assertThatCode(() -> throttle.check("bob", "10.0.0.3")).doesNotThrowAnyException();
+    assertThat(attempts("rejected", "username")).isEqualTo(2);
+    assertThat(attempts("allowed", "none")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("로그인에 성공하면 사용자명의 실패 기록을 지운다")
+  void username_resetOnSuccess() {
+    fail("alice", "10.0.0.1", 3);
+
+    throttle.recordSuccess("alice");
+
+    assertThatCode(() -> throttle.check("alice", "10.0.0.1")).doesNotThrowAnyException();
+  }
+
+  @Test
+  @DisplayName("오래된 실패는 창이 지나면서 점점 덜 센다")
+  void username_slidingWindow() {
+    fail("alice", "10.0.0.1", 2);
+    clock.advance(WINDOW.plus(WINDOW.dividedBy(2)));
+
+    // 직전 창의 2회는 절반만 세므로 한 번 더 실패해도 한도(3)에 닿지 않는다.
+    fail("alice", "10.0.0.1", 1);
+
+    assertThatCode(() -> throttle.check("alice", "10.0.0.1")).doesNotThrowAnyException();
+  }
+
+  @Test
+  @DisplayName("여러 사용자명을 돌려 가며 실패한 클라이언트 주소를 막는다")
+  void client_credentialStuffing() {
+    for (int i = 0; i < 10; i++) {
+      throttle.recordFailure("user" + i, "10.0.0.9");
+    }
+
+    assertThatThrownBy(() -> throttle.check("new-user", "10.0.0.9"))
+        .isInstanceOf(LoginThrottledException.class);
+    assertThatCode(() -> throttle.check("new-user", "10.0.0.10")).doesNotThrowAnyException();
+    assertThat(attempts("rejected", "client")).isEqualTo(1);
+
+    clock.advance(WINDOW.multipliedBy(2));
+    assertThatCode(() -> throttle.check("new-user", "10.0.0.9")).doesNotThrowAnyException();
+  }
+
+  @Test
+  @DisplayName("보관하는 사용자명 수는 한도를 넘지 않는다")
+  void username_bounded() {
+    fail("a", "10.0.0.1", 1);
+    fail("b", "10.0.0.1", 1);
+    fail("c", "10.0.0.1", 1);
+
+    assertThat(throttle.trackedUsernames()).isEqualTo(2);
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(java.time.ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
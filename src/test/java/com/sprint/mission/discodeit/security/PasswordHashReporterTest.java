@@ -0,0 +1,50 @@
+package com.sprint.mission.discodeit.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.dto.data.PasswordHashPrefixCount;
+import com.sprint.mission.discodeit.dto.response.PasswordHashReport;
+import com.sprint.mission.discodeit.dto.response.PasswordHashReport.Bucket;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+@DisplayName("PasswordHashReporter 테스트")
+class PasswordHashReporterTest {
+
+  private final PasswordHashReporter reporter = new PasswordHashReporter(
+      Mockito.mock(UserRepository.class), new PasswordHashingPolicy("bcrypt", 12));
+
+  @Test
+  @DisplayName("알고리즘·cost별로 집계하고 현재 정책과 다른 해시 수를 센다")
+  void toReport() {
+    PasswordHashReport report = reporter.toReport(List.of(
+        new PasswordHashPrefixCount("{bcrypt}$2a$12$", 70),
+        new PasswordHashPrefixCount("{bcrypt}$2a$10$", 5),
+        new PasswordHashPrefixCount("$2a$10$", 20),
+        new PasswordHashPrefixCount("$2b$10$", 3),
+        new PasswordHashPrefixCount("{pbkdf2}", 2)
+    ));
+
+    assertThat(report.totalUsers()).isEqualTo(100);
+    assertThat(report.outdatedUsers()).isEqualTo(30);
+    assertThat(report.targetBcryptStrength()).isEqualTo(12);
+    assertThat(report.buckets()).containsExactly(
+        new Bucket("bcrypt", 10, false, false, 23),
+        new Bucket("bcrypt", 10, true, false, 5),
+        new Bucket("bcrypt", 12, true, true, 70),
+        new Bucket("pbkdf2", null, true, false, 2)
+    );
+  }
+
+  @Test
+  @DisplayName("형식을 알 수 없는 해시는 unknown으로 분류한다")
+  void parse_unknown() {
+    assertThat(PasswordHashReporter.parse("plaintext").algorithm())
+        .isEqualTo(PasswordHashReporter.UNKNOWN_ALGORITHM);
+    assertThat(PasswordHashReporter.parse(null).algorithm())
+        .isEqualTo(PasswordHashReporter.UNKNOWN_ALGORITHM);
+  }
+}
@@ -0,0 +1,105 @@
+package com.sprint.mission.discodeit.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@DisplayName("PasswordHashingPolicy 테스트")
+class PasswordHashingPolicyTest {
+
+  private static final String RAW = "Password1!";
+
+  @Test
+  @DisplayName("새 해시는 알고리즘 접두사와 설정한 cost로 만들어진다")
+  void encode_usesPrefixAndStrength() {
+    PasswordEncoder encoder = new PasswordHashingPolicy("bcrypt", 5).createEncoder();
+
+    String hashed = encoder.encode(RAW);
+
+    assertThat(hashed).startsWith("{bcrypt}$2a$05$");
+    assertThat(encoder.matches(RAW, hashed)).isTrue();
+    assertThat(encoder.upgradeEncoding(hashed)).isFalse();
+  }
+
+  @Test
+  @DisplayName("접두사 없는 기존 BCrypt 해시도 검증되고 재해싱 대상이 된다")
+  void legacyHash_matchesAndNeedsUpgrade() {
+    PasswordEncoder encoder = new PasswordHashingPolicy("bcrypt", 5).createEncoder();
+    String legacy = BCrypt.hashpw(RAW, BCrypt.gensalt(5));
+
+    assertThat(encoder.matches(RAW, legacy)).isTrue();
+    assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+  }
+
+  @Test
+  @DisplayName("cost가 설정보다 높아도 낮아도 재해싱 대상이 된다")
+  void differentStrength_needsUpgrade() {
+    PasswordEncoder encoder = new PasswordHashingPolicy("bcrypt", 5).createEncoder();
+
+    assertThat(encoder.upgradeEncoding("{bcrypt}" + BCrypt.hashpw(RAW, BCrypt.gensalt(4))))
+        .isTrue();
+    assertThat(encoder.upgradeEncoding("{bcrypt}" + BCrypt.hashpw(RAW, BCrypt.gensalt(6))))
+        .isTrue();
+  }
+
+  @Test
+  @DisplayName("알고리즘을 바꾸면 기존 BCrypt 해시는 검증되면서 재해싱 대상이 된다")
+  void algorithmMigration() {
+    PasswordEncoder oldEncoder = new PasswordHashingPolicy("bcrypt", 4).createEncoder();
+    PasswordEncoder newEncoder = new PasswordHashingPolicy("pbkdf2", 4).createEncoder();
+    String bcryptHash = oldEncoder.encode(RAW);
+
+    assertThat(newEncoder.matches(RAW, bcryptHash)).isTrue();
+    assertThat(newEncoder.upgradeEncoding(bcryptHash)).isTrue();
+
+    String pbkdf2Hash = newEncoder.encode(RAW);
+    assertThat(pbkdf2Hash).startsWith("{pbkdf2}");
+    assertThat(newEncoder.upgradeEncoding(pbkdf2Hash)).isFalse();
+  }
+
+  @Test
+  @DisplayName("가져온 해시는 인코더가 검증할 수 있는 형식일 때만 받아들인다")
+  void isWellFormed() {
+    PasswordEncoder bcrypt = new PasswordHashingPolicy("bcrypt", 4).createEncoder();
+    PasswordEncoder pbkdf2 = new PasswordHashingPolicy("pbkdf2", 4).createEncoder();
+
+    assertThat(PasswordHashingPolicy.isWellFormed(bcrypt.encode(RAW))).isTrue();
+    assertThat(PasswordHashingPolicy.isWellFormed(pbkdf2.encode(RAW))).isTrue();
+    assertThat(PasswordHashingPolicy.isWellFormed("{bcrypt}x")).isFalse();
+    assertThat(PasswordHashingPolicy.isWellFormed("{bcrypt}$2a$10$tooShort")).isFalse();
+    assertThat(PasswordHashingPolicy.isWellFormed("{pbkdf2}abc")).isFalse();
+    assertThat(PasswordHashingPolicy.isWellFormed(BCrypt.hashpw(RAW, BCrypt.gensalt(4))))
+        .isFalse();
+  }
+
+  @Test
+  @DisplayName("지원하지 않는 알고리즘은 기동 시점에 거부한다")
+  void unsupportedAlgorithm() {
+    assertThatThrownBy(() -> new PasswordHashingPolicy("md5", 10))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("보정은 목표 시간을 넘지 않는 가장 높은 cost를 고른다")
+  void calibration_choosesHighestWithinTarget() {
+    // cost 10에서 50ms, 이후 cost마다 두 배
+    int strength = PasswordHashCalibrator.chooseStrength(Duration.ofMillis(250), 10, 14,
+        s -> Duration.ofMillis(50L << (s - 10)));
+
+    assertThat(strength).isEqualTo(12);
+  }
+
+  @Test
+  @DisplayName("최소 cost가 이미 목표 시간을 넘어도 최소 cost 아래로는 내리지 않는다")
+  void calibration_keepsMinimum() {
+    int strength = PasswordHashCalibrator.chooseStrength(Duration.ofMillis(10), 10, 14,
+        s -> Duration.ofMillis(50L << (s - 10)));
+
+    assertThat(strength).isEqualTo(10);
+  }
+}
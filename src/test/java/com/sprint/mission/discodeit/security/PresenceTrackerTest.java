@@ -0,0 +1,174 @@
+package com.sprint.mission.discodeit.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+@DisplayName("PresenceTracker 테스트")
+class PresenceTrackerTest {
+
+  private static final Duration RECORD_INTERVAL = Duration.ofSeconds(30);
+  private static final Duration RETENTION = Duration.ofMinutes(10);
+  private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+  private EmbeddedDatabase database;
+  private JdbcTemplate jdbcTemplate;
+  private MutableClock clock;
+  private SimpleMeterRegistry meterRegistry;
+  private PresenceTracker tracker;
+
+  @BeforeEach
+  void setUp() {
+    database = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .setName(UUID.randomUUID() + ";MODE=PostgreSQL")
+        .addScript("classpath:schema.sql")
+        .build();
+    jdbcTemplate = new JdbcTemplate(database);
+    clock = new MutableClock(START);
+    meterRegistry = new SimpleMeterRegistry();
+    tracker = new PresenceTracker(jdbcTemplate, RECORD_INTERVAL, RETENTION, 2, clock,
+        meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.shutdown();
+  }
+
+  private UUID insertUser(String username, Instant lastActiveAt) {
+    UUID userId = UUID.randomUUID();
+    jdbcTemplate.update("INSERT INTO users (id, created_at, username, email, password, role)"
+            + " VALUES (?, ?, ?, ?, ?, 'USER')",
+        userId, Timestamp.from(START), username, username + "@example.com", "password");
+    jdbcTemplate.update("INSERT INTO user_statuses (id, created_at, user_id, last_active_at)"
+            + " VALUES (?, ?, ?, ?)",
+        UUID.randomUUID(), Timestamp.from(START), userId, Timestamp.from(lastActiveAt));
+    return userId;
+  }
+
+  private Instant storedLastActiveAt(UUID userId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT last_active_at FROM user_statuses WHERE user_id = ?", Timestamp.class, userId)
+        .toInstant();
+  }
+
+  @Test
+  @DisplayName("기록 주기 안에 다시 들어온 요청은 기록하지 않는다")
+  void record_WithinInterval_Throttled() {
+    UUID userId = UUID.randomUUID();
+
+    assertThat(tracker.record(userId)).isTrue();
+    clock.advance(Duration.ofSeconds(10));
+    assertThat(tracker.record(userId)).isFalse();
+    assertThat(tracker.lastActiveAt(userId)).contains(START);
+
+    clock.advance(RECORD_INTERVAL);
+    assertThat(tracker.record(userId)).isTrue();
+    assertThat(tracker.lastActiveAt(userId)).contains(clock.instant());
+    assertThat(meterRegistry.get("discodeit.presence.records").tag("result", "throttled")
+        .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("기록은 flush 전까지 DB에 쓰지 않는다")
+  void record_WritesLazily() {
+    UUID userId = insertUser("alice", START.minus(Duration.ofHours(1)));
+
+    tracker.record(userId);
+
+    assertThat(storedLastActiveAt(userId)).isEqualTo(START.minus(Duration.ofHours(1)));
+    assertThat(tracker.pendingCount()).isEqualTo(1);
+
+    tracker.flush();
+
+    assertThat(storedLastActiveAt(userId)).isEqualTo(START);
+    assertThat(tracker.pendingCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("여러 사용자를 배치 크기로 나눠 한 번에 쓴다")
+  void flush_MultipleBatches() {
+    UUID[] userIds = new UUID[5];
+    for (int i = 0; i < userIds.length; i++) {
+      userIds[i] = insertUser("user" + i, START.minus(Duration.ofHours(1)));
+      tracker.record(userIds[i]);
+    }
+
+    tracker.flush();
+
+    for (UUID userId : userIds) {
+      assertThat(storedLastActiveAt(userId)).isEqualTo(START);
+    }
+    assertThat(meterRegistry.get("discodeit.presence.flushed").counter().count())
+        .isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("DB에 더 최근 시각이 있으면 덮어쓰지 않는다")
+  void flush_DoesNotOverwriteNewerValue() {
+    Instant newer = START.plus(Duration.ofMinutes(1));
+    UUID userId = insertUser("alice", newer);
+
+    tracker.record(userId);
+    tracker.flush();
+
+    assertThat(storedLastActiveAt(userId)).isEqualTo(newer);
+  }
+
+  @Test
+  @DisplayName("오래 활동이 없고 저장까지 끝난 사용자는 메모리에서 지운다")
+  void flush_EvictsIdleUsers() {
+    UUID userId = insertUser("alice", START.minus(Duration.ofHours(1)));
+    tracker.record(userId);
+    tracker.flush();
+
+    clock.advance(RETENTION.plusSeconds(1));
+    tracker.flush();
+
+    assertThat(tracker.lastActiveAt(userId)).isEmpty();
+    assertThat(storedLastActiveAt(userId)).isEqualTo(START);
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(java.time.ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
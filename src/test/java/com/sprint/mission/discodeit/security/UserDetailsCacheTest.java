@@ -0,0 +1,151 @@
+package com.sprint.mission.discodeit.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UserDetailsCache 테스트")
+class UserDetailsCacheTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger loads = new AtomicInteger();
+  private final Function<String, DiscodeitUserDetails> loader = username -> {
+    loads.incrementAndGet();
+    return userDetails(username);
+  };
+
+  private MutableClock clock;
+  private UserDetailsCache cache;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    cache = new UserDetailsCache(2, Duration.ofMinutes(5), clock, meterRegistry);
+  }
+
+  private static DiscodeitUserDetails userDetails(String username) {
+    UserDto dto = new UserDto(UUID.nameUUIDFromBytes(username.getBytes()), username,
+        username + "@example.com", null, false, Role.USER);
+    return new DiscodeitUserDetails(dto, "{bcrypt}hash");
+  }
+
+  private double count(String result) {
+    return meterRegistry.get("discodeit.security.user-details.cache")
+        .tag("result", result).counter().count();
+  }
+
+  @Test
+  @DisplayName("두 번째 조회부터는 DB를 거치지 않는다")
+  void get_hit() {
+    DiscodeitUserDetails first = cache.get("alice", loader);
+    DiscodeitUserDetails second = cache.get("alice", loader);
+
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+    assertThat(count("hit")).isEqualTo(1);
+    assertThat(count("miss")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("TTL이 지나면 다시 조회한다")
+  void get_expired() {
+    cache.get("alice", loader);
+    clock.advance(Duration.ofMinutes(6));
+
+    cache.get("alice", loader);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 사용자부터 제거한다")
+  void get_evictsLeastRecentlyUsed() {
+    cache.get("alice", loader);
+    cache.get("bob", loader);
+    cache.get("alice", loader);
+    cache.get("carol", loader);
+
+    cache.get("alice", loader);
+    cache.get("bob", loader);
+
+    // alice는 캐시에 남고 bob은 밀려나 다시 조회된다.
+    assertThat(loads).hasValue(4);
+  }
+
+  @Test
+  @DisplayName("변경 이벤트를 받으면 해당 사용자를 무효화한다")
+  void invalidate_onEvent() {
+    DiscodeitUserDetails alice = cache.get("alice", loader);
+
+    cache.on(new UserDetailsChangedEvent(alice.getUserDto().id()));
+    cache.get("alice", loader);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("조회 도중 무효화되면 조회 결과를 캐시하지 않는다")
+  void get_racingInvalidation_notCached() {
+    cache.get("bob", username -> {
+      cache.invalidate(username);
+      return loader.apply(username);
+    });
+
+    cache.get("bob", loader);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("조회 실패는 캐시하지 않는다")
+  void get_failure_notCached() {
+    assertThatThrownBy(() -> cache.get("ghost", username -> {
+      throw new IllegalStateException("not found");
+    })).isInstanceOf(IllegalStateException.class);
+
+    cache.get("ghost", loader);
+
+    assertThat(loads).hasValue(1);
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(java.time.ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
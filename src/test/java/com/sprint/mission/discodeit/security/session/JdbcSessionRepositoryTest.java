@@ -0,0 +1,211 @@
+package com.sprint.mission.discodeit.security.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+
+/**
+ * 같은 DB를 쓰는 두 인스턴스(node A, node B)의 저장소와 레지스트리가 세션을 공유하는지 확인한다.
+ */
+@DisplayName("JdbcSessionRepository 테스트")
+class JdbcSessionRepositoryTest {
+
+  private static final Duration TIMEOUT = Duration.ofMinutes(30);
+
+  private EmbeddedDatabase database;
+  private JdbcTemplate jdbcTemplate;
+  private MutableClock clock;
+  private JdbcSessionRepository nodeA;
+  private JdbcSessionRepository nodeB;
+  private JdbcSessionRegistry registryA;
+  private JdbcSessionRegistry registryB;
+
+  @BeforeEach
+  void setUp() {
+    database = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .setName(UUID.randomUUID() + ";MODE=PostgreSQL")
+        .addScript("classpath:schema.sql")
+        .build();
+    jdbcTemplate = new JdbcTemplate(database);
+    clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    // 인스턴스 캐시를 끄고 두 인스턴스가 항상 DB를 보게 한다.
+    nodeA = new JdbcSessionRepository(jdbcTemplate, TIMEOUT, Duration.ZERO, 0, 2, clock,
+        new SimpleMeterRegistry());
+    nodeB = new JdbcSessionRepository(jdbcTemplate, TIMEOUT, Duration.ZERO, 0, 2, clock,
+        new SimpleMeterRegistry());
+    registryA = new JdbcSessionRegistry(nodeA);
+    registryB = new JdbcSessionRegistry(nodeB);
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.shutdown();
+  }
+
+  private static DiscodeitUserDetails principal(String username) {
+    UserDto dto = new UserDto(UUID.randomUUID(), username, username + "@example.com", null,
+        false, Role.USER);
+    return new DiscodeitUserDetails(dto, "password");
+  }
+
+  private JdbcSession login(JdbcSessionRepository node, DiscodeitUserDetails principal) {
+    JdbcSession session = node.createSession();
+    session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+        new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(principal,
+            null, principal.getAuthorities())));
+    node.save(session);
+    return session;
+  }
+
+  @Test
+  @DisplayName("한 인스턴스에서 만든 세션을 다른 인스턴스에서 읽는다")
+  void sharedAcrossNodes() {
+    DiscodeitUserDetails alice = principal("alice");
+    JdbcSession created = login(nodeA, alice);
+
+    JdbcSession found = nodeB.findById(created.getId());
+
+    assertThat(found).isNotNull();
+    SecurityContextImpl context = found.getAttribute(
+        HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+    assertThat(context.getAuthentication().getPrincipal()).isEqualTo(alice);
+    assertThat(registryB.getAllSessions(alice, false)).hasSize(1);
+    assertThat(registryB.getOnlineUserIds()).containsExactly(alice.getUserDto().id());
+  }
+
+  @Test
+  @DisplayName("접속 중인 사용자 목록은 인스턴스 캐시 시간 동안 재사용하고, 이 인스턴스의 로그인은 바로 반영한다")
+  void onlineUserIdsCached() {
+    JdbcSessionRepository cachingNode = new JdbcSessionRepository(jdbcTemplate, TIMEOUT,
+        Duration.ofSeconds(2), 100, 2, clock, new SimpleMeterRegistry());
+    DiscodeitUserDetails alice = principal("alice");
+    DiscodeitUserDetails bob = principal("bob");
+    DiscodeitUserDetails carol = principal("carol");
+    login(cachingNode, alice);
+    assertThat(cachingNode.findOnlineUserIds()).containsExactly(alice.getUserDto().id());
+
+    login(nodeB, bob);
+    assertThat(cachingNode.findOnlineUserIds()).containsExactly(alice.getUserDto().id());
+
+    login(cachingNode, carol);
+    assertThat(cachingNode.findOnlineUserIds()).containsExactlyInAnyOrder(
+        alice.getUserDto().id(), bob.getUserDto().id(), carol.getUserDto().id());
+
+    login(nodeB, principal("dave"));
+    clock.advance(Duration.ofSeconds(3));
+    assertThat(cachingNode.findOnlineUserIds()).hasSize(4);
+  }
+
+  @Test
+  @DisplayName("마지막 접근 시각만 바뀌면 배치 갱신 때까지 DB에 쓰지 않는다")
+  void lastAccessBatched() {
+    JdbcSession session = login(nodeA, principal("alice"));
+    Instant accessedAt = clock.instant().plus(Duration.ofMinutes(10));
+
+    JdbcSession loaded = nodeA.findById(session.getId());
+    loaded.setLastAccessedTime(accessedAt);
+    nodeA.save(loaded);
+
+    // 같은 인스턴스는 아직 쓰지 않은 시각을 반영하고, 다른 인스턴스는 DB 값을 본다.
+    assertThat(nodeA.findById(session.getId()).getLastAccessedTime()).isEqualTo(accessedAt);
+    assertThat(nodeB.findById(session.getId()).getLastAccessedTime())
+        .isEqualTo(session.getCreationTime());
+
+    nodeA.flushLastAccess();
+
+    assertThat(nodeB.findById(session.getId()).getLastAccessedTime()).isEqualTo(accessedAt);
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스에서 만료 표시한 세션은 만료로 보이고 온라인 사용자에서 빠진다")
+  void expireAcrossNodes() {
+    DiscodeitUserDetails alice = principal("alice");
+    JdbcSession session = login(nodeA, alice);
+
+    registryB.getAllSessions(alice.getUserDto().id(), false)
+        .forEach(SessionInformation::expireNow);
+
+    assertThat(registryA.getSessionInformation(session.getId()).isExpired()).isTrue();
+    assertThat(registryA.getAllSessions(alice, false)).isEmpty();
+    assertThat(registryA.getOnlineUserIds()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("세션 id를 바꾸면 새 id로만 찾을 수 있다")
+  void changeSessionId() {
+    JdbcSession session = login(nodeA, principal("alice"));
+    String oldId = session.getId();
+
+    JdbcSession loaded = nodeA.findById(oldId);
+    String newId = loaded.changeSessionId();
+    nodeA.save(loaded);
+
+    assertThat(nodeB.findById(oldId)).isNull();
+    assertThat(nodeB.findById(newId)).isNotNull();
+  }
+
+  @Test
+  @DisplayName("시간이 지나 만료된 세션은 조회되지 않고 정리 작업이 나눠서 지운다")
+  void cleanupExpired() {
+    JdbcSession first = login(nodeA, principal("alice"));
+    login(nodeA, principal("bob"));
+    login(nodeA, principal("carol"));
+
+    clock.advance(TIMEOUT.plusSeconds(1));
+
+    assertThat(nodeB.findById(first.getId())).isNull();
+    nodeB.cleanupExpiredSessions();
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM http_sessions",
+        Long.class)).isZero();
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
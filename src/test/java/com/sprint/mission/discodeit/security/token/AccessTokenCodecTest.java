@@ -0,0 +1,92 @@
+package com.sprint.mission.discodeit.security.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.entity.Role;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+
+@DisplayName("AccessTokenCodec 테스트")
+class AccessTokenCodecTest {
+
+  private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final AccessTokenCodec codec = new AccessTokenCodec(
+      "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8), "discodeit",
+      objectMapper);
+
+  private static AccessTokenClaims claims() {
+    return new AccessTokenClaims(UUID.randomUUID(), "alice", "alice@example.com", Role.USER, 3,
+        UUID.randomUUID(), UUID.randomUUID().toString(), NOW, NOW.plus(Duration.ofMinutes(5)));
+  }
+
+  @Test
+  @DisplayName("발급한 토큰을 그대로 복원한다")
+  void encode_decode() {
+    AccessTokenClaims claims = claims();
+
+    AccessTokenClaims decoded = codec.decode(codec.encode(claims), NOW.plusSeconds(10));
+
+    assertThat(decoded).isEqualTo(claims);
+  }
+
+  @Test
+  @DisplayName("만료된 토큰은 거부한다")
+  void decode_expired() {
+    String token = codec.encode(claims());
+
+    assertThatThrownBy(() -> codec.decode(token, NOW.plus(Duration.ofMinutes(5))))
+        .isInstanceOf(CredentialsExpiredException.class);
+  }
+
+  @Test
+  @DisplayName("내용을 바꾼 토큰은 서명 검증에서 거부한다")
+  void decode_tampered() {
+    String token = codec.encode(claims());
+    String[] parts = token.split("\\.");
+    String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+        .replace("\"USER\"", "\"ADMIN\"");
+    String tampered = parts[0] + "."
+        + Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+        + "." + parts[2];
+
+    assertThatThrownBy(() -> codec.decode(tampered, NOW))
+        .isInstanceOf(BadCredentialsException.class);
+  }
+
+  @Test
+  @DisplayName("다른 키로 서명한 토큰은 거부한다")
+  void decode_otherKey() {
+    AccessTokenCodec other = new AccessTokenCodec(
+        "fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.UTF_8), "discodeit",
+        objectMapper);
+    String token = other.encode(claims());
+
+    assertThatThrownBy(() -> codec.decode(token, NOW))
+        .isInstanceOf(BadCredentialsException.class);
+  }
+
+  @Test
+  @DisplayName("서명이 없는 토큰은 거부한다")
+  void decode_unsigned() {
+    String header = Base64.getUrlEncoder().withoutPadding()
+        .encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+    String payload = codec.encode(claims()).split("\\.")[1];
+
+    assertThatThrownBy(() -> codec.decode(header + "." + payload + ".", NOW))
+        .isInstanceOf(BadCredentialsException.class);
+    assertThatThrownBy(() -> codec.decode("not-a-token", NOW))
+        .isInstanceOf(BadCredentialsException.class);
+  }
+}
@@ -0,0 +1,161 @@
+package com.sprint.mission.discodeit.security.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.dto.response.TokenResponse;
+import com.sprint.mission.discodeit.entity.RefreshToken;
+import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.exception.user.InvalidRefreshTokenException;
+import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.repository.RefreshTokenRepository;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenService 테스트")
+class TokenServiceTest {
+
+  private static final Duration ACCESS_TTL = Duration.ofMinutes(5);
+
+  @Mock
+  private RefreshTokenRepository refreshTokenRepository;
+  @Mock
+  private UserRepository userRepository;
+  @Mock
+  private UserMapper userMapper;
+
+  private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+  // 저장된 리프레시 토큰 (id -> 엔티티)
+  private final Map<UUID, RefreshToken> stored = new HashMap<>();
+
+  private TokenDenylist denylist;
+  private TokenService tokenService;
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    AccessTokenCodec codec = new AccessTokenCodec(
+        "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8), "discodeit",
+        new ObjectMapper());
+    denylist = new TokenDenylist(ACCESS_TTL, clock, new SimpleMeterRegistry());
+    tokenService = new TokenService(codec, denylist, refreshTokenRepository, userRepository,
+        userMapper, ACCESS_TTL, Duration.ofDays(14), clock);
+
+    user = new User("alice", "alice@example.com", "{bcrypt}hash", null);
+    user.updateRole(Role.USER);
+    ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
+    given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+    given(userMapper.toDto(any(User.class))).willReturn(new UserDto(user.getId(), "alice",
+        "alice@example.com", null, null, Role.USER));
+    given(refreshTokenRepository.save(any(RefreshToken.class))).willAnswer(invocation -> {
+      RefreshToken token = invocation.getArgument(0);
+      ReflectionTestUtils.setField(token, "id", UUID.randomUUID());
+      stored.put(token.getId(), token);
+      return token;
+    });
+  }
+
+  private RefreshToken storedToken(String refreshToken) {
+    UUID id = UUID.fromString(refreshToken.substring(0, refreshToken.indexOf('.')));
+    return stored.get(id);
+  }
+
+  @Test
+  @DisplayName("리프레시 토큰을 쓰면 같은 계열의 새 토큰 쌍을 발급한다")
+  void refresh_rotates() {
+    TokenResponse login = tokenService.issue(user.getId());
+    RefreshToken first = storedToken(login.refreshToken());
+    given(refreshTokenRepository.findById(first.getId())).willReturn(Optional.of(first));
+    given(refreshTokenRepository.markUsed(eq(first.getId()), any())).willReturn(1);
+
+    TokenResponse refreshed = tokenService.refresh(login.refreshToken());
+
+    assertThat(refreshed.refreshToken()).isNotEqualTo(login.refreshToken());
+    assertThat(storedToken(refreshed.refreshToken()).getFamilyId())
+        .isEqualTo(first.getFamilyId());
+    assertThat(tokenService.authenticate(refreshed.accessToken()).userId())
+        .isEqualTo(user.getId());
+  }
+
+  @Test
+  @DisplayName("이미 쓴 리프레시 토큰이 다시 오면 계열 전체를 폐기한다")
+  void refresh_reuseRevokesFamily() {
+    TokenResponse login = tokenService.issue(user.getId());
+    RefreshToken first = storedToken(login.refreshToken());
+    given(refreshTokenRepository.findById(first.getId())).willReturn(Optional.of(first));
+    given(refreshTokenRepository.markUsed(eq(first.getId()), any())).willReturn(0);
+
+    assertThatThrownBy(() -> tokenService.refresh(login.refreshToken()))
+        .isInstanceOf(InvalidRefreshTokenException.class);
+    verify(refreshTokenRepository).revokeFamily(first.getFamilyId());
+  }
+
+  @Test
+  @DisplayName("비밀값이 다른 리프레시 토큰은 사용 처리하지 않고 거부한다")
+  void refresh_wrongSecret() {
+    TokenResponse login = tokenService.issue(user.getId());
+    RefreshToken first = storedToken(login.refreshToken());
+    given(refreshTokenRepository.findById(first.getId())).willReturn(Optional.of(first));
+
+    assertThatThrownBy(() -> tokenService.refresh(first.getId() + ".guessed"))
+        .isInstanceOf(InvalidRefreshTokenException.class);
+    verify(refreshTokenRepository, never()).markUsed(any(), any());
+  }
+
+  @Test
+  @DisplayName("권한이 바뀌면 이전 버전의 액세스 토큰은 거부하고 갱신한 토큰은 받아들인다")
+  void authenticate_versionBump() {
+    TokenResponse login = tokenService.issue(user.getId());
+    RefreshToken first = storedToken(login.refreshToken());
+    given(refreshTokenRepository.findById(first.getId())).willReturn(Optional.of(first));
+    given(refreshTokenRepository.markUsed(eq(first.getId()), any())).willReturn(1);
+
+    user.updateRole(Role.CHANNEL_MANAGER);
+    denylist.on(new TokenVersionChangedEvent(user.getId(), user.getTokenVersion()));
+
+    assertThatThrownBy(() -> tokenService.authenticate(login.accessToken()))
+        .isInstanceOf(BadCredentialsException.class);
+    AccessTokenClaims refreshed = tokenService.authenticate(
+        tokenService.refresh(login.refreshToken()).accessToken());
+    assertThat(refreshed.role()).isEqualTo(Role.CHANNEL_MANAGER);
+  }
+
+  @Test
+  @DisplayName("로그아웃한 액세스 토큰은 만료 전이라도 거부한다")
+  void revoke() {
+    TokenResponse login = tokenService.issue(user.getId());
+    AccessTokenClaims claims = tokenService.authenticate(login.accessToken());
+
+    tokenService.revoke(claims);
+
+    assertThatThrownBy(() -> tokenService.authenticate(login.accessToken()))
+        .isInstanceOf(BadCredentialsException.class);
+    verify(refreshTokenRepository).revokeFamily(claims.familyId());
+  }
+}
@@ -5,15 +5,21 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.sprint.mission.discodeit.dto.data.BinaryContentDownload;
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.request.BinaryContentHashCreateRequest;
 import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.BinaryContentEncoding;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
 import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentNotFoundException;
+import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentNotReadyException;
 import com.sprint.mission.discodeit.mapper.BinaryContentMapper;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
-import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.BinaryContentBlobStore;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -37,7 +43,7 @@ class BasicBinaryContentServiceTest {
   private BinaryContentMapper binaryContentMapper;
 
   @Mock
-  private BinaryContentStorage binaryContentStorage;
+  private BinaryContentBlobStore binaryContentBlobStore;
 
   @InjectMocks
   private BasicBinaryContentService binaryContentService;
@@ -63,7 +69,8 @@ class BasicBinaryContentServiceTest {
         binaryContentId,
         fileName,
         (long) bytes.length,
-        contentType
+        contentType,
+        BinaryContentStatus.READY
     );
   }
 
@@ -74,11 +81,7 @@ class BasicBinaryContentServiceTest {
     BinaryContentCreateRequest request = new BinaryContentCreateRequest(fileName, contentType,
         bytes);
 
-    given(binaryContentRepository.save(any(BinaryContent.class))).will(invocation -> {
-      BinaryContent binaryContent = invocation.getArgument(0);
-      ReflectionTestUtils.setField(binaryContent, "id", binaryContentId);
-      return binaryContent;
-    });
+    given(binaryContentBlobStore.create(fileName, contentType, bytes)).willReturn(binaryContent);
     given(binaryContentMapper.toDto(any(BinaryContent.class))).willReturn(binaryContentDto);
 
     // when
@@ -86,8 +89,25 @@ class BasicBinaryContentServiceTest {
 
     // then
     assertThat(result).isEqualTo(binaryContentDto);
-    verify(binaryContentRepository).save(any(BinaryContent.class));
-    verify(binaryContentStorage).put(binaryContentId, bytes);
+    verify(binaryContentBlobStore).create(fileName, contentType, bytes);
+  }
+
+  @Test
+  @DisplayName("해시로 바이너리 콘텐츠 생성 성공")
+  void createBinaryContentFromHash_Success() {
+    // given
+    String hash = BinaryContentBlobStore.sha256(bytes);
+    BinaryContentHashCreateRequest request = new BinaryContentHashCreateRequest(fileName,
+        contentType);
+    given(binaryContentBlobStore.createFromHash(hash, fileName, contentType))
+        .willReturn(binaryContent);
+    given(binaryContentMapper.toDto(eq(binaryContent))).willReturn(binaryContentDto);
+
+    // when
+    BinaryContentDto result = binaryContentService.createFromHash(hash, request);
+
+    // then
+    assertThat(result).isEqualTo(binaryContentDto);
   }
 
   @Test
@@ -116,6 +136,37 @@ class BasicBinaryContentServiceTest {
         .isInstanceOf(BinaryContentNotFoundException.class);
   }
 
+  @Test
+  @DisplayName("다운로드 메타데이터를 한 번에 조회")
+  void findDownload_Success() {
+    // given
+    given(binaryContentRepository.findById(eq(binaryContentId))).willReturn(
+        Optional.of(binaryContent));
+    given(binaryContentMapper.toDto(eq(binaryContent))).willReturn(binaryContentDto);
+
+    // when
+    BinaryContentDownload result = binaryContentService.findDownload(binaryContentId);
+
+    // then
+    assertThat(result.binaryContent()).isEqualTo(binaryContentDto);
+    assertThat(result.storageKey()).isEqualTo(binaryContentId);
+    assertThat(result.encoding()).isEqualTo(BinaryContentEncoding.IDENTITY);
+    verify(binaryContentRepository, times(1)).findById(binaryContentId);
+  }
+
+  @Test
+  @DisplayName("아직 저장 중인 바이너리 콘텐츠는 다운로드할 수 없음")
+  void findDownload_NotReady_ThrowsException() {
+    // given
+    BinaryContent pending = new BinaryContent(fileName, (long) bytes.length, contentType, null,
+        BinaryContentStatus.PENDING);
+    given(binaryContentRepository.findById(eq(binaryContentId))).willReturn(Optional.of(pending));
+
+    // when & then
+    assertThatThrownBy(() -> binaryContentService.findDownload(binaryContentId))
+        .isInstanceOf(BinaryContentNotReadyException.class);
+  }
+
   @Test
   @DisplayName("여러 ID로 바이너리 콘텐츠 목록 조회 성공")
   void findAllByIdIn_Success() {
@@ -132,8 +183,10 @@ class BasicBinaryContentServiceTest {
 
     List<BinaryContent> contents = Arrays.asList(content1, content2);
 
-    BinaryContentDto dto1 = new BinaryContentDto(id1, "file1.jpg", 100L, "image/jpeg");
-    BinaryContentDto dto2 = new BinaryContentDto(id2, "file2.jpg", 200L, "image/png");
+    BinaryContentDto dto1 = new BinaryContentDto(id1, "file1.jpg", 100L, "image/jpeg",
+        BinaryContentStatus.READY);
+    BinaryContentDto dto2 = new BinaryContentDto(id2, "file2.jpg", 200L, "image/png",
+        BinaryContentStatus.READY);
 
     given(binaryContentRepository.findAllById(eq(ids))).willReturn(contents);
     given(binaryContentMapper.toDto(eq(content1))).willReturn(dto1);
@@ -156,6 +209,7 @@ class BasicBinaryContentServiceTest {
     binaryContentService.delete(binaryContentId);
 
     // then
+    verify(binaryContentBlobStore).releaseByBinaryContentId(binaryContentId);
     verify(binaryContentRepository).deleteById(binaryContentId);
   }
 
@@ -0,0 +1,421 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.BinaryContentUploadDto;
+import com.sprint.mission.discodeit.dto.data.ResumableUploadDto;
+import com.sprint.mission.discodeit.dto.request.BinaryContentUploadCreateRequest;
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.entity.BinaryContentUpload;
+import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentUploadExpiredException;
+import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentUploadNotFoundException;
+import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentUploadOffsetMismatchException;
+import com.sprint.mission.discodeit.exception.binarycontent.InvalidBinaryContentUploadException;
+import com.sprint.mission.discodeit.mapper.BinaryContentMapper;
+import com.sprint.mission.discodeit.repository.BinaryContentUploadRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentBlobStore;
+import com.sprint.mission.discodeit.storage.upload.DirectUploadStorage;
+import com.sprint.mission.discodeit.storage.upload.DirectUploadTarget;
+import com.sprint.mission.discodeit.storage.upload.ResumableUploadStorage;
+import com.sprint.mission.discodeit.storage.upload.StagedObject;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+@ExtendWith(MockitoExtension.class)
+class BasicBinaryContentUploadServiceTest {
+
+  private static final String HASH = "a".repeat(64);
+
+  @Mock
+  private BinaryContentUploadRepository binaryContentUploadRepository;
+
+  @Mock
+  private BinaryContentBlobStore binaryContentBlobStore;
+
+  @Mock
+  private BinaryContentMapper binaryContentMapper;
+
+  @Mock
+  private DirectUploadStorage directUploadStorage;
+
+  @Mock
+  private ResumableUploadStorage resumableUploadStorage;
+
+  @Spy
+  private TransactionTemplate transactionTemplate = new TransactionTemplate(
+      mock(PlatformTransactionManager.class));
+
+  @InjectMocks
+  private BasicBinaryContentUploadService binaryContentUploadService;
+
+  private UUID uploadId;
+  private UUID ownerId;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(binaryContentUploadService, "maxSize", DataSize.ofMegabytes(1));
+    ReflectionTestUtils.setField(binaryContentUploadService, "expiration", Duration.ofMinutes(15));
+    ReflectionTestUtils.setField(binaryContentUploadService, "resumableMaxSize",
+        DataSize.ofMegabytes(100));
+    ReflectionTestUtils.setField(binaryContentUploadService, "minChunkSize",
+        DataSize.ofBytes(10));
+    ReflectionTestUtils.setField(binaryContentUploadService, "maxChunkSize",
+        DataSize.ofBytes(60));
+    ReflectionTestUtils.setField(binaryContentUploadService, "resumableExpiration",
+        Duration.ofHours(12));
+    uploadId = UUID.randomUUID();
+    ownerId = UUID.randomUUID();
+  }
+
+  private BinaryContentUpload upload(Instant expiresAt) {
+    BinaryContentUpload upload = new BinaryContentUpload("photo.png", "image/png", 100L, HASH,
+        "token-hash", expiresAt, ownerId);
+    ReflectionTestUtils.setField(upload, "id", uploadId);
+    return upload;
+  }
+
+  private BinaryContentUpload resumableUpload(long offset) {
+    BinaryContentUpload upload = new BinaryContentUpload("video.mp4", "video/mp4", 100L, HASH,
+        Instant.now().plusSeconds(60), ownerId);
+    ReflectionTestUtils.setField(upload, "id", uploadId);
+    ReflectionTestUtils.setField(upload, "uploadOffset", offset);
+    upload.startMultipart("multipart-1");
+    return upload;
+  }
+
+  @Test
+  @DisplayName("업로드를 만들면 저장소가 발급한 업로드 URL을 돌려준다")
+  void create_Success() {
+    // given
+    BinaryContentUploadCreateRequest request = new BinaryContentUploadCreateRequest("photo.png",
+        "image/png", 100L, HASH.toUpperCase());
+    given(binaryContentUploadRepository.save(any(BinaryContentUpload.class)))
+        .willAnswer(invocation -> {
+          BinaryContentUpload saved = invocation.getArgument(0);
+          ReflectionTestUtils.setField(saved, "id", uploadId);
+          return saved;
+        });
+    DirectUploadTarget target = new DirectUploadTarget("https://bucket/upload", "PUT",
+        Map.of("Content-Type", "image/png"));
+    given(directUploadStorage.createTarget(eq(uploadId), eq("image/png"), eq(100L), eq(HASH),
+        anyString(), any(Instant.class))).willReturn(target);
+
+    // when
+    BinaryContentUploadDto result = binaryContentUploadService.create(request, ownerId);
+
+    // then
+    verify(binaryContentUploadRepository).save(
+        argThat(upload -> ownerId.equals(upload.getOwnerId())));
+    assertThat(result.id()).isEqualTo(uploadId);
+    assertThat(result.uploadUrl()).isEqualTo("https://bucket/upload");
+    assertThat(result.method()).isEqualTo("PUT");
+    assertThat(result.expiresAt()).isAfter(Instant.now());
+  }
+
+  @Test
+  @DisplayName("허용 크기를 넘는 업로드는 만들지 않는다")
+  void create_TooLarge_ThrowsException() {
+    // given
+    BinaryContentUploadCreateRequest request = new BinaryContentUploadCreateRequest("big.bin",
+        "application/octet-stream", DataSize.ofMegabytes(2).toBytes(), HASH);
+
+    // when & then
+    assertThatThrownBy(() -> binaryContentUploadService.create(request, ownerId))
+        .isInstanceOf(InvalidBinaryContentUploadException.class);
+    verify(binaryContentUploadRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("토큰이 맞지 않으면 업로드를 받지 않는다")
+  void receive_WrongToken_ThrowsException() {
+    // given
+    given(directUploadStorage.acceptsUploads()).willReturn(true);
+    given(binaryContentUploadRepository.findById(uploadId))
+        .willReturn(Optional.of(upload(Instant.now().plusSeconds(60))));
+
+    // when & then
+    assertThatThrownBy(() -> binaryContentUploadService.receive(uploadId, "wrong", "image/png",
+        new ByteArrayInputStream(new byte[100])))
+        .isInstanceOf(BinaryContentUploadNotFoundException.class);
+    verify(directUploadStorage, never()).receive(any(), any(), anyLong());
+  }
+
+  @Test
+  @DisplayName("업로드된 파일이 요청과 같으면 첨부 파일을 만든다")
+  void complete_Success() {
+    // given
+    BinaryContentUpload upload = upload(Instant.now().plusSeconds(60));
+    given(binaryContentUploadRepository.findById(uploadId)).willReturn(Optional.of(upload));
+    given(binaryContentUploadRepository.deleteByIdReturningCount(uploadId)).willReturn(1);
+    given(directUploadStorage.inspect(uploadId))
+        .willReturn(Optional.of(new StagedObject(100L, HASH, "image/png")));
+    BinaryContent binaryContent = new BinaryContent("photo.png", 100L, "image/png");
+    given(binaryContentBlobStore.createFromUpload(uploadId, HASH, 100L, "photo.png", "image/png"))
+        .willReturn(binaryContent);
+    BinaryContentDto dto = new BinaryContentDto(UUID.randomUUID(), "photo.png", 100L,
+        "image/png", BinaryContentStatus.PENDING);
+    given(binaryContentMapper.toDto(binaryContent)).willReturn(dto);
+
+    // when
+    BinaryContentDto result = binaryContentUploadService.complete(uploadId, ownerId);
+
+    // then
+    assertThat(result).isEqualTo(dto);
+  }
+
+  @Test
+  @DisplayName("업로드된 파일의 해시가 다르면 첨부 파일을 만들지 않는다")
+  void complete_HashMismatch_ThrowsException() {
+    // given
+    given(binaryContentUploadRepository.findById(uploadId))
+        .willReturn(Optional.of(upload(Instant.now().plusSeconds(60))));
+    given(directUploadStorage.inspect(uploadId))
+        .willReturn(Optional.of(new StagedObject(100L, "b".repeat(64), null)));
+
+    // when & then
+    assertThatThrownBy(() -> binaryContentUploadService.complete(uploadId, ownerId))
+        .isInstanceOf(InvalidBinaryContentUploadException.class);
+    verify(binaryContentUploadRepository, never()).deleteByIdReturningCount(any());
+    verify(binaryContentBlobStore, never()).createFromUpload(any(), any(), anyLong(), any(),
+        any());
+  }
+
+  @Test
+  @DisplayName("검증하는 사이 다른 요청이 먼저 완료했으면 첨부 파일을 다시 만들지 않는다")
+  void complete_AlreadyCompleted_ThrowsException() {
+    // given
+    given(binaryContentUploadRepository.findById(uploadId))
+        .willReturn(Optional.of(upload(Instant.now().plusSeconds(60))));
+    given(directUploadStorage.inspect(uploadId))
+        .willReturn(Optional.of(new StagedObject(100L, HASH, "image/png")));
+    given(binaryContentUploadRepository.deleteByIdReturningCount(uploadId)).willReturn(0);
+
+    // when & then
+    assertThatThrownBy(() -> binaryContentUploadService.complete(uploadId, ownerId))
+        .isInstanceOf(BinaryContentUploadNotFoundException.class);
+    verify(binaryContentBlobStore, never()).createFromUpload(any(), any(), anyLong(), any(),
+        any());
+  }
+
+  @Test
+  @DisplayName("업로드를 만든 사용자가 아니면 없는 업로드처럼 완료를 거부한다")
+  void complete_OtherUser_ThrowsNotFound() {
+    // given
+    given(binaryContentUploadRepository.findById(uploadId))
+        .willReturn(Optional.of(upload(Instant.now().plusSeconds(60))));
+
+    // when & then
+    assertThatThrownBy(() -> binaryContentUploadService.complete(uploadId, UUID.randomUUID()))
+        .isInstanceOf(BinaryContentUploadNotFoundException.class);
+    verify(directUploadStorage, never()).inspect(any());
+    verify(binaryContentUploadRepository, never()).deleteByIdReturningCount(any());
+  }
+
+  @Test
+  @DisplayName("만료된 업로드는 완료할 수 없다")
+  void complete_Expired_ThrowsException() {
+    // given
+    given(binaryContentUploadRepository.findById(uploadId))
+        .willReturn(Optional.of(upload(Instant.now().minusSeconds(1))));
+
+    // when & then
+    assertThatThrownBy(() -> binaryContentUploadService.complete(uploadId, ownerId))
+        .isInstanceOf(BinaryContentUploadExpiredException.class);
+    verify(directUploadStorage, never()).inspect(any());
+  }
+
+  @Test
+  @DisplayName("이어 올리기 업로드를 만들면 행을 저장한 뒤 저장소 세션을 열고 세션 id를 기록한다")
+  void createResumable_Success() {
+    // given
+    BinaryContentUploadCreateRequest request = new BinaryContentUploadCreateRequest("video.mp4",
+        "video/mp4", 100L, HASH);
+    given(binaryContentUploadRepository.save(any(BinaryContentUpload.class)))
+        .willAnswer(invocation -> {
+          BinaryContentUpload saved = invocation.getArgument(0);
+          ReflectionTestUtils.setField(saved, "id", uploadId);
+          return saved;
+        });
+    given(resumableUploadStorage.begin(uploadId, "video/mp4")).willReturn("multipart-1");
+
+    // when
+    ResumableUploadDto result = binaryContentUploadService.createResumable(request, ownerId);
+
+    // then
+    assertThat(result.id()).isEqualTo(uploadId);
+    assertThat(result.offset()).isZero();
+    InOrder inOrder = inOrder(binaryContentUploadRepository, resumableUploadStorage);
+    inOrder.verify(binaryContentUploadRepository).save(
+        argThat(upload -> ownerId.equals(upload.getOwnerId())));
+    inOrder.verify(resumableUploadStorage).begin(uploadId, "video/mp4");
+    inOrder.verify(binaryContentUploadRepository).startMultipart(uploadId, "multipart-1");
+  }
+
+  @Test
+  @DisplayName("저장소 세션을 열지 못하면 저장한 업로드 행을 지운다")
+  void createResumable_BeginFails_DeletesUpload() {
+    // given
+    BinaryContentUploadCreateRequest request = new BinaryContentUploadCreateRequest("video.mp4",
+        "video/mp4", 100L, HASH);
+    given(binaryContentUploadRepository.save(any(BinaryContentUpload.class)))
+        .willAnswer(invocation -> {
+          BinaryContentUpload saved = invocation.getArgument(0);
+          ReflectionTestUtils.setField(saved, "id", uploadId);
+          return saved;
+        });
+    given(resumableUploadStorage.begin(uploadId, "video/mp4"))
+        .willThrow(new IllegalStateException("unavailable"));
+
+    // when & then
+    assertThatThrownBy(() -> binaryContentUploadService.createResumable(request, ownerId))
+        .isInstanceOf(IllegalStateException.class);
+    verify(binaryContentUploadRepository).deleteById(uploadId);
+    verify(binaryContentUploadRepository, never()).startMultipart(any(), any());
+  }
+
+  @Test
+  @DisplayName("세션 id를 기록하지 못하면 열었던 저장소 세션을 취소한다")
+  void createResumable_RecordFails_AbortsSession() {
+    // given
+    BinaryContentUploadCreateRequest request = new BinaryContentUploadCreateRequest("video.mp4",
+        "video/mp4", 100L, HASH);
+    given(binaryContentUploadRepository.save(any(BinaryContentUpload.class)))
+        .willAnswer(invocation -> {
+          BinaryContentUpload saved = invocation.getArgument(0);
+          ReflectionTestUtils.setField(saved, "id", uploadId);
+          return saved;
+        });
+    given(resumableUploadStorage.begin(uploadId, "video/mp4")).willReturn("multipart-1");
+    given(binaryContentUploadRepository.startMultipart(uploadId, "multipart-1"))
+        .willThrow(new IllegalStateException("db down"));
+
+    // when & then
+    assertThatThrownBy(() -> binaryContentUploadService.createResumable(request, ownerId))
+        .isInstanceOf(IllegalStateException.class);
+    verify(resumableUploadStorage).abort(uploadId, "multipart-1");
+  }
+
+  @Test
+  @DisplayName("현재 위치에 맞는 청크를 받으면 저장소에 쓰고 위치를 늘린다")
+  void appendChunk_Success() {
+    // given
+    given(binaryContentUploadRepository.findById(uploadId))
+        .willReturn(Optional.of(resumableUpload(0)));
+    given(binaryContentUploadRepository.advanceOffset(eq(uploadId), eq(0L), eq(40L),
+        any(Instant.class))).willReturn(1);
+    ByteArrayInputStream chunk = new ByteArrayInputStream(new byte[40]);
+
+    // when
+    ResumableUploadDto result = binaryContentUploadService.appendChunk(uploadId, ownerId, 0, 40,
+        chunk);
+
+    // then
+    assertThat(result.offset()).isEqualTo(40L);
+    verify(resumableUploadStorage).writeChunk(uploadId, "multipart-1", 1, 0L, chunk, 40L);
+  }
+
+  @Test
+  @DisplayName("청크의 시작 위치가 현재 위치와 다르면 쓰지 않는다")
+  void appendChunk_OffsetMismatch_ThrowsException() {
+    // given
+    given(binaryContentUploadRepository.findById(uploadId))
+        .willReturn(Optional.of(resumableUpload(40)));
+
+    // when & then
+    assertThatThrownBy(() -> binaryContentUploadService.appendChunk(uploadId, ownerId, 0, 40,
+        new ByteArrayInputStream(new byte[40])))
+        .isInstanceOf(BinaryContentUploadOffsetMismatchException.class);
+    verify(resumableUploadStorage, never()).writeChunk(any(), any(), anyInt(), anyLong(), any(),
+        anyLong());
+  }
+
+  @Test
+  @DisplayName("마지막이 아닌 청크가 최소 크기보다 작으면 거부한다")
+  void appendChunk_TooSmall_ThrowsException() {
+    // given
+    given(binaryContentUploadRepository.findById(uploadId))
+        .willReturn(Optional.of(resumableUpload(0)));
+
+    // when & then
+    assertThatThrownBy(() -> binaryContentUploadService.appendChunk(uploadId, ownerId, 0, 5,
+        new ByteArrayInputStream(new byte[5])))
+        .isInstanceOf(InvalidBinaryContentUploadException.class);
+  }
+
+  @Test
+  @DisplayName("업로드를 만든 사용자가 아니면 없는 업로드처럼 청크를 거부한다")
+  void appendChunk_OtherUser_ThrowsNotFound() {
+    // given
+    given(binaryContentUploadRepository.findById(uploadId))
+        .willReturn(Optional.of(resumableUpload(0)));
+
+    // when & then
+    assertThatThrownBy(() -> binaryContentUploadService.appendChunk(uploadId, UUID.randomUUID(),
+        0, 40, new ByteArrayInputStream(new byte[40])))
+        .isInstanceOf(BinaryContentUploadNotFoundException.class);
+    verify(resumableUploadStorage, never()).writeChunk(any(), any(), anyInt(), anyLong(), any(),
+        anyLong());
+  }
+
+  @Test
+  @DisplayName("업로드를 만든 사용자가 아니면 위치 조회와 취소도 없는 업로드로 응답한다")
+  void findResumableAndAbort_OtherUser_ThrowsNotFound() {
+    // given
+    given(binaryContentUploadRepository.findById(uploadId))
+        .willReturn(Optional.of(resumableUpload(40)));
+    UUID otherUserId = UUID.randomUUID();
+
+    // when & then
+    assertThatThrownBy(() -> binaryContentUploadService.findResumable(uploadId, otherUserId))
+        .isInstanceOf(BinaryContentUploadNotFoundException.class);
+    assertThatThrownBy(() -> binaryContentUploadService.abort(uploadId, otherUserId))
+        .isInstanceOf(BinaryContentUploadNotFoundException.class);
+    verify(binaryContentUploadRepository, never()).deleteByIdReturningCount(any());
+    verify(resumableUploadStorage, never()).abort(any(), any());
+  }
+
+  @Test
+  @DisplayName("모든 청크를 받기 전에는 완료할 수 없다")
+  void complete_Incomplete_ThrowsException() {
+    // given
+    given(binaryContentUploadRepository.findById(uploadId))
+        .willReturn(Optional.of(resumableUpload(40)));
+
+    // when & then
+    assertThatThrownBy(() -> binaryContentUploadService.complete(uploadId, ownerId))
+        .isInstanceOf(InvalidBinaryContentUploadException.class);
+    verify(resumableUploadStorage, never()).finish(any(), any(), anyInt());
+    verify(binaryContentUploadRepository, never()).deleteByIdReturningCount(any());
+  }
+}
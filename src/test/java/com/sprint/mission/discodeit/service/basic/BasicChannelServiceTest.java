@@ -23,6 +23,7 @@ import com.sprint.mission.discodeit.repository.ChannelRepository;
 import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentBlobStore;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -54,6 +55,9 @@ class BasicChannelServiceTest {
   @Mock
   private ChannelMapper channelMapper;
 
+  @Mock
+  private BinaryContentBlobStore binaryContentBlobStore;
+
   @InjectMocks
   private BasicChannelService channelService;
 
@@ -210,6 +214,7 @@ class BasicChannelServiceTest {
     channelService.delete(channelId);
 
     // then
+    verify(binaryContentBlobStore).releaseByChannelId(eq(channelId));
     verify(messageRepository).deleteAllByChannelId(eq(channelId));
     verify(readStatusRepository).deleteAllByChannelId(eq(channelId));
     verify(channelRepository).deleteById(eq(channelId));
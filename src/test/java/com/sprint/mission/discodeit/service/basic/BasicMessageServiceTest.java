@@ -3,6 +3,7 @@ package com.sprint.mission.discodeit.service.basic;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
@@ -15,28 +16,34 @@ import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
 import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.Message;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentNotFoundException;
 import com.sprint.mission.discodeit.exception.channel.ChannelNotFoundException;
 import com.sprint.mission.discodeit.exception.message.MessageNotFoundException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.MessageMapper;
 import com.sprint.mission.discodeit.mapper.PageResponseMapper;
+import com.sprint.mission.discodeit.mapper.UserDtoCache;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
 import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
-import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.security.UserSessionRegistry;
+import com.sprint.mission.discodeit.storage.BinaryContentBlobStore;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -61,13 +68,19 @@ class BasicMessageServiceTest {
   private MessageMapper messageMapper;
 
   @Mock
-  private BinaryContentStorage binaryContentStorage;
+  private BinaryContentBlobStore binaryContentBlobStore;
+
+  @Mock
+  private PageResponseMapper pageResponseMapper;
 
   @Mock
   private BinaryContentRepository binaryContentRepository;
 
   @Mock
-  private PageResponseMapper pageResponseMapper;
+  private UserDtoCache userDtoCache;
+
+  @Mock
+  private UserSessionRegistry sessionRegistry;
 
   @InjectMocks
   private BasicMessageService messageService;
@@ -98,7 +111,8 @@ class BasicMessageServiceTest {
 
     attachment = new BinaryContent("test.txt", 100L, "text/plain");
     ReflectionTestUtils.setField(attachment, "id", UUID.randomUUID());
-    attachmentDto = new BinaryContentDto(attachment.getId(), "test.txt", 100L, "text/plain");
+    attachmentDto = new BinaryContentDto(attachment.getId(), "test.txt", 100L, "text/plain",
+        BinaryContentStatus.READY);
 
     message = new Message(content, channel, author, List.of(attachment));
     ReflectionTestUtils.setField(message, "id", messageId);
@@ -109,7 +123,7 @@ class BasicMessageServiceTest {
         Instant.now(),
         content,
         channelId,
-        new UserDto(authorId, "testUser", "test@example.com", null, true),
+        new UserDto(authorId, "testUser", "test@example.com", null, true, com.sprint.mission.discodeit.entity.Role.USER),
         List.of(attachmentDto)
     );
   }
@@ -124,11 +138,8 @@ class BasicMessageServiceTest {
 
     given(channelRepository.findById(eq(channelId))).willReturn(Optional.of(channel));
     given(userRepository.findById(eq(authorId))).willReturn(Optional.of(author));
-    given(binaryContentRepository.save(any(BinaryContent.class))).will(invocation -> {
-        BinaryContent binaryContent = invocation.getArgument(0);
-        ReflectionTestUtils.setField(binaryContent, "id", attachment.getId());
-        return attachment;
-      });
+    given(binaryContentBlobStore.create(eq("test.txt"), eq("text/plain"), any(byte[].class)))
+        .willReturn(attachment);
     given(messageRepository.save(any(Message.class))).willReturn(message);
     given(messageMapper.toDto(any(Message.class))).willReturn(messageDto);
 
@@ -138,7 +149,45 @@ class BasicMessageServiceTest {
     // then
     assertThat(result).isEqualTo(messageDto);
     verify(messageRepository).save(any(Message.class));
-    verify(binaryContentStorage).put(eq(attachment.getId()), any(byte[].class));
+    verify(binaryContentBlobStore).create(eq("test.txt"), eq("text/plain"), any(byte[].class));
+  }
+
+  @Test
+  @DisplayName("미리 올린 첨부 파일은 작성자가 올린 것만 요청한 순서대로 붙인다")
+  void createMessage_WithAttachmentIds_KeepsRequestOrder() {
+    // given
+    BinaryContent second = new BinaryContent("second.txt", 100L, "text/plain");
+    ReflectionTestUtils.setField(second, "id", UUID.randomUUID());
+    MessageCreateRequest request = new MessageCreateRequest(content, channelId, authorId,
+        List.of(second.getId(), attachment.getId()));
+    given(channelRepository.findById(eq(channelId))).willReturn(Optional.of(channel));
+    given(userRepository.findById(eq(authorId))).willReturn(Optional.of(author));
+    given(binaryContentRepository.findDetachedByIdIn(any(), eq(authorId)))
+        .willReturn(List.of(attachment, second));
+    given(messageMapper.toDto(any(Message.class))).willReturn(messageDto);
+
+    // when
+    messageService.create(request, List.of());
+
+    // then
+    ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+    verify(messageRepository).save(captor.capture());
+    assertThat(captor.getValue().getAttachments()).containsExactly(second, attachment);
+  }
+
+  @Test
+  @DisplayName("작성자가 올리지 않은 첨부 파일을 붙이면 실패")
+  void createMessage_WithOthersAttachment_ThrowsException() {
+    // given
+    MessageCreateRequest request = new MessageCreateRequest(content, channelId, authorId,
+        List.of(attachment.getId()));
+    given(channelRepository.findById(eq(channelId))).willReturn(Optional.of(channel));
+    given(userRepository.findById(eq(authorId))).willReturn(Optional.of(author));
+    given(binaryContentRepository.findDetachedByIdIn(any(), eq(authorId))).willReturn(List.of());
+
+    // when & then
+    assertThatThrownBy(() -> messageService.create(request, List.of()))
+        .isInstanceOf(BinaryContentNotFoundException.class);
   }
 
   @Test
@@ -172,6 +221,7 @@ class BasicMessageServiceTest {
     // given
     given(messageRepository.findById(eq(messageId))).willReturn(Optional.of(message));
     given(messageMapper.toDto(eq(message))).willReturn(messageDto);
+    given(sessionRegistry.getOnlineUserIds()).willReturn(Set.of(authorId));
 
     // when
     MessageDto result = messageService.find(messageId);
@@ -223,7 +273,7 @@ class BasicMessageServiceTest {
         message1CreatedAt,
         content + "1",
         channelId,
-        new UserDto(authorId, "testUser", "test@example.com", null, true),
+        new UserDto(authorId, "testUser", "test@example.com", null, true, com.sprint.mission.discodeit.entity.Role.USER),
         List.of(attachmentDto)
     );
     
@@ -233,7 +283,7 @@ class BasicMessageServiceTest {
         message2CreatedAt,
         content + "2",
         channelId,
-        new UserDto(authorId, "testUser", "test@example.com", null, true),
+        new UserDto(authorId, "testUser", "test@example.com", null, true, com.sprint.mission.discodeit.entity.Role.USER),
         List.of(attachmentDto)
     );
     
@@ -252,10 +302,10 @@ class BasicMessageServiceTest {
     );
     
     // 모의 객체 설정
-    given(messageRepository.findAllByChannelIdWithAuthor(eq(channelId), eq(createdAt), eq(pageable)))
+    given(messageRepository.findAllByChannelId(eq(channelId), eq(createdAt), eq(pageable)))
         .willReturn(firstPageSlice);
-    given(messageMapper.toDto(eq(message1))).willReturn(messageDto1);
-    given(messageMapper.toDto(eq(message2))).willReturn(messageDto2);
+    given(messageMapper.toDto(eq(message1), anyMap())).willReturn(messageDto1);
+    given(messageMapper.toDto(eq(message2), anyMap())).willReturn(messageDto2);
     given(pageResponseMapper.<MessageDto>fromSlice(any(), eq(message2CreatedAt)))
         .willReturn(firstPageResponse);
 
@@ -278,7 +328,7 @@ class BasicMessageServiceTest {
         message3CreatedAt,
         content + "3",
         channelId,
-        new UserDto(authorId, "testUser", "test@example.com", null, true),
+        new UserDto(authorId, "testUser", "test@example.com", null, true, com.sprint.mission.discodeit.entity.Role.USER),
         List.of(attachmentDto)
     );
     List<MessageDto> secondPageDtos = List.of(messageDto3);
@@ -294,9 +344,9 @@ class BasicMessageServiceTest {
     );
     
     // 두 번째 페이지 모의 객체 설정
-    given(messageRepository.findAllByChannelIdWithAuthor(eq(channelId), eq(message2CreatedAt), eq(pageable)))
+    given(messageRepository.findAllByChannelId(eq(channelId), eq(message2CreatedAt), eq(pageable)))
         .willReturn(secondPageSlice);
-    given(messageMapper.toDto(eq(message3))).willReturn(messageDto3);
+    given(messageMapper.toDto(eq(message3), anyMap())).willReturn(messageDto3);
     given(pageResponseMapper.<MessageDto>fromSlice(any(), eq(message3CreatedAt)))
         .willReturn(secondPageResponse);
         
@@ -349,6 +399,7 @@ class BasicMessageServiceTest {
     messageService.delete(messageId);
 
     // then
+    verify(binaryContentBlobStore).releaseByMessageId(eq(messageId));
     verify(messageRepository).deleteById(eq(messageId));
   }
 
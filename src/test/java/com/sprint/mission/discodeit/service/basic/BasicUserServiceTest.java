@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.sprint.mission.discodeit.dto.data.UserDto;
@@ -14,7 +16,14 @@ import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.exception.user.UserAlreadyExistsException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.repository.RefreshTokenRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.security.UserDetailsChangedEvent;
+import com.sprint.mission.discodeit.security.UserSessionRegistry;
+import com.sprint.mission.discodeit.security.token.TokenVersionChangedEvent;
+import com.sprint.mission.discodeit.storage.BinaryContentBlobStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,8 +32,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class BasicUserServiceTest {
@@ -35,6 +51,36 @@ class BasicUserServiceTest {
   @Mock
   private UserMapper userMapper;
 
+  @Mock
+  private BinaryContentBlobStore binaryContentBlobStore;
+
+  @Mock
+  private PasswordEncoder passwordEncoder;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private UserDeletionWorker userDeletionWorker;
+
+  @Mock
+  private RefreshTokenRepository refreshTokenRepository;
+
+  @Mock
+  private UserSessionRegistry sessionRegistry;
+
+  @Mock
+  private PersistentTokenRepository persistentTokenRepository;
+
+  // 만들기 전 상태라 모든 중복 확인을 repository로 보낸다.
+  @Spy
+  private UserIdentifierFilter userIdentifierFilter = new UserIdentifierFilter(null, true,
+      1000, 0.01, 100, new SimpleMeterRegistry());
+
+  @Spy
+  private TransactionTemplate transactionTemplate = new TransactionTemplate(
+      mock(PlatformTransactionManager.class));
+
   @InjectMocks
   private BasicUserService userService;
 
@@ -54,7 +100,7 @@ class BasicUserServiceTest {
 
     user = new User(username, email, password, null);
     ReflectionTestUtils.setField(user, "id", userId);
-    userDto = new UserDto(userId, username, email, null, true);
+    userDto = new UserDto(userId, username, email, null, true, com.sprint.mission.discodeit.entity.Role.USER);
   }
 
   @Test
@@ -143,6 +189,26 @@ class BasicUserServiceTest {
 
     // then
     assertThat(result).isEqualTo(userDto);
+    verify(eventPublisher).publishEvent(new UserDetailsChangedEvent(userId));
+    verify(refreshTokenRepository, never()).revokeAllByUserId(any());
+  }
+
+  @Test
+  @DisplayName("비밀번호를 바꾸면 토큰 버전을 올리고 리프레시 토큰을 모두 폐기한다")
+  void updateUser_PasswordChanged_RevokesTokens() {
+    // given
+    UserUpdateRequest request = new UserUpdateRequest(null, null, "newPassword");
+    given(userRepository.findById(eq(userId))).willReturn(Optional.of(user));
+    given(passwordEncoder.encode(eq("newPassword"))).willReturn("hashedNewPassword");
+    given(userMapper.toDto(any(User.class))).willReturn(userDto);
+
+    // when
+    userService.update(userId, request, Optional.empty());
+
+    // then
+    assertThat(user.getTokenVersion()).isEqualTo(1);
+    verify(eventPublisher).publishEvent(new TokenVersionChangedEvent(userId, 1));
+    verify(refreshTokenRepository).revokeAllByUserId(eq(userId));
   }
 
   @Test
@@ -162,20 +228,28 @@ class BasicUserServiceTest {
   @DisplayName("사용자 삭제 성공")
   void deleteUser_Success() {
     // given
-    given(userRepository.existsById(eq(userId))).willReturn(true);
+    given(userRepository.findById(eq(userId))).willReturn(Optional.of(user));
+    SessionInformation session = mock(SessionInformation.class);
+    given(sessionRegistry.getAllSessions(userId, false)).willReturn(List.of(session));
 
     // when
     userService.delete(userId);
 
     // then
-    verify(userRepository).deleteById(eq(userId));
+    assertThat(user.getDeletedAt()).isNotNull();
+    assertThat(user.getUsername()).isEqualTo("deleted-" + userId);
+    verify(userRepository, never()).deleteById(any());
+    verify(userDeletionWorker).schedule(eq(userId));
+    verify(eventPublisher).publishEvent(new UserDetailsChangedEvent(userId));
+    verify(session).expireNow();
+    verify(persistentTokenRepository).removeUserTokens(username);
   }
 
   @Test
   @DisplayName("존재하지 않는 사용자 삭제 시도 시 실패")
   void deleteUser_WithNonExistentId_ThrowsException() {
     // given
-    given(userRepository.existsById(eq(userId))).willReturn(false);
+    given(userRepository.findById(eq(userId))).willReturn(Optional.empty());
 
     // when & then
     assertThatThrownBy(() -> userService.delete(userId))
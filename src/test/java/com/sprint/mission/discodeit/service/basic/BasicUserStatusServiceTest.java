@@ -19,6 +19,8 @@ import com.sprint.mission.discodeit.exception.userstatus.UserStatusNotFoundExcep
 import com.sprint.mission.discodeit.mapper.UserStatusMapper;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.repository.UserStatusRepository;
+import com.sprint.mission.discodeit.security.PresenceTracker;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +29,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -44,6 +47,9 @@ class BasicUserStatusServiceTest {
   @Mock
   private UserStatusMapper userStatusMapper;
 
+  @Mock
+  private PresenceTracker presenceTracker;
+
   @InjectMocks
   private BasicUserStatusService userStatusService;
 
@@ -199,6 +205,77 @@ class BasicUserStatusServiceTest {
     // when
     UserStatusDto result = userStatusService.updateByUserId(userId, request);
 
+    // then
+    assertThat(result).isEqualTo(userStatusDto);
+    verify(presenceTracker).record(eq(userId), any(Instant.class));
+  }
+
+  @Test
+  @DisplayName("사용자 ID로 상태 수정 시 미래 시각은 지금으로 제한")
+  void updateUserStatusByUserId_FutureTimestamp_ClampsToNow() {
+    // given
+    UserStatusUpdateRequest request =
+        new UserStatusUpdateRequest(Instant.now().plus(Duration.ofDays(365)));
+    given(userStatusRepository.findByUserId(eq(userId))).willReturn(Optional.of(userStatus));
+    given(userStatusMapper.toDto(any(UserStatus.class))).willReturn(userStatusDto);
+    ArgumentCaptor<Instant> activeAtCaptor = ArgumentCaptor.forClass(Instant.class);
+
+    // when
+    Instant before = Instant.now();
+    userStatusService.updateByUserId(userId, request);
+    Instant after = Instant.now();
+
+    // then
+    verify(presenceTracker).record(eq(userId), activeAtCaptor.capture());
+    assertThat(activeAtCaptor.getValue()).isBetween(before, after);
+  }
+
+  @Test
+  @DisplayName("사용자 ID로 상태 수정 시 지난 시각은 그대로 기록")
+  void updateUserStatusByUserId_PastTimestamp_RecordsAsIs() {
+    // given
+    Instant newLastActiveAt = Instant.now().minusSeconds(5);
+    UserStatusUpdateRequest request = new UserStatusUpdateRequest(newLastActiveAt);
+    given(userStatusRepository.findByUserId(eq(userId))).willReturn(Optional.of(userStatus));
+    given(userStatusMapper.toDto(any(UserStatus.class))).willReturn(userStatusDto);
+
+    // when
+    userStatusService.updateByUserId(userId, request);
+
+    // then
+    verify(presenceTracker).record(userId, newLastActiveAt);
+  }
+
+  @Test
+  @DisplayName("아직 저장되지 않은 더 최근 활동 시각으로 응답")
+  void updateUserStatusByUserId_PendingActivity_OverlaysLastActiveAt() {
+    // given
+    Instant pendingActiveAt = lastActiveAt.plusSeconds(30);
+    UserStatusUpdateRequest request = new UserStatusUpdateRequest(pendingActiveAt);
+    given(userStatusRepository.findByUserId(eq(userId))).willReturn(Optional.of(userStatus));
+    given(userStatusMapper.toDto(any(UserStatus.class))).willReturn(userStatusDto);
+    given(presenceTracker.lastActiveAt(userId)).willReturn(Optional.of(pendingActiveAt));
+
+    // when
+    UserStatusDto result = userStatusService.updateByUserId(userId, request);
+
+    // then
+    assertThat(result.id()).isEqualTo(userStatusId);
+    assertThat(result.lastActiveAt()).isEqualTo(pendingActiveAt);
+  }
+
+  @Test
+  @DisplayName("저장된 시각보다 이른 활동 기록은 조회 응답에 쓰지 않음")
+  void findUserStatus_OlderPendingActivity_KeepsStoredValue() {
+    // given
+    given(userStatusRepository.findById(eq(userStatusId))).willReturn(Optional.of(userStatus));
+    given(userStatusMapper.toDto(any(UserStatus.class))).willReturn(userStatusDto);
+    given(presenceTracker.lastActiveAt(userId))
+        .willReturn(Optional.of(lastActiveAt.minusSeconds(30)));
+
+    // when
+    UserStatusDto result = userStatusService.find(userStatusId);
+
     // then
     assertThat(result).isEqualTo(userStatusDto);
   }
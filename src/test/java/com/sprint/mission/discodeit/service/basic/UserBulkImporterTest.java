@@ -0,0 +1,253 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.dto.request.UserImportRow;
+import com.sprint.mission.discodeit.dto.response.UserImportSummary;
+import com.sprint.mission.discodeit.exception.user.InvalidUserImportException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("UserBulkImporter 테스트")
+class UserBulkImporterTest {
+
+  private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+  private static final MediaType NDJSON = MediaType.parseMediaType(UserBulkImporter.NDJSON_VALUE);
+  private static final MediaType CSV = MediaType.parseMediaType(UserBulkImporter.CSV_VALUE);
+
+  private EmbeddedDatabase database;
+  private JdbcTemplate jdbcTemplate;
+  private ObjectMapper objectMapper;
+  private UserSearchIndex userSearchIndex;
+  private UserBulkImporter importer;
+
+  @BeforeEach
+  void setUp() {
+    database = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .setName(UUID.randomUUID() + ";MODE=PostgreSQL")
+        .addScript("classpath:schema.sql")
+        .build();
+    jdbcTemplate = new JdbcTemplate(database);
+    objectMapper = new ObjectMapper();
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    userSearchIndex = new UserSearchIndex(jdbcTemplate, false, 50, 0.3, 20000, 100, 0.2,
+        Duration.ofMinutes(1), meterRegistry);
+    userSearchIndex.rebuild();
+    importer = new UserBulkImporter(jdbcTemplate,
+        new TransactionTemplate(new DataSourceTransactionManager(database)),
+        new PrefixPasswordEncoder(),
+        Validation.buildDefaultValidatorFactory().getValidator(), objectMapper,
+        new UserIdentifierFilter(jdbcTemplate, true, 1000, 0.01, 100, meterRegistry),
+        userSearchIndex, 2, 100, 2, 1, Duration.ofMinutes(1), Clock.fixed(NOW, ZoneOffset.UTC),
+        meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    importer.shutdown();
+    database.shutdown();
+  }
+
+  @Test
+  @DisplayName("NDJSON으로 받은 사용자와 사용자 상태를 배치로 만들고 행별 결과를 쓴다")
+  void importRows_Ndjson_CreatesUsers() throws IOException {
+    // given
+    String body = """
+        {"username": "alice", "email": "alice@example.com", "password": "Password1!"}
+        {"username": "bob", "email": "bob@example.com", "password": "Password1!"}
+
+        {"username": "carol", "email": "carol@example.com", "password": "Password1!"}
+        """;
+
+    // when
+    List<JsonNode> lines = importAll(body, NDJSON);
+
+    // then
+    assertThat(lines).hasSize(4);
+    assertThat(lines.subList(0, 3)).allSatisfy(line -> {
+      assertThat(line.get("status").asText()).isEqualTo("CREATED");
+      assertThat(line.get("userId").isNull()).isFalse();
+    });
+    assertThat(lines.get(2).get("line").asInt()).isEqualTo(4);
+    assertThat(lines.get(3).get("created").asInt()).isEqualTo(3);
+
+    assertThat(count("SELECT COUNT(*) FROM users")).isEqualTo(3);
+    assertThat(count("SELECT COUNT(*) FROM user_statuses")).isEqualTo(3);
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT password FROM users WHERE username = 'alice'", String.class))
+        .isEqualTo("{test}Password1!");
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT role FROM users WHERE username = 'alice'", String.class)).isEqualTo("USER");
+    assertThat(userSearchIndex.search("car", 10)).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("형식 오류, 요청 안의 중복, 이미 있는 사용자는 행별로 실패하고 나머지는 만든다")
+  void importRows_RejectsInvalidAndDuplicateRows() throws IOException {
+    // given
+    insertUser("existing", "existing@example.com");
+    String body = """
+        {"username": "existing", "email": "new@example.com", "password": "Password1!"}
+        {"username": "dave", "email": "not-an-email", "password": "Password1!"}
+        {"username": "erin", "email": "erin@example.com", "password": "Password1!"}
+        {"username": "erin", "email": "erin2@example.com", "password": "Password1!"}
+        not json
+        {"username": "frank", "email": "existing@example.com", "password": "Password1!"}
+        {"username": "grace", "email": "grace@example.com", "password": "short"}
+        """;
+
+    // when
+    List<JsonNode> lines = importAll(body, NDJSON);
+
+    // then
+    assertThat(lines).extracting(line -> line.path("status").asText())
+        .containsExactly("DUPLICATE", "INVALID", "CREATED", "DUPLICATE", "INVALID", "DUPLICATE",
+            "INVALID", "");
+    UserImportSummary summary = objectMapper.treeToValue(lines.get(7), UserImportSummary.class);
+    assertThat(summary.total()).isEqualTo(7);
+    assertThat(summary.created()).isEqualTo(1);
+    assertThat(summary.invalid()).isEqualTo(3);
+    assertThat(summary.duplicate()).isEqualTo(3);
+    assertThat(count("SELECT COUNT(*) FROM users")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("CSV는 헤더로 열을 찾고, 해시된 비밀번호는 다시 해싱하지 않는다")
+  void importRows_Csv_KeepsPasswordHash() throws IOException {
+    // given
+    String hash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("Password1!");
+    String body = "Email,Username,PasswordHash\n"
+        + "\"heidi@example.com\",\"heidi\",\"" + hash + "\"\n"
+        + "ivan@example.com,ivan,plain\n"
+        + "judy@example.com,judy,{bcrypt}x\n";
+
+    // when
+    List<JsonNode> lines = importAll(body, CSV);
+
+    // then
+    assertThat(lines.get(0).get("status").asText()).isEqualTo("CREATED");
+    assertThat(lines.get(1).get("status").asText()).isEqualTo("INVALID");
+    assertThat(lines.get(1).get("line").asInt()).isEqualTo(3);
+    // 형식만 맞춘 해시는 로그인할 수 없는 계정이 되므로 받지 않는다.
+    assertThat(lines.get(2).get("status").asText()).isEqualTo("INVALID");
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT password FROM users WHERE username = 'heidi'", String.class)).isEqualTo(hash);
+  }
+
+  @Test
+  @DisplayName("결과를 받던 클라이언트가 끊겨도 남은 배치를 끝까지 가져온다")
+  void importRows_ClientGone_ImportsRemainingBatches() throws IOException {
+    // given
+    List<UserImportRow> rows = read("""
+        {"username": "alice", "email": "alice@example.com", "password": "Password1!"}
+        {"username": "bob", "email": "bob@example.com", "password": "Password1!"}
+        {"username": "carol", "email": "carol@example.com", "password": "Password1!"}
+        """, NDJSON);
+    OutputStream disconnected = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("Broken pipe");
+      }
+    };
+
+    // when
+    UserImportSummary summary = importer.importRows(rows, disconnected);
+
+    // then
+    assertThat(summary.created()).isEqualTo(3);
+    assertThat(count("SELECT COUNT(*) FROM users")).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("CSV 헤더에 필수 열이 없거나 최대 행 수를 넘으면 요청 전체를 거절한다")
+  void read_RejectsMalformedRequests() {
+    assertThatThrownBy(() -> read("username,password\nalice,Password1!\n", CSV))
+        .isInstanceOf(InvalidUserImportException.class);
+
+    StringBuilder body = new StringBuilder();
+    for (int i = 0; i < 101; i++) {
+      body.append("{\"username\": \"user").append(i).append("\"}\n");
+    }
+    assertThatThrownBy(() -> read(body.toString(), NDJSON))
+        .isInstanceOf(InvalidUserImportException.class);
+    assertThatThrownBy(() -> read("{}", MediaType.APPLICATION_JSON))
+        .isInstanceOf(InvalidUserImportException.class);
+  }
+
+  @Test
+  @DisplayName("CSV 값의 따옴표와 쉼표를 처리한다")
+  void splitCsv_HandlesQuotes() {
+    assertThat(UserBulkImporter.splitCsv("a,\"b,c\",\"d\"\"e\",")).containsExactly("a", "b,c",
+        "d\"e", "");
+    assertThat(UserBulkImporter.splitCsv("a,\"b")).isNull();
+  }
+
+  private List<UserImportRow> read(String body, MediaType contentType) throws IOException {
+    return importer.read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+        contentType);
+  }
+
+  private List<JsonNode> importAll(String body, MediaType contentType) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    importer.importRows(read(body, contentType), out);
+    List<JsonNode> lines = new ArrayList<>();
+    for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+      lines.add(objectMapper.readTree(line));
+    }
+    return lines;
+  }
+
+  private void insertUser(String username, String email) {
+    jdbcTemplate.update("INSERT INTO users (id, created_at, username, email, password, role)"
+            + " VALUES (?, ?, ?, ?, 'password', 'USER')", UUID.randomUUID(), Timestamp.from(NOW),
+        username, email);
+  }
+
+  private long count(String sql) {
+    Long count = jdbcTemplate.queryForObject(sql, Long.class);
+    return count == null ? 0 : count;
+  }
+
+  private static class PrefixPasswordEncoder implements PasswordEncoder {
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+      return "{test}" + rawPassword;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      return encode(rawPassword).equals(encodedPassword);
+    }
+  }
+}
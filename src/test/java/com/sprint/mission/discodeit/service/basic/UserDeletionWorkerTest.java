@@ -0,0 +1,198 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("UserDeletionWorker 테스트")
+class UserDeletionWorkerTest {
+
+  private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+  private EmbeddedDatabase database;
+  private JdbcTemplate jdbcTemplate;
+  private SimpleMeterRegistry meterRegistry;
+  private UserDeletionWorker worker;
+  private UUID channelId;
+
+  @BeforeEach
+  void setUp() {
+    database = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .setName(UUID.randomUUID() + ";MODE=PostgreSQL")
+        .addScript("classpath:schema.sql")
+        .build();
+    jdbcTemplate = new JdbcTemplate(database);
+    meterRegistry = new SimpleMeterRegistry();
+    worker = new UserDeletionWorker(jdbcTemplate,
+        new TransactionTemplate(new DataSourceTransactionManager(database)), 2, 10,
+        Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC), meterRegistry);
+
+    channelId = UUID.randomUUID();
+    jdbcTemplate.update("INSERT INTO channels (id, created_at, type) VALUES (?, ?, 'PUBLIC')",
+        channelId, Timestamp.from(NOW));
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.shutdown();
+  }
+
+  @Test
+  @DisplayName("메시지 작성자를 비우고 읽음 상태와 사용자를 배치로 나눠 지운다")
+  void run_DetachesMessagesAndDeletesUser() {
+    // given
+    UUID blobId = insertBlob(2);
+    UUID profileId = insertBinaryContent(blobId);
+    UUID userId = insertUser("deleted", profileId, NOW);
+    UUID otherUserId = insertUser("other", null, null);
+    for (int i = 0; i < 5; i++) {
+      insertMessage(userId);
+    }
+    UUID otherMessageId = insertMessage(otherUserId);
+    insertReadStatus(userId, channelId);
+    UUID otherChannelId = UUID.randomUUID();
+    jdbcTemplate.update("INSERT INTO channels (id, created_at, type) VALUES (?, ?, 'PRIVATE')",
+        otherChannelId, Timestamp.from(NOW));
+    insertReadStatus(userId, otherChannelId);
+    insertReadStatus(otherUserId, channelId);
+    worker.schedule(userId);
+
+    // when
+    worker.run();
+
+    // then
+    assertThat(count("SELECT COUNT(*) FROM messages WHERE author_id IS NULL")).isEqualTo(5);
+    assertThat(jdbcTemplate.queryForObject("SELECT author_id FROM messages WHERE id = ?",
+        UUID.class, otherMessageId)).isEqualTo(otherUserId);
+    assertThat(count("SELECT COUNT(*) FROM read_statuses")).isEqualTo(1);
+    assertThat(count("SELECT COUNT(*) FROM users")).isEqualTo(1);
+    assertThat(count("SELECT COUNT(*) FROM binary_contents")).isZero();
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT reference_count FROM binary_content_blobs WHERE id = ?", Integer.class, blobId))
+        .isEqualTo(1);
+
+    Map<String, Object> job = jdbcTemplate.queryForMap(
+        "SELECT * FROM user_deletions WHERE user_id = ?", userId);
+    assertThat(job.get("PHASE")).isEqualTo("COMPLETED");
+    assertThat(((Number) job.get("MESSAGES_DETACHED")).longValue()).isEqualTo(5);
+    assertThat(((Number) job.get("READ_STATUSES_DELETED")).longValue()).isEqualTo(2);
+    assertThat(meterRegistry.get("discodeit.user.deletion.rows").tag("type", "messages")
+        .counter().count()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("중단된 작업은 기록된 단계부터 이어 간다")
+  void run_ResumesFromRecordedPhase() {
+    // given
+    UUID userId = insertUser("deleted", null, NOW);
+    insertReadStatus(userId, channelId);
+    worker.schedule(userId);
+    jdbcTemplate.update("UPDATE user_deletions SET phase = 'DELETE_READ_STATUSES',"
+        + " messages_detached = 3 WHERE user_id = ?", userId);
+
+    // when
+    worker.run();
+
+    // then
+    Map<String, Object> job = jdbcTemplate.queryForMap(
+        "SELECT * FROM user_deletions WHERE user_id = ?", userId);
+    assertThat(job.get("PHASE")).isEqualTo("COMPLETED");
+    assertThat(((Number) job.get("MESSAGES_DETACHED")).longValue()).isEqualTo(3);
+    assertThat(((Number) job.get("READ_STATUSES_DELETED")).longValue()).isEqualTo(1);
+    assertThat(count("SELECT COUNT(*) FROM users")).isZero();
+  }
+
+  @Test
+  @DisplayName("탈퇴 처리되지 않은 사용자의 행은 지우지 않는다")
+  void run_KeepsActiveUser() {
+    // given
+    UUID userId = insertUser("active", null, null);
+    worker.schedule(userId);
+
+    // when
+    worker.run();
+
+    // then
+    assertThat(count("SELECT COUNT(*) FROM users")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("끝난 작업은 다시 실행하지 않는다")
+  void run_SkipsCompletedJobs() {
+    // given
+    UUID userId = insertUser("deleted", null, NOW);
+    worker.schedule(userId);
+    worker.run();
+
+    // when
+    worker.run();
+
+    // then
+    assertThat(meterRegistry.get("discodeit.user.deletion.jobs").tag("result", "completed")
+        .counter().count()).isEqualTo(1);
+  }
+
+  private UUID insertUser(String username, UUID profileId, Instant deletedAt) {
+    UUID userId = UUID.randomUUID();
+    jdbcTemplate.update("INSERT INTO users (id, created_at, username, email, password,"
+            + " profile_id, role, deleted_at) VALUES (?, ?, ?, ?, 'password', ?, 'USER', ?)",
+        userId, Timestamp.from(NOW), username, username + "@example.com", profileId,
+        deletedAt == null ? null : Timestamp.from(deletedAt));
+    jdbcTemplate.update("INSERT INTO user_statuses (id, created_at, user_id, last_active_at)"
+        + " VALUES (?, ?, ?, ?)", UUID.randomUUID(), Timestamp.from(NOW), userId,
+        Timestamp.from(NOW));
+    return userId;
+  }
+
+  private UUID insertBlob(int referenceCount) {
+    UUID blobId = UUID.randomUUID();
+    jdbcTemplate.update("INSERT INTO binary_content_blobs (id, created_at, hash, size,"
+            + " reference_count) VALUES (?, ?, ?, 10, ?)", blobId, Timestamp.from(NOW),
+        blobId.toString(), referenceCount);
+    return blobId;
+  }
+
+  private UUID insertBinaryContent(UUID blobId) {
+    UUID id = UUID.randomUUID();
+    jdbcTemplate.update("INSERT INTO binary_contents (id, created_at, file_name, size,"
+            + " content_type, blob_id) VALUES (?, ?, 'profile.png', 10, 'image/png', ?)", id,
+        Timestamp.from(NOW), blobId);
+    return id;
+  }
+
+  private UUID insertMessage(UUID authorId) {
+    UUID messageId = UUID.randomUUID();
+    jdbcTemplate.update("INSERT INTO messages (id, created_at, content, channel_id, author_id)"
+        + " VALUES (?, ?, 'hello', ?, ?)", messageId, Timestamp.from(NOW), channelId, authorId);
+    return messageId;
+  }
+
+  private void insertReadStatus(UUID userId, UUID channelId) {
+    jdbcTemplate.update("INSERT INTO read_statuses (id, created_at, user_id, channel_id,"
+            + " last_read_at) VALUES (?, ?, ?, ?, ?)", UUID.randomUUID(), Timestamp.from(NOW),
+        userId, channelId, Timestamp.from(NOW));
+  }
+
+  private long count(String sql) {
+    Long count = jdbcTemplate.queryForObject(sql, Long.class);
+    return count == null ? 0 : count;
+  }
+}
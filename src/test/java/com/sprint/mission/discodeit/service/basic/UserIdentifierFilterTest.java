@@ -0,0 +1,131 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+@DisplayName("UserIdentifierFilter 테스트")
+class UserIdentifierFilterTest {
+
+  private EmbeddedDatabase database;
+  private JdbcTemplate jdbcTemplate;
+  private SimpleMeterRegistry meterRegistry;
+  private UserIdentifierFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    database = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .setName(UUID.randomUUID() + ";MODE=PostgreSQL")
+        .addScript("classpath:schema.sql")
+        .build();
+    jdbcTemplate = new JdbcTemplate(database);
+    meterRegistry = new SimpleMeterRegistry();
+    // 배치 크기를 작게 잡아 여러 번 나눠 읽는 경우도 확인한다.
+    filter = new UserIdentifierFilter(jdbcTemplate, true, 1000, 0.01, 3, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.shutdown();
+  }
+
+  private void insertUser(String username) {
+    jdbcTemplate.update("INSERT INTO users (id, created_at, username, email, password, role)"
+            + " VALUES (?, ?, ?, ?, ?, 'USER')",
+        UUID.randomUUID(), Timestamp.from(Instant.now()), username, username + "@example.com",
+        "password");
+  }
+
+  private boolean existsByUsername(String username) {
+    Integer count = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM users WHERE username = ?", Integer.class, username);
+    return count != null && count > 0;
+  }
+
+  private Predicate<String> counting(AtomicInteger queries) {
+    return username -> {
+      queries.incrementAndGet();
+      return existsByUsername(username);
+    };
+  }
+
+  @Test
+  @DisplayName("만들기 전에는 모든 확인을 DB로 보낸다")
+  void check_BeforeRebuild_DelegatesToDatabase() {
+    insertUser("alice");
+    AtomicInteger queries = new AtomicInteger();
+
+    assertThat(filter.isUsernameTaken("alice", counting(queries))).isTrue();
+    assertThat(filter.isUsernameTaken("bob", counting(queries))).isFalse();
+    assertThat(queries).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("기존 사용자로 만든 뒤에는 없는 값을 DB 조회 없이 판단한다")
+  void check_AfterRebuild_SkipsDatabaseForNewValues() {
+    for (int i = 0; i < 10; i++) {
+      insertUser("user" + i);
+    }
+    filter.rebuild();
+    AtomicInteger queries = new AtomicInteger();
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(filter.isUsernameTaken("user" + i, counting(queries))).isTrue();
+      assertThat(filter.isEmailTaken("user" + i + "@example.com", email -> true)).isTrue();
+    }
+    assertThat(queries).hasValue(10);
+
+    queries.set(0);
+    int taken = 0;
+    for (int i = 0; i < 1000; i++) {
+      if (filter.isUsernameTaken("new-user" + i, counting(queries))) {
+        taken++;
+      }
+    }
+    assertThat(taken).isZero();
+    // 1% 오탐률이면 DB 조회는 거의 일어나지 않는다.
+    assertThat(queries.get()).isLessThan(50);
+    assertThat(meterRegistry.get("discodeit.user.identifier-filter.checks")
+        .tag("field", "username").tag("result", "false-positive").counter().count())
+        .isEqualTo(queries.get());
+  }
+
+  @Test
+  @DisplayName("이 인스턴스에서 만든 값은 바로 필터에 들어간다")
+  void add_AfterRebuild_VisibleImmediately() {
+    filter.rebuild();
+    filter.add("carol", "carol@example.com");
+    insertUser("carol");
+
+    assertThat(filter.isUsernameTaken("carol", this::existsByUsername)).isTrue();
+  }
+
+  @Test
+  @DisplayName("메모리 사용량과 이론상 오탐률을 보고한다")
+  void rebuild_ReportsFootprint() {
+    insertUser("alice");
+    filter.rebuild();
+
+    assertThat(filter.isReady()).isTrue();
+    assertThat(meterRegistry.get("discodeit.user.identifier-filter.bytes")
+        .tag("field", "username").gauge().value()).isPositive();
+    assertThat(meterRegistry.get("discodeit.user.identifier-filter.entries")
+        .tag("field", "email").gauge().value()).isEqualTo(1);
+    assertThat(meterRegistry.get("discodeit.user.identifier-filter.expected-false-positive-rate")
+        .tag("field", "username").gauge().value()).isLessThan(0.01);
+  }
+}
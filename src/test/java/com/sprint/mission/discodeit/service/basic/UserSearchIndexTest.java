@@ -0,0 +1,193 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+@DisplayName("UserSearchIndex 테스트")
+class UserSearchIndexTest {
+
+  private EmbeddedDatabase database;
+  private JdbcTemplate jdbcTemplate;
+  private SimpleMeterRegistry meterRegistry;
+  private UserSearchIndex index;
+
+  @BeforeEach
+  void setUp() {
+    database = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .setName(UUID.randomUUID() + ";MODE=PostgreSQL")
+        .addScript("classpath:schema.sql")
+        .build();
+    jdbcTemplate = new JdbcTemplate(database);
+    meterRegistry = new SimpleMeterRegistry();
+    index = new UserSearchIndex(jdbcTemplate, false, 50, 0.3, 20000, 2, 0.5,
+        Duration.ofMinutes(1), meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.shutdown();
+  }
+
+  private UUID insertUser(String username) {
+    UUID userId = UUID.randomUUID();
+    jdbcTemplate.update("INSERT INTO users (id, created_at, username, email, password, role)"
+            + " VALUES (?, ?, ?, ?, ?, 'USER')",
+        userId, Timestamp.from(Instant.now()), username, username + "@example.com", "password");
+    return userId;
+  }
+
+  @Test
+  @DisplayName("접두사가 일치하는 사용자를 먼저, 이름 순으로 찾는다")
+  void search_Prefix() {
+    UUID alice = insertUser("Alice");
+    UUID alex = insertUser("alex");
+    UUID bob = insertUser("bob");
+    index.rebuild();
+
+    assertThat(index.search("al", 10)).containsExactly(alex, alice);
+    assertThat(index.search("AL", 1)).containsExactly(alex);
+    assertThat(index.search("b", 10)).containsExactly(bob);
+    assertThat(index.search("  ", 10)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("접두사 결과가 모자라면 철자가 비슷한 사용자로 채운다")
+  void search_Fuzzy() {
+    UUID jonathan = insertUser("jonathan");
+    UUID johnathan = insertUser("johnathan");
+    insertUser("zzzzzz");
+    index.rebuild();
+
+    assertThat(index.search("jonathan", 10)).containsExactly(jonathan, johnathan);
+    // johnathan은 공유 trigram이 적어 유사도 기준(0.3)에 못 미친다.
+    assertThat(index.search("jonatan", 10)).containsExactly(jonathan);
+  }
+
+  @Test
+  @DisplayName("커밋된 변경을 다시 읽어 반영한다")
+  void reload_AppliesChanges() {
+    UUID alice = insertUser("alice");
+    index.rebuild();
+
+    jdbcTemplate.update("UPDATE users SET username = ? WHERE id = ?", "carol", alice);
+    index.on(new UserChangedEvent(alice));
+    assertThat(index.search("ali", 10)).isEmpty();
+    assertThat(index.search("car", 10)).containsExactly(alice);
+
+    UUID dave = insertUser("dave");
+    index.on(new UserChangedEvent(dave));
+    assertThat(index.search("da", 10)).containsExactly(dave);
+
+    jdbcTemplate.update("DELETE FROM users WHERE id = ?", dave);
+    index.on(new UserChangedEvent(dave));
+    assertThat(index.search("da", 10)).isEmpty();
+    assertThat(index.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("지운 사용자의 빈 슬롯이 한도를 넘으면 남은 사용자만으로 색인을 새로 만든다")
+  void reload_TooManyTombstones_Compacts() {
+    // given
+    UUID alice = insertUser("alice");
+    UUID alex = insertUser("alex");
+    UUID bob = insertUser("bob");
+    index.rebuild();
+
+    // when
+    jdbcTemplate.update("DELETE FROM users WHERE id = ?", bob);
+    index.on(new UserChangedEvent(bob));
+    jdbcTemplate.update("UPDATE users SET username = ? WHERE id = ?", "alexander", alex);
+    index.on(new UserChangedEvent(alex));
+    // 빈 슬롯이 1/3, 이름을 바꾼 뒤 2/4로 아직 한도(0.5)를 넘지 않는다.
+    double beforeLastDelete = compactions();
+    jdbcTemplate.update("DELETE FROM users WHERE id = ?", alice);
+    index.on(new UserChangedEvent(alice));
+
+    // then
+    assertThat(beforeLastDelete).isZero();
+    assertThat(compactions()).isEqualTo(1);
+    assertThat(index.size()).isEqualTo(1);
+    assertThat(index.search("alex", 10)).containsExactly(alex);
+    assertThat(index.search("alexandr", 10)).containsExactly(alex);
+  }
+
+  @Test
+  @DisplayName("이벤트를 받지 못한 다른 인스턴스의 변경을 updated_at으로 따라잡는다")
+  void catchUp_AppliesChangesFromOtherInstances() {
+    // given
+    UUID alice = insertUser("alice");
+    UUID bob = insertUser("bob");
+    index.rebuild();
+
+    // when: 다른 인스턴스에서 이름을 바꾸고, 탈퇴하고, 가입했다. 이 인스턴스에는 이벤트가 오지 않는다.
+    Timestamp now = Timestamp.from(Instant.now());
+    jdbcTemplate.update("UPDATE users SET username = ?, updated_at = ? WHERE id = ?", "carol",
+        now, alice);
+    jdbcTemplate.update(
+        "UPDATE users SET username = ?, deleted_at = ?, updated_at = ? WHERE id = ?",
+        "deleted-" + bob, now, now, bob);
+    UUID dave = UUID.randomUUID();
+    jdbcTemplate.update("INSERT INTO users (id, created_at, updated_at, username, email, password,"
+        + " role) VALUES (?, ?, ?, ?, ?, ?, 'USER')", dave, now, now, "dave", "dave@example.com",
+        "password");
+    index.catchUp();
+
+    // then
+    assertThat(index.search("ali", 10)).isEmpty();
+    assertThat(index.search("car", 10)).containsExactly(alice);
+    assertThat(index.search("bo", 10)).isEmpty();
+    assertThat(index.search("da", 10)).containsExactly(dave);
+    assertThat(index.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("한 페이지보다 많이 바뀌어도 모두 따라잡는다")
+  void catchUp_MultiplePages() {
+    // given
+    index.rebuild();
+    Timestamp now = Timestamp.from(Instant.now());
+    for (String username : new String[]{"erin", "eric", "eve", "evan", "ezra"}) {
+      // 같은 updated_at이 페이지 경계에 걸쳐도 id 순으로 이어 읽는다.
+      jdbcTemplate.update("INSERT INTO users (id, created_at, updated_at, username, email,"
+              + " password, role) VALUES (?, ?, ?, ?, ?, ?, 'USER')", UUID.randomUUID(), now, now,
+          username, username + "@example.com", "password");
+    }
+
+    // when
+    index.catchUp();
+
+    // then
+    assertThat(index.search("e", 10)).hasSize(5);
+  }
+
+  private double compactions() {
+    return meterRegistry.get("discodeit.user.search.index.compactions").counter().count();
+  }
+
+  @Test
+  @DisplayName("색인을 만들기 전에는 DB에서 찾는다")
+  void search_BeforeRebuild_FallsBackToDatabase() {
+    UUID alice = insertUser("alice");
+    insertUser("bob");
+
+    // H2에는 pg_trgm이 없으므로 접두사 LIKE 검색으로 대신한다.
+    assertThat(index.search("ALI", 10)).containsExactly(alice);
+    assertThat(index.search("%", 10)).isEmpty();
+    assertThat(meterRegistry.get("discodeit.user.search").tag("source", "like").counter()
+        .count()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,175 @@
+package com.sprint.mission.discodeit.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.BinaryContentBlob;
+import com.sprint.mission.discodeit.entity.BinaryContentEncoding;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.repository.BinaryContentBlobRepository;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.storage.codec.BinaryContentCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+@ExtendWith(MockitoExtension.class)
+class BinaryContentBlobStoreTest {
+
+  @Mock
+  private BinaryContentBlobRepository binaryContentBlobRepository;
+
+  @Mock
+  private BinaryContentRepository binaryContentRepository;
+
+  @Mock
+  private BinaryContentUploader binaryContentUploader;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private SimpleMeterRegistry meterRegistry;
+  private BinaryContentBlobStore binaryContentBlobStore;
+
+  private final byte[] bytes = "same meme".getBytes();
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    BinaryContentCodec binaryContentCodec = new BinaryContentCodec(true, DataSize.ofKilobytes(1),
+        DataSize.ofKilobytes(64), 1.5, 6, meterRegistry);
+    binaryContentBlobStore = new BinaryContentBlobStore(binaryContentBlobRepository,
+        binaryContentRepository, binaryContentUploader, binaryContentCodec, eventPublisher,
+        meterRegistry);
+    given(binaryContentRepository.save(any(BinaryContent.class)))
+        .will(invocation -> invocation.getArgument(0));
+  }
+
+  @Test
+  @DisplayName("처음 보는 내용이면 PENDING 상태의 새 blob을 만들고 저장을 요청한다")
+  void create_NewContent_RequestsUpload() {
+    // given
+    BinaryContentBlob inserted = blob(bytes);
+    UUID blobId = inserted.getId();
+    givenInserted(inserted, 1);
+    given(binaryContentUploader.isAsync()).willReturn(true);
+
+    // when
+    BinaryContent result = binaryContentBlobStore.create("a.png", "image/png", bytes);
+
+    // then
+    assertThat(result.getStorageKey()).isEqualTo(blobId);
+    assertThat(result.getStatus()).isEqualTo(BinaryContentStatus.PENDING);
+    ArgumentCaptor<BinaryContentUploadRequestedEvent> eventCaptor =
+        ArgumentCaptor.forClass(BinaryContentUploadRequestedEvent.class);
+    verify(eventPublisher).publishEvent(eventCaptor.capture());
+    assertThat(eventCaptor.getValue().blobId()).isEqualTo(blobId);
+    assertThat(eventCaptor.getValue().bytes()).isEqualTo(bytes);
+    assertThat(meterRegistry.get("discodeit.binary-content.dedup").tag("result", "miss")
+        .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("압축이 잘 되는 텍스트는 gzip으로 압축해 저장하고 blob에 인코딩을 기록한다")
+  void create_CompressibleContent_StoresGzip() throws IOException {
+    // given
+    byte[] logBytes = "2025-01-01 INFO 요청 처리 완료\n".repeat(200).getBytes(StandardCharsets.UTF_8);
+    givenInserted(blob(logBytes), 1);
+    given(binaryContentUploader.isAsync()).willReturn(true);
+
+    // when
+    BinaryContent result = binaryContentBlobStore.create("app.log", "text/plain", logBytes);
+
+    // then
+    assertThat(result.getSize()).isEqualTo(logBytes.length);
+    assertThat(result.getContentEncoding()).isEqualTo(BinaryContentEncoding.GZIP);
+    ArgumentCaptor<BinaryContentUploadRequestedEvent> eventCaptor =
+        ArgumentCaptor.forClass(BinaryContentUploadRequestedEvent.class);
+    verify(eventPublisher).publishEvent(eventCaptor.capture());
+    byte[] stored = eventCaptor.getValue().bytes();
+    assertThat(stored.length).isLessThan(logBytes.length / 5);
+    assertThat(BinaryContentCodec.decode(BinaryContentEncoding.GZIP,
+        new ByteArrayInputStream(stored)).readAllBytes()).isEqualTo(logBytes);
+  }
+
+  @Test
+  @DisplayName("같은 해시의 blob이 있으면 저장소에 쓰지 않고 참조 카운트만 올린다")
+  void create_DuplicateContent_ReusesBlob() {
+    // given
+    BinaryContentBlob existing = new BinaryContentBlob(BinaryContentBlobStore.sha256(bytes),
+        (long) bytes.length);
+    UUID blobId = UUID.randomUUID();
+    ReflectionTestUtils.setField(existing, "id", blobId);
+    given(binaryContentBlobRepository.findByHash(existing.getHash()))
+        .willReturn(Optional.of(existing));
+    given(binaryContentBlobRepository.findStatusById(blobId)).willReturn(BinaryContentStatus.READY);
+
+    // when
+    BinaryContent result = binaryContentBlobStore.create("b.png", "image/png", bytes);
+
+    // then
+    assertThat(result.getStorageKey()).isEqualTo(blobId);
+    verify(binaryContentBlobRepository).incrementReferenceCount(eq(blobId));
+    assertThat(result.getStatus()).isEqualTo(BinaryContentStatus.READY);
+    verify(eventPublisher, never()).publishEvent(any(Object.class));
+    assertThat(meterRegistry.get("discodeit.binary-content.dedup.bytes-saved").counter().count())
+        .isEqualTo(bytes.length);
+    assertThat(meterRegistry.get("discodeit.binary-content.dedup.ratio").gauge().value())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("같은 내용이 동시에 처음 올라와 다른 요청이 먼저 blob을 넣었으면 그 blob을 재사용한다")
+  void create_ConcurrentFirstUpload_ReusesWinnerBlob() {
+    // given
+    BinaryContentBlob winner = blob(bytes);
+    givenInserted(winner, 0);
+    given(binaryContentBlobRepository.findStatusById(winner.getId()))
+        .willReturn(BinaryContentStatus.PENDING);
+
+    // when
+    BinaryContent result = binaryContentBlobStore.create("c.png", "image/png", bytes);
+
+    // then
+    assertThat(result.getStorageKey()).isEqualTo(winner.getId());
+    assertThat(result.getStatus()).isEqualTo(BinaryContentStatus.PENDING);
+    verify(binaryContentBlobRepository).incrementReferenceCount(eq(winner.getId()));
+    verify(eventPublisher, never()).publishEvent(any(Object.class));
+  }
+
+  private static BinaryContentBlob blob(byte[] content) {
+    BinaryContentBlob blob = new BinaryContentBlob(BinaryContentBlobStore.sha256(content),
+        (long) content.length);
+    ReflectionTestUtils.setField(blob, "id", UUID.randomUUID());
+    return blob;
+  }
+
+  /**
+   * 처음 조회에는 없고, 넣기를 시도한 뒤 다시 조회하면 {@code blob}이 보이게 한다.
+   */
+  private void givenInserted(BinaryContentBlob blob, int insertedRows) {
+    given(binaryContentBlobRepository.findByHash(blob.getHash()))
+        .willReturn(Optional.empty(), Optional.of(blob));
+    given(binaryContentBlobRepository.insertIfAbsent(any(UUID.class), any(Instant.class),
+        eq(blob.getHash()), eq(blob.getSize().longValue()))).willReturn(insertedRows);
+  }
+}
@@ -0,0 +1,163 @@
+package com.sprint.mission.discodeit.storage;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.repository.BinaryContentBlobRepository;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.storage.upload.BinaryContentPromoteRequestedEvent;
+import com.sprint.mission.discodeit.storage.upload.DirectUploadStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class BinaryContentUploaderTest {
+
+  @Mock
+  private BinaryContentStorage binaryContentStorage;
+
+  @Mock
+  private DirectUploadStorage directUploadStorage;
+
+  @Mock
+  private BinaryContentBlobRepository binaryContentBlobRepository;
+
+  @Mock
+  private BinaryContentRepository binaryContentRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private BinaryContentUploader binaryContentUploader;
+
+  private final UUID blobId = UUID.randomUUID();
+  private final byte[] bytes = "attachment".getBytes();
+
+  @BeforeEach
+  void setUp() {
+    binaryContentUploader = new BinaryContentUploader(binaryContentStorage,
+        directUploadStorage, binaryContentBlobRepository, binaryContentRepository,
+        mock(PlatformTransactionManager.class), eventPublisher, new SimpleMeterRegistry(), true, 1,
+        1, 3, Duration.ZERO, Duration.ofHours(1));
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    binaryContentUploader.shutdown();
+  }
+
+  @Test
+  @DisplayName("저장에 성공하면 READY로 바꾸고 저장 완료 이벤트를 발행한다")
+  void upload_Success_MarksReady() {
+    // when
+    binaryContentUploader.upload(new BinaryContentUploadRequestedEvent(blobId, "image/png", bytes));
+
+    // then
+    verify(binaryContentStorage).put(blobId, bytes);
+    verify(binaryContentBlobRepository).updateStatus(blobId, BinaryContentStatus.PENDING,
+        BinaryContentStatus.READY);
+    verify(binaryContentRepository).updateStatusByBlobId(blobId, BinaryContentStatus.PENDING,
+        BinaryContentStatus.READY);
+    verify(eventPublisher).publishEvent(new BinaryContentStoredEvent(blobId, "image/png"));
+  }
+
+  @Test
+  @DisplayName("재시도 횟수를 모두 실패하면 FAILED로 바꾼다")
+  void upload_AlwaysFails_MarksFailed() {
+    // given
+    willThrow(new RuntimeException("S3 unavailable"))
+        .given(binaryContentStorage).put(blobId, bytes);
+
+    // when
+    binaryContentUploader.upload(new BinaryContentUploadRequestedEvent(blobId, "image/png", bytes));
+
+    // then
+    verify(binaryContentStorage, times(3)).put(blobId, bytes);
+    verify(binaryContentBlobRepository).updateStatus(blobId, BinaryContentStatus.PENDING,
+        BinaryContentStatus.FAILED);
+    verify(eventPublisher, never()).publishEvent(any(Object.class));
+  }
+
+  @Test
+  @DisplayName("일시적인 실패 후 성공하면 READY로 바꾼다")
+  void upload_TransientFailure_Retries() {
+    // given
+    given(binaryContentStorage.put(blobId, bytes))
+        .willThrow(new RuntimeException("timeout"))
+        .willReturn(blobId);
+
+    // when
+    binaryContentUploader.upload(new BinaryContentUploadRequestedEvent(blobId, "image/png", bytes));
+
+    // then
+    verify(binaryContentStorage).delete(blobId);
+    verify(binaryContentBlobRepository).updateStatus(blobId, BinaryContentStatus.PENDING,
+        BinaryContentStatus.READY);
+  }
+
+  @Test
+  @DisplayName("직접 업로드된 파일을 blob 키로 옮긴 뒤 READY로 바꾼다")
+  void promote_Success_MarksReady() {
+    // given
+    UUID uploadKey = UUID.randomUUID();
+
+    // when
+    binaryContentUploader.promote(
+        new BinaryContentPromoteRequestedEvent(uploadKey, blobId, "image/png"));
+
+    // then
+    verify(directUploadStorage).promote(uploadKey, blobId);
+    verify(binaryContentStorage, never()).put(any(), any());
+    verify(binaryContentBlobRepository).updateStatus(blobId, BinaryContentStatus.PENDING,
+        BinaryContentStatus.READY);
+    verify(eventPublisher).publishEvent(new BinaryContentStoredEvent(blobId, "image/png"));
+  }
+
+  @Test
+  @DisplayName("오래 PENDING으로 남은 blob은 FAILED로 바꾼다")
+  void failStalePendingBlobs_MarksFailed() {
+    // given
+    given(binaryContentBlobRepository.findIdsByStatusAndCreatedAtBefore(
+        eq(BinaryContentStatus.PENDING), any(), any())).willReturn(List.of(blobId));
+    given(binaryContentBlobRepository.updateStatus(blobId, BinaryContentStatus.PENDING,
+        BinaryContentStatus.FAILED)).willReturn(1);
+
+    // when
+    binaryContentUploader.failStalePendingBlobs();
+
+    // then
+    verify(binaryContentRepository).updateStatusByBlobId(blobId, BinaryContentStatus.PENDING,
+        BinaryContentStatus.FAILED);
+  }
+
+  @Test
+  @DisplayName("정리 작업이 FAILED로 바꾼 뒤 저장이 끝나면 READY로 되돌린다")
+  void upload_AfterSweep_MarksReady() {
+    // when
+    binaryContentUploader.upload(new BinaryContentUploadRequestedEvent(blobId, "image/png", bytes));
+
+    // then
+    verify(binaryContentBlobRepository).updateStatus(blobId, BinaryContentStatus.FAILED,
+        BinaryContentStatus.READY);
+    verify(binaryContentRepository).updateStatusByBlobId(blobId, BinaryContentStatus.FAILED,
+        BinaryContentStatus.READY);
+  }
+}
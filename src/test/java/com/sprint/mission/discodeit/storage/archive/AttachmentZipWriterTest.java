@@ -0,0 +1,126 @@
+package com.sprint.mission.discodeit.storage.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.sprint.mission.discodeit.dto.data.AttachmentArchiveEntry;
+import com.sprint.mission.discodeit.entity.BinaryContentEncoding;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentZipWriterTest {
+
+  @Mock
+  private BinaryContentStorage binaryContentStorage;
+
+  private AttachmentZipWriter attachmentZipWriter;
+
+  private final UUID messageId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    attachmentZipWriter = new AttachmentZipWriter(binaryContentStorage, 1, 2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    attachmentZipWriter.shutdown();
+  }
+
+  private AttachmentArchiveEntry entry(String fileName, String contentType, String content,
+      BinaryContentStatus status) {
+    UUID storageKey = UUID.randomUUID();
+    if (content != null) {
+      given(binaryContentStorage.get(storageKey))
+          .willReturn(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+    return new AttachmentArchiveEntry(messageId, UUID.randomUUID(), storageKey, fileName,
+        content == null ? 0L : (long) content.length(), contentType, status,
+        BinaryContentEncoding.IDENTITY);
+  }
+
+  private static Map<String, String> unzip(byte[] bytes) throws IOException {
+    Map<String, String> files = new LinkedHashMap<>();
+    try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes))) {
+      ZipEntry entry;
+      while ((entry = zip.getNextEntry()) != null) {
+        files.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+      }
+    }
+    return files;
+  }
+
+  @Test
+  @DisplayName("모든 첨부 파일을 순서대로 담고 같은 이름은 번호를 붙인다")
+  void write_AllEntries() throws IOException {
+    // given
+    List<AttachmentArchiveEntry> entries = List.of(
+        entry("a.txt", "text/plain", "first", BinaryContentStatus.READY),
+        entry("photo.jpg", "image/jpeg", "jpeg-bytes", BinaryContentStatus.READY),
+        entry("a.txt", "text/plain", "second", BinaryContentStatus.READY));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // when
+    attachmentZipWriter.write(entries, false, outputStream);
+
+    // then
+    assertThat(unzip(outputStream.toByteArray())).containsExactly(
+        Map.entry("a.txt", "first"),
+        Map.entry("photo.jpg", "jpeg-bytes"),
+        Map.entry("a (1).txt", "second"));
+  }
+
+  @Test
+  @DisplayName("읽을 수 없거나 준비되지 않은 파일은 빼고 목록을 남긴다")
+  void write_MissingEntries_ListedInMissingFile() throws IOException {
+    // given
+    AttachmentArchiveEntry broken = entry("broken.txt", "text/plain", null,
+        BinaryContentStatus.READY);
+    given(binaryContentStorage.get(broken.storageKey()))
+        .willThrow(new NoSuchElementException("gone"));
+    List<AttachmentArchiveEntry> entries = List.of(
+        entry("ok.txt", "text/plain", "ok", BinaryContentStatus.READY),
+        broken,
+        entry("pending.txt", "text/plain", null, BinaryContentStatus.PENDING));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // when
+    attachmentZipWriter.write(entries, true, outputStream);
+
+    // then
+    Map<String, String> files = unzip(outputStream.toByteArray());
+    assertThat(files).containsEntry(messageId + "/ok.txt", "ok");
+    assertThat(files.get(AttachmentZipWriter.MISSING_ENTRY_NAME))
+        .contains("pending.txt", messageId + "/broken.txt");
+  }
+
+  @Test
+  @DisplayName("이미 압축된 미디어만 다시 압축하지 않는다")
+  void isCompressed() {
+    assertThat(AttachmentZipWriter.isCompressed("image/jpeg")).isTrue();
+    assertThat(AttachmentZipWriter.isCompressed("video/mp4")).isTrue();
+    assertThat(AttachmentZipWriter.isCompressed("application/zip")).isTrue();
+    assertThat(AttachmentZipWriter.isCompressed("image/svg+xml")).isFalse();
+    assertThat(AttachmentZipWriter.isCompressed("text/plain; charset=UTF-8")).isFalse();
+    assertThat(AttachmentZipWriter.isCompressed(null)).isFalse();
+  }
+}
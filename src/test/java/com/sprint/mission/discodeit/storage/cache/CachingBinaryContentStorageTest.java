@@ -0,0 +1,246 @@
+package com.sprint.mission.discodeit.storage.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.StoredObject;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+
+@DisplayName("CachingBinaryContentStorage 테스트")
+class CachingBinaryContentStorageTest {
+
+  @TempDir
+  Path cacheRoot;
+
+  private FakeS3Storage s3;
+  private SimpleMeterRegistry meterRegistry;
+  private CachingBinaryContentStorage storage;
+
+  @BeforeEach
+  void setUp() {
+    s3 = new FakeS3Storage();
+    meterRegistry = new SimpleMeterRegistry();
+    storage = new CachingBinaryContentStorage(s3, cacheRoot, DataSize.ofBytes(10),
+        DataSize.ofBytes(10), meterRegistry);
+    storage.init();
+  }
+
+  @Test
+  @DisplayName("put은 원격과 캐시에 모두 쓰고, 이후 get은 원격을 호출하지 않는다")
+  void put_WritesThrough() throws IOException {
+    // given
+    UUID key = UUID.randomUUID();
+
+    // when
+    storage.put(key, "12345".getBytes());
+
+    // then
+    assertThat(s3.objects).containsKey(key);
+    try (InputStream inputStream = storage.get(key)) {
+      assertThat(inputStream.readAllBytes()).isEqualTo("12345".getBytes());
+    }
+    assertThat(s3.getCount.get()).isZero();
+    assertThat(counter("hit")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("캐시에 없는 파일은 원격에서 가져와 채우고 로컬 파일로 응답한다")
+  void download_Miss_FillsCacheAndServesFile() {
+    // given
+    UUID key = UUID.randomUUID();
+    s3.objects.put(key, "abc".getBytes());
+    BinaryContentDto metaData = new BinaryContentDto(UUID.randomUUID(), "a.txt", 3L, "text/plain",
+        BinaryContentStatus.READY);
+
+    // when
+    ResponseEntity<?> first = storage.download(key, metaData);
+    ResponseEntity<?> second = storage.download(key, metaData);
+
+    // then
+    assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(second.getBody()).isInstanceOf(FileSystemResource.class);
+    assertThat(s3.getCount.get()).isEqualTo(1);
+    assertThat(counter("miss")).isEqualTo(1);
+    assertThat(counter("hit")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("응답 본문을 쓰기 전에 캐시 파일이 지워져도 응답을 만들 때 연 파일로 끝까지 보낸다")
+  void download_EvictedBeforeStreaming_ServesOpenedFile() throws IOException {
+    // given
+    UUID key = UUID.randomUUID();
+    storage.put(key, "1234".getBytes());
+    BinaryContentDto metaData = new BinaryContentDto(UUID.randomUUID(), "a.txt", 4L, "text/plain",
+        BinaryContentStatus.READY);
+    ResponseEntity<?> response = storage.download(key, metaData);
+
+    // when
+    storage.put(UUID.randomUUID(), "1234".getBytes());
+    storage.put(UUID.randomUUID(), "1234".getBytes());
+
+    // then
+    assertThat(Files.exists(cacheRoot.resolve(key.toString()))).isFalse();
+    FileSystemResource body = (FileSystemResource) response.getBody();
+    assertThat(body.contentLength()).isEqualTo(4);
+    try (InputStream inputStream = body.getInputStream()) {
+      assertThat(inputStream.readAllBytes()).isEqualTo("1234".getBytes());
+    }
+  }
+
+  @Test
+  @DisplayName("용량을 넘으면 가장 오래 사용하지 않은 파일부터 지운다")
+  void put_OverCapacity_EvictsLeastRecentlyUsed() throws IOException {
+    // given
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    UUID third = UUID.randomUUID();
+    storage.put(first, "1234".getBytes());
+    storage.put(second, "1234".getBytes());
+    storage.get(first).close();
+
+    // when
+    storage.put(third, "1234".getBytes());
+
+    // then
+    assertThat(Files.exists(cacheRoot.resolve(first.toString()))).isTrue();
+    assertThat(Files.exists(cacheRoot.resolve(second.toString()))).isFalse();
+    assertThat(Files.exists(cacheRoot.resolve(third.toString()))).isTrue();
+    assertThat(meterRegistry.get("discodeit.storage.cache.evictions").tag("cause", "size")
+        .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("캐시 한도보다 큰 파일은 캐시하지 않고 원격 다운로드로 보낸다")
+  void download_TooLarge_DelegatesToRemote() {
+    // given
+    UUID key = UUID.randomUUID();
+    s3.objects.put(key, "too large for cache".getBytes());
+    BinaryContentDto metaData = new BinaryContentDto(UUID.randomUUID(), "a.txt", 19L,
+        "text/plain", BinaryContentStatus.READY);
+
+    // when
+    ResponseEntity<?> response = storage.download(key, metaData);
+
+    // then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FOUND);
+    assertThat(s3.getCount.get()).isZero();
+  }
+
+  @Test
+  @DisplayName("get이 캐시에 없는 파일을 원격에서 가져오면 캐시에 채운다")
+  void get_Miss_FillsCache() throws IOException {
+    // given
+    UUID key = UUID.randomUUID();
+    s3.objects.put(key, "abc".getBytes());
+
+    // when
+    byte[] first;
+    try (InputStream inputStream = storage.get(key)) {
+      first = inputStream.readAllBytes();
+    }
+    byte[] second;
+    try (InputStream inputStream = storage.get(key)) {
+      second = inputStream.readAllBytes();
+    }
+
+    // then
+    assertThat(first).isEqualTo("abc".getBytes());
+    assertThat(second).isEqualTo("abc".getBytes());
+    assertThat(s3.getCount.get()).isEqualTo(1);
+    assertThat(counter("miss")).isEqualTo(1);
+    assertThat(counter("hit")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("get이 캐시 한도보다 큰 파일을 가져오면 캐시하지 않고 원격 스트림을 이어서 읽는다")
+  void get_TooLarge_StreamsWithoutCaching() throws IOException {
+    // given
+    UUID key = UUID.randomUUID();
+    s3.objects.put(key, "too large for cache".getBytes());
+
+    // when
+    byte[] bytes;
+    try (InputStream inputStream = storage.get(key)) {
+      bytes = inputStream.readAllBytes();
+    }
+
+    // then
+    assertThat(bytes).isEqualTo("too large for cache".getBytes());
+    try (Stream<Path> files = Files.list(cacheRoot)) {
+      assertThat(files).isEmpty();
+    }
+    storage.get(key).close();
+    assertThat(s3.getCount.get()).isEqualTo(2);
+  }
+
+  private double counter(String result) {
+    return meterRegistry.get("discodeit.storage.cache").tag("result", result).counter().count();
+  }
+
+  /**
+   * presigned URL 리다이렉트까지 흉내 내는 메모리 기반 S3 대역
+   */
+  static class FakeS3Storage implements BinaryContentStorage {
+
+    final Map<UUID, byte[]> objects = new ConcurrentHashMap<>();
+    final AtomicInteger getCount = new AtomicInteger();
+
+    @Override
+    public UUID put(UUID binaryContentId, byte[] bytes) {
+      objects.put(binaryContentId, bytes);
+      return binaryContentId;
+    }
+
+    @Override
+    public InputStream get(UUID binaryContentId) {
+      getCount.incrementAndGet();
+      byte[] bytes = objects.get(binaryContentId);
+      if (bytes == null) {
+        throw new NoSuchElementException("File with key " + binaryContentId + " does not exist");
+      }
+      return new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public void delete(UUID key) {
+      objects.remove(key);
+    }
+
+    @Override
+    public Stream<StoredObject> list() {
+      return objects.entrySet().stream()
+          .map(entry -> new StoredObject(entry.getKey(), entry.getValue().length, Instant.EPOCH));
+    }
+
+    @Override
+    public ResponseEntity<Void> download(UUID key, BinaryContentDto metaData) {
+      return ResponseEntity
+          .status(HttpStatus.FOUND)
+          .header(HttpHeaders.LOCATION, "https://s3.example.com/" + key)
+          .build();
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.sprint.mission.discodeit.storage.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.entity.BinaryContentEncoding;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class BinaryContentCodecTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private BinaryContentCodec binaryContentCodec;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    binaryContentCodec = new BinaryContentCodec(true, DataSize.ofKilobytes(1),
+        DataSize.ofKilobytes(4), 1.5, 6, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("압축이 잘 되는 JSON은 gzip으로 압축하고, 풀면 원본과 같다")
+  void encode_Json_Gzip() throws IOException {
+    // given
+    byte[] json = "{\"name\":\"discodeit\",\"value\":1}\n".repeat(500)
+        .getBytes(StandardCharsets.UTF_8);
+
+    // when
+    EncodedBytes encoded = binaryContentCodec.encode("application/json; charset=UTF-8", json);
+
+    // then
+    assertThat(encoded.encoding()).isEqualTo(BinaryContentEncoding.GZIP);
+    assertThat(encoded.bytes().length).isLessThan(json.length / 5);
+    assertThat(BinaryContentCodec.decode(encoded.encoding(),
+        new ByteArrayInputStream(encoded.bytes())).readAllBytes()).isEqualTo(json);
+    assertThat(meterRegistry.get("discodeit.binary-content.compression.bytes-saved").counter()
+        .count()).isEqualTo(json.length - encoded.bytes().length);
+  }
+
+  @Test
+  @DisplayName("앞부분의 압축률이 낮으면 텍스트 타입이어도 원본 그대로 둔다")
+  void encode_LowRatio_Identity() {
+    // given
+    byte[] random = new byte[16 * 1024];
+    new Random(42).nextBytes(random);
+
+    // when
+    EncodedBytes encoded = binaryContentCodec.encode("text/csv", random);
+
+    // then
+    assertThat(encoded.encoding()).isEqualTo(BinaryContentEncoding.IDENTITY);
+    assertThat(encoded.bytes()).isSameAs(random);
+    assertThat(meterRegistry.get("discodeit.binary-content.compression")
+        .tag("result", "skipped").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("압축 대상이 아닌 타입이나 작은 파일은 압축하지 않는다")
+  void encode_NotCompressible_Identity() {
+    byte[] text = "a".repeat(4096).getBytes(StandardCharsets.UTF_8);
+
+    assertThat(binaryContentCodec.encode("image/png", text).encoding())
+        .isEqualTo(BinaryContentEncoding.IDENTITY);
+    assertThat(binaryContentCodec.encode("text/plain", "짧은 글".getBytes()).encoding())
+        .isEqualTo(BinaryContentEncoding.IDENTITY);
+  }
+
+  @Test
+  @DisplayName("Accept-Encoding의 q 값과 와일드카드를 해석한다")
+  void accepts() {
+    BinaryContentEncoding gzip = BinaryContentEncoding.GZIP;
+
+    assertThat(BinaryContentCodec.accepts("gzip, deflate, br", gzip)).isTrue();
+    assertThat(BinaryContentCodec.accepts("br;q=1.0, gzip;q=0.8", gzip)).isTrue();
+    assertThat(BinaryContentCodec.accepts("gzip;q=0, *", gzip)).isFalse();
+    assertThat(BinaryContentCodec.accepts("*;q=0.1", gzip)).isTrue();
+    assertThat(BinaryContentCodec.accepts("identity", gzip)).isFalse();
+    assertThat(BinaryContentCodec.accepts(null, gzip)).isFalse();
+    assertThat(BinaryContentCodec.accepts(null, BinaryContentEncoding.IDENTITY)).isTrue();
+  }
+}
@@ -0,0 +1,154 @@
+package com.sprint.mission.discodeit.storage.derivative;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.entity.BinaryContentDerivative;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.exception.binarycontent.UnsupportedBinaryContentVariantException;
+import com.sprint.mission.discodeit.repository.BinaryContentDerivativeRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class BinaryContentDerivativeStoreTest {
+
+  @Mock
+  private BinaryContentDerivativeRepository binaryContentDerivativeRepository;
+
+  @Mock
+  private BinaryContentStorage binaryContentStorage;
+
+  private BinaryContentDerivativeStore binaryContentDerivativeStore;
+
+  private final UUID sourceKey = UUID.randomUUID();
+  private final BinaryContentDto source = new BinaryContentDto(UUID.randomUUID(), "avatar.png",
+      1024L, "image/png", BinaryContentStatus.READY);
+
+  @BeforeEach
+  void setUp() {
+    binaryContentDerivativeStore = new BinaryContentDerivativeStore(
+        binaryContentDerivativeRepository, binaryContentStorage, List.of(64, 256, 1024), "jpeg",
+        40_000_000L, false, 1, 10, 100, Duration.ofHours(1), new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() {
+    binaryContentDerivativeStore.shutdown();
+  }
+
+  @Test
+  @DisplayName("축소본이 없으면 긴 변 기준으로 줄여 JPEG으로 저장한다")
+  void getOrGenerate_Missing_ResizesAndStores() throws IOException {
+    // given
+    UUID derivativeId = UUID.randomUUID();
+    given(binaryContentDerivativeRepository.findBySourceKeyAndVariant(sourceKey, "256"))
+        .willReturn(Optional.empty());
+    given(binaryContentStorage.get(sourceKey))
+        .willReturn(new ByteArrayInputStream(png(512, 128)));
+    given(binaryContentDerivativeRepository.save(any(BinaryContentDerivative.class)))
+        .will(invocation -> {
+          BinaryContentDerivative derivative = invocation.getArgument(0);
+          ReflectionTestUtils.setField(derivative, "id", derivativeId);
+          return derivative;
+        });
+
+    // when
+    BinaryContentDerivative result = binaryContentDerivativeStore.getOrGenerate(sourceKey, source,
+        "256");
+
+    // then
+    assertThat(result.getContentType()).isEqualTo("image/jpeg");
+    ArgumentCaptor<byte[]> bytesCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(binaryContentStorage).put(eq(derivativeId), bytesCaptor.capture());
+    BufferedImage resized = ImageIO.read(new ByteArrayInputStream(bytesCaptor.getValue()));
+    assertThat(resized.getWidth()).isEqualTo(256);
+    assertThat(resized.getHeight()).isEqualTo(64);
+    assertThat(binaryContentDerivativeStore.toMetaData(source, result).fileName())
+        .isEqualTo("avatar_256.jpeg");
+  }
+
+  @Test
+  @DisplayName("설정에 없는 variant는 생성하지 않고 예외를 던진다")
+  void getOrGenerate_UnknownVariant_ThrowsException() {
+    // when & then
+    assertThatThrownBy(
+        () -> binaryContentDerivativeStore.getOrGenerate(sourceKey, source, "512"))
+        .isInstanceOf(UnsupportedBinaryContentVariantException.class);
+    verify(binaryContentStorage, never()).get(any());
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스가 같은 축소본을 먼저 저장했으면 그 축소본을 돌려준다")
+  void getOrGenerate_ConcurrentInsert_ReturnsExisting() throws IOException {
+    // given
+    BinaryContentDerivative existing = new BinaryContentDerivative(sourceKey, "256", 10L,
+        "image/jpeg");
+    given(binaryContentDerivativeRepository.findBySourceKeyAndVariant(sourceKey, "256"))
+        .willReturn(Optional.empty(), Optional.empty(), Optional.of(existing));
+    given(binaryContentStorage.get(sourceKey))
+        .willReturn(new ByteArrayInputStream(png(512, 128)));
+    given(binaryContentDerivativeRepository.save(any(BinaryContentDerivative.class)))
+        .willThrow(new DataIntegrityViolationException("duplicate key"));
+
+    // when
+    BinaryContentDerivative result = binaryContentDerivativeStore.getOrGenerate(sourceKey, source,
+        "256");
+
+    // then
+    assertThat(result).isSameAs(existing);
+    verify(binaryContentStorage, never()).put(any(), any());
+  }
+
+  @Test
+  @DisplayName("축소본을 만들 수 없는 원본은 기억해 두고 다시 받아 디코딩하지 않는다")
+  void getOrGenerate_Unresizable_RemembersFailure() {
+    // given
+    given(binaryContentDerivativeRepository.findBySourceKeyAndVariant(eq(sourceKey), any()))
+        .willReturn(Optional.empty());
+    given(binaryContentStorage.get(sourceKey))
+        .willReturn(new ByteArrayInputStream("not an image".getBytes()));
+
+    // when & then
+    assertThatThrownBy(
+        () -> binaryContentDerivativeStore.getOrGenerate(sourceKey, source, "256"))
+        .isInstanceOf(UnsupportedBinaryContentVariantException.class);
+    assertThatThrownBy(
+        () -> binaryContentDerivativeStore.getOrGenerate(sourceKey, source, "64"))
+        .isInstanceOf(UnsupportedBinaryContentVariantException.class);
+    verify(binaryContentStorage, times(1)).get(sourceKey);
+    verify(binaryContentDerivativeRepository, never()).save(any());
+  }
+
+  private static byte[] png(int width, int height) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", output);
+    return output.toByteArray();
+  }
+}
@@ -0,0 +1,111 @@
+package com.sprint.mission.discodeit.storage.gc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.mission.discodeit.dto.response.StorageGcReport;
+import com.sprint.mission.discodeit.repository.BinaryContentBlobRepository;
+import com.sprint.mission.discodeit.repository.BinaryContentDerivativeRepository;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.StoredObject;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class StorageGarbageCollectorTest {
+
+  @Mock
+  private BinaryContentBlobRepository binaryContentBlobRepository;
+
+  @Mock
+  private BinaryContentRepository binaryContentRepository;
+
+  @Mock
+  private BinaryContentDerivativeRepository binaryContentDerivativeRepository;
+
+  @Mock
+  private BinaryContentStorage binaryContentStorage;
+
+  private final Instant now = Instant.parse("2025-01-02T00:00:00Z");
+  private final UUID blobKey = UUID.randomUUID();
+  private final UUID legacyKey = UUID.randomUUID();
+  private final UUID orphanKey = UUID.randomUUID();
+  private final UUID recentOrphanKey = UUID.randomUUID();
+
+  private StorageGarbageCollector storageGarbageCollector;
+
+  @BeforeEach
+  void setUp() {
+    storageGarbageCollector = new StorageGarbageCollector(binaryContentBlobRepository,
+        binaryContentRepository, binaryContentDerivativeRepository, binaryContentStorage,
+        new TransactionTemplate(mock(PlatformTransactionManager.class)), Duration.ofHours(1), 2,
+        0, true, Clock.fixed(now, ZoneOffset.UTC));
+
+    Instant old = now.minus(Duration.ofDays(1));
+    given(binaryContentStorage.list()).willReturn(Stream.of(
+        new StoredObject(blobKey, 10, old),
+        new StoredObject(legacyKey, 20, old),
+        new StoredObject(orphanKey, 30, old),
+        new StoredObject(recentOrphanKey, 40, now)
+    ));
+    given(binaryContentBlobRepository.findIdsByIdIn(anyCollection()))
+        .willReturn(Set.of(blobKey));
+    given(binaryContentRepository.findLegacyStorageKeysByIdIn(anyCollection()))
+        .willReturn(Set.of(legacyKey));
+    given(binaryContentDerivativeRepository.findIdsByIdIn(anyCollection())).willReturn(Set.of());
+    given(binaryContentBlobRepository.findUnreferencedIds(any(), any(), any()))
+        .willReturn(List.of());
+    given(binaryContentDerivativeRepository.findDanglingIds(any(), any(), any()))
+        .willReturn(List.of());
+  }
+
+  @Test
+  @DisplayName("dry-run은 유예 기간이 지난 고아 파일만 집계하고 지우지 않는다")
+  void collect_DryRun_ReportsOnly() {
+    // when
+    StorageGcReport report = storageGarbageCollector.collect(true);
+
+    // then
+    assertThat(report.scannedObjects()).isEqualTo(4);
+    assertThat(report.orphanObjects()).isEqualTo(1);
+    assertThat(report.orphanBytes()).isEqualTo(30);
+    assertThat(report.sampleOrphanKeys()).containsExactly(orphanKey);
+    assertThat(report.deletedObjects()).isZero();
+    verify(binaryContentStorage, never()).delete(any());
+  }
+
+  @Test
+  @DisplayName("실제 실행은 DB에 없는 파일을 지운다")
+  void collect_DeletesOrphans() {
+    // when
+    StorageGcReport report = storageGarbageCollector.collect(false);
+
+    // then
+    assertThat(report.deletedObjects()).isEqualTo(1);
+    verify(binaryContentStorage).delete(eq(orphanKey));
+    verify(binaryContentStorage, never()).delete(eq(recentOrphanKey));
+    verify(binaryContentStorage, never()).delete(eq(blobKey));
+    verify(binaryContentStorage, never()).delete(eq(legacyKey));
+  }
+}
@@ -0,0 +1,172 @@
+package com.sprint.mission.discodeit.storage.segment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.mission.discodeit.storage.StoredObject;
+import com.sprint.mission.discodeit.storage.local.LocalBinaryContentStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+@DisplayName("SegmentedBinaryContentStorage 테스트")
+class SegmentedBinaryContentStorageTest {
+
+  @TempDir
+  Path localRoot;
+
+  @TempDir
+  Path segmentRoot;
+
+  private LocalBinaryContentStorage local;
+  private SimpleMeterRegistry meterRegistry;
+  private SegmentedBinaryContentStorage storage;
+
+  @BeforeEach
+  void setUp() {
+    local = new LocalBinaryContentStorage(localRoot);
+    local.init();
+    storage = open();
+  }
+
+  @AfterEach
+  void tearDown() {
+    storage.close();
+  }
+
+  private SegmentedBinaryContentStorage open() {
+    meterRegistry = new SimpleMeterRegistry();
+    SegmentedBinaryContentStorage opened = new SegmentedBinaryContentStorage(local, segmentRoot,
+        DataSize.ofKilobytes(1), DataSize.ofKilobytes(4), 0.5, meterRegistry);
+    opened.init();
+    return opened;
+  }
+
+  private static byte[] content(int i) {
+    return ("value-" + i).repeat(20).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] read(InputStream inputStream) throws IOException {
+    try (inputStream) {
+      return inputStream.readAllBytes();
+    }
+  }
+
+  private long segmentFileCount() throws IOException {
+    try (Stream<Path> files = Files.list(segmentRoot)) {
+      return files.count();
+    }
+  }
+
+  @Test
+  @DisplayName("작은 blob은 세그먼트에, 큰 blob은 개별 파일로 저장한다")
+  void put_SmallToSegment_LargeToFile() throws IOException {
+    // given
+    UUID small = UUID.randomUUID();
+    UUID large = UUID.randomUUID();
+
+    // when
+    storage.put(small, content(1));
+    storage.put(large, new byte[2048]);
+
+    // then
+    assertThat(read(storage.get(small))).isEqualTo(content(1));
+    assertThat(read(storage.get(large))).hasSize(2048);
+    assertThat(Files.exists(localRoot.resolve(small.toString()))).isFalse();
+    assertThat(Files.exists(localRoot.resolve(large.toString()))).isTrue();
+    assertThat(storage.list().map(StoredObject::key)).containsExactlyInAnyOrder(small, large);
+  }
+
+  @Test
+  @DisplayName("재시작하면 세그먼트를 읽어 인덱스를 다시 만들고, 지운 blob과 깨진 꼬리는 버린다")
+  void init_RebuildsIndex() throws IOException {
+    // given
+    List<UUID> keys = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      UUID key = UUID.randomUUID();
+      keys.add(key);
+      storage.put(key, content(i));
+    }
+    storage.delete(keys.get(0));
+    storage.close();
+    Path last;
+    try (Stream<Path> files = Files.list(segmentRoot)) {
+      last = files.sorted().reduce((first, second) -> second).orElseThrow();
+    }
+    Files.write(last, new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+
+    // when
+    storage = open();
+
+    // then
+    assertThat(storage.list().count()).isEqualTo(39);
+    assertThatThrownBy(() -> storage.get(keys.get(0)))
+        .isInstanceOf(NoSuchElementException.class);
+    assertThat(read(storage.get(keys.get(39)))).isEqualTo(content(39));
+    UUID added = UUID.randomUUID();
+    storage.put(added, content(99));
+    assertThat(read(storage.get(added))).isEqualTo(content(99));
+  }
+
+  @Test
+  @DisplayName("지워진 비율이 높은 세그먼트는 압축해서 파일을 지우고, 재시작해도 지운 blob이 되살아나지 않는다")
+  void compact_ReclaimsDeletedEntries() throws IOException {
+    // given
+    List<UUID> keys = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      UUID key = UUID.randomUUID();
+      keys.add(key);
+      storage.put(key, content(i));
+    }
+    for (int i = 0; i < 30; i++) {
+      storage.delete(keys.get(i));
+    }
+    long before = segmentFileCount();
+
+    // when
+    storage.compact();
+
+    // then
+    assertThat(segmentFileCount()).isLessThan(before);
+    assertThat(meterRegistry.get("discodeit.storage.segment.reclaimed-bytes").counter().count())
+        .isPositive();
+    for (int i = 30; i < 40; i++) {
+      assertThat(read(storage.get(keys.get(i)))).isEqualTo(content(i));
+    }
+
+    storage.close();
+    storage = open();
+    assertThat(storage.list().count()).isEqualTo(10);
+    assertThatThrownBy(() -> storage.get(keys.get(0)))
+        .isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  @DisplayName("인덱스 값은 세그먼트 id, 위치, 길이를 손실 없이 담는다")
+  void pack_RoundTrip() {
+    long location = SegmentedBinaryContentStorage.pack(262_143,
+        SegmentedBinaryContentStorage.MAX_SEGMENT_SIZE - 1,
+        SegmentedBinaryContentStorage.MAX_ENTRY_SIZE);
+
+    assertThat(SegmentedBinaryContentStorage.segmentIdOf(location)).isEqualTo(262_143);
+    assertThat(SegmentedBinaryContentStorage.offsetOf(location))
+        .isEqualTo(SegmentedBinaryContentStorage.MAX_SEGMENT_SIZE - 1);
+    assertThat(SegmentedBinaryContentStorage.lengthOf(location))
+        .isEqualTo(SegmentedBinaryContentStorage.MAX_ENTRY_SIZE);
+  }
+}